@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.io.UtilIO;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Association speed using SURF descriptors extracted from two views of the same scene
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkAssociationSpeedSurf {
+
+	static final String image1 = UtilIO.pathExample("apartment_building_01.jpg");
+	static final String image2 = UtilIO.pathExample("apartment_building_02.jpg");
+
+	@Param({"greedy","greedyBackwards","randomForest"})
+	public String algorithm;
+
+	FastQueue<TupleDesc_F64> listA;
+	FastQueue<TupleDesc_F64> listB;
+
+	AssociateDescription<TupleDesc_F64> alg;
+
+	@Setup
+	public void setup() throws IOException {
+		DetectDescribePoint<GrayF32,BrightFeature> detector =
+				FactoryDetectDescribe.surfStable(null, null, null, GrayF32.class);
+		listA = createSet(detector, image1);
+		listB = createSet(detector, image2);
+
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+		int DOF = detector.createDescription().size();
+
+		switch( algorithm ) {
+			case "greedy": alg = FactoryAssociation.greedy(score, Double.MAX_VALUE, false); break;
+			case "greedyBackwards": alg = FactoryAssociation.greedy(score, Double.MAX_VALUE, true); break;
+			case "randomForest": alg = FactoryAssociation.kdRandomForest(DOF, 500, 15, 5, 1233445565); break;
+			default: throw new IllegalArgumentException("Unknown algorithm "+algorithm);
+		}
+	}
+
+	@Benchmark
+	public void associate() {
+		alg.setSource(listA);
+		alg.setDestination(listB);
+		alg.associate();
+	}
+
+	private static FastQueue<TupleDesc_F64> createSet( DetectDescribePoint<GrayF32,BrightFeature> detector,
+													   String imageName ) throws IOException {
+		BufferedImage image = ImageIO.read(new File(imageName));
+		GrayF32 gray = ConvertBufferedImage.convertFrom(image, (GrayF32) null);
+
+		FastQueue<TupleDesc_F64> ret = new FastQueue<>(10, TupleDesc_F64.class, false);
+
+		detector.detect(gray);
+
+		for( int i = 0; i < detector.getNumberOfFeatures(); i++ ) {
+			ret.add( detector.getDescription(i).copy() );
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.*;
+import boofcv.struct.feature.*;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares different scoring functions.  Every feature in one set is scored against every feature in the other.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkFeatureScore {
+	@Param({"2000"})
+	public int numFeatures;
+
+	static final int DOF_TUPLE = 64;
+	static final int DOF_BRIEF = 512;
+
+	FastQueue<TupleDesc_F64> listA;
+	FastQueue<TupleDesc_F64> listB;
+
+	FastQueue<TupleDesc_B> briefA;
+	FastQueue<TupleDesc_B> briefB;
+
+	FastQueue<NccFeature> nccA;
+	FastQueue<NccFeature> nccB;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		listA = createSet(rand);
+		listB = createSet(rand);
+		briefA = createBriefSet(rand);
+		briefB = createBriefSet(rand);
+		nccA = createNccSet(rand);
+		nccB = createNccSet(rand);
+	}
+
+	@Benchmark
+	public double correlation() {
+		return scoreAll(new ScoreAssociateCorrelation());
+	}
+
+	@Benchmark
+	public double euclidean() {
+		return scoreAll(new ScoreAssociateEuclidean_F64());
+	}
+
+	@Benchmark
+	public double euclideanSq() {
+		return scoreAll(new ScoreAssociateEuclideanSq_F64());
+	}
+
+	@Benchmark
+	public double brief() {
+		ScoreAssociateHamming_B scorer = new ScoreAssociateHamming_B();
+		double total = 0;
+		for( int i = 0; i < briefA.size; i++ )
+			for( int j = 0; j < briefB.size; j++ )
+				total += scorer.score(briefA.data[i],briefB.data[j]);
+		return total;
+	}
+
+	@Benchmark
+	public double ncc() {
+		ScoreAssociateNccFeature scorer = new ScoreAssociateNccFeature();
+		double total = 0;
+		for( int i = 0; i < nccA.size; i++ )
+			for( int j = 0; j < nccB.size; j++ )
+				total += scorer.score(nccA.data[i],nccB.data[j]);
+		return total;
+	}
+
+	private double scoreAll( ScoreAssociation<TupleDesc_F64> alg ) {
+		double total = 0;
+		for( int i = 0; i < listA.size; i++ )
+			for( int j = 0; j < listB.size; j++ )
+				total += alg.score(listA.data[i],listB.data[j]);
+		return total;
+	}
+
+	private FastQueue<TupleDesc_F64> createSet( Random rand ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(DOF_TUPLE);
+			}
+		};
+		for( int i = 0; i < numFeatures; i++ ) {
+			TupleDesc_F64 t = ret.grow();
+			for( int j = 0; j < DOF_TUPLE; j++ ) {
+				t.value[j] = (rand.nextDouble()-0.5)*20;
+			}
+		}
+		return ret;
+	}
+
+	private FastQueue<TupleDesc_B> createBriefSet( Random rand ) {
+		FastQueue<TupleDesc_B> ret = new BriefFeatureQueue(DOF_BRIEF);
+
+		for( int i = 0; i < numFeatures; i++ ) {
+			TupleDesc_B t = ret.grow();
+			for( int j = 0; j < t.data.length; j++ ) {
+				t.data[j] = rand.nextInt();
+			}
+		}
+		return ret;
+	}
+
+	private FastQueue<NccFeature> createNccSet( Random rand ) {
+		FastQueue<NccFeature> ret = new NccFeatureQueue(DOF_TUPLE);
+
+		for( int i = 0; i < numFeatures; i++ ) {
+			NccFeature t = ret.grow();
+			for( int j = 0; j < t.value.length; j++ ) {
+				t.value[j] = (rand.nextDouble()-0.5)*20;
+			}
+			t.mean = (rand.nextDouble()-0.5)*20;
+			t.sigma = (rand.nextDouble()-0.5)*20;
+		}
+		return ret;
+	}
+}
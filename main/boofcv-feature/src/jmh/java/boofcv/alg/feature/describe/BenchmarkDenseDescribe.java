@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.dense.DescribeImageDense;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.dense.ConfigDenseHoG;
+import boofcv.factory.feature.dense.FactoryDescribeImageDense;
+import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for dense image descriptors
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDenseDescribe {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"hogFast","hog","surfFast","surfStable","sift"})
+	public String descriptor;
+
+	GrayF32 gray;
+
+	DescribeImageDense<GrayF32, TupleDesc_F64> alg;
+
+	@Setup
+	public void setup() {
+		gray = new GrayF32(size, size);
+		GImageMiscOps.fillUniform( gray , new Random(234) , 0 , 200);
+
+		switch( descriptor ) {
+			case "hogFast": {
+				ConfigDenseHoG config = new ConfigDenseHoG();
+				config.fastVariant = true;
+				alg = FactoryDescribeImageDense.hog(config, ImageType.single(GrayF32.class));
+			} break;
+			case "hog": alg = FactoryDescribeImageDense.hog(null, ImageType.single(GrayF32.class)); break;
+			case "surfFast": alg = FactoryDescribeImageDense.surfFast(null, GrayF32.class); break;
+			case "surfStable": alg = FactoryDescribeImageDense.surfStable(null, GrayF32.class); break;
+			case "sift": alg = FactoryDescribeImageDense.sift(null, GrayF32.class); break;
+			default: throw new IllegalArgumentException("Unknown descriptor "+descriptor);
+		}
+	}
+
+	@Benchmark
+	public void process() {
+		alg.process(gray);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.sparse.GradientValue;
+import boofcv.struct.sparse.SparseScaleGradient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the different ways SURF can sample the gradient inside a region
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkSurfDescribeOps {
+	@Param({"F32"})
+	public String imageType;
+
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	ImageGray input;
+
+	// parameters for region gradient
+	double tl_x = 100.0;
+	double tl_y = 120.3;
+	double period = 1.2;
+	int regionSize = 20;
+	double kernelWidth = 5;
+	double derivX[] = new double[ regionSize*regionSize ];
+	double derivY[] = new double[ regionSize*regionSize ];
+
+	// kernel used to manually sample
+	SparseScaleGradient g;
+
+	@Setup
+	public void setup() {
+		Class type = ImageDataType.typeToSingleClass(ImageDataType.valueOf(imageType));
+		Random rand = new Random(234);
+		input = GeneralizedImageOps.createSingleBand(type,imgWidth,imgHeight);
+		GImageMiscOps.fillUniform(input, rand, 0, 1);
+		g = SurfDescribeOps.createGradient(false,type);
+		g.setWidth(kernelWidth);
+		g.setImage(input);
+	}
+
+	@Benchmark
+	public void gradient_NotHaar() {
+		SurfDescribeOps.gradient(input, tl_x, tl_y, period, regionSize,
+				kernelWidth, false, derivX, derivY);
+	}
+
+	@Benchmark
+	public void gradient_Haar() {
+		SurfDescribeOps.gradient(input, tl_x , tl_y , period, regionSize,
+				kernelWidth,true,derivX,derivY);
+	}
+
+	/**
+	 * Sample the gradient using SparseImageGradient instead of the completely
+	 * unrolled code
+	 */
+	@Benchmark
+	public void gradient_Sample() {
+		double tl_x = this.tl_x + 0.5;
+		double tl_y = this.tl_y + 0.5;
+
+		int j = 0;
+		for( int y = 0; y < regionSize; y++ ) {
+			for( int x = 0; x < regionSize; x++ , j++) {
+				int xx = (int)(tl_x + x * period);
+				int yy = (int)(tl_y + y * period);
+
+				GradientValue deriv = g.compute(xx,yy);
+				derivX[j] = deriv.getX();
+				derivY[j] = deriv.getY();
+			}
+		}
+	}
+
+	/**
+	 * Sample the gradient, but just for boundary conditions
+	 */
+	@Benchmark
+	public void gradient_SampleCheck() {
+		double tl_x = this.tl_x + 0.5;
+		double tl_y = this.tl_y + 0.5;
+
+		int j = 0;
+		for( int y = 0; y < regionSize; y++ ) {
+			for( int x = 0; x < regionSize; x++ , j++) {
+				int xx = (int)(tl_x + x * period);
+				int yy = (int)(tl_y + y * period);
+
+				if( g.isInBounds(xx,yy)) {
+					GradientValue deriv = g.compute(xx,yy);
+					derivX[j] = deriv.getX();
+					derivY[j] = deriv.getY();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detect.edge.FactoryEdgeDetectors;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for Canny edge detection on an image composed of random rectangles
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDetectEdge {
+	@Param({"500","2000"})
+	public int size;
+
+	GrayF32 input;
+	GrayU8 output;
+
+	CannyEdge<GrayF32,GrayF32> cannyMark = FactoryEdgeDetectors.canny(2,false, false, GrayF32.class, GrayF32.class);
+	CannyEdge<GrayF32,GrayF32> cannyTrace = FactoryEdgeDetectors.canny(2,true, false, GrayF32.class, GrayF32.class);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		input = new GrayF32(size,size);
+		output = new GrayU8(size,size);
+
+		int numRectangles = size*size/300;
+		for( int i = 0; i < numRectangles; i++ ) {
+			int width = 10+rand.nextInt(50);
+			int height = 10+rand.nextInt(50);
+
+			int x = rand.nextInt(input.width);
+			int y = rand.nextInt(input.height);
+
+			int x1 = x+width;
+			int y1 = y+height;
+			if( x1 > input.width ) x1 = input.width;
+			if( y1 > input.height ) y1 = input.height;
+
+			width = x1-x;
+			height = y1-y;
+
+			ImageMiscOps.fillRectangle(input,rand.nextInt(100),x,y,width,height);
+		}
+	}
+
+	@Benchmark
+	public void cannyMark() {
+		cannyMark.process(input,5,10,output);
+	}
+
+	@Benchmark
+	public void cannyTrace() {
+		cannyTrace.process(input,5,10,output);
+	}
+}
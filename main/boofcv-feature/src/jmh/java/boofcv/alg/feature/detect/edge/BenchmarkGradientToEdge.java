@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting the image gradient into edge intensity and direction
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkGradientToEdge {
+	@Param({"500","2000"})
+	public int size;
+
+	GrayF32 derivX;
+	GrayF32 derivY;
+
+	GrayF32 intensity;
+	GrayF32 orientation;
+
+	GrayS8 direction;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		derivX = new GrayF32(size,size);
+		derivY = new GrayF32(size,size);
+		intensity = new GrayF32(size,size);
+		orientation = new GrayF32(size,size);
+		direction = new GrayS8(size,size);
+
+		ImageMiscOps.fillUniform(derivX, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY, rand, 0, 255);
+		ImageMiscOps.fillUniform(orientation, rand, (float)(-Math.PI/2.0), (float)(Math.PI/2.0));
+	}
+
+	@Benchmark
+	public void euclidean() {
+		GradientToEdgeFeatures.intensityE(derivX,derivY,intensity);
+	}
+
+	@Benchmark
+	public void abs() {
+		GradientToEdgeFeatures.intensityAbs(derivX,derivY,intensity);
+	}
+
+	@Benchmark
+	public void direction() {
+		GradientToEdgeFeatures.direction(derivX,derivY,orientation);
+	}
+
+	@Benchmark
+	public void direction2() {
+		GradientToEdgeFeatures.direction2(derivX,derivY,orientation);
+	}
+
+	@Benchmark
+	public void discretize4() {
+		GradientToEdgeFeatures.discretizeDirection4(orientation,direction);
+	}
+
+	@Benchmark
+	public void discretize8() {
+		GradientToEdgeFeatures.discretizeDirection8(orientation,direction);
+	}
+}
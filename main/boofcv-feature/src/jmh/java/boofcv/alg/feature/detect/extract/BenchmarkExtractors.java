@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.extract;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.extract.WrapperNonMaximumBlock;
+import boofcv.abst.feature.detect.extract.WrapperNonMaximumNaive;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the different non-maximum suppression algorithms
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkExtractors {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","5","10"})
+	public int radius;
+
+	@Param({"blockStrict","blockStrictMinMax","blockRelaxed","naiveStrict","naiveRelaxed"})
+	public String extractor;
+
+	static float threshold = 1.0f;
+
+	GrayF32 intensity;
+	QueueCorner corners;
+
+	NonMaxSuppression alg;
+
+	@Setup
+	public void setup() {
+		intensity = new GrayF32(size, size);
+		corners = new QueueCorner(size * size);
+
+		// have about 1/20 the image below threshold
+		ImageMiscOps.fillUniform(intensity, new Random(33456), 0, threshold * 20.0f);
+
+		switch( extractor ) {
+			case "blockStrict": alg = new WrapperNonMaximumBlock(new NonMaxBlockStrict.Max()); break;
+			case "blockStrictMinMax": alg = new WrapperNonMaximumBlock(new NonMaxBlockStrict.MinMax()); break;
+			case "blockRelaxed": alg = new WrapperNonMaximumBlock(new NonMaxBlockRelaxed.Max()); break;
+			case "naiveStrict": alg = new WrapperNonMaximumNaive(new NonMaxExtractorNaive(true)); break;
+			case "naiveRelaxed": alg = new WrapperNonMaximumNaive(new NonMaxExtractorNaive(false)); break;
+			default: throw new IllegalArgumentException("Unknown extractor "+extractor);
+		}
+		alg.setThresholdMaximum(threshold);
+		alg.setSearchRadius(radius);
+	}
+
+	@Benchmark
+	public void process() {
+		corners.reset();
+		alg.process(intensity, null,null,corners,corners);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the FAST corner intensity
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkFastIntensity {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"9","12"})
+	public int minContinuous;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	GrayF32 intensity;
+
+	FastCornerIntensity alg;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		intensity = new GrayF32(size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+
+		alg = FactoryIntensityPointAlg.fast(60, minContinuous, input.getClass());
+	}
+
+	@Benchmark
+	public void process() {
+		alg.process(input, intensity);
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares computing the Shi-Tomasi corner intensity from precomputed Sobel gradient images against
+ * computing it directly from the input image with {@link SobelCornerIntensity}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkSobelCornerIntensity {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"2","4"})
+	public int radius;
+
+	ImageGray input;
+	ImageGray derivX, derivY;
+	GrayF32 intensity;
+
+	ImageGradient gradient;
+	ShiTomasiCornerIntensity shiTomasi;
+	SobelCornerIntensity shiTomasiSobel;
+
+	@Setup
+	public void setup() {
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		Class inputType = input.getClass();
+		Class derivType = GImageDerivativeOps.getDerivativeType(inputType);
+
+		derivX = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivY = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		intensity = new GrayF32(size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+
+		gradient = FactoryDerivative.sobel(inputType, derivType);
+		shiTomasi = FactoryIntensityPointAlg.shiTomasi(radius, false, derivType);
+		shiTomasiSobel = FactoryIntensityPointAlg.shiTomasiSobel(radius, inputType);
+	}
+
+	@Benchmark
+	public void gradientThenIntensity() {
+		gradient.process(input, derivX, derivY);
+		shiTomasi.process(derivX, derivY, intensity);
+	}
+
+	@Benchmark
+	public void singlePass() {
+		shiTomasiSobel.process(input, intensity);
+	}
+}
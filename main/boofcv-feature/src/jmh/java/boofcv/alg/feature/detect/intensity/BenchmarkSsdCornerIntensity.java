@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.*;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for corner intensity algorithms which are computed from the image gradient
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkSsdCornerIntensity {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"2"})
+	public int windowRadius;
+
+	GrayF32 intensity;
+
+	GrayF32 derivX_F32,derivY_F32;
+	GrayF32 derivXX_F32,derivYY_F32,derivXY_F32;
+	GrayS16 derivX_I16,derivY_I16;
+	GrayS16 derivXX_I16,derivYY_I16,derivXY_I16;
+
+	ImplShiTomasiCorner_F32 kltF32;
+	ImplShiTomasiCornerWeighted_F32 kltWeightedF32;
+	ImplShiTomasiCorner_S16 kltI16;
+	ImplShiTomasiCornerWeighted_S16 kltWeightedI16;
+	ImplSsdCornerNaive kltNaiveI16;
+	ImplHarrisCorner_F32 harrisF32;
+	ImplHarrisCorner_S16 harrisI16;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		intensity = new GrayF32(size, size);
+		derivX_F32 = new GrayF32(size, size);
+		derivY_F32 = new GrayF32(size, size);
+		derivXX_F32 = new GrayF32(size, size);
+		derivYY_F32 = new GrayF32(size, size);
+		derivXY_F32 = new GrayF32(size, size);
+		derivX_I16 = new GrayS16(size, size);
+		derivY_I16 = new GrayS16(size, size);
+		derivXX_I16 = new GrayS16(size, size);
+		derivYY_I16 = new GrayS16(size, size);
+		derivXY_I16 = new GrayS16(size, size);
+
+		ImageMiscOps.fillUniform(derivX_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXX_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivYY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXY_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivX_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivY_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXX_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivYY_I16, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivXY_I16, rand, 0, 255);
+
+		kltF32 = new ImplShiTomasiCorner_F32(windowRadius);
+		kltWeightedF32 = new ImplShiTomasiCornerWeighted_F32(windowRadius);
+		kltI16 = new ImplShiTomasiCorner_S16(windowRadius);
+		kltWeightedI16 = new ImplShiTomasiCornerWeighted_S16(windowRadius);
+		kltNaiveI16 = new ImplSsdCornerNaive(size, size, windowRadius,false);
+		harrisF32 = new ImplHarrisCorner_F32(windowRadius, 0.04f);
+		harrisI16 = new ImplHarrisCorner_S16(windowRadius, 0.04f);
+	}
+
+	@Benchmark
+	public void klt_F32() {
+		kltF32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void kltWeighted_F32() {
+		kltWeightedF32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void harris_F32() {
+		harrisF32.process(derivX_F32, derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void kitRos_F32() {
+		KitRosCornerIntensity.process(intensity,derivX_F32, derivY_F32,derivXX_F32,derivYY_F32,derivXY_F32);
+	}
+
+	@Benchmark
+	public void klt_I16() {
+		kltI16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void kltWeighted_I16() {
+		kltWeightedI16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void kltNaive_I16() {
+		kltNaiveI16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void harris_I16() {
+		harrisI16.process(derivX_I16, derivY_I16,intensity);
+	}
+
+	@Benchmark
+	public void kitRos_I16() {
+		KitRosCornerIntensity.process(intensity,derivX_I16, derivY_I16, derivXX_I16,derivYY_I16, derivXY_I16);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.alg.feature.detect.intensity.IntegralImageFeatureIntensity;
+import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the Fast Hessian feature intensity computed from an integral image
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkFastHessianFeatureIntensity {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2"})
+	public int skip;
+
+	@Param({"15"})
+	public int kernelSize;
+
+	GrayF32 integral;
+	GrayF32 intensity;
+
+	@Setup
+	public void setup() {
+		GrayF32 original = new GrayF32(size,size);
+		ImageMiscOps.fillUniform(original,new Random(234),0,200);
+		integral = IntegralImageOps.transform(original,null);
+		intensity = new GrayF32(size/skip,size/skip);
+	}
+
+	@Benchmark
+	public void naive() {
+		ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,kernelSize,intensity);
+	}
+
+	@Benchmark
+	public void standard() {
+		IntegralImageFeatureIntensity.hessian(integral,skip,kernelSize,intensity);
+	}
+}
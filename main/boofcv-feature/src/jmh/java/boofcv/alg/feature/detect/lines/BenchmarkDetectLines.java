@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.lines;
+
+import boofcv.abst.feature.detect.line.DetectLine;
+import boofcv.abst.feature.detect.line.DetectLineSegment;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.line.ConfigHoughFoot;
+import boofcv.factory.feature.detect.line.ConfigHoughFootSubimage;
+import boofcv.factory.feature.detect.line.ConfigHoughPolar;
+import boofcv.factory.feature.detect.line.FactoryDetectLineAlgs;
+import boofcv.io.UtilIO;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for line detectors on an indoor image
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDetectLines {
+	@Param({"U8","F32"})
+	public String imageType;
+
+	float edgeThreshold = 30;
+	int maxLines = 10;
+
+	ImageGray input;
+
+	DetectLine houghPolar;
+	DetectLine houghFoot;
+	DetectLine houghFootSub;
+	DetectLineSegment lineRansac;
+
+	@Setup
+	public void setup() throws IOException {
+		BufferedImage image = ImageIO.read(new File(UtilIO.pathExample("lines_indoors.jpg")));
+
+		Class type = ImageDataType.typeToSingleClass(ImageDataType.valueOf(imageType));
+		Class derivType = GImageDerivativeOps.getDerivativeType(type);
+
+		input = GeneralizedImageOps.createSingleBand(type, image.getWidth(), image.getHeight());
+		ConvertBufferedImage.convertFromSingle(image, input, type);
+
+		houghPolar = FactoryDetectLineAlgs.houghPolar(
+				new ConfigHoughPolar(3, 30, 4, Math.PI / 180, edgeThreshold, maxLines), type, derivType);
+		houghFoot = FactoryDetectLineAlgs.houghFoot(
+				new ConfigHoughFoot(3, 10, 5, edgeThreshold, maxLines), type, derivType);
+		houghFootSub = FactoryDetectLineAlgs.houghFootSub(
+				new ConfigHoughFootSubimage(3, 6, 5, edgeThreshold, maxLines, 2, 2), type, derivType);
+		lineRansac = FactoryDetectLineAlgs.lineRansac(40, 30, 2.36, true, type, derivType);
+	}
+
+	@Benchmark
+	public void houghPolar() {
+		houghPolar.detect(input);
+	}
+
+	@Benchmark
+	public void houghFoot() {
+		houghFoot.detect(input);
+	}
+
+	@Benchmark
+	public void houghFootSub() {
+		houghFootSub.detect(input);
+	}
+
+	@Benchmark
+	public void lineRansac() {
+		lineRansac.detect(input);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.*;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.orientation.FactoryOrientation;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static boofcv.factory.feature.orientation.FactoryOrientationAlgs.*;
+
+/**
+ * Benchmark for estimating the orientation of randomly selected points
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkOrientation {
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"sift","noGradient",
+			"average","averageW","histogram","histogramW","sliding","slidingW",
+			"imageII","imageIIW","averageII","averageIIW","slidingII","slidingIIW"})
+	public String orientation;
+
+	static int NUM_POINTS = 1000;
+	static int RADIUS = 6;
+	static double OBJECT_TO_SCALE = 1.0/2.0;
+
+	final static int width = 640;
+	final static int height = 480;
+
+	ImageGray image;
+	ImageGray derivX;
+	ImageGray derivY;
+	ImageGray ii;
+
+	Point2D_I32 pts[];
+	double radiuses[];
+
+	RegionOrientation alg;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		Class type = ImageDataType.typeToSingleClass(ImageDataType.valueOf(imageType));
+		Class derivType = GImageDerivativeOps.getDerivativeType(type);
+		Class integralType = GIntegralImageOps.getIntegralType(type);
+
+		image = GeneralizedImageOps.createSingleBand(type, width, height);
+		derivX = GeneralizedImageOps.createSingleBand(derivType, width, height);
+		derivY = GeneralizedImageOps.createSingleBand(derivType, width, height);
+
+		GImageMiscOps.fillUniform(image, rand, 0, 100);
+		ii = GIntegralImageOps.transform(image,null);
+
+		ImageGradient gradient = FactoryDerivative.sobel(type,derivType);
+		gradient.process(image,derivX,derivY);
+
+		pts = new Point2D_I32[NUM_POINTS];
+		radiuses = new double[NUM_POINTS];
+		int border = 6;
+		for( int i = 0; i < NUM_POINTS; i++ ) {
+			int x = rand.nextInt(width-border*2)+border;
+			int y = rand.nextInt(height-border*2)+border;
+			pts[i] = new Point2D_I32(x,y);
+			radiuses[i] = rand.nextDouble()*100+10;
+		}
+
+		ConfigAverageIntegral confAverageIIW = new ConfigAverageIntegral();
+		confAverageIIW.weightSigma = -1;
+		ConfigSlidingIntegral confSlidingIIW = new ConfigSlidingIntegral();
+		confSlidingIIW.weightSigma = -1;
+
+		switch( orientation ) {
+			case "sift": alg = FactoryOrientation.sift(null,null,type); break;
+			case "noGradient": alg = nogradient(OBJECT_TO_SCALE,RADIUS,type); break;
+			case "average": alg = average(OBJECT_TO_SCALE,RADIUS,false,derivType); break;
+			case "averageW": alg = average(OBJECT_TO_SCALE,RADIUS, true, derivType); break;
+			case "histogram": alg = histogram(0.5,15, RADIUS, false, derivType); break;
+			case "histogramW": alg = histogram(0.5,15, RADIUS, true, derivType); break;
+			case "sliding": alg = sliding(OBJECT_TO_SCALE,15, Math.PI / 3.0, RADIUS, false, derivType); break;
+			case "slidingW": alg = sliding(OBJECT_TO_SCALE,15, Math.PI / 3.0, RADIUS, true, derivType); break;
+			case "imageII": alg = image_ii(1.0/2.0,RADIUS, 1, 4, 0, integralType); break;
+			case "imageIIW": alg = image_ii(1.0/2.0,RADIUS, 1, 4, -1, integralType); break;
+			case "averageII": alg = average_ii(null, integralType); break;
+			case "averageIIW": alg = average_ii(confAverageIIW, integralType); break;
+			case "slidingII": alg = sliding_ii(null, integralType); break;
+			case "slidingIIW": alg = sliding_ii(confSlidingIIW, integralType); break;
+			default: throw new IllegalArgumentException("Unknown orientation "+orientation);
+		}
+	}
+
+	@Benchmark
+	public double compute() {
+		if( alg instanceof OrientationGradient )
+			((OrientationGradient)alg).setImage(derivX,derivY);
+		else if( alg instanceof OrientationIntegral )
+			((OrientationIntegral)alg).setImage(ii);
+		else
+			((OrientationImage)alg).setImage(image);
+
+		double total = 0;
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			alg.setObjectRadius(radiuses[i]);
+			total += alg.compute(p.x,p.y);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.peak;
+
+import boofcv.alg.feature.detect.peak.MeanShiftPeak;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.weights.WeightPixelGaussian_F32;
+import boofcv.alg.weights.WeightPixelUniform_F32;
+import boofcv.alg.weights.WeightPixel_F32;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for mean-shift peak finding from randomly selected starting locations
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPeakFinding {
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"gaussian","uniform"})
+	public String weight;
+
+	@Param({"2"})
+	public int radius;
+
+	int width = 320;
+	int height = 240;
+
+	ImageGray image;
+	List<Point2D_F32> locations = new ArrayList<>();
+
+	MeanShiftPeak alg;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		Class type = ImageDataType.typeToSingleClass(ImageDataType.valueOf(imageType));
+
+		image = GeneralizedImageOps.createSingleBand(type,width,height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		locations.clear();
+		for( int i = 0; i < 3000; i++ ) {
+			Point2D_F32 p = new Point2D_F32();
+			p.x = rand.nextFloat()*width;
+			p.y = rand.nextFloat()*height;
+			locations.add(p);
+		}
+
+		WeightPixel_F32 weightF;
+		switch( weight ) {
+			case "gaussian": weightF = new WeightPixelGaussian_F32(); break;
+			case "uniform": weightF = new WeightPixelUniform_F32(); break;
+			default: throw new IllegalArgumentException("Unknown weight "+weight);
+		}
+		alg = new MeanShiftPeak(30,0.1f,weightF,type);
+		alg.setRadius(radius);
+	}
+
+	@Benchmark
+	public void meanShift() {
+		alg.setImage(image);
+		for( int i = 0; i < locations.size(); i++ ) {
+			Point2D_F32 p = locations.get(i);
+			alg.search(p.x,p.y);
+		}
+	}
+}
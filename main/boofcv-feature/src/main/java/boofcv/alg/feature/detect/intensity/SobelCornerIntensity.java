@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Computes a {@link GradientCornerIntensity} directly from the input image.  The image gradient is computed using
+ * a Sobel kernel with an {@link boofcv.core.image.border.BorderType#EXTENDED extended} border, the same as
+ * {@link boofcv.alg.filter.derivative.GradientSobel}.  Instead of writing the gradient to a pair of images and
+ * then reading them back, each row of the gradient is consumed as soon as it's been computed and only a few rows
+ * of intermediate results are kept in memory.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface SobelCornerIntensity<T extends ImageGray<T>> extends FeatureIntensity<T> {
+
+	/**
+	 * Computes feature intensity image.
+	 *
+	 * @param image Input image. Not modified.
+	 * @param intensity Output intensity image
+	 */
+	void process( T image , GrayF32 intensity );
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Implementation of {@link SobelCornerIntensity} for {@link GrayU8} which computes the intensity using
+ * {@link ImplSsdCorner_S16#computeIntensity()}. The results are identical to computing the gradient with
+ * {@link boofcv.alg.filter.derivative.GradientSobel} then calling {@link ImplSsdCorner_S16#process}.
+ * </p>
+ *
+ * <p>
+ * Each input row is converted into a row of gradient and then a row of horizontal sums, which are stored in a
+ * ring buffer of 2*radius+2 rows.  Column sums are updated by adding the newest row and removing the oldest row.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplSobelSsdCorner_U8 implements SobelCornerIntensity<GrayU8> {
+
+	// computes the intensity from the sum of gradient products
+	ImplSsdCorner_S16 corner;
+
+	// gradient along the current row
+	int[] derivX = new int[0];
+	int[] derivY = new int[0];
+
+	// ring buffer containing the horizontal sum of gradient products for each row
+	int[] horizXX = new int[0];
+	int[] horizXY = new int[0];
+	int[] horizYY = new int[0];
+
+	// vertical sum of horizontal sums
+	int[] totalXX = new int[0];
+	int[] totalXY = new int[0];
+	int[] totalYY = new int[0];
+
+	public ImplSobelSsdCorner_U8( ImplSsdCorner_S16 corner ) {
+		this.corner = corner;
+	}
+
+	@Override
+	public void process( GrayU8 image , GrayF32 intensity ) {
+		InputSanityCheck.checkSameShape(image, intensity);
+
+		final int radius = corner.radius;
+		final int windowWidth = 2*radius + 1;
+		final int ringSize = windowWidth + 1;
+		final int width = image.width;
+		final int height = image.height;
+
+		ImageMiscOps.fillBorder(intensity, 0, radius);
+		if( width < windowWidth || height < windowWidth )
+			return;
+
+		declareStorage(width, ringSize);
+
+		for( int row = 0; row < height; row++ ) {
+			gradient(image, row);
+
+			int indexRing = (row % ringSize)*width;
+			horizontal(width, windowWidth, radius, indexRing);
+
+			if( row == windowWidth - 1 ) {
+				// first row with a complete window. Initialize the column sums
+				for( int x = radius; x < width - radius; x++ ) {
+					int sumXX = 0, sumXY = 0, sumYY = 0;
+					for( int i = 0; i < windowWidth; i++ ) {
+						int index = i*width + x;
+						sumXX += horizXX[index];
+						sumXY += horizXY[index];
+						sumYY += horizYY[index];
+					}
+					totalXX[x] = sumXX;
+					totalXY[x] = sumXY;
+					totalYY[x] = sumYY;
+				}
+				computeIntensity(intensity, row - radius);
+			} else if( row >= windowWidth ) {
+				// remove the row which just left the window and add the new one
+				int indexOld = ((row - windowWidth) % ringSize)*width;
+				for( int x = radius; x < width - radius; x++ ) {
+					int sum = totalXX[x] - horizXX[indexOld + x];
+					totalXX[x] = sum += horizXX[indexRing + x];
+					sum = totalXY[x] - horizXY[indexOld + x];
+					totalXY[x] = sum += horizXY[indexRing + x];
+					sum = totalYY[x] - horizYY[indexOld + x];
+					totalYY[x] = sum += horizYY[indexRing + x];
+				}
+				computeIntensity(intensity, row - radius);
+			}
+		}
+	}
+
+	private void declareStorage( int width , int ringSize ) {
+		if( derivX.length < width ) {
+			derivX = new int[width];
+			derivY = new int[width];
+			totalXX = new int[width];
+			totalXY = new int[width];
+			totalYY = new int[width];
+		}
+		if( horizXX.length < width*ringSize ) {
+			horizXX = new int[width*ringSize];
+			horizXY = new int[width*ringSize];
+			horizYY = new int[width*ringSize];
+		}
+	}
+
+	/**
+	 * Computes the Sobel gradient along a single row. Pixels outside the image are set to the closest pixel
+	 * inside the image.
+	 */
+	private void gradient( GrayU8 image , int y ) {
+		final byte[] data = image.data;
+		final int width = image.width;
+		final int height = image.height;
+
+		if( y == 0 || y == height - 1 ) {
+			for( int x = 0; x < width; x++ ) {
+				gradientBorder(image, x, y);
+			}
+			return;
+		}
+
+		int index = image.startIndex + y*image.stride + 1;
+		final int stride = image.stride;
+		for( int x = 1; x < width - 1; x++, index++ ) {
+			int v = (data[index + stride + 1] & 0xFF) - (data[index - stride - 1] & 0xFF);
+			int w = (data[index + stride - 1] & 0xFF) - (data[index - stride + 1] & 0xFF);
+
+			derivY[x] = ((data[index + stride] & 0xFF) - (data[index - stride] & 0xFF))*2 + v + w;
+			derivX[x] = ((data[index + 1] & 0xFF) - (data[index - 1] & 0xFF))*2 + v - w;
+		}
+		gradientBorder(image, 0, y);
+		gradientBorder(image, width - 1, y);
+	}
+
+	/**
+	 * Convolves the Sobel kernel around a pixel along the image border
+	 */
+	private void gradientBorder( GrayU8 image , int x , int y ) {
+		final int[] kerX = GradientSobel.kernelDerivX_I32.data;
+		final int[] kerY = GradientSobel.kernelDerivY_I32.data;
+
+		int totalX = 0, totalY = 0;
+		int indexKer = 0;
+		for( int i = -1; i <= 1; i++ ) {
+			int yy = Math.min(image.height - 1, Math.max(0, y + i));
+			int indexRow = image.startIndex + yy*image.stride;
+			for( int j = -1; j <= 1; j++, indexKer++ ) {
+				int xx = Math.min(image.width - 1, Math.max(0, x + j));
+				int value = image.data[indexRow + xx] & 0xFF;
+				totalX += value*kerX[indexKer];
+				totalY += value*kerY[indexKer];
+			}
+		}
+		derivX[x] = totalX;
+		derivY[x] = totalY;
+	}
+
+	/**
+	 * Sliding window sum of gradient products along the row
+	 */
+	private void horizontal( int width , int windowWidth , int radius , int indexRing ) {
+		int sumXX = 0, sumXY = 0, sumYY = 0;
+
+		for( int x = 0; x < windowWidth; x++ ) {
+			int dx = derivX[x], dy = derivY[x];
+			sumXX += dx*dx;
+			sumXY += dx*dy;
+			sumYY += dy*dy;
+		}
+		horizXX[indexRing + radius] = sumXX;
+		horizXY[indexRing + radius] = sumXY;
+		horizYY[indexRing + radius] = sumYY;
+
+		for( int x = windowWidth; x < width; x++ ) {
+			int dx = derivX[x - windowWidth], dy = derivY[x - windowWidth];
+			sumXX -= dx*dx;
+			sumXY -= dx*dy;
+			sumYY -= dy*dy;
+
+			dx = derivX[x];
+			dy = derivY[x];
+			sumXX += dx*dx;
+			sumXY += dx*dy;
+			sumYY += dy*dy;
+
+			horizXX[indexRing + x - radius] = sumXX;
+			horizXY[indexRing + x - radius] = sumXY;
+			horizYY[indexRing + x - radius] = sumYY;
+		}
+	}
+
+	private void computeIntensity( GrayF32 intensity , int y ) {
+		final int radius = corner.radius;
+		final int width = intensity.width;
+		int indexDst = intensity.startIndex + y*intensity.stride + radius;
+
+		corner.y = y;
+		for( int x = radius; x < width - radius; x++ ) {
+			corner.x = x;
+			corner.totalXX = totalXX[x];
+			corner.totalXY = totalXY[x];
+			corner.totalYY = totalYY[x];
+			intensity.data[indexDst++] = corner.computeIntensity();
+		}
+	}
+
+	@Override
+	public int getRadius() {
+		return corner.getRadius();
+	}
+
+	@Override
+	public int getIgnoreBorder() {
+		return corner.getIgnoreBorder();
+	}
+}
@@ -28,6 +28,9 @@ import boofcv.struct.image.ImageGray;
 
 /**
  * Detects features using {@link GeneralFeatureDetector} but Handles all the derivative computations automatically.
+ * Derivatives are only computed if the detector requires them.  Detectors which compute their own gradient, such
+ * as {@link boofcv.factory.feature.detect.interest.FactoryDetectPoint#createShiTomasiSobel}, only make a single
+ * pass over the input image.
  *
  * @author Peter Abeles
  */
@@ -24,6 +24,7 @@ import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HarrisCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -89,6 +90,40 @@ public class FactoryIntensityPoint {
 		return new WrapperGradientCornerIntensity<>(alg);
 	}
 
+	/**
+	 * Feature intensity for Harris corner detector which is computed directly from the input image.  The image
+	 * gradient is not required.  See {@link SobelCornerIntensity} for more details.
+	 *
+	 * @param windowRadius Size of the feature it is detects, Try 2.
+	 * @param kappa Tuning parameter, typically a small number around 0.04
+	 * @param imageType Type of input image.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return Harris corner
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	GeneralFeatureIntensity<I,D> harrisSobel(int windowRadius, float kappa, Class<I> imageType)
+	{
+		SobelCornerIntensity<I> alg = FactoryIntensityPointAlg.harrisSobel(windowRadius, kappa, imageType);
+		return new WrapperSobelCornerIntensity<>(alg);
+	}
+
+	/**
+	 * Feature intensity for KLT corner detector which is computed directly from the input image.  The image
+	 * gradient is not required.  See {@link SobelCornerIntensity} for more details.
+	 *
+	 * @param windowRadius Size of the feature it detects, Try 2.
+	 * @param imageType Type of input image.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return KLT corner
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	GeneralFeatureIntensity<I,D> shiTomasiSobel(int windowRadius, Class<I> imageType) {
+		SobelCornerIntensity<I> alg = FactoryIntensityPointAlg.shiTomasiSobel(windowRadius, imageType);
+		return new WrapperSobelCornerIntensity<>(alg);
+	}
+
 	/**
 	 * Feature intensity for Kitchen and Rosenfeld corner detector.  See {@link boofcv.alg.feature.detect.intensity.KitRosCornerIntensity} for more details.
 	 *
@@ -21,6 +21,7 @@ package boofcv.factory.feature.detect.intensity;
 import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HarrisCornerIntensity;
 import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
 import boofcv.alg.feature.detect.intensity.impl.*;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
@@ -123,4 +124,43 @@ public class FactoryIntensityPointAlg {
 		} else
 			throw new IllegalArgumentException("Unknown image type "+derivType);
 	}
+
+	/**
+	 * Creates an unweighted Harris corner intensity which computes the Sobel gradient from the input image
+	 * while computing the intensity.  See {@link SobelCornerIntensity}.
+	 *
+	 * @param windowRadius Size of the feature it is detects,Try 2.
+	 * @param kappa Tuning parameter, typically a small number around 0.04
+	 * @param imageType Type of input image.  {@link GrayU8} or {@link GrayF32}
+	 * @return Harris corner
+	 */
+	public static <T extends ImageGray<T>>
+	SobelCornerIntensity<T> harrisSobel(int windowRadius, float kappa, Class<T> imageType)
+	{
+		if( imageType == GrayF32.class )
+			return (SobelCornerIntensity<T>)new ImplSobelSsdCorner_F32(new ImplHarrisCorner_F32(windowRadius,kappa));
+		else if( imageType == GrayU8.class )
+			return (SobelCornerIntensity<T>)new ImplSobelSsdCorner_U8(new ImplHarrisCorner_S16(windowRadius,kappa));
+		else
+			throw new IllegalArgumentException("Unsupported image type "+imageType);
+	}
+
+	/**
+	 * Creates an unweighted Shi-Tomasi corner intensity which computes the Sobel gradient from the input image
+	 * while computing the intensity.  See {@link SobelCornerIntensity}.
+	 *
+	 * @param windowRadius Size of the feature it detects, Try 2.
+	 * @param imageType Type of input image.  {@link GrayU8} or {@link GrayF32}
+	 * @return KLT corner
+	 */
+	public static <T extends ImageGray<T>>
+	SobelCornerIntensity<T> shiTomasiSobel(int windowRadius, Class<T> imageType)
+	{
+		if( imageType == GrayF32.class )
+			return (SobelCornerIntensity<T>)new ImplSobelSsdCorner_F32(new ImplShiTomasiCorner_F32(windowRadius));
+		else if( imageType == GrayU8.class )
+			return (SobelCornerIntensity<T>)new ImplSobelSsdCorner_U8(new ImplShiTomasiCorner_S16(windowRadius));
+		else
+			throw new IllegalArgumentException("Unsupported image type "+imageType);
+	}
 }
@@ -88,6 +88,43 @@ public class FactoryDetectPoint {
 		return createGeneral(cornerIntensity, configDetector);
 	}
 
+	/**
+	 * Detects Harris corners directly from the input image.  The Sobel gradient is computed internally one
+	 * row at a time and is never saved as an image.  Results are the same as calling
+	 * {@link #createHarris} with an unweighted window and Sobel derivatives.
+	 *
+	 * @param configDetector Configuration for feature detector.
+	 * @param imageType       Type of input image.
+	 * @see boofcv.alg.feature.detect.intensity.SobelCornerIntensity
+	 */
+	public static <T extends ImageGray<T>, D extends ImageGray<D>>
+	GeneralFeatureDetector<T, D> createHarrisSobel(ConfigGeneralDetector configDetector, Class<T> imageType) {
+		if( configDetector == null)
+			configDetector = new ConfigGeneralDetector();
+
+		GeneralFeatureIntensity<T, D> intensity =
+				FactoryIntensityPoint.harrisSobel(configDetector.radius, 0.04f, imageType);
+		return createGeneral(intensity, configDetector);
+	}
+
+	/**
+	 * Detects Shi-Tomasi corners directly from the input image.  The Sobel gradient is computed internally one
+	 * row at a time and is never saved as an image.  Results are the same as calling
+	 * {@link #createShiTomasi} with an unweighted window and Sobel derivatives.
+	 *
+	 * @param configDetector Configuration for feature detector.
+	 * @param imageType       Type of input image.
+	 * @see boofcv.alg.feature.detect.intensity.SobelCornerIntensity
+	 */
+	public static <T extends ImageGray<T>, D extends ImageGray<D>>
+	GeneralFeatureDetector<T, D> createShiTomasiSobel(ConfigGeneralDetector configDetector, Class<T> imageType) {
+		if( configDetector == null)
+			configDetector = new ConfigGeneralDetector();
+
+		GeneralFeatureIntensity<T, D> intensity = FactoryIntensityPoint.shiTomasiSobel(configDetector.radius, imageType);
+		return createGeneral(intensity, configDetector);
+	}
+
 	/**
 	 * Detects Kitchen and Rosenfeld corners.
 	 *
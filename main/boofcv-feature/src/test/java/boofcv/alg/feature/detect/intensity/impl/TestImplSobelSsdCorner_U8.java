@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplSobelSsdCorner_U8 {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against computing the gradient images then the corner intensity
+	 */
+	@Test
+	public void compareToGradientImages() {
+		for( int[] shape : new int[][]{{30,40},{41,25},{7,9}} ) {
+			GrayU8 image = new GrayU8(shape[0],shape[1]);
+			ImageMiscOps.fillUniform(image, rand, 0, 256);
+			GrayF32 found = new GrayF32(image.width,image.height);
+
+			BoofTesting.checkSubImage(this, "compareToGradientImages", true, image, found);
+		}
+	}
+
+	public void compareToGradientImages( GrayU8 image , GrayF32 found ) {
+		GrayS16 derivX = new GrayS16(image.width,image.height);
+		GrayS16 derivY = new GrayS16(image.width,image.height);
+		GradientSobel.process(image, derivX, derivY, new ImageBorder1D_S32(BorderIndex1D_Extend.class));
+
+		for( int radius = 1; radius <= 3; radius++ ) {
+			GrayF32 expected = new GrayF32(image.width,image.height);
+
+			ImplShiTomasiCorner_S16 shiTomasi = new ImplShiTomasiCorner_S16(radius);
+			shiTomasi.process(derivX, derivY, expected);
+			new ImplSobelSsdCorner_U8(new ImplShiTomasiCorner_S16(radius)).process(image, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			ImplHarrisCorner_S16 harris = new ImplHarrisCorner_S16(radius, 0.04f);
+			harris.process(derivX, derivY, expected);
+			new ImplSobelSsdCorner_U8(new ImplHarrisCorner_S16(radius, 0.04f)).process(image, found);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	/**
+	 * Images which are smaller than the window should be handled without an exception
+	 */
+	@Test
+	public void imageSmallerThanWindow() {
+		GrayU8 image = new GrayU8(4,20);
+		GrayF32 found = new GrayF32(image.width,image.height);
+		ImageMiscOps.fillUniform(found, rand, 1, 2);
+
+		new ImplSobelSsdCorner_U8(new ImplShiTomasiCorner_S16(2)).process(image, found);
+
+		BoofTesting.assertEquals(new GrayF32(image.width,image.height), found, 0);
+	}
+}
@@ -18,14 +18,19 @@
 
 package boofcv.alg.feature.detect.interest;
 
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_I16;
 import org.junit.Test;
 
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import java.util.Random;
+
+import static org.junit.Assert.*;
 
 /**
  * @author Peter Abeles
@@ -84,6 +89,38 @@ public class TestEasyGeneralFeatureDetector {
 		assertFalse(detector.excludeIsNull);
 	}
 
+	/**
+	 * Corners computed directly from the image should not need derivatives and produce the same results
+	 * as when the gradient is computed first
+	 */
+	@Test
+	public void sobelCornerIntensity() {
+		GrayU8 image = new GrayU8(60,70);
+		ImageMiscOps.fillUniform(image, new Random(234), 0, 256);
+		ConfigGeneralDetector config = new ConfigGeneralDetector(50, 2, 10);
+
+		EasyGeneralFeatureDetector<GrayU8,GrayS16> fused = new EasyGeneralFeatureDetector<>(
+				FactoryDetectPoint.createShiTomasiSobel(config, GrayU8.class), GrayU8.class, GrayS16.class);
+		EasyGeneralFeatureDetector<GrayU8,GrayS16> expected = new EasyGeneralFeatureDetector<>(
+				FactoryDetectPoint.createShiTomasi(config, false, GrayS16.class), GrayU8.class, GrayS16.class);
+
+		assertTrue(fused.derivX == null);
+		assertTrue(fused.derivY == null);
+
+		fused.detect(image,null);
+		expected.detect(image,null);
+
+		QueueCorner found = fused.getMaximums();
+		assertTrue(found.size > 0);
+		assertEquals(expected.getMaximums().size, found.size);
+		for( int i = 0; i < found.size; i++ ) {
+			Point2D_I16 a = expected.getMaximums().get(i);
+			Point2D_I16 b = found.get(i);
+			assertEquals(a.x, b.x);
+			assertEquals(a.y, b.y);
+		}
+	}
+
 	private static class Helper<I extends ImageGray<I>, D extends ImageGray<D>>
 			extends GeneralFeatureDetector<I,D> {
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating the fundamental and essential matrix from the minimum number of points
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeFundamental extends ArtificialStereoScene {
+	static final int NUM_POINTS = 500;
+
+	List<AssociatedPair> pairs8 = new ArrayList<>();
+	List<AssociatedPair> pairs6 = new ArrayList<>();
+
+	DMatrixRMaj found = new DMatrixRMaj(3,3);
+
+	Estimate1ofEpipolar fundamental8 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_8, 0);
+	Estimate1ofEpipolar fundamental7 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_7, 1);
+	Estimate1ofEpipolar essential8 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_8, 0);
+	Estimate1ofEpipolar essential7 = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_7, 1);
+	Estimate1ofEpipolar essential5 = FactoryMultiView.computeEssential_1(EnumEssential.NISTER_5, 1);
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS,false,false);
+
+		pairs6.clear();
+		pairs8.clear();
+		for( int i = 0; i < 6; i++ )
+			pairs6.add(pairs.get(i));
+		for( int i = 0; i < 8; i++ )
+			pairs8.add(pairs.get(i));
+	}
+
+	@Benchmark
+	public boolean fundamentalLinear8() {
+		return fundamental8.process(pairs8, found);
+	}
+
+	@Benchmark
+	public boolean fundamentalLinear7() {
+		return fundamental7.process(pairs8, found);
+	}
+
+	@Benchmark
+	public boolean essentialLinear8() {
+		return essential8.process(pairs8, found);
+	}
+
+	@Benchmark
+	public boolean essentialLinear7() {
+		return essential7.process(pairs8, found);
+	}
+
+	@Benchmark
+	public boolean essentialNister5() {
+		return essential5.process(pairs6, found);
+	}
+}
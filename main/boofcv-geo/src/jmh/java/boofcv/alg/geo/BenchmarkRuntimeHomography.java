@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating a homography from the minimum number of points and from all the points
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeHomography extends ArtificialStereoScene {
+	@Param({"500"})
+	public int numPoints;
+
+	List<AssociatedPair> pairs4 = new ArrayList<>();
+
+	DMatrixRMaj H = new DMatrixRMaj(3,3);
+
+	Estimate1ofEpipolar normalized = FactoryMultiView.computeHomography(true);
+	Estimate1ofEpipolar unnormalized = FactoryMultiView.computeHomography(false);
+
+	@Setup
+	public void setup() {
+		init(numPoints, true,true);
+
+		pairs4.clear();
+		for( int i = 0; i < 4; i++ ) {
+			pairs4.add(pairs.get(i));
+		}
+	}
+
+	@Benchmark
+	public boolean linear4Norm() {
+		return normalized.process(pairs4, H);
+	}
+
+	@Benchmark
+	public boolean linear4Unorm() {
+		return unnormalized.process(pairs4, H);
+	}
+
+	@Benchmark
+	public boolean linearAll() {
+		return normalized.process(pairs, H);
+	}
+}
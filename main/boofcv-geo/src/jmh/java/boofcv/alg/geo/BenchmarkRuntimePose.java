@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.alg.geo.pose.PnPLepetitEPnP;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.Point2D3D;
+import georegression.struct.se.Se3_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for estimating the camera pose from 2D to 3D point correspondences
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimePose extends ArtificialStereoScene {
+	static final int NUM_POINTS = 5;
+
+	Se3_F64 found = new Se3_F64();
+
+	PnPLepetitEPnP epnp0 = new PnPLepetitEPnP();
+	PnPLepetitEPnP epnp5 = new PnPLepetitEPnP();
+
+	Estimate1ofPnP grunert = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
+	Estimate1ofPnP finster = FactoryMultiView.computePnP_1(EnumPNP.P3P_FINSTERWALDER,-1,1);
+
+	List<Point2D3D> obsGrunert = new ArrayList<>();
+	List<Point2D3D> obsFinster = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		init(NUM_POINTS, false, false);
+
+		epnp0.setNumIterations(0);
+		epnp5.setNumIterations(5);
+
+		obsGrunert.clear();
+		obsFinster.clear();
+		for( int i = 0; i < grunert.getMinimumPoints(); i++ )
+			obsGrunert.add(observationPose.get(i));
+		for( int i = 0; i < finster.getMinimumPoints(); i++ )
+			obsFinster.add(observationPose.get(i));
+	}
+
+	@Benchmark
+	public void epnp0() {
+		epnp0.process(worldPoints,observationCurrent,found);
+	}
+
+	@Benchmark
+	public void epnp5() {
+		epnp5.process(worldPoints,observationCurrent,found);
+	}
+
+	@Benchmark
+	public boolean grunert() {
+		return grunert.process(obsGrunert,found);
+	}
+
+	@Benchmark
+	public boolean finster() {
+		return finster.process(obsFinster,found);
+	}
+}
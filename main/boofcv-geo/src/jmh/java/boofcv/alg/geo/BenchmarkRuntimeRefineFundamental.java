@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.RefineEpipolar;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EpipolarError;
+import boofcv.factory.geo.FactoryMultiView;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for refining an essential matrix estimate using all the points
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeRefineFundamental extends ArtificialStereoScene {
+	@Param({"500"})
+	public int numPoints;
+
+	static final double TOL = 1e-16;
+	static final int MAX_ITER = 100;
+
+	DMatrixRMaj initialF = new DMatrixRMaj(3,3);
+	DMatrixRMaj refinement = new DMatrixRMaj(3,3);
+
+	RefineEpipolar sampson = FactoryMultiView.refineFundamental(TOL, MAX_ITER, EpipolarError.SAMPSON);
+	RefineEpipolar simple = FactoryMultiView.refineFundamental(TOL, MAX_ITER, EpipolarError.SIMPLE);
+	RefineEpipolar quasiNewton = new QuasiNewtonFundamentalSampson(TOL,MAX_ITER);
+
+	@Setup
+	public void setup() {
+		init(numPoints,false,false);
+
+		Estimate1ofEpipolar computeAlg = FactoryMultiView.computeEssential_1(EnumEssential.LINEAR_8, 0);
+		computeAlg.process(pairs,initialF);
+		initialF.data[0] += 0.1;
+		initialF.data[4] -= 0.15;
+		initialF.data[7] -= 0.2;
+	}
+
+	@Benchmark
+	public boolean leastSquaresSampson() {
+		return sampson.fitModel(pairs, initialF, refinement);
+	}
+
+	@Benchmark
+	public boolean leastSquaresSimple() {
+		return simple.fitModel(pairs, initialF, refinement);
+	}
+
+	@Benchmark
+	public boolean quasiNewtonSampson() {
+		return quasiNewton.fitModel(pairs, initialF, refinement);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.RefineEpipolar;
+import boofcv.alg.geo.h.HomographyLinear4;
+import boofcv.factory.geo.EpipolarError;
+import boofcv.factory.geo.FactoryMultiView;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static boofcv.factory.geo.FactoryMultiView.refineHomography;
+
+/**
+ * Benchmark for refining a homography estimate using all the points
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeRefineHomography extends ArtificialStereoScene {
+	@Param({"500"})
+	public int numPoints;
+
+	static final double TOL = 1e-16;
+	static final int MAX_ITER = 200;
+
+	DMatrixRMaj initialF = new DMatrixRMaj(3,3);
+	DMatrixRMaj refinedF = new DMatrixRMaj(3,3);
+
+	RefineEpipolar simple = refineHomography(TOL, MAX_ITER, EpipolarError.SIMPLE);
+	RefineEpipolar sampson = refineHomography(TOL, MAX_ITER, EpipolarError.SAMPSON);
+	HomographyLinear4 linear4 = new HomographyLinear4(true);
+
+	@Setup
+	public void setup() {
+		init(numPoints, false, true);
+
+		Estimate1ofEpipolar computeAlg = FactoryMultiView.computeHomography(true);
+		computeAlg.process(pairs,initialF);
+		initialF.data[0] += 0.1;
+		initialF.data[4] -= 0.15;
+		initialF.data[7] -= 0.2;
+	}
+
+	@Benchmark
+	public boolean simple() {
+		return simple.fitModel(pairs, initialF, refinedF);
+	}
+
+	@Benchmark
+	public boolean sampson() {
+		return sampson.fitModel(pairs, initialF, refinedF);
+	}
+
+	@Benchmark
+	public boolean linear4() {
+		return linear4.process(pairs,refinedF);
+	}
+}
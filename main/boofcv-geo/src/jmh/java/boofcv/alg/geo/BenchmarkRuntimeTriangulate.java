@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo;
+
+import boofcv.alg.geo.triangulate.PixelDepthLinear;
+import boofcv.alg.geo.triangulate.TriangulateGeometric;
+import boofcv.alg.geo.triangulate.TriangulateLinearDLT;
+import georegression.struct.point.Point3D_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for triangulating points from two views
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkRuntimeTriangulate extends ArtificialStereoScene {
+	@Param({"500"})
+	public int numPoints;
+
+	TriangulateLinearDLT dlt = new TriangulateLinearDLT();
+	TriangulateGeometric geometric = new TriangulateGeometric();
+	PixelDepthLinear pixelDepth = new PixelDepthLinear();
+
+	Point3D_F64 found = new Point3D_F64();
+
+	@Setup
+	public void setup() {
+		init(numPoints,false,false);
+	}
+
+	@Benchmark
+	public void dlt2() {
+		for( int i = 0; i < numPoints; i++ )
+			dlt.triangulate(pairs.get(i).p1,pairs.get(i).p2,motion,found);
+	}
+
+	@Benchmark
+	public void geometric2() {
+		for( int i = 0; i < numPoints; i++ )
+			geometric.triangulate(pairs.get(i).p1,pairs.get(i).p2,motion,found);
+	}
+
+	@Benchmark
+	public double pixelDepth() {
+		double total = 0;
+		for( int i = 0; i < numPoints; i++ )
+			total += pixelDepth.depth2View(pairs.get(i).p1,pairs.get(i).p2,motion);
+		return total;
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -43,4 +43,14 @@ public class FlipVerticalNorm2_F32 implements Point2Transform2_F32 {
 	public void compute(float x, float y, Point2D_F32 out) {
 		pixelToNormalized.compute(x, height - y, out);
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public FlipVerticalNorm2_F32 copy() {
+		return new FlipVerticalNorm2_F32(pixelToNormalized.copy(), height+1);
+	}
 }
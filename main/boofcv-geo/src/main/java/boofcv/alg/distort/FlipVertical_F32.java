@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -42,4 +42,14 @@ public class FlipVertical_F32 implements Point2Transform2_F32 {
 		out.x = x;
 		out.y = height - y;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public FlipVertical_F32 copy() {
+		return new FlipVertical_F32(height+1);
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -88,4 +88,18 @@ public class NarrowToWidePtoP_F32 implements Point2Transform2_F32 {
 		unitToWide.compute(unit.x,unit.y,unit.z,out);
 	}
 
+	@Override
+	public boolean isCopyable() {
+		return narrowToNorm != null && unitToWide != null &&
+				narrowToNorm.isCopyable() && unitToWide.isCopyable();
+	}
+
+	@Override
+	public NarrowToWidePtoP_F32 copy() {
+		NarrowToWidePtoP_F32 out = new NarrowToWidePtoP_F32();
+		out.rotateWideToNarrow.set(rotateWideToNarrow);
+		out.narrowToNorm = narrowToNorm.copy();
+		out.unitToWide = unitToWide.copy();
+		return out;
+	}
 }
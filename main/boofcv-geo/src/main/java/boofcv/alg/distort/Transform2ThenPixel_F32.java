@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -53,4 +53,26 @@ public class Transform2ThenPixel_F32 implements Point2Transform2_F32 {
 		out.x = fx*x + skew*y + cx;
 		out.y = fy*y + cy;
 	}
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		first.compute(input,output,length);
+		for (int i = 0; i < length*2; i += 2) {
+			float x = output[i], y = output[i+1];
+			output[i  ] = fx*x + skew*y + cx;
+			output[i+1] = fy*y + cy;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return first.isCopyable();
+	}
+
+	@Override
+	public Transform2ThenPixel_F32 copy() {
+		Transform2ThenPixel_F32 out = new Transform2ThenPixel_F32(first.copy());
+		out.set(fx,fy,skew,cx,cy);
+		return out;
+	}
 }
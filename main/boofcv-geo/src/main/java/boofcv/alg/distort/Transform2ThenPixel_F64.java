@@ -46,6 +46,16 @@ public class Transform2ThenPixel_F64 implements Point2Transform2_F64 {
 		return this;
 	}
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		first.compute(input,output,length);
+		for (int i = 0; i < length*2; i += 2) {
+			double x = output[i], y = output[i+1];
+			output[i  ] = fx*x + skew*y + cx;
+			output[i+1] = fy*y + cy;
+		}
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 		first.compute(x,y,out);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -46,4 +46,23 @@ public class PinholeNtoP_F32 implements Point2Transform2_F32 {
 		out.x = fx * x + skew * y + cx;
 		out.y = fy * y + cy;
 	}
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		for (int i = 0; i < length*2; i += 2) {
+			float x = input[i], y = input[i+1];
+			output[i  ] = fx * x + skew * y + cx;
+			output[i+1] = fy * y + cy;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PinholeNtoP_F32 copy() {
+		return new PinholeNtoP_F32().set(fx,fy,skew,cx,cy);
+	}
 }
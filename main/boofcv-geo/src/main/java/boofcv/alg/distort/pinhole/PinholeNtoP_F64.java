@@ -41,6 +41,15 @@ public class PinholeNtoP_F64 implements Point2Transform2_F64 {
 	}
 
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		for (int i = 0; i < length*2; i += 2) {
+			double x = input[i], y = input[i+1];
+			output[i  ] = fx * x + skew * y + cx;
+			output[i+1] = fy * y + cy;
+		}
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 		out.x = fx * x + skew * y + cx;
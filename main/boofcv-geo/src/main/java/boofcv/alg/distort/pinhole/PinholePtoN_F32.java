@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -49,4 +49,26 @@ public class PinholePtoN_F32 implements Point2Transform2_F32 {
 		out.x = a11*x + a12*y + a13;
 		out.y = a22*y + a23;
 	}
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		for (int i = 0; i < length*2; i += 2) {
+			float x = input[i], y = input[i+1];
+			output[i  ] = a11*x + a12*y + a13;
+			output[i+1] = a22*y + a23;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PinholePtoN_F32 copy() {
+		PinholePtoN_F32 out = new PinholePtoN_F32();
+		out.a11 = a11; out.a12 = a12; out.a13 = a13;
+		out.a22 = a22; out.a23 = a23;
+		return out;
+	}
 }
@@ -44,6 +44,15 @@ public class PinholePtoN_F64 implements Point2Transform2_F64 {
 	}
 
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		for (int i = 0; i < length*2; i += 2) {
+			double x = input[i], y = input[i+1];
+			output[i  ] = a11*x + a12*y + a13;
+			output[i+1] = a22*y + a23;
+		}
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 		out.x = a11*x + a12*y + a13;
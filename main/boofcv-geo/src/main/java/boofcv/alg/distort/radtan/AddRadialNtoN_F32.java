@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -72,4 +72,39 @@ public class AddRadialNtoN_F32 implements Point2Transform2_F32 {
 		out.x += 2*t1*x*y + t2*(r2 + 2*x*x);
 		out.y += t1*(r2 + 2*y*y) + 2*t2*x*y;
 	}
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		final float[] radial = params.radial;
+		final float t1 = params.t1;
+		final float t2 = params.t2;
+
+		for (int index = 0; index < length*2; index += 2) {
+			float x = input[index], y = input[index+1];
+
+			float r2 = x*x + y*y;
+			float ri2 = r2;
+			float sum = 0;
+			for( int i = 0; i < radial.length; i++ ) {
+				sum += radial[i]*ri2;
+				ri2 *= r2;
+			}
+
+			output[index  ] = x*( 1 + sum) + 2*t1*x*y + t2*(r2 + 2*x*x);
+			output[index+1] = y*( 1 + sum) + t1*(r2 + 2*y*y) + 2*t2*x*y;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public AddRadialNtoN_F32 copy() {
+		AddRadialNtoN_F32 out = new AddRadialNtoN_F32();
+		// compute() doesn't modify the parameters so they can be shared
+		out.params = params;
+		return out;
+	}
 }
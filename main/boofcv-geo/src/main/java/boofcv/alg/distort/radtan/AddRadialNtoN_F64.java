@@ -50,6 +50,28 @@ public class AddRadialNtoN_F64 implements Point2Transform2_F64 {
 	 * @param y Undistorted y-coordinate normalized image coordinates
 	 * @param out Distorted normalized image coordinate.
 	 */
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		final double[] radial = params.radial;
+		final double t1 = params.t1;
+		final double t2 = params.t2;
+
+		for (int index = 0; index < length*2; index += 2) {
+			double x = input[index], y = input[index+1];
+
+			double r2 = x*x + y*y;
+			double ri2 = r2;
+			double sum = 0;
+			for( int i = 0; i < radial.length; i++ ) {
+				sum += radial[i]*ri2;
+				ri2 *= r2;
+			}
+
+			output[index  ] = x*( 1 + sum) + 2*t1*x*y + t2*(r2 + 2*x*x);
+			output[index+1] = y*( 1 + sum) + t1*(r2 + 2*y*y) + 2*t2*x*y;
+		}
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -102,4 +102,45 @@ public class AddRadialPtoN_F32 implements Point2Transform2_F32 {
 		out.x = out.x*(1 + sum) + tx;
 		out.y = out.y*(1 + sum) + ty;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		final float radial[] = params.radial;
+		final float t1 = params.t1, t2 = params.t2;
+
+		for (int index = 0; index < length*2; index += 2) {
+			// undistorted normalized image coordinate
+			float x = a11*input[index] + a12*input[index+1] + a13;
+			float y = a22*input[index+1] + a23;
+
+			float r2 = x*x + y*y;
+			float ri2 = r2;
+			float sum = 0;
+			for (int i = 0; i < radial.length; i++) {
+				sum += radial[i] * ri2;
+				ri2 *= r2;
+			}
+
+			float tx = 2 * t1 * x * y + t2 * (r2 + 2 * x * x);
+			float ty = t1 * (r2 + 2 * y * y) + 2 * t2 * x * y;
+
+			output[index  ] = x*(1 + sum) + tx;
+			output[index+1] = y*(1 + sum) + ty;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public AddRadialPtoN_F32 copy() {
+		AddRadialPtoN_F32 out = new AddRadialPtoN_F32();
+		// compute() doesn't modify the parameters so they can be shared
+		out.params = params;
+		out.a11 = a11; out.a12 = a12; out.a13 = a13;
+		out.a22 = a22; out.a23 = a23;
+		return out;
+	}
+}
@@ -76,6 +76,32 @@ public class AddRadialPtoN_F64 implements Point2Transform2_F64 {
 	 * @param y   Undistorted y-coordinate pixel
 	 * @param out Distorted pixel coordinate.
 	 */
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		final double radial[] = params.radial;
+		final double t1 = params.t1, t2 = params.t2;
+
+		for (int index = 0; index < length*2; index += 2) {
+			// undistorted normalized image coordinate
+			double x = a11*input[index] + a12*input[index+1] + a13;
+			double y = a22*input[index+1] + a23;
+
+			double r2 = x*x + y*y;
+			double ri2 = r2;
+			double sum = 0;
+			for (int i = 0; i < radial.length; i++) {
+				sum += radial[i] * ri2;
+				ri2 *= r2;
+			}
+
+			double tx = 2 * t1 * x * y + t2 * (r2 + 2 * x * x);
+			double ty = t1 * (r2 + 2 * y * y) + 2 * t2 * x * y;
+
+			output[index  ] = x*(1 + sum) + tx;
+			output[index+1] = y*(1 + sum) + ty;
+		}
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 		double sum = 0;
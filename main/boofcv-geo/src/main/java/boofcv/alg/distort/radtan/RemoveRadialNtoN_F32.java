@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -63,6 +63,11 @@ public class RemoveRadialNtoN_F32 implements Point2Transform2_F32 {
 		removeRadial(x, y, params.radial, params.t1, params.t2, out, tol );
 	}
 
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		removeRadial(input, output, length, params.radial, params.t1, params.t2, tol );
+	}
+
 	/**
 	 * Static function for removing radial and tangential distortion
 	 *
@@ -107,4 +112,63 @@ public class RemoveRadialNtoN_F32 implements Point2Transform2_F32 {
 		}
 		out.set(x,y);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Static function for removing radial and tangential distortion from an array of points. See
+	 * {@link #removeRadial(float, float, float[], float, float, Point2D_F32, float)}.
+	 *
+	 * @param input Distorted normalized image coordinates as interleaved (x,y) pairs
+	 * @param output (Output) Undistorted normalized image coordinates. Can be the same array as input.
+	 * @param length Number of points
+	 */
+	public static void removeRadial(float[] input, float[] output, int length,
+									float[] radial, float t1, float t2, float tol ) {
+		for (int index = 0; index < length*2; index += 2) {
+			float origX = input[index];
+			float origY = input[index+1];
+			float x = origX, y = origY;
+
+			float prevSum = 0;
+
+			for( int iter = 0; iter < 500; iter++ ) {
+
+				// estimate the radial distance
+				float r2 = x*x + y*y;
+				float ri2 = r2;
+
+				float sum = 0;
+				for( int i = 0; i < radial.length; i++ ) {
+					sum += radial[i]*ri2;
+					ri2 *= r2;
+				}
+
+				float tx = 2.0f*t1*x*y + t2*(r2 + 2.0f*x*x);
+				float ty = t1*(r2 + 2.0f*y*y) + 2.0f*t2*x*y;
+
+				x = (origX - tx)/(1.0f + sum);
+				y = (origY - ty)/(1.0f + sum);
+
+				if( (float)Math.abs(prevSum-sum) <= tol ) {
+					break;
+				} else {
+					prevSum = sum;
+				}
+			}
+			output[index  ] = x;
+			output[index+1] = y;
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public RemoveRadialNtoN_F32 copy() {
+		RemoveRadialNtoN_F32 out = new RemoveRadialNtoN_F32(tol);
+		// compute() doesn't modify the parameters so they can be shared
+		out.params = params;
+		return out;
+	}
+}
@@ -63,6 +63,11 @@ public class RemoveRadialNtoN_F64 implements Point2Transform2_F64 {
 		removeRadial(x, y, params.radial, params.t1, params.t2, out, tol );
 	}
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		removeRadial(input, output, length, params.radial, params.t1, params.t2, tol );
+	}
+
 	/**
 	 * Static function for removing radial and tangential distortion
 	 *
@@ -107,4 +112,50 @@ public class RemoveRadialNtoN_F64 implements Point2Transform2_F64 {
 		}
 		out.set(x,y);
 	}
+
+	/**
+	 * Static function for removing radial and tangential distortion from an array of points. See
+	 * {@link #removeRadial(double, double, double[], double, double, Point2D_F64, double)}.
+	 *
+	 * @param input Distorted normalized image coordinates as interleaved (x,y) pairs
+	 * @param output (Output) Undistorted normalized image coordinates. Can be the same array as input.
+	 * @param length Number of points
+	 */
+	public static void removeRadial(double[] input, double[] output, int length,
+									double[] radial, double t1, double t2, double tol ) {
+		for (int index = 0; index < length*2; index += 2) {
+			double origX = input[index];
+			double origY = input[index+1];
+			double x = origX, y = origY;
+
+			double prevSum = 0;
+
+			for( int iter = 0; iter < 500; iter++ ) {
+
+				// estimate the radial distance
+				double r2 = x*x + y*y;
+				double ri2 = r2;
+
+				double sum = 0;
+				for( int i = 0; i < radial.length; i++ ) {
+					sum += radial[i]*ri2;
+					ri2 *= r2;
+				}
+
+				double tx = 2.0*t1*x*y + t2*(r2 + 2.0*x*x);
+				double ty = t1*(r2 + 2.0*y*y) + 2.0*t2*x*y;
+
+				x = (origX - tx)/(1.0 + sum);
+				y = (origY - ty)/(1.0 + sum);
+
+				if( Math.abs(prevSum-sum) <= tol ) {
+					break;
+				} else {
+					prevSum = sum;
+				}
+			}
+			output[index  ] = x;
+			output[index+1] = y;
+		}
+	}
 }
\ No newline at end of file
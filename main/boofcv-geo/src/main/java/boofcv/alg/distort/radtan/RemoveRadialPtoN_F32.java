@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -103,4 +103,30 @@ public class RemoveRadialPtoN_F32 implements Point2Transform2_F32 {
 
 		removeRadial(out.x, out.y, params.radial, params.t1, params.t2, out, tol );
 	}
-}
\ No newline at end of file
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		// initial estimate of undistorted point
+		for (int i = 0; i < length*2; i += 2) {
+			float x = input[i], y = input[i+1];
+			output[i  ] = a11*x + a12*y + a13;
+			output[i+1] = a22*y + a23;
+		}
+
+		removeRadial(output, output, length, params.radial, params.t1, params.t2, tol );
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public RemoveRadialPtoN_F32 copy() {
+		RemoveRadialPtoN_F32 out = new RemoveRadialPtoN_F32(tol);
+		out.setK(fx,fy,skew,cx,cy);
+		// compute() doesn't modify the parameters so they can be shared
+		out.params = params;
+		return out;
+	}
+}
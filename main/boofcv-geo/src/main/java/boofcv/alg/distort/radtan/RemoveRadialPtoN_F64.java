@@ -95,6 +95,18 @@ public class RemoveRadialPtoN_F64 implements Point2Transform2_F64 {
 	 * @param y Distorted y-coordinate pixel
 	 * @param out Undistorted normalized coordinate.
 	 */
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		// initial estimate of undistorted point
+		for (int i = 0; i < length*2; i += 2) {
+			double x = input[i], y = input[i+1];
+			output[i  ] = a11*x + a12*y + a13;
+			output[i+1] = a22*y + a23;
+		}
+
+		removeRadial(output, output, length, params.radial, params.t1, params.t2, tol );
+	}
+
 	@Override
 	public void compute(double x, double y, Point2D_F64 out) {
 		// initial estimate of undistorted point
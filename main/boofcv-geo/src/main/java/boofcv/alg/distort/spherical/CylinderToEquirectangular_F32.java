@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -60,4 +60,11 @@ public class CylinderToEquirectangular_F32 extends EquirectangularDistortBase_F3
 			}
 		}
 	}
+
+	@Override
+	public CylinderToEquirectangular_F32 copy() {
+		CylinderToEquirectangular_F32 out = new CylinderToEquirectangular_F32();
+		copyInto(out);
+		return out;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -50,6 +50,8 @@ public abstract class EquirectangularDistortBase_F32 extends PixelTransform2_F32
 
 	// storage for precomputed pointing vectors for each pixel in pinhole camera
 	Point3D_F32[] vectors = new Point3D_F32[0];
+	// true if vectors is shared with a copy and must not be modified
+	boolean sharedVectors = false;
 
 	/**
 	 * Specify the shame of the equirectangular image
@@ -88,6 +90,11 @@ public abstract class EquirectangularDistortBase_F32 extends PixelTransform2_F32
 	protected void declareVectors( int width , int height ) {
 		this.outWidth = width;
 
+		if( sharedVectors ) {
+			vectors = new Point3D_F32[0];
+			sharedVectors = false;
+		}
+
 		if( vectors.length < width*height ) {
 			Point3D_F32[] tmp = new Point3D_F32[width*height];
 
@@ -119,6 +126,26 @@ public abstract class EquirectangularDistortBase_F32 extends PixelTransform2_F32
 		distY = out.y;
 	}
 
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public abstract EquirectangularDistortBase_F32 copy();
+
+	/**
+	 * Copies the state of this class into 'dst'. The precomputed pointing vectors are only read by
+	 * {@link #compute(int, int)} so they are shared until one of them declares new vectors.
+	 */
+	protected void copyInto( EquirectangularDistortBase_F32 dst ) {
+		dst.tools.configure(tools.width,tools.height);
+		dst.outWidth = outWidth;
+		dst.R.set(R);
+		dst.vectors = vectors;
+		dst.sharedVectors = sharedVectors = true;
+	}
+
 	public EquirectangularTools_F32 getTools() {
 		return tools;
 	}
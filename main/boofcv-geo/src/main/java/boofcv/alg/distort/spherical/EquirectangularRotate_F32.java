@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -45,4 +45,11 @@ public class EquirectangularRotate_F32 extends EquirectangularDistortBase_F32 {
 		}
 
 	}
+
+	@Override
+	public EquirectangularRotate_F32 copy() {
+		EquirectangularRotate_F32 out = new EquirectangularRotate_F32();
+		copyInto(out);
+		return out;
+	}
 }
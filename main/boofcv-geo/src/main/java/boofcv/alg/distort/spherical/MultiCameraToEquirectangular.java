@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -282,12 +282,16 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 		FMatrixRMaj cameraToCommon;
 		Point3Transform2_F32 s2p;
 
+		// has its own instance since it contains internal storage
+		EquirectangularTools_F32 tools = new EquirectangularTools_F32();
+
 		Point3D_F32 unitCam = new Point3D_F32();
 		Point3D_F32 unitCommon = new Point3D_F32();
 
 		EquiToCamera(FMatrixRMaj cameraToCommon, Point3Transform2_F32 s2p) {
 			this.cameraToCommon = cameraToCommon;
 			this.s2p = s2p;
+			tools.configure(equiWidth, equHeight);
 		}
 
 		@Override
@@ -301,5 +305,15 @@ public class MultiCameraToEquirectangular<T extends ImageBase<T>> {
 			// input camera image pixels
 			s2p.compute(unitCam.x, unitCam.y, unitCam.z , out);
 		}
+
+		@Override
+		public boolean isCopyable() {
+			return s2p.isCopyable();
+		}
+
+		@Override
+		public EquiToCamera copy() {
+			return new EquiToCamera(cameraToCommon.copy(),s2p.copy());
+		}
 	}
 }
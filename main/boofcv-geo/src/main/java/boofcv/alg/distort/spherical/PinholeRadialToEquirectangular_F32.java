@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -66,4 +66,12 @@ public class PinholeRadialToEquirectangular_F32 extends EquirectangularDistortBa
 	public CameraPinholeRadial getPinhole() {
 		return pinhole;
 	}
+
+	@Override
+	public PinholeRadialToEquirectangular_F32 copy() {
+		PinholeRadialToEquirectangular_F32 out = new PinholeRadialToEquirectangular_F32();
+		copyInto(out);
+		out.pinhole = pinhole;
+		return out;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -61,4 +61,12 @@ public class PinholeToEquirectangular_F32 extends EquirectangularDistortBase_F32
 			}
 		}
 	}
+
+	@Override
+	public PinholeToEquirectangular_F32 copy() {
+		PinholeToEquirectangular_F32 out = new PinholeToEquirectangular_F32();
+		copyInto(out);
+		out.pinhole = pinhole;
+		return out;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -93,4 +93,20 @@ public class UniOmniStoP_F32 implements Point3Transform2_F32 {
 		out.x = fx * x + skew * y + cx;
 		out.y = fy * y + cy;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public UniOmniStoP_F32 copy() {
+		UniOmniStoP_F32 out = new UniOmniStoP_F32();
+		// compute() doesn't modify the parameters so they can be shared
+		out.distortion = distortion;
+		out.mirrorOffset = mirrorOffset;
+		out.cx = cx; out.cy = cy;
+		out.fx = fx; out.fy = fy; out.skew = skew;
+		return out;
+	}
 }
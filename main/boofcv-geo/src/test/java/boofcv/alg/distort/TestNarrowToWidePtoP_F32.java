@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -34,6 +34,7 @@ import org.ejml.data.FMatrixRMaj;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -122,6 +123,32 @@ public class TestNarrowToWidePtoP_F32 {
 		assertEquals(expected,found,0.001f);
 	}
 
+	/**
+	 * The copy should produce identical results and not be affected by changes to the original
+	 */
+	@Test
+	public void copy() {
+		NarrowToWidePtoP_F32 alg = createAlg();
+		alg.setRotationWideToNarrow(ConvertRotation3D_F32.eulerToMatrix(EulerType.YXZ,0.1f,-0.05f,0,null));
+
+		assertTrue(alg.isCopyable());
+		NarrowToWidePtoP_F32 copy = alg.copy();
+
+		Point2D_F32 expected = new Point2D_F32();
+		Point2D_F32 found = new Point2D_F32();
+		alg.compute(200,260,expected);
+		copy.compute(200,260,found);
+		assertEquals(expected.x, found.x, 0);
+		assertEquals(expected.y, found.y, 0);
+
+		alg.setRotationWideToNarrow(ConvertRotation3D_F32.eulerToMatrix(EulerType.YXZ,-0.1f,0,0,null));
+		copy.compute(200,260,found);
+		assertEquals(expected.x, found.x, 0);
+		assertEquals(expected.y, found.y, 0);
+
+		assertFalse(new NarrowToWidePtoP_F32().isCopyable());
+	}
+
 	public static NarrowToWidePtoP_F32 createAlg() {
 		return new NarrowToWidePtoP_F32(createModelNarrow(), createModelWide());
 	}
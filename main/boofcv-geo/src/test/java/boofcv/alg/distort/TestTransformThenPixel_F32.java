@@ -69,4 +69,30 @@ public class TestTransformThenPixel_F32 {
 			out.y = 0.2f;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		Transform2ThenPixel_F32 alg = new Transform2ThenPixel_F32(new Point2Transform2_F32() {
+			@Override
+			public void compute(float x, float y, Point2D_F32 out) {
+				out.x = 0.1f*x;
+				out.y = y-0.2f;
+			}
+		});
+		alg.set(1, 2, 3, 4, 5);
+
+		float[] input = new float[]{1,2, -3,0.5f, 10,20};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
+}
@@ -69,4 +69,30 @@ public class TestTransformThenPixel_F64 {
 			out.y = 0.2;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		Transform2ThenPixel_F64 alg = new Transform2ThenPixel_F64(new Point2Transform2_F64() {
+			@Override
+			public void compute(double x, double y, Point2D_F64 out) {
+				out.x = 0.1*x;
+				out.y = y-0.2;
+			}
+		});
+		alg.set(1, 2, 3, 4, 5);
+
+		double[] input = new double[]{1,2, -3,0.5, 10,20};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
+}
@@ -53,4 +53,23 @@ public class TestPinholeNtoP_F32 {
 		assertEquals(expected.y, found.y, 1e-8);
 	}
 
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		PinholeNtoP_F32 alg = new PinholeNtoP_F32();
+		alg.set(200, 300, 1.2f, 400, 450);
+
+		float[] input = new float[]{0.1f,-0.2f, 0,0, -0.5f,0.3f};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-4);
+			assertEquals(expected.y, found[i*2+1], 1e-4);
+		}
+	}
 }
@@ -53,4 +53,23 @@ public class TestPinholeNtoP_F64 {
 		assertEquals(expected.y, found.y, 1e-8);
 	}
 
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		PinholeNtoP_F64 alg = new PinholeNtoP_F64();
+		alg.set(200, 300, 1.2, 400, 450);
+
+		double[] input = new double[]{0.1,-0.2, 0,0, -0.5,0.3};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-4);
+			assertEquals(expected.y, found[i*2+1], 1e-4);
+		}
+	}
 }
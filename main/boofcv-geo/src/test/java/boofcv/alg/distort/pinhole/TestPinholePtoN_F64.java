@@ -58,4 +58,24 @@ public class TestPinholePtoN_F64 {
 		assertEquals(expected.x,out.x,1e-5);
 		assertEquals(expected.y, out.y, 1e-5);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		PinholePtoN_F64 alg = new PinholePtoN_F64();
+		alg.set(fx,fy,skew,x_c,y_c);
+
+		double[] input = new double[]{100,120, -5,3, 640,480};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-5);
+			assertEquals(expected.y, found[i*2+1], 1e-5);
+		}
+	}
 }
@@ -84,4 +84,24 @@ public class TestAddRadialPtoN_F32 {
 		assertEquals(dnx,found.x,1e-4);
 		assertEquals(dny,found.y,1e-4);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		AddRadialPtoN_F32 alg = new AddRadialPtoN_F32().setK(600, 500, 2, 300, 350).
+				setDistortion(new /**/double[]{0.01f,-0.03f}, -0.5f, 0.03f);
+
+		float[] input = new float[]{19.5f,400.1f, 300,350, 620,10};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
 }
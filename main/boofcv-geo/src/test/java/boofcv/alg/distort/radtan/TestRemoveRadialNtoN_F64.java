@@ -59,4 +59,23 @@ public class TestRemoveRadialNtoN_F64 {
 		assertEquals(undistorted.x,found.x, GrlConstants.TEST_SQ_F64);
 		assertEquals(undistorted.y,found.y, GrlConstants.TEST_SQ_F64);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		RemoveRadialNtoN_F64 alg = new RemoveRadialNtoN_F64().setDistortion(new /**/double[]{0.12,-0.13}, 0.1, -0.05);
+
+		double[] input = new double[]{0.1,-0.2, 0,0, -0.5,0.3};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
 }
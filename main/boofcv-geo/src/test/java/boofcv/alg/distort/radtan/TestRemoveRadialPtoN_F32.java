@@ -71,4 +71,24 @@ public class TestRemoveRadialPtoN_F32 {
 		assertEquals(undistX,point.x, GrlConstants.TEST_SQ_F32);
 		assertEquals(undistY,point.y, GrlConstants.TEST_SQ_F32);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		RemoveRadialPtoN_F32 alg = new RemoveRadialPtoN_F32().setK(600, 500, 2, 300, 350).
+				setDistortion(new /**/double[]{0.12f,-0.13f}, 0.1f, -0.05f);
+
+		float[] input = new float[]{19.5f,400.1f, 300,350, 620,10};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
 }
@@ -71,4 +71,24 @@ public class TestRemoveRadialPtoN_F64 {
 		assertEquals(undistX,point.x, GrlConstants.TEST_SQ_F64);
 		assertEquals(undistY,point.y, GrlConstants.TEST_SQ_F64);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		RemoveRadialPtoN_F64 alg = new RemoveRadialPtoN_F64().setK(600, 500, 2, 300, 350).
+				setDistortion(new /**/double[]{0.12,-0.13}, 0.1, -0.05);
+
+		double[] input = new double[]{19.5,400.1, 300,350, 620,10};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-6);
+			assertEquals(expected.y, found[i*2+1], 1e-6);
+		}
+	}
 }
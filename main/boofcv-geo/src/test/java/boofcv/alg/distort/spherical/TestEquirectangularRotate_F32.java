@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -23,6 +23,7 @@ import georegression.misc.GrlConstants;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -61,6 +62,34 @@ public class TestEquirectangularRotate_F32 {
 		// 0.5f is fudge to make the test pass.  I *think* it's just discretation error
 	}
 
+	/**
+	 * The copy should produce identical results and not be affected by changes to the original
+	 */
+	@Test
+	public void copy() {
+		EquirectangularRotate_F32 alg = new EquirectangularRotate_F32();
+		alg.setEquirectangularShape(300,251);
+		alg.setDirection(0.2f,0.1f,0);
+
+		assertTrue(alg.isCopyable());
+		EquirectangularRotate_F32 copy = alg.copy();
+
+		alg.compute(100,120);
+		copy.compute(100,120);
+		assertEquals(alg.distX, copy.distX, 0);
+		assertEquals(alg.distY, copy.distY, 0);
+
+		float expectedX = alg.distX;
+		float expectedY = alg.distY;
+
+		// precomputed vectors are shared. Make sure changing the shape doesn't modify the copy
+		alg.setEquirectangularShape(200,151);
+		alg.setDirection(-0.3f,0,0);
+		copy.compute(100,120);
+		assertEquals(expectedX, copy.distX, 0);
+		assertEquals(expectedY, copy.distY, 0);
+	}
+
 	private void assertMatch(PixelTransform2_F32 tran , float x , float y ) {
 		assertEquals( x , tran.distX, GrlConstants.TEST_F32);
 		assertEquals( y , tran.distY, GrlConstants.TEST_F32);
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks related to converting to and from BufferedImage.
+ * 
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvertBufferedImage {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"TYPE_3BYTE_BGR","TYPE_INT_RGB","TYPE_BYTE_GRAY"})
+	public String bufferedType;
+
+	BufferedImage imgBuff;
+	BufferedImage imgBuffGray;
+	GrayU8 imgInt8;
+	Planar<GrayU8> multiInt8;
+
+	@Setup
+	public void setup() throws Exception {
+		Random rand = new Random(342543);
+
+		imgInt8 = new GrayU8(size,size);
+		GImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
+
+		int type = BufferedImage.class.getField(bufferedType).getInt(null);
+		imgBuff = new BufferedImage(size,size,type);
+		imgBuffGray = new BufferedImage(size,size,BufferedImage.TYPE_BYTE_GRAY);
+
+		// the planar image needs to have the same number of bands as the buffered image
+		multiInt8 = new Planar<>(GrayU8.class,size,size,imgBuff.getRaster().getNumBands());
+		GImageMiscOps.fillUniform(multiInt8, rand, 0, 100);
+
+		// randomize it to prevent some pathological condition
+		for( int i = 0; i < size; i++ ) {
+			for( int j = 0; j < size; j++ ) {
+				imgBuff.setRGB(j,i,rand.nextInt());
+			}
+		}
+	}
+
+	@Benchmark
+	public void bufferedToGray() {
+		ConvertBufferedImage.convertFrom(imgBuff,imgInt8,true);
+	}
+
+	@Benchmark
+	public void grayToBuffered() {
+		ConvertBufferedImage.convertTo(imgInt8,imgBuff,true);
+	}
+
+	@Benchmark
+	public void bufferedToPlanar() {
+		ConvertBufferedImage.convertFrom(imgBuff,multiInt8,true);
+	}
+
+	@Benchmark
+	public void planarToBuffered() {
+		ConvertBufferedImage.convertTo(multiInt8,imgBuff,true);
+	}
+
+	@Benchmark
+	public void grayToBufferedRaster() {
+		ConvertRaster.grayToBuffered(imgInt8,imgBuff);
+	}
+
+	@Benchmark
+	public GrayU8 extractGrayU8() {
+		return ConvertBufferedImage.extractGrayU8(imgBuffGray);
+	}
+
+	@Benchmark
+	public BufferedImage extractBuffered() {
+		return ConvertBufferedImage.extractBuffered(imgInt8);
+	}
+}
@@ -19,11 +19,12 @@
 package boofcv.io.video;
 
 import boofcv.io.image.SimpleImageSequence;
-import boofcv.io.wrapper.images.MjpegStreamSequence;
+import boofcv.io.wrapper.images.MjpegFileSequence;
+import boofcv.io.wrapper.images.RawImageSequence;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
 
 /**
  * @author Peter Abeles
@@ -33,8 +34,10 @@ public class BoofMjpegVideo implements VideoInterface {
 	public <T extends ImageBase<T>> SimpleImageSequence<T> load(String fileName, ImageType<T> imageType) {
 
 		try {
-			return new MjpegStreamSequence(fileName,imageType);
-		} catch (FileNotFoundException e) {
+			if( fileName.toLowerCase().endsWith(RawImageSequenceFormat.EXTENSION) )
+				return new RawImageSequence<>(fileName,imageType);
+			return new MjpegFileSequence<>(fileName,imageType);
+		} catch (IOException e) {
 			return null;
 		}
 	}
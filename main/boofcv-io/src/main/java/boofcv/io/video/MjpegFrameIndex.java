@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import org.ddogleg.struct.GrowQueue_I32;
+import org.ddogleg.struct.GrowQueue_I64;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Index of the location of each JPEG frame inside an MJPEG file.  Frames are found by scanning for the start of
+ * image (SOI) and end of image (EOI) markers, the same as {@link VideoMjpegCodec}.  The index is built lazily,
+ * the file is only scanned up to the last frame which has been requested, so opening a large file is instant.
+ * Only the location of each frame is stored and the JPEG data is read on demand.
+ * </p>
+ *
+ * <p>
+ * All functions are thread safe.  A trailing frame with no EOI marker is ignored.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MjpegFrameIndex implements Closeable {
+	RandomAccessFile file;
+	FileChannel channel;
+
+	// location and number of bytes in each frame which has been found so far
+	GrowQueue_I64 offsets = new GrowQueue_I64();
+	GrowQueue_I32 lengths = new GrowQueue_I32();
+
+	// where the search for the next frame will start
+	long scanPosition;
+	// true if the whole file has been scanned
+	boolean complete;
+
+	ByteBuffer scanBuffer = ByteBuffer.allocate(64*1024);
+
+	public MjpegFrameIndex( File file ) throws IOException {
+		this.file = new RandomAccessFile(file,"r");
+		this.channel = this.file.getChannel();
+	}
+
+	/**
+	 * Checks to see if the frame exists.  The file is scanned until the frame is found or the end is reached.
+	 *
+	 * @param frame Index of the frame
+	 * @return true if the frame exists
+	 */
+	public synchronized boolean contains( int frame ) throws IOException {
+		while( offsets.size <= frame && !complete ) {
+			scanNextFrame();
+		}
+		return frame >= 0 && frame < offsets.size;
+	}
+
+	/**
+	 * Scans the entire file.  Needed to find the total number of frames.
+	 */
+	public synchronized void indexAll() throws IOException {
+		while( !complete ) {
+			scanNextFrame();
+		}
+	}
+
+	/**
+	 * Reads the JPEG data for a frame, including the SOI and EOI markers
+	 *
+	 * @param frame Index of the frame
+	 * @return The JPEG data
+	 */
+	public byte[] readFrame( int frame ) throws IOException {
+		long offset;
+		int length;
+		synchronized( this ) {
+			if( !contains(frame) )
+				throw new IllegalArgumentException("No such frame "+frame);
+			offset = offsets.get(frame);
+			length = lengths.get(frame);
+		}
+
+		// reading is done outside the lock so that several frames can be read at once
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while( buffer.hasRemaining() ) {
+			if( channel.read(buffer, offset + buffer.position()) < 0 )
+				throw new IOException("Unexpected end of file");
+		}
+		return buffer.array();
+	}
+
+	private void scanNextFrame() throws IOException {
+		long afterSOI = findMarker(scanPosition, VideoMjpegCodec.SOI);
+		long afterEOI = afterSOI < 0 ? -1 : findMarker(afterSOI, VideoMjpegCodec.EOI);
+
+		if( afterEOI < 0 ) {
+			complete = true;
+		} else {
+			long start = afterSOI - 2;
+			if( afterEOI - start > Integer.MAX_VALUE )
+				throw new IOException("Frame is too large");
+			offsets.add(start);
+			lengths.add((int)(afterEOI - start));
+			scanPosition = afterEOI;
+		}
+	}
+
+	/**
+	 * Searches for a 0xFF byte which is followed by the marker
+	 *
+	 * @return Location of the byte after the marker or -1 if the end of the file was reached
+	 */
+	private long findMarker( long position , byte marker ) throws IOException {
+		boolean foundFF = false;
+		byte[] data = scanBuffer.array();
+
+		while( true ) {
+			scanBuffer.clear();
+			int length = channel.read(scanBuffer, position);
+			if( length <= 0 )
+				return -1;
+
+			for (int i = 0; i < length; i++) {
+				byte b = data[i];
+				if( foundFF ) {
+					if( b == marker )
+						return position + i + 1;
+					else if( b != (byte)0xFF )
+						foundFF = false;
+				} else if( b == (byte)0xFF ) {
+					foundFF = true;
+				}
+			}
+			position += length;
+		}
+	}
+
+	/**
+	 * Number of frames found so far.  Call {@link #indexAll()} first to find the total number of frames.
+	 */
+	public synchronized int getFramesFound() {
+		return offsets.size;
+	}
+
+	/**
+	 * True if the whole file has been scanned
+	 */
+	public synchronized boolean isComplete() {
+		return complete;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		file.close();
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import boofcv.struct.image.*;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Uncompressed image sequence format.  Designed so that frames can be read with no decoding, just a copy
+ * from a memory mapped file.  The file starts with a fixed size header followed by every frame.  All frames have
+ * the same size, so the location of any frame can be computed from its index.
+ * </p>
+ *
+ * <pre>
+ * Header, {@link #HEADER_SIZE} bytes.  Unused bytes are zero.
+ *   "BRAW"               4 bytes
+ *   version              int
+ *   image family         int. 0 = gray, 1 = planar, 2 = interleaved
+ *   data type            8 bytes. Name of {@link ImageDataType} in ASCII, padded with zeros
+ *   number of bands      int
+ *   width                int
+ *   height               int
+ * Frames
+ *   Pixels are stored row by row with no padding.  Planar images store each band one after the other and
+ *   interleaved images store all the bands for a pixel together.
+ * </pre>
+ *
+ * <p>
+ * All values are little endian.  The number of frames is found from the file's size.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RawImageSequenceFormat {
+	public static final String MAGIC = "BRAW";
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 64;
+	public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/**
+	 * Standard file extension
+	 */
+	public static final String EXTENSION = "braw";
+
+	// Description of the image which is stored in each frame
+	ImageType<?> imageType;
+	int width;
+	int height;
+
+	public RawImageSequenceFormat( ImageType<?> imageType, int width, int height ) {
+		if( imageType.getDataType().isAbstract() )
+			throw new IllegalArgumentException("Image data type must not be abstract");
+		this.imageType = imageType;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Reads the header from the buffer, starting at its current position.
+	 */
+	public static RawImageSequenceFormat readHeader( ByteBuffer header ) throws IOException {
+		header.order(ORDER);
+		byte[] text = new byte[8];
+
+		header.get(text,0,4);
+		if( !MAGIC.equals(new String(text,0,4,StandardCharsets.US_ASCII)))
+			throw new IOException("Not a raw image sequence.  Unexpected magic bytes");
+		int version = header.getInt();
+		if( version != VERSION )
+			throw new IOException("Unsupported version "+version);
+
+		int familyCode = header.getInt();
+		if( familyCode < 0 || familyCode >= ImageType.Family.values().length )
+			throw new IOException("Unknown image family "+familyCode);
+		ImageType.Family family = FAMILIES[familyCode];
+
+		header.get(text);
+		int length = 0;
+		while( length < text.length && text[length] != 0 )
+			length++;
+		ImageDataType dataType;
+		try {
+			dataType = ImageDataType.valueOf(new String(text,0,length,StandardCharsets.US_ASCII));
+		} catch( IllegalArgumentException e ) {
+			throw new IOException("Unknown data type");
+		}
+		int numBands = header.getInt();
+		int width = header.getInt();
+		int height = header.getInt();
+
+		if( numBands <= 0 || width < 0 || height < 0 )
+			throw new IOException("Invalid image shape");
+
+		return new RawImageSequenceFormat(new ImageType(family,dataType,numBands),width,height);
+	}
+
+	/**
+	 * Writes the header into the buffer starting at its current position.  Exactly {@link #HEADER_SIZE}
+	 * bytes are written.
+	 */
+	public void writeHeader( ByteBuffer header ) {
+		header.order(ORDER);
+		int start = header.position();
+		header.put(MAGIC.getBytes(StandardCharsets.US_ASCII));
+		header.putInt(VERSION);
+		header.putInt(familyCode(imageType.getFamily()));
+		byte[] text = new byte[8];
+		byte[] name = imageType.getDataType().name().getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(name,0,text,0,name.length);
+		header.put(text);
+		header.putInt(imageType.getNumBands());
+		header.putInt(width);
+		header.putInt(height);
+		while( header.position() < start + HEADER_SIZE )
+			header.put((byte)0);
+	}
+
+	// order matters since it's saved to disk
+	private static final ImageType.Family[] FAMILIES =
+			new ImageType.Family[]{ImageType.Family.GRAY, ImageType.Family.PLANAR, ImageType.Family.INTERLEAVED};
+
+	private static int familyCode( ImageType.Family family ) {
+		for (int i = 0; i < FAMILIES.length; i++) {
+			if( FAMILIES[i] == family )
+				return i;
+		}
+		throw new IllegalArgumentException("Unknown family");
+	}
+
+	/**
+	 * Number of bytes in a single frame
+	 */
+	public long getFrameBytes() {
+		return (long)width*height*imageType.getNumBands()*(imageType.getDataType().getNumBits()/8);
+	}
+
+	/**
+	 * Copies a frame from the buffer into the image.  The buffer must be positioned at the start of the frame and
+	 * have {@link #ORDER} byte order.  The image must have the same type and shape as this format.
+	 */
+	public void readFrame( ByteBuffer src , ImageBase dst ) {
+		checkImage(dst);
+		if( dst instanceof Planar ) {
+			Planar<?> planar = (Planar)dst;
+			for (int i = 0; i < planar.getNumBands(); i++) {
+				transfer(src, planar.getBand(i), width, true);
+			}
+		} else {
+			transfer(src, dst, width*imageType.getNumBands(), true);
+		}
+	}
+
+	/**
+	 * Copies an image into the buffer starting at the current position.  See {@link #readFrame}.
+	 */
+	public void writeFrame( ImageBase src , ByteBuffer dst ) {
+		checkImage(src);
+		if( src instanceof Planar ) {
+			Planar<?> planar = (Planar)src;
+			for (int i = 0; i < planar.getNumBands(); i++) {
+				transfer(dst, planar.getBand(i), width, false);
+			}
+		} else {
+			transfer(dst, src, width*imageType.getNumBands(), false);
+		}
+	}
+
+	private void checkImage( ImageBase image ) {
+		ImageType type = image.getImageType();
+		if( type.getFamily() != imageType.getFamily() || type.getDataType() != imageType.getDataType() ||
+				type.getNumBands() != imageType.getNumBands() )
+			throw new IllegalArgumentException("Image type doesn't match. "+type+" "+imageType);
+		if( image.width != width || image.height != height )
+			throw new IllegalArgumentException("Image shape doesn't match");
+	}
+
+	/**
+	 * Moves data between the buffer and a gray or interleaved image one row at a time using bulk get/put.
+	 *
+	 * @param rowLength Number of array elements in a row
+	 * @param read If true data is read from the buffer, otherwise it's written to it
+	 */
+	private static void transfer( ByteBuffer buffer , ImageBase image , int rowLength , boolean read ) {
+		final int height = image.height;
+		// copy all the rows at once when there's no padding
+		final int rows = image.stride == rowLength ? 1 : height;
+		final int length = image.stride == rowLength ? rowLength*height : rowLength;
+		final int position = buffer.position();
+
+		Object data = array(image);
+		int bytes;
+		if( data instanceof byte[] ) {
+			bytes = 1;
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					buffer.get((byte[])data, image.startIndex + y*image.stride, length);
+				else
+					buffer.put((byte[])data, image.startIndex + y*image.stride, length);
+			}
+		} else if( data instanceof short[] ) {
+			bytes = 2;
+			ShortBuffer view = buffer.asShortBuffer();
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					view.get((short[])data, image.startIndex + y*image.stride, length);
+				else
+					view.put((short[])data, image.startIndex + y*image.stride, length);
+			}
+		} else if( data instanceof int[] ) {
+			bytes = 4;
+			IntBuffer view = buffer.asIntBuffer();
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					view.get((int[])data, image.startIndex + y*image.stride, length);
+				else
+					view.put((int[])data, image.startIndex + y*image.stride, length);
+			}
+		} else if( data instanceof long[] ) {
+			bytes = 8;
+			LongBuffer view = buffer.asLongBuffer();
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					view.get((long[])data, image.startIndex + y*image.stride, length);
+				else
+					view.put((long[])data, image.startIndex + y*image.stride, length);
+			}
+		} else if( data instanceof float[] ) {
+			bytes = 4;
+			FloatBuffer view = buffer.asFloatBuffer();
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					view.get((float[])data, image.startIndex + y*image.stride, length);
+				else
+					view.put((float[])data, image.startIndex + y*image.stride, length);
+			}
+		} else if( data instanceof double[] ) {
+			bytes = 8;
+			DoubleBuffer view = buffer.asDoubleBuffer();
+			for (int y = 0; y < rows; y++) {
+				if( read )
+					view.get((double[])data, image.startIndex + y*image.stride, length);
+				else
+					view.put((double[])data, image.startIndex + y*image.stride, length);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported image type");
+		}
+		buffer.position(position + rowLength*height*bytes);
+	}
+
+	private static Object array( ImageBase image ) {
+		if( image instanceof GrayI8 ) return ((GrayI8)image).data;
+		if( image instanceof GrayI16 ) return ((GrayI16)image).data;
+		if( image instanceof GrayS32 ) return ((GrayS32)image).data;
+		if( image instanceof GrayS64 ) return ((GrayS64)image).data;
+		if( image instanceof GrayF32 ) return ((GrayF32)image).data;
+		if( image instanceof GrayF64 ) return ((GrayF64)image).data;
+		if( image instanceof InterleavedI8 ) return ((InterleavedI8)image).data;
+		if( image instanceof InterleavedI16 ) return ((InterleavedI16)image).data;
+		if( image instanceof InterleavedS32 ) return ((InterleavedS32)image).data;
+		if( image instanceof InterleavedS64 ) return ((InterleavedS64)image).data;
+		if( image instanceof InterleavedF32 ) return ((InterleavedF32)image).data;
+		if( image instanceof InterleavedF64 ) return ((InterleavedF64)image).data;
+		throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+	}
+
+	public ImageType<?> getImageType() {
+		return imageType;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writes images to a file using {@link RawImageSequenceFormat}.  Every image must have the same type and shape.
+ *
+ * @author Peter Abeles
+ */
+public class RawImageSequenceWriter<T extends ImageBase<T>> implements Closeable {
+
+	RawImageSequenceFormat format;
+	RandomAccessFile file;
+	FileChannel channel;
+
+	// storage for a single frame
+	ByteBuffer work;
+
+	int frameCount;
+
+	/**
+	 * Creates the file and writes the header.  If the file already exists it is overwritten.
+	 *
+	 * @param file Where the sequence is written to
+	 * @param imageType Type of image in every frame
+	 * @param width Image width
+	 * @param height Image height
+	 */
+	public RawImageSequenceWriter( File file , ImageType<T> imageType , int width , int height ) throws IOException {
+		this.format = new RawImageSequenceFormat(imageType,width,height);
+
+		long frameBytes = format.getFrameBytes();
+		if( frameBytes > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Image is too large");
+
+		this.file = new RandomAccessFile(file,"rw");
+		this.file.setLength(0);
+		channel = this.file.getChannel();
+
+		ByteBuffer header = ByteBuffer.allocate(RawImageSequenceFormat.HEADER_SIZE);
+		format.writeHeader(header);
+		header.flip();
+		writeFully(header);
+
+		work = ByteBuffer.allocateDirect((int)frameBytes).order(RawImageSequenceFormat.ORDER);
+	}
+
+	/**
+	 * Adds the image to the end of the sequence
+	 */
+	public void write( T image ) throws IOException {
+		work.clear();
+		format.writeFrame(image, work);
+		work.flip();
+		writeFully(work);
+		frameCount++;
+	}
+
+	private void writeFully( ByteBuffer buffer ) throws IOException {
+		while( buffer.hasRemaining() ) {
+			channel.write(buffer);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		file.close();
+	}
+
+	/**
+	 * Number of frames which have been written
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	public RawImageSequenceFormat getFormat() {
+		return format;
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.MjpegFrameIndex;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Reads an MJPEG file without loading the whole file into memory.  A {@link MjpegFrameIndex} is used to find
+ * frames as they are needed, so the file opens instantly and frames can be accessed in any order using
+ * {@link #setFrame(int)}.
+ * </p>
+ *
+ * <p>
+ * Frames are decoded ahead of time by a background thread.  At most {@link #getReadAhead() readAhead} frames are
+ * decoded and waiting, which keeps memory usage constant no matter how long the video is.  When looping the
+ * sequence goes back to the first frame after the last frame.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MjpegFileSequence<T extends ImageBase<T>> implements SimpleImageSequence<T> {
+
+	MjpegFrameIndex frames;
+
+	// decodes JPEG images in the background
+	ExecutorService decoder;
+	// frames which have been submitted to the decoder, in the order they will be returned
+	ArrayDeque<Pending> pending = new ArrayDeque<>();
+	// maximum number of frames which are decoded ahead
+	int readAhead;
+	// index of the next frame which will be submitted to the decoder
+	int submitIndex;
+
+	// type of image it outputs
+	ImageType<T> imageType;
+	T output;
+	BufferedImage imageGUI;
+
+	// index of the most recently returned frame
+	int frameNumber = -1;
+	boolean loop = false;
+
+	public MjpegFileSequence( File file , ImageType<T> imageType , int readAhead ) throws IOException {
+		if( readAhead < 1 )
+			throw new IllegalArgumentException("readAhead must be at least 1");
+		this.imageType = imageType;
+		this.readAhead = readAhead;
+		this.frames = new MjpegFrameIndex(file);
+		this.output = imageType.createImage(1,1);
+
+		decoder = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "MJPEG Decoder");
+			t.setDaemon(true);
+			return t;
+		});
+		fillPending();
+	}
+
+	public MjpegFileSequence( String fileName , ImageType<T> imageType ) throws IOException {
+		this(new File(fileName), imageType, 3);
+	}
+
+	/**
+	 * Submits frames to the decoder until the read ahead is full or there are no more frames
+	 */
+	private void fillPending() {
+		try {
+			while( pending.size() < readAhead ) {
+				if( !frames.contains(submitIndex) ) {
+					if( loop && submitIndex > 0 && frames.contains(0) )
+						submitIndex = 0;
+					else
+						break;
+				}
+				final int frame = submitIndex++;
+				pending.add(new Pending(frame, decoder.submit(() ->
+						ImageIO.read(new ByteArrayInputStream(frames.readFrame(frame))))));
+			}
+		} catch( IOException e ) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Discards all frames which are being decoded and starts decoding at the specified frame.  Frames which are
+	 * already being decoded are not interrupted, since interrupting a thread inside of FileChannel.read() closes
+	 * the channel.  They finish in the background and their result is ignored.
+	 */
+	private void restart( int frame ) {
+		for( Pending p : pending ) {
+			p.image.cancel(false);
+		}
+		pending.clear();
+		submitIndex = frame;
+		fillPending();
+	}
+
+	private BufferedImage waitForImage( Pending p ) {
+		try {
+			BufferedImage image = p.image.get();
+			if( image == null )
+				throw new RuntimeException("Failed to decode frame "+p.frame);
+			return image;
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	@Override
+	public int getNextWidth() {
+		if( pending.isEmpty() )
+			throw new IllegalArgumentException("No more frames");
+		return waitForImage(pending.peek()).getWidth();
+	}
+
+	@Override
+	public int getNextHeight() {
+		if( pending.isEmpty() )
+			throw new IllegalArgumentException("No more frames");
+		return waitForImage(pending.peek()).getHeight();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !pending.isEmpty();
+	}
+
+	@Override
+	public T next() {
+		if( pending.isEmpty() )
+			throw new IllegalArgumentException("No more frames");
+
+		Pending p = pending.poll();
+		imageGUI = waitForImage(p);
+		frameNumber = p.frame;
+		fillPending();
+
+		output.reshape(imageGUI.getWidth(),imageGUI.getHeight());
+		ConvertBufferedImage.convertFrom(imageGUI, output, true);
+		return output;
+	}
+
+	/**
+	 * Changes which frame will be returned next by {@link #next()}
+	 *
+	 * @param index Index of the frame
+	 */
+	public void setFrame( int index ) {
+		try {
+			if( index < 0 || !frames.contains(index) )
+				throw new IllegalArgumentException("Frame index out of bounds. "+index);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		restart(index);
+	}
+
+	/**
+	 * Number of frames in the sequence.  The first call will scan the entire file.
+	 */
+	public int getTotalFrames() {
+		try {
+			frames.indexAll();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return frames.getFramesFound();
+	}
+
+	@Override
+	public BufferedImage getGuiImage() {
+		return imageGUI;
+	}
+
+	@Override
+	public void close() {
+		pending.clear();
+		decoder.shutdownNow();
+		try {
+			frames.close();
+		} catch (IOException ignore) {
+		}
+	}
+
+	@Override
+	public int getFrameNumber() {
+		return frameNumber;
+	}
+
+	@Override
+	public void setLoop(boolean loop) {
+		this.loop = loop;
+		// frames which have already been submitted might depend on the previous setting
+		restart(frameNumber+1);
+	}
+
+	public boolean isLoop() {
+		return loop;
+	}
+
+	public int getReadAhead() {
+		return readAhead;
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	@Override
+	public void reset() {
+		frameNumber = -1;
+		restart(0);
+	}
+
+	/**
+	 * A frame which has been submitted to the decoder
+	 */
+	private static class Pending {
+		int frame;
+		Future<BufferedImage> image;
+
+		Pending(int frame, Future<BufferedImage> image) {
+			this.frame = frame;
+			this.image = image;
+		}
+	}
+}
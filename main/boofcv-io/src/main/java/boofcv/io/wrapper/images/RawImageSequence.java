@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.core.image.GConvertImage;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.RawImageSequenceFormat;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Reads an image sequence which was saved in {@link RawImageSequenceFormat}.  The file is memory mapped and a frame
+ * is read by copying its pixels directly into the output image, there is no decoding.  Frames can be accessed in
+ * any order using {@link #setFrame(int)}.
+ * </p>
+ *
+ * <p>
+ * Large files are mapped in several windows since a single mapping is limited to 2 GB.  Only one window is mapped
+ * at any time.  If the requested image type is different from the type in the file the frame is converted.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RawImageSequence<T extends ImageBase<T>> implements SimpleImageSequence<T> {
+
+	RandomAccessFile file;
+	FileChannel channel;
+	RawImageSequenceFormat format;
+
+	int totalFrames;
+	long frameBytes;
+
+	// maximum number of bytes which are mapped at once
+	long maxWindowBytes = 1L << 30;
+	// The mapped window and the first frame inside of it
+	MappedByteBuffer window;
+	int windowFirst;
+	int windowFrames;
+
+	// type of image it outputs
+	ImageType<T> type;
+	// the output image
+	T image;
+	// storage for the frame when the image type in the file is different
+	ImageBase frame;
+	// image for the GUI
+	BufferedImage imageGUI;
+
+	// index of the next frame which will be read
+	int index;
+	boolean loop = false;
+
+	public RawImageSequence( File file , ImageType<T> type ) throws IOException {
+		this.type = type;
+		this.file = new RandomAccessFile(file,"r");
+		this.channel = this.file.getChannel();
+
+		try {
+			ByteBuffer header = ByteBuffer.allocate(RawImageSequenceFormat.HEADER_SIZE);
+			while( header.hasRemaining() ) {
+				if( channel.read(header, header.position()) < 0 )
+					throw new IOException("File is too short to contain the header");
+			}
+			header.flip();
+			format = RawImageSequenceFormat.readHeader(header);
+		} catch( IOException e ) {
+			close();
+			throw e;
+		}
+
+		frameBytes = format.getFrameBytes();
+		long dataBytes = channel.size() - RawImageSequenceFormat.HEADER_SIZE;
+		totalFrames = frameBytes == 0 ? 0 : (int)(dataBytes/frameBytes);
+
+		image = type.createImage(format.getWidth(), format.getHeight());
+		ImageType<?> fileType = format.getImageType();
+		if( fileType.getFamily() != type.getFamily() || fileType.getDataType() != type.getDataType() ||
+				fileType.getNumBands() != type.getNumBands() ) {
+			frame = fileType.createImage(format.getWidth(), format.getHeight());
+		}
+	}
+
+	public RawImageSequence( String fileName , ImageType<T> type ) throws IOException {
+		this(new File(fileName), type);
+	}
+
+	@Override
+	public int getNextWidth() {
+		return format.getWidth();
+	}
+
+	@Override
+	public int getNextHeight() {
+		return format.getHeight();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if( loop )
+			return totalFrames > 0;
+		else
+			return index < totalFrames;
+	}
+
+	@Override
+	public T next() {
+		if( loop && index >= totalFrames )
+			index = 0;
+		if( index >= totalFrames )
+			throw new IllegalArgumentException("No more frames");
+
+		ByteBuffer buffer = locate(index++);
+		if( frame == null ) {
+			format.readFrame(buffer, image);
+		} else {
+			format.readFrame(buffer, frame);
+			GConvertImage.convert(frame, image);
+		}
+		imageGUI = null;
+		return image;
+	}
+
+	/**
+	 * Returns a buffer which is positioned at the start of the frame
+	 */
+	private ByteBuffer locate( int frameIndex ) {
+		if( window == null || frameIndex < windowFirst || frameIndex >= windowFirst + windowFrames ) {
+			int framesPerWindow = (int)Math.max(1, maxWindowBytes/frameBytes);
+			windowFirst = (frameIndex/framesPerWindow)*framesPerWindow;
+			windowFrames = Math.min(framesPerWindow, totalFrames - windowFirst);
+			try {
+				window = channel.map(FileChannel.MapMode.READ_ONLY,
+						RawImageSequenceFormat.HEADER_SIZE + windowFirst*frameBytes, windowFrames*frameBytes);
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			window.order(RawImageSequenceFormat.ORDER);
+		}
+		window.position((int)((frameIndex - windowFirst)*frameBytes));
+		return window;
+	}
+
+	/**
+	 * Changes which frame will be returned next by {@link #next()}
+	 *
+	 * @param index Index of the frame
+	 */
+	public void setFrame( int index ) {
+		if( index < 0 || index >= totalFrames )
+			throw new IllegalArgumentException("Frame index out of bounds. "+index);
+		this.index = index;
+	}
+
+	/**
+	 * Number of frames in the sequence
+	 */
+	public int getTotalFrames() {
+		return totalFrames;
+	}
+
+	@Override
+	public BufferedImage getGuiImage() {
+		if( imageGUI == null )
+			imageGUI = ConvertBufferedImage.convertTo(image, null, true);
+		return imageGUI;
+	}
+
+	@Override
+	public void close() {
+		window = null;
+		try {
+			channel.close();
+			file.close();
+		} catch (IOException ignore) {
+		}
+	}
+
+	@Override
+	public int getFrameNumber() {
+		return index-1;
+	}
+
+	@Override
+	public void setLoop(boolean loop) {
+		this.loop = loop;
+	}
+
+	public boolean isLoop() {
+		return loop;
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return type;
+	}
+
+	@Override
+	public void reset() {
+		index = 0;
+	}
+
+	public RawImageSequenceFormat getFormat() {
+		return format;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegFrameIndex {
+
+	Random rand = new Random(234);
+
+	File file;
+
+	@Before
+	public void before() throws IOException {
+		file = File.createTempFile("TestMjpegFrameIndex",".mjpeg");
+	}
+
+	@After
+	public void after() {
+		file.delete();
+	}
+
+	/**
+	 * Creates fake JPEG data which contains no markers other than SOI and EOI
+	 */
+	private byte[] createFrame( int length ) {
+		byte[] data = new byte[length];
+		data[0] = (byte)0xFF;
+		data[1] = VideoMjpegCodec.SOI;
+		for (int i = 2; i < length-2; i++) {
+			data[i] = (byte)rand.nextInt(0xFF);
+		}
+		data[length-2] = (byte)0xFF;
+		data[length-1] = VideoMjpegCodec.EOI;
+		return data;
+	}
+
+	private void save( byte[] data ) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(data);
+		out.close();
+	}
+
+	@Test
+	public void readFrames() throws IOException {
+		List<byte[]> frames = new ArrayList<>();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (int i = 0; i < 5; i++) {
+			// junk between the frames should be skipped
+			out.write(new byte[]{1,2,3});
+			byte[] frame = createFrame(50+i*20);
+			frames.add(frame);
+			out.write(frame);
+		}
+		save(out.toByteArray());
+
+		MjpegFrameIndex alg = new MjpegFrameIndex(file);
+		// read out of order
+		assertArrayEquals(frames.get(3), alg.readFrame(3));
+		assertFalse(alg.isComplete());
+		assertEquals(4, alg.getFramesFound());
+		for (int i = 0; i < frames.size(); i++) {
+			assertArrayEquals(frames.get(i), alg.readFrame(i));
+		}
+		assertFalse(alg.contains(5));
+		assertTrue(alg.isComplete());
+		assertEquals(5, alg.getFramesFound());
+		alg.close();
+	}
+
+	/**
+	 * The file is scanned in chunks.  Make sure markers which are split between two chunks are found
+	 */
+	@Test
+	public void markerSplitAcrossChunks() throws IOException {
+		MjpegFrameIndex alg = new MjpegFrameIndex(file);
+		int chunk = alg.scanBuffer.capacity();
+		alg.close();
+
+		byte[] frame0 = createFrame(chunk-1);
+		byte[] frame1 = createFrame(chunk);
+		byte[] frame2 = createFrame(100);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(frame0);
+		out.write(frame1);
+		out.write(frame2);
+		save(out.toByteArray());
+
+		alg = new MjpegFrameIndex(file);
+		alg.indexAll();
+		assertEquals(3, alg.getFramesFound());
+		assertArrayEquals(frame0, alg.readFrame(0));
+		assertArrayEquals(frame1, alg.readFrame(1));
+		assertArrayEquals(frame2, alg.readFrame(2));
+		alg.close();
+	}
+
+	/**
+	 * A frame which is missing the EOI marker should be ignored
+	 */
+	@Test
+	public void truncatedLastFrame() throws IOException {
+		byte[] frame0 = createFrame(60);
+		byte[] frame1 = createFrame(60);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(frame0);
+		out.write(frame1, 0, 30);
+		save(out.toByteArray());
+
+		MjpegFrameIndex alg = new MjpegFrameIndex(file);
+		assertTrue(alg.contains(0));
+		assertFalse(alg.contains(1));
+		assertEquals(1, alg.getFramesFound());
+		assertArrayEquals(frame0, alg.readFrame(0));
+		alg.close();
+	}
+
+	@Test
+	public void emptyFile() throws IOException {
+		MjpegFrameIndex alg = new MjpegFrameIndex(file);
+		assertFalse(alg.contains(0));
+		assertTrue(alg.isComplete());
+		assertEquals(0, alg.getFramesFound());
+		alg.close();
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.wrapper.DefaultMediaManager;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegFileSequence {
+
+	int numFrames = 5;
+
+	File file;
+
+	@Before
+	public void before() throws IOException {
+		file = File.createTempFile("TestMjpegFileSequence",".mjpeg");
+
+		// each frame has a unique width and gray value so that it can be identified
+		FileOutputStream out = new FileOutputStream(file);
+		for (int i = 0; i < numFrames; i++) {
+			BufferedImage image = new BufferedImage(widthOf(i), 12, BufferedImage.TYPE_BYTE_GRAY);
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					image.getRaster().setSample(x,y,0,valueOf(i));
+				}
+			}
+			ImageIO.write(image,"jpg",out);
+		}
+		out.close();
+	}
+
+	@After
+	public void after() {
+		file.delete();
+	}
+
+	private static int widthOf( int frame ) {
+		return 16 + frame;
+	}
+
+	private static int valueOf( int frame ) {
+		return 20 + frame*40;
+	}
+
+	private void checkFrame( int frame , GrayU8 image ) {
+		assertEquals(widthOf(frame), image.width);
+		assertEquals(12, image.height);
+		assertEquals(valueOf(frame), ImageStatistics.mean(image), 2);
+	}
+
+	@Test
+	public void readAll() throws IOException {
+		MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file, ImageType.single(GrayU8.class), 2);
+
+		assertEquals(widthOf(0), alg.getNextWidth());
+		assertEquals(12, alg.getNextHeight());
+		for (int i = 0; i < numFrames; i++) {
+			assertTrue(alg.hasNext());
+			checkFrame(i, alg.next());
+			assertEquals(i, alg.getFrameNumber());
+			assertEquals(widthOf(i), alg.getGuiImage().getWidth());
+		}
+		assertFalse(alg.hasNext());
+		assertEquals(numFrames, alg.getTotalFrames());
+		alg.close();
+	}
+
+	@Test
+	public void setFrame() throws IOException {
+		MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file, ImageType.single(GrayU8.class), 3);
+
+		alg.next();
+		alg.setFrame(3);
+		checkFrame(3, alg.next());
+		alg.setFrame(1);
+		checkFrame(1, alg.next());
+		checkFrame(2, alg.next());
+
+		try {
+			alg.setFrame(numFrames);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+		alg.close();
+	}
+
+	/**
+	 * Seeks over and over while frames are still being read and decoded in the background.  Discarding those
+	 * frames must not break the file for frames which are read later on.
+	 */
+	@Test
+	public void setFrame_whileDecoding() throws IOException {
+		MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file, ImageType.single(GrayU8.class), numFrames);
+
+		for (int trial = 0; trial < 500; trial++) {
+			int frame = trial%numFrames;
+			alg.setFrame(frame);
+			if( trial%10 == 0 )
+				checkFrame(frame, alg.next());
+		}
+		alg.setFrame(0);
+		for (int i = 0; i < numFrames; i++) {
+			checkFrame(i, alg.next());
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	@Test
+	public void loop() throws IOException {
+		MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file, ImageType.single(GrayU8.class), 2);
+		alg.setLoop(true);
+
+		for (int i = 0; i < numFrames*2+1; i++) {
+			assertTrue(alg.hasNext());
+			checkFrame(i%numFrames, alg.next());
+		}
+
+		// turning off looping should stop at the end
+		alg.setLoop(false);
+		for (int i = 1; i < numFrames; i++) {
+			checkFrame(i, alg.next());
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	@Test
+	public void reset() throws IOException {
+		MjpegFileSequence<GrayU8> alg = new MjpegFileSequence<>(file, ImageType.single(GrayU8.class), 2);
+		for (int i = 0; i < numFrames; i++) {
+			alg.next();
+		}
+		alg.reset();
+		assertTrue(alg.hasNext());
+		checkFrame(0, alg.next());
+		alg.close();
+	}
+
+	@Test
+	public void mediaManager() {
+		SimpleImageSequence<GrayU8> sequence =
+				new DefaultMediaManager().openVideo(file.getPath(), ImageType.single(GrayU8.class));
+
+		assertTrue(sequence instanceof MjpegFileSequence);
+		for (int i = 0; i < numFrames; i++) {
+			checkFrame(i, sequence.next());
+		}
+		assertFalse(sequence.hasNext());
+		sequence.close();
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.io.video.RawImageSequenceWriter;
+import boofcv.io.wrapper.DefaultMediaManager;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRawImageSequence {
+
+	Random rand = new Random(234);
+
+	int width = 21, height = 15;
+
+	File file;
+
+	@Before
+	public void before() throws IOException {
+		file = File.createTempFile("TestRawImageSequence",".braw");
+	}
+
+	@After
+	public void after() {
+		file.delete();
+	}
+
+	@Test
+	public void readWrite_allTypes() throws IOException {
+		List<ImageType> types = new ArrayList<>();
+		for( ImageDataType dataType : ImageDataType.values() ) {
+			if( dataType.isAbstract() )
+				continue;
+			types.add(ImageType.single(dataType));
+			types.add(ImageType.pl(2,dataType));
+			types.add(ImageType.il(3,dataType));
+		}
+
+		for( ImageType type : types ) {
+			List<ImageBase> expected = createFrames(type, 4);
+
+			RawImageSequence alg = new RawImageSequence(file,type);
+			assertEquals(4,alg.getTotalFrames());
+			assertEquals(width,alg.getNextWidth());
+			assertEquals(height,alg.getNextHeight());
+
+			for( int i = 0; i < expected.size(); i++ ) {
+				assertTrue(alg.hasNext());
+				BoofTesting.assertEquals(expected.get(i),alg.next(),0);
+				assertEquals(i,alg.getFrameNumber());
+			}
+			assertFalse(alg.hasNext());
+			alg.close();
+		}
+	}
+
+	/**
+	 * Sub-images should be written correctly
+	 */
+	@Test
+	public void write_subimage() throws IOException {
+		GrayF32 larger = new GrayF32(width+5,height+3);
+		GImageMiscOps.fillUniform(larger,rand,0,100);
+		GrayF32 sub = larger.subimage(2,1,width+2,height+1);
+
+		RawImageSequenceWriter<GrayF32> writer =
+				new RawImageSequenceWriter<>(file,ImageType.single(GrayF32.class),width,height);
+		writer.write(sub);
+		writer.close();
+
+		RawImageSequence<GrayF32> alg = new RawImageSequence<>(file,ImageType.single(GrayF32.class));
+		BoofTesting.assertEquals(sub,alg.next(),0);
+		alg.close();
+	}
+
+	@Test
+	public void randomAccess() throws IOException {
+		ImageType<GrayU8> type = ImageType.single(GrayU8.class);
+		List<ImageBase> expected = createFrames(type, 6);
+
+		RawImageSequence<GrayU8> alg = new RawImageSequence<>(file,type);
+		// force it to map several windows
+		alg.maxWindowBytes = width*height*2;
+
+		for( int index : new int[]{4,1,5,0,3,2} ) {
+			alg.setFrame(index);
+			BoofTesting.assertEquals(expected.get(index),alg.next(),0);
+			assertEquals(index,alg.getFrameNumber());
+		}
+		alg.close();
+	}
+
+	@Test
+	public void loop_reset() throws IOException {
+		ImageType<GrayU8> type = ImageType.single(GrayU8.class);
+		List<ImageBase> expected = createFrames(type, 3);
+
+		RawImageSequence<GrayU8> alg = new RawImageSequence<>(file,type);
+		alg.setLoop(true);
+		for( int i = 0; i < 7; i++ ) {
+			assertTrue(alg.hasNext());
+			BoofTesting.assertEquals(expected.get(i%3),alg.next(),0);
+		}
+
+		alg.setLoop(false);
+		alg.reset();
+		BoofTesting.assertEquals(expected.get(0),alg.next(),0);
+		alg.close();
+	}
+
+	/**
+	 * Request a different image type from what's in the file
+	 */
+	@Test
+	public void convertType() throws IOException {
+		ImageType<InterleavedU8> type = ImageType.il(3,InterleavedU8.class);
+		List<ImageBase> expected = createFrames(type, 2);
+
+		RawImageSequence<Planar<GrayU8>> alg = new RawImageSequence<>(file,ImageType.pl(3,GrayU8.class));
+		Planar<GrayU8> found = alg.next();
+
+		Planar<GrayU8> converted = new Planar<>(GrayU8.class,width,height,3);
+		GConvertImage.convert(expected.get(0),converted);
+		BoofTesting.assertEquals(converted,found,0);
+		assertEquals(width,alg.getGuiImage().getWidth());
+		alg.close();
+	}
+
+	@Test
+	public void badFile() throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(new byte[100]);
+		out.close();
+
+		try {
+			new RawImageSequence<>(file,ImageType.single(GrayU8.class));
+			fail("Should have thrown an exception");
+		} catch( IOException ignore ){}
+	}
+
+	/**
+	 * If the writer crashed the last frame will be partially written and should be ignored
+	 */
+	@Test
+	public void partialFrame() throws IOException {
+		ImageType<GrayU8> type = ImageType.single(GrayU8.class);
+		createFrames(type, 2);
+		FileOutputStream out = new FileOutputStream(file,true);
+		out.write(new byte[10]);
+		out.close();
+
+		RawImageSequence<GrayU8> alg = new RawImageSequence<>(file,type);
+		assertEquals(2,alg.getTotalFrames());
+		alg.close();
+	}
+
+	@Test
+	public void mediaManager() throws IOException {
+		ImageType<GrayU8> type = ImageType.single(GrayU8.class);
+		createFrames(type, 2);
+
+		SimpleImageSequence<GrayU8> sequence = DefaultMediaManager.INSTANCE.openVideo(file.getPath(),type);
+		assertTrue(sequence instanceof RawImageSequence);
+		sequence.close();
+	}
+
+	private List<ImageBase> createFrames( ImageType type , int total ) throws IOException {
+		List<ImageBase> frames = new ArrayList<>();
+		RawImageSequenceWriter writer = new RawImageSequenceWriter(file,type,width,height);
+		for( int i = 0; i < total; i++ ) {
+			ImageBase frame = type.createImage(width,height);
+			GImageMiscOps.fillUniform(frame,rand,0,100);
+			writer.write(frame);
+			frames.add(frame);
+		}
+		assertEquals(total,writer.getFrameCount());
+		writer.close();
+		return frames;
+	}
+}
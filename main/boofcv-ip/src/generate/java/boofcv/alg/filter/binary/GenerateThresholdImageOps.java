@@ -48,9 +48,9 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 
 	private void printPreamble() throws FileNotFoundException {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
-				"import boofcv.struct.image.*;\n" +
 				"import boofcv.alg.filter.blur.BlurImageOps;\n" +
 				"import boofcv.struct.ConfigLength;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -69,6 +69,7 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 
 	public void printAll( AutoTypeImage imageIn ) {
 		printThreshold(imageIn);
+		printThresholdPacked(imageIn);
 	}
 
 	public void printLocal(AutoTypeImage imageIn) {
@@ -127,6 +128,53 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	public void printThresholdPacked( AutoTypeImage imageIn ) {
+		String bitwise = imageIn.getBitWise();
+
+		out.print("\t/**\n" +
+				"\t * Applies a global threshold across the whole image and writes the results into a packed binary image.\n" +
+				"\t * 64 pixels are thresholded and written at once.  Same results as\n" +
+				"\t * {@link #threshold("+imageIn.getSingleBandName()+", GrayU8, "+imageIn.getSumType()+", boolean)}.\n" +
+				"\t *\n" +
+				"\t * @param input Input image. Not modified.\n" +
+				"\t * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.\n" +
+				"\t * @param threshold threshold value.\n" +
+				"\t * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.\n" +
+				"\t * @return Output image.\n" +
+				"\t */\n" +
+				"\tpublic static PackedBinaryImage thresholdPacked( "+imageIn.getSingleBandName()+" input , PackedBinaryImage output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\t\t\t"+imageIn.getSumType()+" threshold , boolean down )\n" +
+				"\t{\n" +
+				"\t\tif( output == null )\n" +
+				"\t\t\toutput = new PackedBinaryImage(input.width,input.height);\n" +
+				"\t\telse\n" +
+				"\t\t\toutput.reshape(input.width,input.height);\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
+				"\t\t\tint indexOut = y*output.stride;\n" +
+				"\n" +
+				"\t\t\tfor( int x = 0; x < input.width; x += 64 ) {\n" +
+				"\t\t\t\tint end = indexIn + Math.min(64,input.width-x);\n" +
+				"\t\t\t\tlong word = 0;\n" +
+				"\n" +
+				"\t\t\t\tif( down ) {\n" +
+				"\t\t\t\t\tfor( int bit = 0; indexIn < end; indexIn++ , bit++ ) {\n" +
+				"\t\t\t\t\t\tword |= ((input.data[indexIn]"+bitwise+") <= threshold ? 1L : 0L) << bit;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t} else {\n" +
+				"\t\t\t\t\tfor( int bit = 0; indexIn < end; indexIn++ , bit++ ) {\n" +
+				"\t\t\t\t\t\tword |= ((input.data[indexIn]"+bitwise+") > threshold ? 1L : 0L) << bit;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\toutput.data[indexOut++] = word;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
 	public void printLocalSquare(AutoTypeImage imageIn) {
 
 		String imageName = imageIn.getSingleBandName();
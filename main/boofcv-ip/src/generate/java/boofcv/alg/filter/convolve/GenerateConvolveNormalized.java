@@ -55,7 +55,8 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"import boofcv.alg.filter.convolve.normalized.*;\n" +
-				"import boofcv.alg.filter.kernel.KernelMath;\n");
+				"import boofcv.alg.filter.kernel.KernelMath;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n");
 		out.println();
 		out.print("/**\n" +
 				" * <p>\n" +
@@ -134,7 +135,7 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 					"\t\t\tConvolveNormalizedNaive_"+suffice+"."+name+"(kernel, src, dst);\n" +
 					"\t\t} else {\n" +
 					"\t\t\tConvolveImageNoBorder."+name+"(kernel, src, dst, kernel.computeSum());\n" +
-					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel, src, dst);\n" +
+					justBorder(suffice,name,"kernel, src, dst") +
 					"\t\t}\n");
 		} else {
 			out.print("\t\tif( "+insideTest+" ) {\n" +
@@ -146,12 +147,26 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 					"\t\t\t\tkernel = k;\n" +
 					"\t\t\t}\n" +
 					"\t\t\tConvolveImageNoBorder."+name+"(kernel,src,dst);\n" +
-					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel,src,dst);\n" +
+					justBorder(suffice,name,"kernel,src,dst") +
 					"\t\t}\n");
 		}
 		out.print("\t}\n\n");
 	}
 
+	/**
+	 * Invokes the border convolution.  Single band images use the concurrent implementation when requested
+	 */
+	private String justBorder( String suffice , String name , String args ) {
+		String call = "ConvolveNormalized_JustBorder_"+suffice+"."+name+"("+args+");\n";
+		if( !suffice.equals("SB") )
+			return "\t\t\t"+call;
+		return "\t\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\t\tConvolveNormalized_JustBorder_SB_MT."+name+"("+args+");\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\t"+call +
+				"\t\t\t}\n";
+	}
+
 	public static void main(String[] args) {
 		GenerateConvolveNormalized gen = new GenerateConvolveNormalized();
 		gen.generate();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -124,7 +124,16 @@ public class GenerateConvolveWithBorder extends CodeGeneratorBase {
 		out.print("\tpublic static void "+name+"(Kernel"+dimen+"_"+kernelType+" kernel,\n" +
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output , "+borderName+kernelType+" border ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape"+suffice2+"(input, output);\n" +
-				"\n" +
+				"\n");
+		if( singleBand ) {
+			String suffixName = Character.toUpperCase(name.charAt(0))+name.substring(1);
+			out.print(
+				"\t\tif( ConvolvePaddedBorder_SB.isPreferred"+suffixName+"(kernel,input,border) ) {\n" +
+				"\t\t\tConvolvePaddedBorder_SB."+name+"(kernel,input,output,border);\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n\n");
+		}
+		out.print(
 				"\t\tborder.setImage(input);\n" +
 				"\t\tConvolveImageNoBorder."+name+"(kernel,input,output);\n" +
 				"\t\tConvolveJustBorder_General_"+suffice+"."+name+"(kernel, border,output);\n" +
@@ -44,26 +44,37 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	String declareHalf;
 	String divide;
 
+	// if true the row loops are run concurrently using BoofConcurrency
+	boolean concurrent;
+
+	public GenerateConvolvedUnrolled_SB() {
+		super(false);
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
-		create(AutoTypeImage.F32,AutoTypeImage.F32,false);
-		create(AutoTypeImage.F64,AutoTypeImage.F64,false);
-		create(AutoTypeImage.U8,AutoTypeImage.I8,true);
-		create(AutoTypeImage.U8,AutoTypeImage.I16,false);
-		create(AutoTypeImage.S16,AutoTypeImage.I16,false);
-		create(AutoTypeImage.S16,AutoTypeImage.I16,true);
-		create(AutoTypeImage.S32,AutoTypeImage.S32,false);
-		create(AutoTypeImage.S32,AutoTypeImage.S32,true);
+		for( boolean c : new boolean[]{false,true}) {
+			concurrent = c;
+			create(AutoTypeImage.F32, AutoTypeImage.F32, false);
+			create(AutoTypeImage.F64, AutoTypeImage.F64, false);
+			create(AutoTypeImage.U8, AutoTypeImage.I8, true);
+			create(AutoTypeImage.U8, AutoTypeImage.I16, false);
+			create(AutoTypeImage.S16, AutoTypeImage.I16, false);
+			create(AutoTypeImage.S16, AutoTypeImage.I16, true);
+			create(AutoTypeImage.S32, AutoTypeImage.S32, false);
+			create(AutoTypeImage.S32, AutoTypeImage.S32, true);
+		}
 	}
 
 	protected void create( AutoTypeImage inputImg , AutoTypeImage outputImg , boolean divided ) throws FileNotFoundException {
 		isInteger = inputImg.isInteger();
 
-		String name = "ConvolveImageUnrolled_SB_"+inputImg.getAbbreviatedType()+"_"+outputImg.getAbbreviatedType();
+		String name = "ConvolveImageUnrolled_SB_"+(concurrent?"MT_":"")+
+				inputImg.getAbbreviatedType()+"_"+outputImg.getAbbreviatedType();
 		if( divided )
 			name += "_Div";
 
-		typeKernel = isInteger ? "I32" : "F"+inputImg.getNumBits();
+		typeKernel = isInteger ? "S32" : "F"+inputImg.getNumBits();
 		typeInput = inputImg.getSingleBandName();
 		typeOutput = outputImg.getSingleBandName();
 		dataKernel = inputImg.getSumType();
@@ -80,6 +91,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	}
 
 	public void createFile( String fileName ) throws FileNotFoundException {
+		className = null;
 		setOutputFile(fileName);
 		printPreamble();
 		createMaster("horizontal",1,hasDivisor);
@@ -103,12 +115,15 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	}
 
 	public void printPreamble() {
-		out.print("import boofcv.struct.convolve.*;\n");
-		out.print("import boofcv.struct.image." + typeInput + ";\n"+
-				"import javax.annotation.Generated;\n");
-
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
+		out.print("import boofcv.struct.convolve.Kernel1D_" + typeKernel + ";\n");
+		out.print("import boofcv.struct.convolve.Kernel2D_" + typeKernel + ";\n");
+		out.print("import boofcv.struct.image." + typeInput + ";\n");
 		if (typeInput.compareTo(typeOutput) != 0)
 			out.print("import boofcv.struct.image." + typeOutput + ";\n");
+		out.print("\n" +
+				"import javax.annotation.Generated;\n");
 		out.print("\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -120,6 +135,11 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				" * see commented out code below.  Due to the added complexity it was decided that this performance boost was\n" +
 				" * not worth it.  By comparison, unrolling the kernel causes a performance boost between 2 and 3 times.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" *\n" +
+				" * <p>\n" +
+				" * Concurrent implementation. Rows are processed in parallel using {@link BoofConcurrency}.\n" +
+				" * </p>\n" : "") +
 				" * \n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY.  This class was automatically generated by "+getClass().getSimpleName()+".\n" +
@@ -194,7 +214,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\tfinal int width = image.getWidth();\n" +
 				(hasDivisor ? declareHalf : "")+
 				"\n" +
-				"\t\tfor( int i = 0; i < image.height; i++ ) {\n" +
+				forLoop("i","0","image.height") +
 				"\t\t\tint indexDst = dest.startIndex + i*dest.stride+radius;\n" +
 				"\t\t\tint j = image.startIndex + i*image.stride - radius;\n" +
 				"\t\t\tfinal int jEnd = j+width-radius;\n" +
@@ -214,7 +234,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 		}
 
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -244,7 +264,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-radius;\n" +
 				"\n" +
-				"\t\tfor( int y = radius; y < yEnd; y++ ) {\n" +
+				forLoop("y","radius","yEnd") +
 				"\t\t\tint indexDst = dest.startIndex+y*dest.stride;\n" +
 				"\t\t\tint i = image.startIndex + (y-radius)*image.stride;\n" +
 				"\t\t\tfinal int iEnd = i+imgWidth;\n" +
@@ -263,7 +283,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 		else
 			out.print("\t\t\t\tdataDst[indexDst++] = " + typeCast + "total;\n");
 		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -281,7 +301,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n" +
 				"\n" +
-				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
+				forLoop("y","kernelRadius","height-kernelRadius") +
 				"\n" +
 				"\t\t\t// first time through the value needs to be set\n");
 		for( int i = 0; i < num; i++ ) {
@@ -323,7 +343,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\t\tdataDst[indexDst++] += "+typeCast+"total;\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -341,11 +361,20 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				declareHalf +
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n");
-		out.print("\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n");
-		out.print("\n" +
-				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
-				"\n" +
-				"\t\t\t// first time through the value needs to be set\n");
+		if( concurrent ) {
+			out.print("\n" +
+					"\t\tBoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1) -> {\n" +
+					"\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n" +
+					"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+					"\n" +
+					"\t\t\t// first time through the value needs to be set\n");
+		} else {
+			out.print("\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n");
+			out.print("\n" +
+					"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
+					"\n" +
+					"\t\t\t// first time through the value needs to be set\n");
+		}
 		for( int i = 0; i < num; i++ ) {
 			out.print("\t\t\t"+sumType+" k"+(i+1)+" = kernel.data["+i+"];\n");
 		}
@@ -388,9 +417,24 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"((totalRow[x]+halfDivisor)/ divisor);\n" +
 				"\t\t\t}\n"+
 				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "") +
 				"\t}\n\n");
 	}
 
+	/**
+	 * Opens the outer loop across rows.  When concurrent each row is processed by a lambda
+	 */
+	private String forLoop( String var , String start , String end ) {
+		if( concurrent )
+			return "\t\tBoofConcurrency.loopFor("+start+", "+end+", "+var+" -> {\n";
+		else
+			return "\t\tfor( int "+var+" = "+start+"; "+var+" < "+end+"; "+var+"++ ) {\n";
+	}
+
+	private String forLoopEnd() {
+		return concurrent ? "\t\t});\n" : "\t\t}\n";
+	}
+
 	private String generateTypeCast() {
 		return sumType.compareTo(dataOutput) == 0 ? "" : "( " + dataOutput + " )";
 	}
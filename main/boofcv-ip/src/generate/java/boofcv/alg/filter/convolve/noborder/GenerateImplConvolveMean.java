@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -30,13 +30,18 @@ import java.io.PrintStream;
  */
 public class GenerateImplConvolveMean {
 
-	String className = "ImplConvolveMean";
+	String className;
 	PrintStream out;
 
 	AutoTypeImage imageIn;
 	AutoTypeImage imageOut;
 
-	public GenerateImplConvolveMean() throws FileNotFoundException {
+	// if true the code is run concurrently using BoofConcurrency
+	boolean concurrent;
+
+	public GenerateImplConvolveMean( boolean concurrent ) throws FileNotFoundException {
+		this.concurrent = concurrent;
+		className = "ImplConvolveMean" + (concurrent ? "_MT" : "");
 		out = new PrintStream(new FileOutputStream(className + ".java"));
 	}
 
@@ -59,15 +64,23 @@ public class GenerateImplConvolveMean {
 
 	public void printPreamble() {
 		out.print(CodeGeneratorUtil.copyright);
-		out.print("package boofcv.alg.filter.convolve.noborder;\n" +
+		out.print("\n\n" +
+				"package boofcv.alg.filter.convolve.noborder;\n" +
 				"\n" +
+				(concurrent ? "import boofcv.concurrency.BoofConcurrency;\n" : "") +
 				"import boofcv.struct.image.*;\n" +
+				"\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
 				" * Convolves a mean filter across the image.  The mean value of all the pixels are computed inside the kernel.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent implementation.  Rows are processed in parallel for horizontal and columns for vertical, which\n" +
+				" * ensures the running totals are updated in the same order as {@link ImplConvolveMean}.\n" +
+				" * </p>\n" : "") +
 				" * <p>\n" +
 				" * Do not modify.  Auto generated by "+getClass().getSimpleName()+"\n" +
 				" * </p>\n" +
@@ -93,7 +106,9 @@ public class GenerateImplConvolveMean {
 				"\t\tfinal " + sumType + " divisor = kernelWidth;\n" +
 				declareHalf +
 				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				(concurrent ?
+				"\t\tBoofConcurrency.loopFor(0, input.height, y -> {\n" :
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n") +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y;\n" +
 				"\t\t\tint indexOut = output.startIndex + output.stride*y + radius;\n" +
 				"\n" +
@@ -113,7 +128,7 @@ public class GenerateImplConvolveMean {
 				"\n" +
 				"\t\t\t\toutput.data[indexOut++] = " + typeCast + "("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "\t\t}\n") +
 				"\t}\n\n");
 	}
 
@@ -126,16 +141,17 @@ public class GenerateImplConvolveMean {
 		String declareHalf = imageIn.isInteger() ? "\t\tfinal " + sumType + " halfDivisor = divisor/2;\n" : "";
 		String divide = imageIn.isInteger() ? "(total+halfDivisor)/divisor" : "total/divisor";
 
-		out.print("\tpublic static void vertical( " + imageIn.getSingleBandName() + " input , " + imageOut.getSingleBandName() + " output , int radius ) {\n" +
-				"\t\tfinal int kernelWidth = radius*2 + 1;\n" +
-				"\n" +
-				"\t\tfinal int backStep = kernelWidth*input.stride;\n" +
-				"\n" +
-				"\t\t"+sumType+" divisor = kernelWidth;\n" +
-				declareHalf +
-				"\t\t"+sumType+" totals[] = new "+sumType+"[ input.width ];\n" +
+		// the concurrent version splits the image into vertical strips and only stores the totals inside its strip
+		String x0 = concurrent ? "x0" : "0";
+		String x1 = concurrent ? "x1" : "input.width";
+		String offX0 = concurrent ? " + x0" : "";
+		String length = concurrent ? "x1-x0" : "input.width";
+		String idx = concurrent ? "x-x0" : "x";
+
+		String body =
+				"\t\t"+sumType+" totals[] = new "+sumType+"[ "+length+" ];\n" +
 				"\n" +
-				"\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
+				"\t\tfor( int x = "+x0+"; x < "+x1+"; x++ ) {\n" +
 				"\t\t\tint indexIn = input.startIndex + x;\n" +
 				"\t\t\tint indexOut = output.startIndex + output.stride*radius + x;\n" +
 				"\n" +
@@ -144,28 +160,44 @@ public class GenerateImplConvolveMean {
 				"\t\t\tfor( ; indexIn < indexEnd; indexIn += input.stride) {\n" +
 				"\t\t\t\ttotal += input.data[indexIn] "+bitWise+";\n" +
 				"\t\t\t}\n" +
-				"\t\t\ttotals[x] = total;\n" +
+				"\t\t\ttotals["+idx+"] = total;\n" +
 				"\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
 				"\t\t}\n" +
 				"\n" +
 				"\t\t// change the order it is processed in to reduce cache misses\n" +
 				"\t\tfor( int y = radius+1; y < output.height-radius; y++ ) {\n" +
-				"\t\t\tint indexIn = input.startIndex + (y+radius)*input.stride;\n" +
-				"\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\t\t\tint indexIn = input.startIndex + (y+radius)*input.stride"+offX0+";\n" +
+				"\t\t\tint indexOut = output.startIndex + y*output.stride"+offX0+";\n" +
 				"\n" +
-				"\t\t\tfor( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {\n" +
-				"\t\t\t\t"+sumType+" total = totals[ x ]  - (input.data[ indexIn - backStep ]"+bitWise+");\n" +
-				"\t\t\t\ttotals[ x ] = total += input.data[ indexIn ]"+bitWise+";\n" +
+				"\t\t\tfor( int x = "+x0+"; x < "+x1+"; x++ ,indexIn++,indexOut++) {\n" +
+				"\t\t\t\t"+sumType+" total = totals[ "+idx+" ]  - (input.data[ indexIn - backStep ]"+bitWise+");\n" +
+				"\t\t\t\ttotals[ "+idx+" ] = total += input.data[ indexIn ]"+bitWise+";\n" +
 				"\n" +
 				"\t\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				"\t\t}\n";
+
+		// inside the lambda everything is indented one more level
+		if( concurrent )
+			body = body.replaceAll("(?m)^\t", "\t\t");
+
+		out.print("\tpublic static void vertical( " + imageIn.getSingleBandName() + " input , " + imageOut.getSingleBandName() + " output , int radius ) {\n" +
+				"\t\tfinal int kernelWidth = radius*2 + 1;\n" +
+				"\n" +
+				"\t\tfinal int backStep = kernelWidth*input.stride;\n" +
+				"\n" +
+				"\t\t"+sumType+" divisor = kernelWidth;\n" +
+				declareHalf +
+				(concurrent ?
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.width, (x0,x1) -> {\n" : "") +
+				body +
+				(concurrent ? "\t\t});\n" : "") +
 				"\t}\n\n");
 	}
 
 	public static void main(String args[]) throws FileNotFoundException {
-		GenerateImplConvolveMean generator = new GenerateImplConvolveMean();
-
-		generator.createAll();
+		new GenerateImplConvolveMean(false).createAll();
+		new GenerateImplConvolveMean(true).createAll();
 	}
 }
@@ -40,6 +40,20 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 	String bitWiseOp;
 	String divide;
 
+	// if true the row loops are run concurrently using BoofConcurrency
+	boolean concurrent;
+
+	public GenerateConvolveNormalized_JustBorder_SB() {
+		super(false);
+	}
+
+	public void generate( boolean concurrent ) throws FileNotFoundException {
+		this.concurrent = concurrent;
+		className = null;
+		setOutputFile("ConvolveNormalized_JustBorder_SB"+(concurrent?"_MT":""));
+		generate();
+	}
+
 	public void generate() {
 		printPreamble();
 
@@ -56,8 +70,11 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 	}
 
 	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n"+
+				"\n" +
 				"import javax.annotation.Generated;\n"+
 				"\n" +
 				"/**\n" +
@@ -65,6 +82,11 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				" * Covolves a 1D kernel in the horizontal or vertical direction across an image's border only, while re-normalizing the\n" +
 				" * kernel sum to one.  The kernel MUST be smaller than the image.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" *\n" +
+				" * <p>\n" +
+				" * Concurrent implementation. Rows are processed in parallel using {@link BoofConcurrency}.\n" +
+				" * </p>\n" : "") +
 				" * \n" +
 				" * <p>\n" +
 				" * NOTE: Do not modify.  Automatically generated by "+getClass().getSimpleName()+"\n" +
@@ -130,7 +152,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\tfinal int width = input.getWidth();\n" +
 				"\t\tfinal int height = input.getHeight();\n" +
 				"\n" +
-				"\t\tfor (int i = 0; i < height; i++) {\n" +
+				forLoop("i","0","height") +
 				"\t\t\tint indexDest = output.startIndex + i * output.stride;\n" +
 				"\t\t\tint j = input.startIndex + i * input.stride;\n" +
 				"\t\t\tfinal int jStart = j;\n" +
@@ -165,7 +187,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDest++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -187,7 +209,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight - offsetR;\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < offsetL; y++) {\n" +
+				forLoop("y","0","offsetL") +
 				"\t\t\tint indexDst = output.startIndex + y * output.stride;\n" +
 				"\t\t\tint i = input.startIndex + y * input.stride;\n" +
 				"\t\t\tfinal int iEnd = i + imgWidth;\n" +
@@ -207,9 +229,9 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\n" +
-				"\t\tfor (int y = yEnd; y < imgHeight; y++) {\n" +
+				forLoop("y","yEnd","imgHeight") +
 				"\t\t\tint indexDst = output.startIndex + y * output.stride;\n" +
 				"\t\t\tint i = input.startIndex + y * input.stride;\n" +
 				"\t\t\tfinal int iEnd = i + imgWidth;\n" +
@@ -229,7 +251,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -255,12 +277,18 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight - (kernelWidthY-offsetY-1);\n" +
 				"\n" +
+				(concurrent ?
+				"\t\tint sumWeightX = 0;\n" +
+				"\t\tfor (int k = offsetX; k < kernelWidthX; k++) {\n" +
+				"\t\t\tsumWeightX += kernelX.data[k];\n" +
+				"\t\t}\n" +
+				"\t\tfinal int startWeightX = sumWeightX;\n" :
 				"\t\tint startWeightX = 0;\n" +
 				"\t\tfor (int k = offsetX; k < kernelWidthX; k++) {\n" +
 				"\t\t\tstartWeightX += kernelX.data[k];\n" +
-				"\t\t}\n" +
+				"\t\t}\n") +
 				"\n" +
-				"\t\tfor (int y = 0; y < offsetY; y++) {\n" +
+				forLoop("y","0","offsetY") +
 				"\t\t\tint indexDst = output.startIndex + y * output.stride;\n" +
 				"\t\t\tint i = input.startIndex + y * input.stride;\n" +
 				"\t\t\tfinal int iEnd = i + imgWidth;\n" +
@@ -287,9 +315,9 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t\tweightX -= kernelX.data[input.width-x+offsetX-1];\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\n" +
-				"\t\tfor (int y = yEnd; y < imgHeight; y++) {\n" +
+				forLoop("y","yEnd","imgHeight") +
 				"\t\t\tint indexDst = output.startIndex + y * output.stride;\n" +
 				"\t\t\tint i = input.startIndex + y * input.stride;\n" +
 				"\t\t\tfinal int iEnd = i + imgWidth;\n" +
@@ -316,11 +344,11 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t\tweightX -= kernelX.data[input.width-x+offsetX-1];\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\n" +
 				"\t\t// left and right border\n" +
 				"\t\tint weightY = kernelY.computeSum();\n" +
-				"\t\tfor (int y = offsetY; y < yEnd; y++) {\n" +
+				forLoop("y","offsetY","yEnd") +
 				"\t\t\tint indexDst = output.startIndex + y * output.stride;\n" +
 				"\t\t\tint i = input.startIndex + y * input.stride;\n" +
 				"\n" +
@@ -353,7 +381,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
@@ -374,7 +402,7 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\tfinal int height = input.getHeight();\n" +
 				"\n" +
 				"\t\t// convolve across the left and right borders\n" +
-				"\t\tfor (int y = 0; y < height; y++) {\n" +
+				forLoop("y","0","height") +
 				"\n" +
 				"\t\t\tint minI = y >= offsetL ? -offsetL : -y;\n" +
 				"\t\t\tint maxI = y < height - offsetR ?  offsetR : height - y - 1;\n" +
@@ -421,10 +449,10 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\n" +
 				"\t\t// convolve across the top border while avoiding convolving the corners again\n" +
-				"\t\tfor (int y = 0; y < offsetL; y++) {\n" +
+				forLoop("y","0","offsetL") +
 				"\n" +
 				"\t\t\tint indexDst = output.startIndex + y* output.stride+offsetL;\n" +
 				"\n" +
@@ -445,10 +473,10 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\n" +
 				"\t\t// convolve across the bottom border\n" +
-				"\t\tfor (int y = height-offsetR; y < height; y++) {\n" +
+				forLoop("y","height-offsetR","height") +
 				"\n" +
 				"\t\t\tint maxI = height - y - 1;\n" +
 				"\t\t\tint indexDst = output.startIndex + y* output.stride+offsetL;\n" +
@@ -470,12 +498,27 @@ public class GenerateConvolveNormalized_JustBorder_SB extends CodeGeneratorBase
 				"\t\t\t\t}\n" +
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd() +
 				"\t}\n\n");
 	}
 
+	/**
+	 * Opens the outer loop across rows.  When concurrent each row is processed by a lambda
+	 */
+	private String forLoop( String var , String start , String end ) {
+		if( concurrent )
+			return "\t\tBoofConcurrency.loopFor("+start+", "+end+", "+var+" -> {\n";
+		else
+			return "\t\tfor (int "+var+" = "+start+"; "+var+" < "+end+"; "+var+"++) {\n";
+	}
+
+	private String forLoopEnd() {
+		return concurrent ? "\t\t});\n" : "\t\t}\n";
+	}
+
 	public static void main(String args[]) throws FileNotFoundException {
 		GenerateConvolveNormalized_JustBorder_SB gen = new GenerateConvolveNormalized_JustBorder_SB();
-		gen.generate();
+		gen.generate(false);
+		gen.generate(true);
 	}
 }
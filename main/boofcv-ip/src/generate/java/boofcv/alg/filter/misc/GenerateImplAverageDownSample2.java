@@ -27,10 +27,13 @@ import java.io.FileNotFoundException;
  * @author Peter Abeles
  */
 public class GenerateImplAverageDownSample2 extends CodeGeneratorBase {
-	String className = "ImplAverageDownSample2";
+	// if true the code is run concurrently using BoofConcurrency
+	boolean concurrent;
 
-	public GenerateImplAverageDownSample2() throws FileNotFoundException {
-		setOutputFile(className);
+	public GenerateImplAverageDownSample2( boolean concurrent ) throws FileNotFoundException {
+		super(false);
+		this.concurrent = concurrent;
+		setOutputFile("ImplAverageDownSample2" + (concurrent ? "_MT" : ""));
 	}
 
 	@Override
@@ -50,11 +53,15 @@ public class GenerateImplAverageDownSample2 extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print((concurrent ? "import boofcv.concurrency.BoofConcurrency;\n" : "") +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>Implementation of {@link AverageDownSampleOps} specialized for square regions of width 2.</p>\n" +
 				" *\n" +
+				(concurrent ?
+				" * <p>Concurrent implementation.  Rows of square regions are processed in parallel.</p>\n" +
+				" *\n" : "") +
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link "+getClass().getCanonicalName()+"}.\n" +
 				" * </p>\n" +
@@ -76,7 +83,10 @@ public class GenerateImplAverageDownSample2 extends CodeGeneratorBase {
 				"\t\tint maxY = input.height - input.height%2;\n" +
 				"\t\tint maxX = input.width - input.width%2;\n" +
 				"\n" +
-				"\t\tfor( int y = 0; y < maxY; y += 2 ) {\n" +
+				(concurrent ?
+				"\t\tBoofConcurrency.loopFor(0, maxY/2, outY -> {\n" +
+				"\t\t\tint y = outY*2;\n" :
+				"\t\tfor( int y = 0; y < maxY; y += 2 ) {\n") +
 				"\t\t\tint indexOut = output.startIndex + (y/2)*output.stride;\n" +
 				"\n" +
 				"\t\t\tint indexIn0 = input.startIndex + y*input.stride;\n" +
@@ -90,7 +100,7 @@ public class GenerateImplAverageDownSample2 extends CodeGeneratorBase {
 				"\n" +
 				"\t\t\t\toutput.data[ indexOut++ ] = "+cast+computeAve4+";\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "\t\t}\n") +
 				"\n" +
 				"\t\tif( maxX != input.width ) {\n" +
 				"\t\t\tfor( int y = 0; y < maxY; y += 2 ) {\n" +
@@ -129,8 +139,8 @@ public class GenerateImplAverageDownSample2 extends CodeGeneratorBase {
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
-		GenerateImplAverageDownSample2 app = new GenerateImplAverageDownSample2();
-		app.generate();
+		new GenerateImplAverageDownSample2(false).generate();
+		new GenerateImplAverageDownSample2(true).generate();
 	}
 }
 
@@ -27,10 +27,13 @@ import java.io.FileNotFoundException;
  * @author Peter Abeles
  */
 public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
-	String className = "ImplAverageDownSampleN";
+	// if true the code is run concurrently using BoofConcurrency
+	boolean concurrent;
 
-	public GenerateImplAverageDownSampleN() throws FileNotFoundException {
-		setOutputFile(className);
+	public GenerateImplAverageDownSampleN( boolean concurrent ) throws FileNotFoundException {
+		super(false);
+		this.concurrent = concurrent;
+		setOutputFile("ImplAverageDownSampleN" + (concurrent ? "_MT" : ""));
 	}
 
 	@Override
@@ -50,11 +53,15 @@ public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print((concurrent ? "import boofcv.concurrency.BoofConcurrency;\n" : "") +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>Implementation of {@link AverageDownSampleOps} specialized for square regions of width N.</p>\n" +
 				" *\n" +
+				(concurrent ?
+				" * <p>Concurrent implementation.  Rows of square regions are processed in parallel.</p>\n" +
+				" *\n" : "") +
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link "+getClass().getCanonicalName()+"}.\n" +
 				" * </p>\n" +
@@ -84,6 +91,10 @@ public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
 			computeAve = cast+"(total/N)";
 		}
 
+		// inside the concurrent loop only effectively final variables can be referenced
+		String computeAveInner = concurrent ?
+				computeAve.replace("N_half","N_half_inner").replace("/N)","/N_inner)") : computeAve;
+
 
 		out.print(
 				"\tpublic static void down( "+input.getSingleBandName()+" input , int sampleWidth , "+output.getSingleBandName()+" output ) {\n" +
@@ -93,7 +104,12 @@ public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
 				"\t\t"+sumType+" N = sampleWidth*sampleWidth;\n" +
 				declareHalf +
 				"\n" +
-				"\t\tfor( int y = 0, outY = 0; y < maxY; y += sampleWidth, outY++  ) {\n" +
+				(concurrent ?
+				"\t\tfinal "+sumType+" N_inner = N;\n" +
+				(input.isInteger() ? "\t\tfinal "+sumType+" N_half_inner = N_half;\n" : "") +
+				"\t\tBoofConcurrency.loopFor(0, maxY/sampleWidth, outY -> {\n" +
+				"\t\t\tint y = outY*sampleWidth;\n" :
+				"\t\tfor( int y = 0, outY = 0; y < maxY; y += sampleWidth, outY++  ) {\n") +
 				"\t\t\tint indexOut = output.startIndex + outY*output.stride;\n" +
 				"\t\t\tint endBoxY = y + sampleWidth;\n" +
 				"\t\t\tfor( int x = 0; x < maxX; x += sampleWidth ) {\n" +
@@ -107,9 +123,9 @@ public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
 				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\n" +
-				"\t\t\t\toutput.data[ indexOut++ ] = "+computeAve+";\n" +
+				"\t\t\t\toutput.data[ indexOut++ ] = "+computeAveInner+";\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "\t\t}\n") +
 				"\n" +
 				"\t\t// handle the right side\n" +
 				"\t\tif( maxX != input.width ) {\n" +
@@ -172,8 +188,8 @@ public class GenerateImplAverageDownSampleN extends CodeGeneratorBase {
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
-		GenerateImplAverageDownSampleN app = new GenerateImplAverageDownSampleN();
-		app.generate();
+		new GenerateImplAverageDownSampleN(false).generate();
+		new GenerateImplAverageDownSampleN(true).generate();
 	}
 }
 
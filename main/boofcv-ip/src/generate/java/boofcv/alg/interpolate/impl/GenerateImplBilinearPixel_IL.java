@@ -78,6 +78,7 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 		String sumType = image.getSumType();
 
 		out.print("import boofcv.alg.interpolate.BilinearPixelMB;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelMB;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
 				"import boofcv.struct.image." + image.getInterleavedName() + ";\n" +
 				"import boofcv.core.image.border.ImageBorder_IL_" + borderType + ";\n");
@@ -197,6 +198,14 @@ public class GenerateImplBilinearPixel_IL extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic InterpolatePixelMB<"+imageName+"> copy() {\n" +
+				"\t\t"+className+" out = new "+className+"(temp0.length);\n" +
+				"\t\tif( border != null )\n" +
+				"\t\t\tout.setBorder(border.copy());\n" +
+				"\t\treturn out;\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic ImageType<"+imageName+"> getImageType() {\n" +
 				"\t\treturn orig.getImageType();\n" +
 				"\t}\n\n");
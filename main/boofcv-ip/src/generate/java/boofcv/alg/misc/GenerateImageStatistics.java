@@ -43,12 +43,16 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() throws FileNotFoundException {
-		out.print("import boofcv.struct.image.*;\n" +
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.misc.impl.ImplImageStatistics_MT;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
 				"import javax.annotation.Generated;\n" +
-				"import boofcv.alg.InputSanityCheck;\n" +
 				"\n" +
 				"/**\n" +
-				" * Computes statistical properties of pixels inside an image.\n" +
+				" * Computes statistical properties of pixels inside an image.  If {@link BoofConcurrency#USE_CONCURRENT} is true\n" +
+				" * then the concurrent implementations in {@link ImplImageStatistics_MT} are used.\n" +
 				" *\n" +
 				" * <p>DO NOT MODIFY: Generated by "+getClass().getName()+"</p>.\n"+
 				" *\n"+
@@ -100,6 +104,11 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
 				"\t */\n" +
 				"\tpublic static void histogram( "+input.getSingleBandName()+" input , "+sumType+" minValue , int histogram[] ) {\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplImageStatistics_MT.histogram(input,minValue,histogram);\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
+				"\n" +
 				"\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
 				"\t\t\thistogram[i] = 0;\n" +
 				"\t\t\n" +
@@ -213,6 +222,8 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param img Input image. Not modified.\n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" sum( "+input.getImageName(family)+" img ) {\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT )\n" +
+				"\t\t\treturn ImplImageStatistics_MT.sum(img);\n" +
 				"\n" +
 				"\t\tfinal int rows = img.height;\n" +
 				"\t\tfinal int columns = img.width"+columns+";\n" +
@@ -243,8 +254,29 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @return Mean pixel intensity value\n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" mean( "+input.getImageName(family)+" img ) {\n" +
-				"\t\treturn sum(img)/("+sumType+")(img.width*img.height"+columns+");\n" +
-				"\t}\n\n");
+				"\t\tif( BoofConcurrency.USE_CONCURRENT )\n" +
+				"\t\t\treturn ImplImageStatistics_MT.mean(img);\n" +
+				"\n");
+		if( input.isInteger() && input.getNumBits() < 64 ) {
+			// the sum can overflow an int for large images
+			out.print("\t\tfinal int columns = img.width"+columns+";\n" +
+					"\t\tlong total = 0;\n" +
+					"\n" +
+					"\t\tfor (int y = 0; y < img.height; y++) {\n" +
+					"\t\t\tint index = img.startIndex + y * img.stride;\n" +
+					"\n" +
+					"\t\t\tint indexEnd = index+columns;\n" +
+					"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
+					"\t\t\t\ttotal += img.data[index] "+input.getBitWise()+";\n" +
+					"\t\t\t}\n" +
+					"\t\t}\n" +
+					"\n" +
+					"\t\treturn total/(double)(img.width*img.height"+columns+");\n" +
+					"\t}\n\n");
+		} else {
+			out.print("\t\treturn sum(img)/("+sumType+")(img.width*img.height"+columns+");\n" +
+					"\t}\n\n");
+		}
 	}
 
 	public void printVariance() {
@@ -260,6 +292,8 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @return Pixel variance   \n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" variance( "+input.getSingleBandName()+" img , "+sumType+" mean ) {\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT )\n" +
+				"\t\t\treturn ImplImageStatistics_MT.variance(img,mean);\n" +
 				"\n" +
 				"\t\t"+sumType+" variance = 0;\n" +
 				"\n" +
@@ -440,6 +474,8 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 
 			out.println(javaDoc);
 			out.print("\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
+					"\t\tif( BoofConcurrency.USE_CONCURRENT )\n" +
+					"\t\t\treturn ImplImageStatistics_MT."+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
 					"\t\treturn "+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
 					"\t}\n\n");
 		}
@@ -490,6 +526,9 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			out.println(javaDoc);
 			out.print("\tpublic static double "+name+"("+imageName+" imgA, "+imageName+" imgB ) {\n" +
 					"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
+					"\t\tif( BoofConcurrency.USE_CONCURRENT )\n" +
+					"\t\t\treturn ImplImageStatistics_MT."+nameUn+"(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,\n" +
+					"\t\t\t\t\timgA.height, "+columns+");\n" +
 					"\t\treturn "+nameUn+"(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,\n" +
 					"\t\t\t\timgA.height, "+columns+");\n" +
 					"\t}\n\n");
@@ -501,11 +540,13 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			String sumType = input.getSumType();
 			String name = this.name + (input.isSigned() ? "" : "U");
 			String bitWise = input.getBitWise();
+			// the total can overflow an int for large images
+			String totalType = input.isInteger() ? "long" : sumType;
 
 			out.print("\tprivate static double "+name+"("+dataType+" []dataA, int startIndexA , int strideA,\n" +
 					"\t\t\t\t\t\t\t\t\t"+dataType+" []dataB, int startIndexB , int strideB,\n" +
 					"\t\t\t\t\t\t\t\t\tint rows , int columns ) {\n" +
-					"\t\t"+sumType+" total = 0;\n" +
+					"\t\t"+totalType+" total = 0;\n" +
 					"\n" +
 					"\t\tfor (int y = 0; y < rows; y++) {\n" +
 					"\t\t\tint indexA = startIndexA + y * strideA;\n" +
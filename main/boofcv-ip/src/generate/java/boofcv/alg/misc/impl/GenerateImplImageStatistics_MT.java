@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageType;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Generates {@link ImplImageStatistics_MT}.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImplImageStatistics_MT extends CodeGeneratorBase {
+
+	private AutoTypeImage input;
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+
+		ImageType.Family families[] = new ImageType.Family[]{ImageType.Family.GRAY,ImageType.Family.INTERLEAVED};
+
+		for( AutoTypeImage t : AutoTypeImage.getSpecificTypes() ) {
+			input = t;
+
+			printInitValue("min", "v < output", getBitWise());
+			printInitValue("max", "v > output", getBitWise());
+			printInitValue("maxAbs", "v > output", input.isSigned() ? "Math.abs(array[index])" : getBitWise());
+			printDifference("meanDiffSq", "difference*difference");
+			printDifference("meanDiffAbs", "Math.abs(difference)");
+
+			for( ImageType.Family f : families ) {
+				printSum(f);
+				printMean(f);
+			}
+			printSumLow();
+			printVariance();
+			printHistogram();
+		}
+
+		out.print("\t/**\n" +
+				"\t * Adds the second histogram to the first one\n" +
+				"\t */\n" +
+				"\tprivate static int[] addHistogram( int[] a , int[] b ) {\n" +
+				"\t\tfor( int i = 0; i < a.length; i++ ) {\n" +
+				"\t\t\ta[i] += b[i];\n" +
+				"\t\t}\n" +
+				"\t\treturn a;\n" +
+				"\t}\n\n");
+		out.println("}");
+	}
+
+	private void printPreamble() {
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"import javax.annotation.Generated;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementations of functions in {@link boofcv.alg.misc.ImageStatistics}.  Each thread computes\n" +
+				" * a partial result from a block of rows and the partial results are then combined in the order of the blocks,\n" +
+				" * see {@link BoofConcurrency#reduceBlocks}.  Sums of integer images are accumulated in a long and sums of\n" +
+				" * floating point images in a double.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by "+getClass().getName()+"</p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				generatedString() +
+				"public class "+className+" {\n\n");
+	}
+
+	private String getBitWise() {
+		return "array[index]"+input.getBitWise();
+	}
+
+	/**
+	 * Type partial sums are accumulated in
+	 */
+	private String getTotalType() {
+		return input.isInteger() ? "long" : "double";
+	}
+
+	private String getTotalSum() {
+		return input.isInteger() ? "Long::sum" : "Double::sum";
+	}
+
+	private String getFunctionName( String name ) {
+		return name + (input.isSigned() ? "" : "U");
+	}
+
+	private void printInitValue( String name , String conditional , String valueMassage ) {
+		String sumType = input.getSumType();
+
+		out.print("\tpublic static "+sumType+" "+getFunctionName(name)+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ) {\n" +
+				"\t\treturn BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {\n" +
+				"\t\t\tint index = startIndex + y0*stride;\n" +
+				"\t\t\t"+sumType+" output = "+valueMassage+";\n" +
+				"\n" +
+				"\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\tindex = startIndex + y*stride;\n" +
+				"\t\t\t\tint end = index + columns;\n" +
+				"\n" +
+				"\t\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t\t"+sumType+" v = "+valueMassage+";\n" +
+				"\t\t\t\t\tif( "+conditional+" )\n" +
+				"\t\t\t\t\t\toutput = v;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn output;\n" +
+				"\t\t}, (output, v) -> "+conditional+" ? v : output);\n" +
+				"\t}\n\n");
+	}
+
+	private void printDifference( String name , String operation ) {
+		String dataType = input.getDataType();
+		String sumType = input.getSumType();
+		String totalType = getTotalType();
+		String bitWise = input.getBitWise();
+
+		out.print("\tpublic static double "+getFunctionName(name)+"("+dataType+" []dataA, int startIndexA , int strideA,\n" +
+				"\t\t\t\t\t\t\t\t\t"+dataType+" []dataB, int startIndexB , int strideB,\n" +
+				"\t\t\t\t\t\t\t\t\tint rows , int columns ) {\n" +
+				"\t\t"+totalType+" sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {\n" +
+				"\t\t\t"+totalType+" total = 0;\n" +
+				"\n" +
+				"\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\tint indexA = startIndexA + y * strideA;\n" +
+				"\t\t\t\tint indexB = startIndexB + y * strideB;\n" +
+				"\n" +
+				"\t\t\t\tint indexEnd = indexA+columns;\n" +
+				"\n" +
+				"\t\t\t\tfor (; indexA < indexEnd; indexA++,indexB++) {\n" +
+				"\t\t\t\t\t"+sumType+" difference = (dataA[indexA]"+bitWise+")-(dataB[indexB]"+bitWise+");\n" +
+				"\t\t\t\t\ttotal += "+operation+";\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn total;\n" +
+				"\t\t}, "+getTotalSum()+");\n" +
+				"\n" +
+				"\t\treturn sum / (double)(rows*columns);\n" +
+				"\t}\n\n");
+	}
+
+	private void printSum( ImageType.Family family ) {
+		String columns = family == ImageType.Family.INTERLEAVED ? "*img.numBands" : "";
+		String sumType = input.getSumType();
+		// the total is only cast when it's a different type, to avoid redundant casts
+		String cast = sumType.equals(getTotalType()) ? "" : "("+sumType+")";
+
+		out.print("\tpublic static "+sumType+" sum( "+input.getImageName(family)+" img ) {\n" +
+				"\t\treturn "+cast+getFunctionName("sum")+"(img.data, img.startIndex, img.height, img.width"+columns+", img.stride);\n" +
+				"\t}\n\n");
+	}
+
+	private void printMean( ImageType.Family family ) {
+		String columns = family == ImageType.Family.INTERLEAVED ? "*img.numBands" : "";
+		String meanType = input.isInteger() ? "double" : input.getSumType();
+		String mean = getFunctionName("sum")+"(img.data, img.startIndex, img.height, img.width"+columns+", img.stride)/(double)(img.width*img.height"+columns+")";
+
+		out.print("\tpublic static "+meanType+" mean( "+input.getImageName(family)+" img ) {\n" +
+				"\t\treturn "+castDouble(meanType,mean)+";\n" +
+				"\t}\n\n");
+	}
+
+	private void printSumLow() {
+		String totalType = getTotalType();
+
+		out.print("\tprivate static "+totalType+" "+getFunctionName("sum")+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ) {\n" +
+				"\t\treturn BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {\n" +
+				"\t\t\t"+totalType+" total = 0;\n" +
+				"\n" +
+				"\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\tint index = startIndex + y*stride;\n" +
+				"\t\t\t\tint end = index + columns;\n" +
+				"\n" +
+				"\t\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t\ttotal += "+getBitWise()+";\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn total;\n" +
+				"\t\t}, "+getTotalSum()+");\n" +
+				"\t}\n\n");
+	}
+
+	private void printVariance() {
+		String bitWise = input.getBitWise();
+		String meanType = input.isInteger() ? "double" : input.getSumType();
+
+		out.print("\tpublic static "+meanType+" variance( "+input.getSingleBandName()+" img , "+meanType+" mean ) {\n" +
+				"\t\tdouble variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {\n" +
+				"\t\t\tdouble total = 0;\n" +
+				"\n" +
+				"\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+				"\t\t\t\tint index = img.startIndex + y * img.stride;\n" +
+				"\n" +
+				"\t\t\t\tint indexEnd = index+img.width;\n" +
+				"\t\t\t\tfor (; index < indexEnd; index++ ) {\n" +
+				"\t\t\t\t\tdouble d = (img.data[index]"+bitWise+") - mean;\n" +
+				"\t\t\t\t\ttotal += d*d;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn total;\n" +
+				"\t\t}, Double::sum);\n" +
+				"\n" +
+				"\t\treturn "+castDouble(meanType,"variance/(img.width*img.height)")+";\n" +
+				"\t}\n\n");
+	}
+
+	/**
+	 * Casts an expression which is a double into the specified type, if it's not already a double
+	 */
+	private static String castDouble( String type , String expression ) {
+		return type.equals("double") ? expression : "("+type+")("+expression+")";
+	}
+
+	private void printHistogram() {
+		String sumType = input.getSumType();
+
+		String bin;
+		if( input.isInteger() && input.getNumBits() != 64 )
+			bin = "(img.data[index]"+input.getBitWise()+") - minValue";
+		else
+			bin = "(int)(img.data[index] - minValue)";
+
+		out.print("\tpublic static void histogram( "+input.getSingleBandName()+" img , "+sumType+" minValue , int histogram[] ) {\n" +
+				"\t\tint[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {\n" +
+				"\t\t\tint[] local = new int[histogram.length];\n" +
+				"\n" +
+				"\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\tint index = img.startIndex + y*img.stride;\n" +
+				"\t\t\t\tint end = index + img.width;\n" +
+				"\n" +
+				"\t\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t\tlocal["+bin+"]++;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn local;\n" +
+				"\t\t}, ImplImageStatistics_MT::addHistogram);\n" +
+				"\n" +
+				"\t\tSystem.arraycopy(total, 0, histogram, 0, histogram.length);\n" +
+				"\t}\n\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImplImageStatistics_MT gen = new GenerateImplImageStatistics_MT();
+		gen.generate();
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -44,8 +44,10 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printPreamble();
 
 		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F32);
+		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F64, "transform64");
 		printTwoInput(AutoTypeImage.F64, AutoTypeImage.F64);
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S64, "transform64");
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
 		singleInput(AutoTypeImage.F32);
@@ -81,8 +83,11 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 	}
 
 	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
-		printTransform(imageIn,imageOut);
+		printTwoInput(imageIn, imageOut, "transform");
+	}
 
+	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut , String name ) {
+		printTransform(imageIn,imageOut,name);
 	}
 
 	private void singleInput(AutoTypeImage image) {
@@ -93,13 +98,13 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printBlockZero(image);
 	}
 
-	private void printTransform( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+	private void printTransform( AutoTypeImage imageIn , AutoTypeImage imageOut , String name ) {
 
 		String sumType = imageOut.getSumType();
 		String bitWise = imageIn.getBitWise();
 		String typeCast = imageOut.getTypeCastFromSum();
 
-		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
+		out.print("\tpublic static void "+name+"( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
 				"\t{\n" +
 				"\t\tint indexSrc = input.startIndex;\n" +
 				"\t\tint indexDst = transformed.startIndex;\n" +
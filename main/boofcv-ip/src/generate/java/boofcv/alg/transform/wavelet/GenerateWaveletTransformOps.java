@@ -28,8 +28,6 @@ import java.io.FileNotFoundException;
  * @author Peter Abeles
  */
 public class GenerateWaveletTransformOps extends CodeGeneratorBase {
-	String className = "WaveletTransformOps";
-
 	AutoTypeImage imageIn;
 	AutoTypeImage imageOut;
 	String genName;
@@ -38,10 +36,6 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 	String outputCast;
 	String MIN_VALUE,MAX_VALUE;
 
-	public GenerateWaveletTransformOps() throws FileNotFoundException {
-		setOutputFile(className);
-	}
-
 	@Override
 	public void generate() throws FileNotFoundException {
 		printPreamble();
@@ -58,7 +52,9 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"import boofcv.alg.misc.PixelMath;\n" +
 				"import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformBorder;\n" +
 				"import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformInner;\n" +
+				"import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformInner_MT;\n" +
 				"import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.image.GrayF32;\n" +
 				"import boofcv.struct.image.GrayS32;\n" +
 				"import boofcv.struct.wavelet.WaveletDescription;\n" +
@@ -155,6 +151,11 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tif( input.getWidth() <= minSize || input.getHeight() <= minSize ) {\n" +
 				"\t\t\tImplWaveletTransformNaive.horizontal(desc.getBorder(),coef,input,storage);\n" +
 				"\t\t\tImplWaveletTransformNaive.vertical(desc.getBorder(),coef,storage,output);\n" +
+				"\t\t} else if( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplWaveletTransformInner_MT.horizontal(coef,input,storage);\n" +
+				"\t\t\tImplWaveletTransformBorder.horizontal(desc.getBorder(),coef,input,storage);\n" +
+				"\t\t\tImplWaveletTransformInner_MT.vertical(coef,storage,output);\n" +
+				"\t\t\tImplWaveletTransformBorder.vertical(desc.getBorder(),coef,storage,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplWaveletTransformInner.horizontal(coef,input,storage);\n" +
 				"\t\t\tImplWaveletTransformBorder.horizontal(desc.getBorder(),coef,input,storage);\n" +
@@ -192,7 +193,7 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tUtilWavelet.checkShape(desc.getForward(),input,output,numLevels);\n" +
 				"\t\tstorage = InputSanityCheck.checkDeclare(output, storage);\n" +
 				"\t\t// modify the shape of a temporary image not the original\n" +
-				"\t\tstorage = storage.subimage(0,0,output.width,output.height);\n" +
+				"\t\tstorage = storage.subimage(0,0,output.width,output.height, null);\n" +
 				"\t\tstorage.subImage = false;\n" +
 				"\n" +
 				"\t\ttransform1(desc,input,output, storage);\n" +
@@ -203,8 +204,8 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\t\twidth += width%2;\n" +
 				"\t\t\theight += height%2;\n" +
 				"\n" +
-				"\t\t\tinput = input.subimage(0,0,width,height);\n" +
-				"\t\t\toutput = output.subimage(0,0,width,height);\n" +
+				"\t\t\tinput = input.subimage(0,0,width,height, null);\n" +
+				"\t\t\toutput = output.subimage(0,0,width,height, null);\n" +
 				"\t\t\tinput.setTo(output);\n" +
 				"\n" +
 				"\t\t\t// transform the scaling image and save the results in the output image\n" +
@@ -249,6 +250,11 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tif( output.getWidth() <= minSize || output.getHeight() <= minSize ) {\n" +
 				"\t\t\tImplWaveletTransformNaive.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);\n" +
 				"\t\t\tImplWaveletTransformNaive.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);\n" +
+				"\t\t} else if( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplWaveletTransformInner_MT.verticalInverse(desc.getInverse().getInnerCoefficients(),input,storage);\n" +
+				"\t\t\tImplWaveletTransformBorder.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);\n" +
+				"\t\t\tImplWaveletTransformInner_MT.horizontalInverse(desc.getInverse().getInnerCoefficients(),storage,output);\n" +
+				"\t\t\tImplWaveletTransformBorder.horizontalInverse(desc.getBorder(),desc.getInverse(),storage,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplWaveletTransformInner.verticalInverse(desc.getInverse().getInnerCoefficients(),input,storage);\n" +
 				"\t\t\tImplWaveletTransformBorder.verticalInverse(desc.getBorder(),desc.getInverse(),input,storage);\n" +
@@ -293,7 +299,7 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tUtilWavelet.checkShape(desc.getForward(),output,input,numLevels);\n" +
 				"\t\tstorage = InputSanityCheck.checkDeclare(input, storage);\n" +
 				"\t\t// modify the shape of a temporary image not the original\n" +
-				"\t\tstorage = storage.subimage(0,0,input.width,input.height);\n" +
+				"\t\tstorage = storage.subimage(0,0,input.width,input.height, null);\n" +
 				"\t\tstorage.subImage = false;\n" +
 				"\n" +
 				"\t\tint width,height;\n" +
@@ -304,8 +310,8 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\twidth += width%2;\n" +
 				"\t\theight += height%2;\n" +
 				"\n" +
-				"\t\t"+imageOut.getSingleBandName()+" levelIn = input.subimage(0,0,width,height);\n" +
-				"\t\t"+imageIn.getSingleBandName()+" levelOut = output.subimage(0,0,width,height);\n" +
+				"\t\t"+imageOut.getSingleBandName()+" levelIn = input.subimage(0,0,width,height, null);\n" +
+				"\t\t"+imageIn.getSingleBandName()+" levelOut = output.subimage(0,0,width,height, null);\n" +
 				"\t\tstorage.reshape(width,height);\n" +
 				"\t\tinverse1(desc,levelIn,levelOut, storage,"+MIN_VALUE+","+MAX_VALUE+");\n" +
 				"\n" +
@@ -320,8 +326,8 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\t\t\theight += height%2;\n" +
 				"\n" +
 				"\t\t\t\tstorage.reshape(width,height);\n" +
-				"\t\t\t\tlevelIn = input.subimage(0,0,width,height);\n" +
-				"\t\t\t\tlevelOut = output.subimage(0,0,width,height);\n" +
+				"\t\t\t\tlevelIn = input.subimage(0,0,width,height, null);\n" +
+				"\t\t\t\tlevelOut = output.subimage(0,0,width,height, null);\n" +
 				"\t\t\t} else {\n" +
 				"\t\t\t\tlevelIn = input;\n" +
 				"\t\t\t\tlevelOut = output;\n" +
@@ -28,8 +28,6 @@ import java.io.FileNotFoundException;
  * @author Peter Abeles
  */
 public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
-	String className = "ImplWaveletTransformInner";
-
 	AutoTypeImage imageIn;
 	AutoTypeImage imageOut;
 	String genName;
@@ -37,8 +35,13 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 	String bitWise;
 	String outputCast;
 
-	public GenerateImplWaveletTransformInner() throws FileNotFoundException {
-		setOutputFile(className);
+	// if true the code is run concurrently using BoofConcurrency
+	boolean concurrent;
+
+	public GenerateImplWaveletTransformInner( boolean concurrent ) throws FileNotFoundException {
+		super(false);
+		this.concurrent = concurrent;
+		setOutputFile("ImplWaveletTransformInner" + (concurrent ? "_MT" : ""));
 	}
 
 	@Override
@@ -55,6 +58,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 	private void printPreamble() {
 
 		out.print("import boofcv.alg.transform.wavelet.UtilWavelet;\n" +
+				(concurrent ? "import boofcv.concurrency.BoofConcurrency;\n" : "") +
 				"import boofcv.struct.image.*;\n" +
 				"import boofcv.struct.wavelet.WlCoef_F32;\n" +
 				"import boofcv.struct.wavelet.WlCoef_I32;\n" +
@@ -65,6 +69,13 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				" * Standard algorithm for forward and inverse wavelet transform which has been optimized to only\n" +
 				" * process the inner portion of the image by excluding the border.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" *\n" +
+				" * <p>\n" +
+				" * Concurrent implementation. Forward passes are split into rows, or pairs of rows for the vertical pass.\n" +
+				" * Inverse passes are split into blocks of rows (horizontal) or columns (vertical), each with its own workspace.\n" +
+				" * Results are identical to {@link ImplWaveletTransformInner}.\n" +
+				" * </p>\n" : "") +
 				" *\n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by {@link GenerateImplWaveletTransformInner}\n" +
@@ -73,7 +84,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				" * @author Peter Abeles\n" +
 				" */\n" +
 				"@SuppressWarnings({\"ForLoopReplaceableByForEach\"})\n" +
-				"public class ImplWaveletTransformInner {\n\n");
+				"public class "+className+" {\n\n");
 	}
 
 	private void printFuncs( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
@@ -117,7 +128,9 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int startX = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;\n" +
 				"\n" +
-				"\t\tfor( int y = 0; y < height; y++ ) {\n" +
+				(concurrent ?
+				"\t\tBoofConcurrency.loopFor(0, height, y -> {\n" :
+				"\t\tfor( int y = 0; y < height; y++ ) {\n") +
 				"\n" +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y + startX;\n" +
 				"\t\t\tint indexOut = output.startIndex + output.stride*y + startX/2;\n" +
@@ -145,7 +158,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 		out.print("\t\t\t\tdataOut[ indexOut+widthD2] = "+outputCast+"wavelet;\n" +
 				"\t\t\t\tdataOut[ indexOut++ ] = "+outputCast+"scale;\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "\t\t}\n") +
 				"\t}\n\n");
 	}
 
@@ -166,7 +179,10 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int startY = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);\n" +
 				"\n" +
-				"\t\tfor( int y = startY; y < endY; y += 2 ) {\n" +
+				(concurrent ?
+				"\t\tBoofConcurrency.loopFor(0, (endY-startY+1)/2, pair -> {\n" +
+				"\t\t\tint y = startY + 2*pair;\n" :
+				"\t\tfor( int y = startY; y < endY; y += 2 ) {\n") +
 				"\n" +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y;\n" +
 				"\t\t\tint indexOut = output.startIndex + output.stride*(y/2);\n" +
@@ -195,7 +211,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\t\t\tdataOut[indexOut++] = "+outputCast+"scale;\n" +
 				"\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				(concurrent ? "\t\t});\n" : "\t\t}\n") +
 				"\t}\n\n");
 	}
 
@@ -206,25 +222,23 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int offsetB = coefficients.offsetWavelet;\n" +
 				"\t\tfinal "+sumType+"[] alpha = coefficients.scaling;\n" +
 				"\t\tfinal "+sumType+"[] beta = coefficients.wavelet;\n" +
-				"\n" +
+				"\n");
+
+		String workspace =
 				"\t\t"+sumType+" []trends = new "+sumType+"[ output.width ];\n" +
-				"\t\t"+sumType+" []details = new "+sumType+"[ output.width ];\n" +
-				"\n" +
-				"\t\tfinal int width = input.width;\n" +
+				"\t\t"+sumType+" []details = new "+sumType+"[ output.width ];\n";
+		if( !concurrent )
+			out.print(workspace+"\n");
+
+		out.print("\t\tfinal int width = input.width;\n" +
 				"\t\tfinal int height = output.height;\n" +
 				"\t\tfinal int widthD2 = width/2;\n" +
 				"\t\tfinal int lowerBorder = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int upperBorder = output.width - UtilWavelet.borderForwardUpper(coefficients,output.width);" +
 				"\n");
-		if( imageIn.isInteger() ) {
-			out.print("\t\tfinal int e = coefficients.denominatorScaling*2;\n" +
-					"\t\tfinal int f = coefficients.denominatorWavelet*2;\n" +
-					"\t\tfinal int ef = e*f;\n" +
-					"\t\tfinal int ef2 = ef/2;\n" +
-					"\n");
-		}
+		printIntegerDenominators();
 
-		out.print("\t\tfor( int y = 0; y < height; y++ ) {\n" +
+		String loop = "\t\tfor( int y = "+(concurrent ? "y0; y < y1" : "0; y < height")+"; y++ ) {\n" +
 				"\n" +
 				"\t\t\t// initialize details and trends arrays\n" +
 				"\t\t\tint indexSrc = input.startIndex + y*input.stride+lowerBorder/2;\n" +
@@ -264,17 +278,18 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\t\t}\n" +
 				"\n" +
 				"\t\t\tint indexDst = output.startIndex + y*output.stride + lowerBorder;\n" +
-				"\t\t\tfor( int x = lowerBorder; x < upperBorder; x++ ) {\n");
+				"\t\t\tfor( int x = lowerBorder; x < upperBorder; x++ ) {\n";
 
 		if( imageIn.isInteger() ) {
-			out.print("\t\t\t\toutput.data[ indexDst++ ] = "+outputCast+"UtilWavelet.round(trends[x]*f + details[x]*e , ef2,ef);\n" );
+			loop += "\t\t\t\toutput.data[ indexDst++ ] = "+outputCast+"UtilWavelet.round(trends[x]*f + details[x]*e , ef2,ef);\n";
 		} else {
-			out.print("\t\t\t\toutput.data[ indexDst++ ] = "+outputCast+"(trends[x] + details[x]);\n" );
+			loop += "\t\t\t\toutput.data[ indexDst++ ] = "+outputCast+"(trends[x] + details[x]);\n";
 		}
 
-		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		loop += "\t\t\t}\n" +
+				"\t\t}\n";
+
+		printLoop("height","y",workspace,loop);
 	}
 
 	private void printVerticalInverse() {
@@ -284,25 +299,23 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int offsetB = coefficients.offsetWavelet;\n" +
 				"\t\tfinal "+sumType+"[] alpha = coefficients.scaling;\n" +
 				"\t\tfinal "+sumType+"[] beta = coefficients.wavelet;\n" +
-				"\n" +
+				"\n");
+
+		String workspace =
 				"\t\t"+sumType+" []trends = new "+sumType+"[ output.height ];\n" +
-				"\t\t"+sumType+" []details = new "+sumType+"[ output.height ];\n" +
-				"\n" +
-				"\t\tfinal int width = output.width;\n" +
+				"\t\t"+sumType+" []details = new "+sumType+"[ output.height ];\n";
+		if( !concurrent )
+			out.print(workspace+"\n");
+
+		out.print("\t\tfinal int width = output.width;\n" +
 				"\t\tfinal int height = input.height;\n" +
 				"\t\tfinal int heightD2 = (height/2)*input.stride;\n" +
 				"\t\tfinal int lowerBorder = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int upperBorder = output.height - UtilWavelet.borderForwardUpper(coefficients,output.height);" +
 				"\n");
+		printIntegerDenominators();
 
-		if( imageIn.isInteger() ) {
-			out.print("\t\tfinal int e = coefficients.denominatorScaling*2;\n" +
-					"\t\tfinal int f = coefficients.denominatorWavelet*2;\n" +
-					"\t\tfinal int ef = e*f;\n" +
-					"\t\tfinal int ef2 = ef/2;\n" +
-					"\n");
-		}
-		out.print("\t\tfor( int x = 0; x < width; x++) {\n" +
+		String loop = "\t\tfor( int x = "+(concurrent ? "x0; x < x1" : "0; x < width")+"; x++) {\n" +
 				"\n" +
 				"\t\t\tint indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;\n" +
 				"\t\t\tfor( int y = lowerBorder; y < upperBorder; y += 2 , indexSrc += input.stride ) {\n" +
@@ -342,19 +355,51 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\t\t}\n" +
 				"\n" +
 				"\t\t\tint indexDst = output.startIndex + x + lowerBorder*output.stride;\n" +
-				"\t\t\tfor( int y = lowerBorder; y < upperBorder; y++ , indexDst += output.stride ) {\n");
+				"\t\t\tfor( int y = lowerBorder; y < upperBorder; y++ , indexDst += output.stride ) {\n";
 		if( imageIn.isInteger() ) {
-			out.print("\t\t\t\toutput.data[ indexDst ] = "+outputCast+"UtilWavelet.round(trends[y]*f + details[y]*e , ef2 , ef);\n" );
+			loop += "\t\t\t\toutput.data[ indexDst ] = "+outputCast+"UtilWavelet.round(trends[y]*f + details[y]*e , ef2 , ef);\n";
 		} else {
-			out.print("\t\t\t\toutput.data[ indexDst ] = "+outputCast+"(trends[y] + details[y]);\n" );
+			loop += "\t\t\t\toutput.data[ indexDst ] = "+outputCast+"(trends[y] + details[y]);\n";
 		}
-		out.print("\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+		loop += "\t\t\t}\n" +
+				"\t\t}\n";
+
+		printLoop("width","x",workspace,loop);
+	}
+
+	private void printIntegerDenominators() {
+		if( imageIn.isInteger() ) {
+			out.print("\t\tfinal int e = coefficients.denominatorScaling*2;\n" +
+					"\t\tfinal int f = coefficients.denominatorWavelet*2;\n" +
+					"\t\tfinal int ef = e*f;\n" +
+					"\t\tfinal int ef2 = ef/2;\n" +
+					"\n");
+		}
+	}
+
+	/**
+	 * Prints the loop used by the inverse transforms. The concurrent version splits the loop into blocks and
+	 * declares the workspace inside of each block.
+	 */
+	private void printLoop( String length , String var , String workspace , String loop ) {
+		if( concurrent ) {
+			out.print("\t\tBoofConcurrency.loopBlocks(0, "+length+", ("+var+"0,"+var+"1) -> {\n" +
+					indent(workspace) +
+					"\n" +
+					indent(loop) +
+					"\t\t});\n");
+		} else {
+			out.print(loop);
+		}
+		out.print("\t}\n\n");
+	}
+
+	private static String indent( String text ) {
+		return text.replaceAll("(?m)^(?=.)","\t");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
-		GenerateImplWaveletTransformInner app = new GenerateImplWaveletTransformInner();
-		app.generate();
+		new GenerateImplWaveletTransformInner(false).generate();
+		new GenerateImplWaveletTransformInner(true).generate();
 	}
 }
@@ -55,6 +55,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 	private void printPreamble() {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.core.image.impl.ImplConvertImage;\n" +
+				"import boofcv.core.image.impl.ImplConvertImage_MT;\n" +
 				"import boofcv.core.image.impl.ImplConvertMsToSingle;\n" +
 				"import boofcv.core.image.impl.ConvertInterleavedToSingle;\n" +
 				"import boofcv.struct.image.*;\n" +
@@ -95,7 +96,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -119,7 +124,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -194,7 +203,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -218,7 +231,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -29,10 +29,18 @@ import java.io.FileNotFoundException;
  */
 public class GenerateImplConvertImage extends CodeGeneratorBase {
 
-	String className = "ImplConvertImage";
+	// if true the rows are processed concurrently using BoofConcurrency
+	boolean concurrent;
 
-	public GenerateImplConvertImage() throws FileNotFoundException {
-		setOutputFile(className);
+	public GenerateImplConvertImage() {
+		super(false);
+	}
+
+	public void generate( boolean concurrent ) throws FileNotFoundException {
+		this.concurrent = concurrent;
+		className = null;
+		setOutputFile("ImplConvertImage"+(concurrent?"_MT":""));
+		generate();
 	}
 
 	@Override
@@ -55,6 +63,8 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() {
+		if( concurrent )
+			out.print("import boofcv.concurrency.BoofConcurrency;\n");
 		out.print("import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
@@ -62,6 +72,11 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				" * Functions for converting between different primitive image types. Numerical values do not change or are closely approximated\n" +
 				" * in these functions.  \n" +
 				" * </p>\n" +
+				(concurrent ?
+				" *\n" +
+				" * <p>\n" +
+				" * Concurrent implementation. Rows are processed in parallel using {@link BoofConcurrency}.\n" +
+				" * </p>\n" : "") +
 				" *\n" +
 				" * <p>\n" +
 				" * DO NOT MODIFY: This class was automatically generated by "+getClass().getSimpleName()+"\n" +
@@ -91,26 +106,20 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\n" +
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				forLoop("\t\t\t","y","0","from.height") +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
 				"\t\t\t\tfor (int x = 0; x < from.width; x++) {\n" +
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				forLoopEnd("\t\t\t") +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height;\n" +
 				"\n");
 
-		if( sameTypes ) {
-			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
-		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
-		}
+		printConvertFlat(typeCast, bitWise, sameTypes);
 		out.print("\t\t}\n" +
 				"\t}\n\n");
 	}
@@ -134,26 +143,20 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\t\t\tfinal int N = from.width * from.getNumBands();\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				forLoop("\t\t\t","y","0","from.height") +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
 				"\n" +
 				"\t\t\t\tfor (int x = 0; x < N; x++) {\n" +
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				forLoopEnd("\t\t\t") +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height * from.getNumBands();\n" +
 				"\n");
 
-		if( sameTypes ) {
-			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
-		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
-					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
-		}
+		printConvertFlat(typeCast, bitWise, sameTypes);
 		out.print("\t\t}\n" +
 				"\t}\n\n");
 	}
@@ -166,7 +169,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\tpublic static void convert( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				forLoop("\t\t","y","0","input.height") +
 				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
 				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
 				"\t\t\t\n" +
@@ -175,7 +178,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\t\t\t\toutput.bands[i].data[indexDst] = input.data[indexSrc++];\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd("\t\t") +
 				"\t}\n\n");
 	}
 
@@ -187,7 +190,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\tpublic static void convert( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.getNumBands();\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				forLoop("\t\t","y","0","input.height") +
 				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
 				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
 				"\n" +
@@ -196,13 +199,49 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\t\t\t\toutput.data[indexDst++] = input.bands[i].data[indexSrc];\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t}\n" +
+				forLoopEnd("\t\t") +
 				"\t}\n\n");
 	}
 
+	/**
+	 * Converts images which are not sub-images by treating them as a single continuous array.  The concurrent
+	 * version splits the array into blocks which are at least one row wide.
+	 */
+	private void printConvertFlat( String typeCast , String bitWise , boolean sameTypes ) {
+		if( concurrent ) {
+			out.print("\t\t\tBoofConcurrency.loopBlocks(0, N, from.width, (idx0,idx1) -> {\n");
+			if( sameTypes ) {
+				out.print("\t\t\t\tSystem.arraycopy(from.data, idx0, to.data, idx0, idx1-idx0);\n");
+			} else {
+				out.print("\t\t\t\tfor (int i = idx0; i < idx1; i++) {\n" +
+						"\t\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+						"\t\t\t\t}\n");
+			}
+			out.print("\t\t\t});\n");
+		} else if( sameTypes ) {
+			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
+		} else {
+			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
+					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
+					"\t\t\t}\n");
+		}
+	}
+
+	private String forLoop( String indent , String var , String start , String end ) {
+		if( concurrent )
+			return indent+"BoofConcurrency.loopFor("+start+", "+end+", "+var+" -> {\n";
+		else
+			return indent+"for (int "+var+" = "+start+"; "+var+" < "+end+"; "+var+"++) {\n";
+	}
+
+	private String forLoopEnd( String indent ) {
+		return indent + (concurrent ? "});\n" : "}\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplConvertImage app = new GenerateImplConvertImage();
 
-		app.generate();
+		app.generate(false);
+		app.generate(true);
 	}
 }
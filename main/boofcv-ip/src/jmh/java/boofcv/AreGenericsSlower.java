@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,13 +19,12 @@
 package boofcv;
 
 import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
  * <P>
@@ -39,38 +38,39 @@ import java.util.Random;
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
 public class AreGenericsSlower {
-
-	static Random rand = new Random(234);
-
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
-
-	GrayF32 image = new GrayF32(width,height);
+	@Param({"500","2000"})
+	public int size;
 
 	static int r = 2;
 
-	public class RawAlg extends PerformerBase
-	{
-		RawType alg = new RawType();
+	GrayF32 image;
 
-		@Override
-		public void process() {
-			alg.setImage(image);
-			alg.process();
-		}
+	RawType raw = new RawType();
+	Derived derived = new Derived();
+
+	@Setup
+	public void setup() {
+		image = new GrayF32(size,size);
+		ImageMiscOps.fillUniform(image,new Random(234),0,100);
 	}
 
-	public class GenericsAlg extends PerformerBase
-	{
-		Derived alg = new Derived();
+	@Benchmark
+	public float raw() {
+		raw.setImage(image);
+		return raw.process();
+	}
 
-		@Override
-		public void process() {
-			alg.setImage(image);
-			alg.process();
-		}
+	@Benchmark
+	public float generics() {
+		derived.setImage(image);
+		return derived.process();
 	}
 
 	private static class RawType
@@ -139,21 +139,4 @@ public class AreGenericsSlower {
 
 		public abstract float process();
 	}
-
-	public void performTest() {
-		ImageMiscOps.fillUniform(image,rand,0,100);
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new RawAlg(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new GenericsAlg(), TEST_TIME);
-	}
-
-	public static void main( String args[] ) {
-		AreGenericsSlower alg = new AreGenericsSlower();
-
-		alg.performTest();
-	}
-
 }
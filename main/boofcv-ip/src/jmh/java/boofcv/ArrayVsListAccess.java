@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv;
+
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark to see how much faster it is to work with raw arrays than using the list interface
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class ArrayVsListAccess {
+	@Param({"5000"})
+	public int N;
+
+	List<Double> list = new ArrayList<>();
+	Double array[];
+	FastQueue<Double> queue = new FastQueue<>(100, Double.class, false);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(2342);
+
+		list.clear();
+		queue.reset();
+		array = new Double[N];
+		for( int i = 0; i < N; i++ ) {
+			Double d = rand.nextDouble()*100;
+			list.add(d);
+			array[i] = d;
+			queue.add(d);
+		}
+	}
+
+	@Benchmark
+	public int list() {
+		int ret = 0;
+		for( int i = 0; i < N; i++ ) {
+			double a = list.get(i);
+			for( int j = 0; j < N; j++ ) {
+				if( list.get(j) < a ) {
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public int array() {
+		int ret = 0;
+		for( int i = 0; i < N; i++ ) {
+			double a = array[i];
+			for( int j = 0; j < N; j++ ) {
+				if( array[j] < a ) {
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public int fastQueue() {
+		int ret = 0;
+		for( int i = 0; i < N; i++ ) {
+			double a = queue.get(i);
+			for( int j = 0; j < N; j++ ) {
+				if( queue.get(j) < a ) {
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public int fastQueueRaw() {
+		int ret = 0;
+		for( int i = 0; i < N; i++ ) {
+			double a = queue.data[i];
+			for( int j = 0; j < N; j++ ) {
+				if( queue.data[j] < a ) {
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+}
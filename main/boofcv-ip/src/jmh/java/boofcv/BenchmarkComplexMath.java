@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv;
+
+import org.ejml.data.Complex_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares complex multiplication when the numbers are stored as objects against an interleaved array.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkComplexMath {
+	@Param({"20000"})
+	public int N;
+
+	Complex_F64 number = new Complex_F64(1.5,0.3);
+
+	Complex_F64 objectInput[];
+	Complex_F64 objectOutput[];
+
+	double arrayInput[];
+	double arrayOutput[];
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		objectInput = new Complex_F64[N];
+		objectOutput = new Complex_F64[N];
+		arrayInput = new double[2*N];
+		arrayOutput = new double[2*N];
+
+		for( int i = 0; i < N; i++ ) {
+			objectInput[i] = new Complex_F64(rand.nextGaussian(),rand.nextGaussian());
+			objectOutput[i] = new Complex_F64();
+			arrayInput[i*2] = objectInput[i].real;
+			arrayInput[i*2+1] = objectInput[i].imaginary;
+		}
+	}
+
+	@Benchmark
+	public void object() {
+		Complex_F64 a = number;
+
+		for( int i = 0; i < N; i++ ) {
+			Complex_F64 b = objectInput[i];
+			Complex_F64 o = objectOutput[i];
+
+			o.real = a.real * b.real - a.imaginary*b.imaginary;
+			o.imaginary = a.real*b.imaginary + a.imaginary*b.real;
+		}
+	}
+
+	@Benchmark
+	public void array() {
+		double ar = number.real;
+		double ai = number.imaginary;
+
+		for( int i = 0; i < N; i++ ) {
+			int index = i*2;
+			double br = arrayInput[index];
+			double bi = arrayInput[index+1];
+
+			arrayOutput[index] = ar*br - ai*bi;
+			arrayOutput[index+1] = ar*bi + ai*br;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for different convolution operations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolve {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","S16","F32"})
+	public String imageType;
+
+	@Param({"1","5"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray output;
+	ImageGray outputNorm;
+
+	Kernel1D kernel1D;
+	Kernel2D kernel2D;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		// integer images are convolved into a 16-bit image so that the sum doesn't overflow
+		ImageDataType outputType = dataType.isInteger() ? ImageDataType.S16 : dataType;
+		output = GeneralizedImageOps.createSingleBand(outputType, size, size);
+		outputNorm = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		kernel1D = FactoryKernelGaussian.gaussian(1, !dataType.isInteger(), 32, -1, radius);
+		kernel2D = FactoryKernelGaussian.gaussian(2, !dataType.isInteger(), 32, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal() {
+		GConvolveImageOps.horizontal(kernel1D, input, output);
+	}
+
+	@Benchmark
+	public void vertical() {
+		GConvolveImageOps.vertical(kernel1D, input, output);
+	}
+
+	@Benchmark
+	public void convolve2D() {
+		GConvolveImageOps.convolve(kernel2D, input, output);
+	}
+
+	@Benchmark
+	public void horizontalNormalized() {
+		GConvolveImageOps.horizontalNormalized(kernel1D, input, outputNorm);
+	}
+
+	@Benchmark
+	public void verticalNormalized() {
+		GConvolveImageOps.verticalNormalized(kernel1D, input, outputNorm);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of convolving through {@link FilterImageInterface} instead of calling
+ * {@link ConvolveImageNoBorder} directly, with and without creating the filter each time.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveAbstracted {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","5"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayU8 input;
+	GrayS16 output;
+
+	Kernel1D_S32 kernel;
+	FilterImageInterface<GrayU8,GrayS16> filter;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = new GrayU8(size,size);
+		output = new GrayS16(size,size);
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		kernel = FactoryKernel.table1D_I32(radius);
+		filter = createFilter();
+	}
+
+	private FilterImageInterface<GrayU8,GrayS16> createFilter() {
+		return FactoryConvolve.convolve(kernel,
+				ImageType.single(GrayU8.class),ImageType.single(GrayS16.class), BorderType.SKIP,false);
+	}
+
+	@Benchmark
+	public void direct() {
+		ConvolveImageNoBorder.vertical(kernel,input,output);
+	}
+
+	@Benchmark
+	public void abstracted() {
+		filter.process(input,output);
+	}
+
+	@Benchmark
+	public void abstractedCreate() {
+		createFilter().process(input,output);
+	}
+}
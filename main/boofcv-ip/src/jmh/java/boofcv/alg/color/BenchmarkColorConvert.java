@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting between color spaces
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkColorConvert {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","4"})
+	public int threads;
+
+	Planar<GrayF32> src;
+	Planar<GrayF32> dst;
+	Planar<GrayU8> srcU8;
+	InterleavedU8 srcInterleaved;
+	GrayF32 gray;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		src = new Planar<>(GrayF32.class, size, size, 3);
+		dst = new Planar<>(GrayF32.class, size, size, 3);
+		srcU8 = new Planar<>(GrayU8.class, size, size, 3);
+		srcInterleaved = new InterleavedU8(size, size, 3);
+		gray = new GrayF32(size, size);
+		GImageMiscOps.fillUniform(src, new Random(234), 0, 255);
+		GImageMiscOps.fillUniform(srcInterleaved, new Random(234), 0, 256);
+		ConvertImage.convert(srcInterleaved, srcU8);
+	}
+
+	@Benchmark
+	public void rgbToHsv_F32() {
+		ColorHsv.rgbToHsv_F32(src, dst);
+	}
+
+	@Benchmark
+	public void hsvToRgb_F32() {
+		ColorHsv.hsvToRgb_F32(src, dst);
+	}
+
+	@Benchmark
+	public void rgbToYuv_F32() {
+		ColorYuv.rgbToYuv_F32(src, dst);
+	}
+
+	@Benchmark
+	public void yuvToRgb_F32() {
+		ColorYuv.yuvToRgb_F32(src, dst);
+	}
+
+	@Benchmark
+	public void rgbToLab_F32() {
+		ColorLab.rgbToLab_F32(src, dst);
+	}
+
+	@Benchmark
+	public void rgbToLab_U8() {
+		ColorLab.rgbToLab_U8(srcU8, dst);
+	}
+
+	@Benchmark
+	public void rgbToLab_InterleavedU8() {
+		ColorLab.rgbToLab(srcInterleaved, dst);
+	}
+
+	/**
+	 * The path which had to be used before the fused interleaved conversion was added
+	 */
+	@Benchmark
+	public void rgbToLab_InterleavedU8_TwoStep() {
+		ConvertImage.convert(srcInterleaved, srcU8);
+		ColorLab.rgbToLab_U8(srcU8, dst);
+	}
+
+	@Benchmark
+	public void rgbToXyz_F32() {
+		ColorXyz.rgbToXyz_F32(src, dst);
+	}
+
+	@Benchmark
+	public void rgbToHsv_InterleavedU8() {
+		ColorHsv.rgbToHsv(srcInterleaved, dst);
+	}
+
+	@Benchmark
+	public void rgbToYuv_InterleavedU8() {
+		ColorYuv.rgbToYuv(srcInterleaved, dst);
+	}
+
+	@Benchmark
+	public void rgbToGray_Weighted_F32() {
+		ColorRgb.rgbToGray_Weighted_F32(src, gray);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.denoise;
+
+import boofcv.abst.denoise.FactoryImageDenoise;
+import boofcv.abst.denoise.WaveletDenoiseFilter;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for removing noise from an image with {@link WaveletDenoiseFilter}, which includes the forward
+ * transform, shrinkage, and inverse transform. The same filter is used for every call, the same way a video
+ * sequence would be processed.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDenoiseWavelet {
+	@Param({"640x480","3840x2160"})
+	public String size;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayF32 input, output;
+
+	WaveletDenoiseFilter<GrayF32> visu, bayes, sure;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		String[] dimension = size.split("x");
+		input = new GrayF32(Integer.parseInt(dimension[0]),Integer.parseInt(dimension[1]));
+		output = input.createSameShape();
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+
+		visu = FactoryImageDenoise.waveletVisu(GrayF32.class, 3, 0, 255);
+		bayes = FactoryImageDenoise.waveletBayes(GrayF32.class, 3, 0, 255);
+		sure = FactoryImageDenoise.waveletSure(GrayF32.class, 3, 0, 255);
+	}
+
+	@Benchmark
+	public void visu() {
+		visu.process(input,output);
+	}
+
+	@Benchmark
+	public void bayes() {
+		bayes.process(input,output);
+	}
+
+	@Benchmark
+	public void sure() {
+		sure.process(input,output);
+	}
+}
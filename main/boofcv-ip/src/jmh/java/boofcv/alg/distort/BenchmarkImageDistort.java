@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for applying a homography to an image using {@link ImageDistort}. The remap benchmark always
+ * uses U8 images and a {@link RemapTable}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageDistort {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"false","true"})
+	public boolean cached;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray output;
+
+	ImageDistort alg;
+
+	GrayU8 inputU8, outputU8;
+	ImageDistort<GrayU8,GrayU8> remap;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		// rotate the image around its center and scale it slightly
+		float c = (float)(1.1*Math.cos(0.2)), s = (float)(1.1*Math.sin(0.2));
+		float tx = size/2 - c*size/2 + s*size/2;
+		float ty = size/2 - s*size/2 - c*size/2;
+		Homography2D_F32 H = new Homography2D_F32(c,-s,tx, s,c,ty, 0,0,1);
+
+		InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(input.getClass(), BorderType.EXTENDED);
+		alg = FactoryDistort.distortSB(cached, interp, input.getClass());
+		alg.setModel(new PixelTransformHomography_F32(H));
+
+		inputU8 = new GrayU8(size,size);
+		outputU8 = new GrayU8(size,size);
+		GImageMiscOps.fillUniform(inputU8, new Random(234), 0, 100);
+		remap = FactoryDistort.distortRemapU8(InterpolationType.BILINEAR, BorderType.EXTENDED,
+				ImageType.single(GrayU8.class));
+		remap.setModel(new PixelTransformHomography_F32(H));
+		// compute the table outside of the benchmark
+		remap.apply(inputU8, outputU8);
+	}
+
+	@Benchmark
+	public void apply() {
+		alg.apply(input, output);
+	}
+
+	@Benchmark
+	public void applyCrop() {
+		alg.apply(input, output, size/4, size/4, 3*size/4, 3*size/4);
+	}
+
+	@Benchmark
+	public void applyRemapU8() {
+		remap.apply(inputU8, outputU8);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.distort.PixelTransform2_F64;
+import georegression.struct.affine.Affine2D_F32;
+import georegression.struct.affine.Affine2D_F64;
+import georegression.struct.homography.Homography2D_F32;
+import georegression.struct.homography.Homography2D_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares computing a pixel transform one pixel at a time against a row at a time.  There is no F64
+ * pixel homography so in that case it's invoked through {@link PointToPixelTransform_F64}.  The transforms
+ * are not concurrent so there is no thread parameter.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPixelTransform {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"F32","F64"})
+	public String type;
+
+	@Param({"affine","homography","pointHomography"})
+	public String transform;
+
+	PixelTransform2_F32 alg32;
+	PixelTransform2_F64 alg64;
+
+	float row32[];
+	double row64[];
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		double a[] = new double[9];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = rand.nextGaussian();
+		}
+
+		row32 = new float[size*2];
+		row64 = new double[size*2];
+
+		if( type.equals("F32") ) {
+			Homography2D_F32 H = new Homography2D_F32((float)a[0],(float)a[1],(float)a[2],(float)a[3],
+					(float)a[4],(float)a[5],(float)a[6],(float)a[7],(float)a[8]);
+			switch( transform ) {
+				case "affine": alg32 = new PixelTransformAffine_F32(new Affine2D_F32(
+						(float)a[0],(float)a[1],(float)a[2],(float)a[3],(float)a[4],(float)a[5])); break;
+				case "homography": alg32 = new PixelTransformHomography_F32(H); break;
+				case "pointHomography": alg32 = new PointToPixelTransform_F32(new PointTransformHomography_F32(H)); break;
+				default: throw new IllegalArgumentException("Unknown transform "+transform);
+			}
+		} else {
+			Homography2D_F64 H = new Homography2D_F64(a[0],a[1],a[2],a[3],a[4],a[5],a[6],a[7],a[8]);
+			switch( transform ) {
+				case "affine": alg64 = new PixelTransformAffine_F64(new Affine2D_F64(a[0],a[1],a[2],a[3],a[4],a[5])); break;
+				case "homography":
+				case "pointHomography": alg64 = new PointToPixelTransform_F64(new PointTransformHomography_F64(H)); break;
+				default: throw new IllegalArgumentException("Unknown transform "+transform);
+			}
+		}
+	}
+
+	@Benchmark
+	public void perPixel() {
+		if( alg32 != null ) {
+			for (int y = 0; y < size; y++)
+				for (int x = 0; x < size; x++)
+					alg32.compute(x, y);
+		} else {
+			for (int y = 0; y < size; y++)
+				for (int x = 0; x < size; x++)
+					alg64.compute(x, y);
+		}
+	}
+
+	@Benchmark
+	public void perRow() {
+		if( alg32 != null ) {
+			for (int y = 0; y < size; y++)
+				alg32.computeRow(0, y, size, row32);
+		} else {
+			for (int y = 0; y < size; y++)
+				alg64.computeRow(0, y, size, row64);
+		}
+	}
+}
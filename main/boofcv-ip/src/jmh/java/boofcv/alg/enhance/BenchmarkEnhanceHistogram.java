@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance;
+
+import boofcv.alg.enhance.impl.ImplEnhanceClahe;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares local histogram equalization using a sliding window against CLAHE.  U16 images have 14-bit values,
+ * like a thermal camera.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkEnhanceHistogram {
+	@Param({"640","2000"})
+	public int size;
+
+	@Param({"U8","U16"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	/** Radius of the local region.  CLAHE uses tiles of about the same size */
+	public int radius = 50;
+
+	ImageGray input;
+	ImageGray output;
+
+	int histogram[], transform[];
+	ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		int numValues = dataType == ImageDataType.U8 ? 256 : 1 << 14;
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, numValues);
+
+		histogram = new int[numValues];
+		transform = new int[numValues];
+	}
+
+	@Benchmark
+	public void equalizeLocal() {
+		GEnhanceImageOps.equalizeLocal(input, radius, output, histogram, transform);
+	}
+
+	@Benchmark
+	public void equalizeClahe() {
+		int tiles = size/(2*radius + 1);
+		GEnhanceImageOps.equalizeClahe(input, tiles, tiles, 3, output, work);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for labeling connected components in binary images.  With more than one thread the image is labeled in
+ * strips by {@link LinearContourLabelChang2004_MT}, with one thread the original single pass algorithm is used.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBinaryBlobLabeling {
+	@Param({"500","2000","5000"})
+	public int size;
+
+	@Param({"FOUR","EIGHT"})
+	public String rule;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayU8 input;
+	GrayS32 output;
+
+	LinearContourLabelChang2004 contour;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = new GrayU8(size, size);
+		output = new GrayS32(size, size);
+
+		// random noise with an empty border, as required by the contour algorithm
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 2);
+		ImageMiscOps.fillBorder(input, 0, 1);
+
+		contour = new LinearContourLabelChang2004(ConnectRule.valueOf(rule));
+	}
+
+	@Benchmark
+	public void contour() {
+		contour.process(input, output);
+	}
+
+	@Benchmark
+	public void contourList() {
+		BinaryImageOps.contour(input, ConnectRule.valueOf(rule), output);
+	}
+}
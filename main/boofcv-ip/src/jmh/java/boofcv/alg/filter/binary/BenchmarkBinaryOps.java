@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryNaiveOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binary morphological operations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBinaryOps {
+	@Param({"500","2000"})
+	public int size;
+
+	GrayU8 input;
+	GrayU8 output;
+
+	@Setup
+	public void setup() {
+		input = new GrayU8(size, size);
+		output = new GrayU8(size, size);
+
+		Random rand = new Random(234);
+		// test structures and unstructured images
+		// naive is some times faster in unstructured because it can escape earlier
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+//		ImageMiscOps.fillRectangle(input,1,100,200,150,100);
+	}
+
+	@Benchmark
+	public void naiveErode4() {
+		ImplBinaryNaiveOps.erode4(input, output);
+	}
+
+	@Benchmark
+	public void naiveErode8() {
+		ImplBinaryNaiveOps.erode8(input, output);
+	}
+
+	@Benchmark
+	public void naiveDilate4() {
+		ImplBinaryNaiveOps.dilate4(input, output);
+	}
+
+	@Benchmark
+	public void naiveDilate8() {
+		ImplBinaryNaiveOps.dilate8(input, output);
+	}
+
+	@Benchmark
+	public void naiveEdge4() {
+		ImplBinaryNaiveOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void naiveEdge8() {
+		ImplBinaryNaiveOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void naiveRemovePointNoise() {
+		ImplBinaryNaiveOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void innerErode4() {
+		ImplBinaryInnerOps.erode4(input, output);
+	}
+
+	@Benchmark
+	public void innerErode8() {
+		ImplBinaryInnerOps.erode8(input, output);
+	}
+
+	@Benchmark
+	public void innerDilate4() {
+		ImplBinaryInnerOps.dilate4(input, output);
+	}
+
+	@Benchmark
+	public void innerDilate8() {
+		ImplBinaryInnerOps.dilate8(input, output);
+	}
+
+	@Benchmark
+	public void innerEdge4() {
+		ImplBinaryInnerOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void innerEdge8() {
+		ImplBinaryInnerOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void innerRemovePointNoise() {
+		ImplBinaryInnerOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void erode4() {
+		BinaryImageOps.erode4(input, 1, output);
+	}
+
+	@Benchmark
+	public void erode8() {
+		BinaryImageOps.erode8(input, 1, output);
+	}
+
+	@Benchmark
+	public void dilate4() {
+		BinaryImageOps.dilate4(input, 1, output);
+	}
+
+	@Benchmark
+	public void dilate8() {
+		BinaryImageOps.dilate8(input, 1, output);
+	}
+
+	@Benchmark
+	public void edge4() {
+		BinaryImageOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void edge8() {
+		BinaryImageOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void removePointNoise() {
+		BinaryImageOps.removePointNoise(input, output);
+	}
+}
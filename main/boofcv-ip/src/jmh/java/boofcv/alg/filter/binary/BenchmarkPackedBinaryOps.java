@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binary operations on {@link GrayU8} against the same operations on {@link PackedBinaryImage}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPackedBinaryOps {
+	@Param({"500","2000"})
+	public int size;
+
+	GrayU8 gray;
+	GrayU8 binary;
+	GrayU8 binary2;
+	GrayU8 output;
+	GrayS32 labeled;
+
+	PackedBinaryImage packed;
+	PackedBinaryImage packed2;
+	PackedBinaryImage packedOutput;
+
+	LinearContourLabelChang2004 contour = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+		gray = new GrayU8(size, size);
+		binary = new GrayU8(size, size);
+		binary2 = new GrayU8(size, size);
+		output = new GrayU8(size, size);
+		labeled = new GrayS32(size, size);
+
+		ImageMiscOps.fillUniform(gray, rand, 0, 255);
+		ImageMiscOps.fillUniform(binary, rand, 0, 2);
+		ImageMiscOps.fillUniform(binary2, rand, 0, 2);
+
+		packed = PackedBinaryOps.pack(binary, null);
+		packed2 = PackedBinaryOps.pack(binary2, null);
+		packedOutput = new PackedBinaryImage(size, size);
+	}
+
+	@Benchmark
+	public void threshold_U8() {
+		ThresholdImageOps.threshold(gray, output, 100, true);
+	}
+
+	@Benchmark
+	public void threshold_Packed() {
+		ThresholdImageOps.thresholdPacked(gray, packedOutput, 100, true);
+	}
+
+	@Benchmark
+	public void logicAnd_U8() {
+		BinaryImageOps.logicAnd(binary, binary2, output);
+	}
+
+	@Benchmark
+	public void logicAnd_Packed() {
+		PackedBinaryOps.logicAnd(packed, packed2, packedOutput);
+	}
+
+	@Benchmark
+	public void erode8_U8() {
+		BinaryImageOps.erode8(binary, 1, output);
+	}
+
+	@Benchmark
+	public void erode8_Packed() {
+		PackedBinaryOps.erode8(packed, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void dilate4_U8() {
+		BinaryImageOps.dilate4(binary, 1, output);
+	}
+
+	@Benchmark
+	public void dilate4_Packed() {
+		PackedBinaryOps.dilate4(packed, 1, packedOutput);
+	}
+
+	@Benchmark
+	public void removePointNoise_U8() {
+		BinaryImageOps.removePointNoise(binary, output);
+	}
+
+	@Benchmark
+	public void removePointNoise_Packed() {
+		PackedBinaryOps.removePointNoise(packed, packedOutput);
+	}
+
+	@Benchmark
+	public void contour_U8() {
+		contour.process(binary, labeled);
+	}
+
+	@Benchmark
+	public void contour_Packed() {
+		contour.process(packed, labeled);
+	}
+}
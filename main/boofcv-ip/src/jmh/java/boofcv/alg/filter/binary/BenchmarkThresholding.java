@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.abst.filter.binary.InputToBinaryStream;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.binary.ConfigThreshold;
+import boofcv.factory.filter.binary.FactoryThresholdBinary;
+import boofcv.factory.filter.binary.ThresholdType;
+import boofcv.struct.ConfigLength;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for global and local thresholding algorithms
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkThresholding {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ConfigLength region = ConfigLength.fixed(21);
+
+	ImageGray input;
+	GrayU8 output;
+	ImageGray work1;
+	ImageGray work2;
+
+	// number of rows passed in at once to streaming thresholds
+	int streamRows = 16;
+	InputToBinaryStream streamMean;
+	InputToBinaryStream streamOtsu;
+	GrayU8 streamOutput = new GrayU8(1,1);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		work1 = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		work2 = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = new GrayU8(size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+
+		streamMean = FactoryThresholdBinary.thresholdStream(
+				ConfigThreshold.local(ThresholdType.BLOCK_MEAN,region),input.getClass());
+		if( dataType == ImageDataType.U8 ) {
+			streamOtsu = FactoryThresholdBinary.thresholdStream(
+					ConfigThreshold.local(ThresholdType.BLOCK_OTSU, region), input.getClass());
+		}
+	}
+
+	@Benchmark
+	public void global() {
+		GThresholdImageOps.threshold(input, output, 100, true);
+	}
+
+	@Benchmark
+	public void globalOtsu() {
+		GThresholdImageOps.threshold(input, output, GThresholdImageOps.computeOtsu(input, 0, 255), true);
+	}
+
+	@Benchmark
+	public void localMean() {
+		GThresholdImageOps.localMean(input, output, region, 1.0, true, work1, work2);
+	}
+
+	@Benchmark
+	public void localGaussian() {
+		GThresholdImageOps.localGaussian(input, output, region, 1.0, true, work1, work2);
+	}
+
+	@Benchmark
+	public void localSauvola() {
+		GThresholdImageOps.localSauvola(input, output, region, 0.3f, true);
+	}
+
+	@Benchmark
+	public void blockMinMax() {
+		GThresholdImageOps.localBlockMinMax(input, output, region, 1.0, true, 20);
+	}
+
+	@Benchmark
+	public void blockMean() {
+		GThresholdImageOps.localBlockMean(input, output, region, 1.0, true);
+	}
+
+	@Benchmark
+	public void blockOtsu() {
+		GThresholdImageOps.localBlockOtsu(input, output, false, region, 0.5, 1.0, true);
+	}
+
+	@Benchmark
+	public void blockMeanStream() {
+		processStream(streamMean);
+	}
+
+	@Benchmark
+	public void blockOtsuStream() {
+		if( streamOtsu != null )
+			processStream(streamOtsu);
+	}
+
+	/**
+	 * Passes in the image a few rows at a time, like a line-scan camera
+	 */
+	private void processStream( InputToBinaryStream stream ) {
+		stream.reset(size);
+		for (int y = 0; y < size; y += streamRows) {
+			stream.process((ImageGray)input.subimage(0,y,size,Math.min(size,y+streamRows)),streamOutput);
+		}
+		stream.finish(streamOutput);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the different blur filters in {@link BlurImageOps}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBlurImageOps {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"2","10"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray output;
+	ImageGray storage;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		storage = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+	}
+
+	@Benchmark
+	public void mean() {
+		GBlurImageOps.mean(input, output, radius, storage);
+	}
+
+	@Benchmark
+	public void gaussian() {
+		GBlurImageOps.gaussian(input, output, -1, radius, storage);
+	}
+
+	@Benchmark
+	public void median() {
+		GBlurImageOps.median(input, output, radius);
+	}
+}
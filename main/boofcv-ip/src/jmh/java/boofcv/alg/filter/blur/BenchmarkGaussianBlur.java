@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Gaussian blur using a kernel against the recursive approximation as sigma increases.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkGaussianBlur {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"2","5","10","20"})
+	public double sigma;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayU8 inputU8,outputU8,storageU8;
+	GrayF32 inputF32,outputF32,storageF32;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		Random rand = new Random(234);
+		inputU8 = new GrayU8(size,size);
+		outputU8 = new GrayU8(size,size);
+		storageU8 = new GrayU8(size,size);
+		inputF32 = new GrayF32(size,size);
+		outputF32 = new GrayF32(size,size);
+		storageF32 = new GrayF32(size,size);
+
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 256);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 256);
+	}
+
+	@Benchmark
+	public void kernel_U8() {
+		BlurImageOps.gaussian(inputU8, outputU8, sigma, -1, storageU8);
+	}
+
+	@Benchmark
+	public void recursive_U8() {
+		BlurImageOps.gaussianRecursive(inputU8, outputF32, sigma);
+	}
+
+	@Benchmark
+	public void kernel_F32() {
+		BlurImageOps.gaussian(inputF32, outputF32, sigma, -1, storageF32);
+	}
+
+	@Benchmark
+	public void recursive_F32() {
+		BlurImageOps.gaussianRecursive(inputF32, outputF32, sigma);
+	}
+}
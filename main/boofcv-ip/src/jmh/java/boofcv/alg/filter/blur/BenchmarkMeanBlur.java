@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the separable running sum mean filter against the integral image mean filter across a range of
+ * radii.  Used to select {@link BlurImageOps#MEAN_INTEGRAL_RADIUS}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkMeanBlur {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","4","8","16","32","64"})
+	public int radius;
+
+	GrayU8 inputU8,outputU8,storageU8;
+	GrayS32 integralS32;
+
+	GrayF32 inputF32,outputF32,storageF32;
+	GrayF64 integralF64;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234);
+
+		inputU8 = new GrayU8(size,size);
+		outputU8 = new GrayU8(size,size);
+		storageU8 = new GrayU8(size,size);
+		integralS32 = new GrayS32(size,size);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+
+		inputF32 = new GrayF32(size,size);
+		outputF32 = new GrayF32(size,size);
+		storageF32 = new GrayF32(size,size);
+		integralF64 = new GrayF64(size,size);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 255);
+	}
+
+	@Benchmark
+	public void separable_U8() {
+		ConvolveImageMean.horizontal(inputU8, storageU8, radius);
+		ConvolveImageMean.vertical(storageU8, outputU8, radius);
+	}
+
+	@Benchmark
+	public void integral_U8() {
+		BlurImageOps.meanIntegral(inputU8, outputU8, radius, integralS32);
+	}
+
+	@Benchmark
+	public void separable_F32() {
+		ConvolveImageMean.horizontal(inputF32, storageF32, radius);
+		ConvolveImageMean.vertical(storageF32, outputF32, radius);
+	}
+
+	@Benchmark
+	public void integral_F32() {
+		BlurImageOps.meanIntegral(inputF32, outputF32, radius, integralF64);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant_MT;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
+import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sliding histogram median filter against the constant time median filter across a range of
+ * radii.  Used to select {@link BlurImageOps#MEDIAN_CONSTANT_RADIUS}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkMedianBlur {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","4","8","16"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayU8 input,output;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = new GrayU8(size,size);
+		output = new GrayU8(size,size);
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 255);
+	}
+
+	@Benchmark
+	public void histogram() {
+		int w = radius*2 + 1;
+		int offset[] = new int[w*w];
+		ImplMedianHistogramInner.process(input, output, radius, offset, new int[256]);
+		ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+	}
+
+	@Benchmark
+	public void constant() {
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplMedianHistogramConstant_MT.process(input, output, radius);
+		else
+			ImplMedianHistogramConstant.process(input, output, radius);
+	}
+}
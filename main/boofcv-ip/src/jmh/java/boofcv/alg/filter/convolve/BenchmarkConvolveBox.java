@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.noborder.ImplConvolveBox;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for box convolution against the general purpose convolution
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveBox {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","5","10"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	Kernel1D_S32 kernelI32;
+	Kernel1D_F32 kernelF32;
+	GrayF32 input_F32;
+	GrayF32 out_F32;
+	GrayF32 storageF32;
+	GrayU8 input_I8;
+	GrayS16 input_I16;
+	GrayS16 out_I16;
+	GrayS32 out_I32;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		Random rand = new Random(234);
+
+		input_F32 = new GrayF32(size,size);
+		out_F32 = new GrayF32(size,size);
+		storageF32 = new GrayF32(size,size);
+		input_I8 = new GrayU8(size,size);
+		input_I16 = new GrayS16(size,size);
+		out_I16 = new GrayS16(size,size);
+		out_I32 = new GrayS32(size,size);
+
+		ImageMiscOps.fillUniform(input_I8,rand,0,20);
+		ImageMiscOps.fillUniform(input_I16,rand,0,20);
+		ImageMiscOps.fillUniform(input_F32,rand,0,20);
+
+		kernelF32 = FactoryKernel.table1D_F32(radius,false);
+		kernelI32 = FactoryKernel.table1D_I32(radius);
+	}
+
+	@Benchmark
+	public void convolve_Vertical_I8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I16);
+	}
+
+	@Benchmark
+	public void convolve_Vertical_I8_I32() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I32);
+	}
+
+	@Benchmark
+	public void box_U8_I16_Vertical() {
+		ImplConvolveBox.vertical(input_I8,out_I16,radius);
+	}
+
+	@Benchmark
+	public void box_U8_I32_Vertical() {
+		ImplConvolveBox.vertical(input_I8,out_I32,radius);
+	}
+
+	@Benchmark
+	public void box_S16_I16_Vertical() {
+		ImplConvolveBox.vertical(input_I16,out_I16,radius);
+	}
+
+	@Benchmark
+	public void box_F32_F32_Vertical() {
+		ImplConvolveBox.vertical(input_F32,out_F32,radius);
+	}
+
+	@Benchmark
+	public void boxAlt_F32_F32_Vertical() {
+		ConvolveBoxAlt.vertical(input_F32,out_F32,radius,false);
+	}
+
+	@Benchmark
+	public void box_U8_I16_Horizontal() {
+		ImplConvolveBox.horizontal(input_I8, out_I16, radius);
+	}
+
+	@Benchmark
+	public void box_U8_I32_Horizontal() {
+		ImplConvolveBox.horizontal(input_I8,out_I32,radius);
+	}
+
+	@Benchmark
+	public void box_S16_I16_Horizontal() {
+		ImplConvolveBox.horizontal(input_I16,out_I16,radius);
+	}
+
+	@Benchmark
+	public void box_F32_F32_Horizontal() {
+		ImplConvolveBox.horizontal(input_F32,out_F32,radius);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.down.ConvolveDownNormalizedNaive;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for down sampling convolution which renormalize along the image edges.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveDownNormalized {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","2","5","10"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	@Param({"2"})
+	public int skip;
+
+	Kernel2D_F32 kernel2D_F32;
+	Kernel1D_F32 kernelF32;
+	GrayF32 imgFloat32;
+	GrayF32 out_F32;
+	Kernel1D_S32 kernelI32;
+	Kernel2D_S32 kernel2D_I32;
+	GrayU8 imgInt8;
+	GrayS16 imgInt16;
+	GrayU8 out_I8;
+	GrayS16 out_I16;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		imgInt8 = new GrayU8(size,size);
+		imgInt16 = new GrayS16(size,size);
+		out_I16 = new GrayS16(size,size);
+		out_I8 = new GrayU8(size,size);
+		imgFloat32 = new GrayF32(size,size);
+		out_F32 = new GrayF32(size,size);
+
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(imgInt8,rand, 0, 100);
+		ImageMiscOps.fillUniform(imgInt16,rand,0,200);
+		ImageMiscOps.fillUniform(imgFloat32,rand,0,200);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_S32.class, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal_Naive_F32() {
+		ConvolveDownNormalizedNaive.horizontal(kernelF32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void horizontal_NoBorder_F32() {
+		ConvolveDownNoBorder.horizontal(kernelF32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void horizontal_F32() {
+		ConvolveDownNormalized.horizontal(kernelF32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void vertical_Naive_F32() {
+		ConvolveDownNormalizedNaive.vertical(kernelF32, imgFloat32, out_F32, skip);
+	}
+
+	@Benchmark
+	public void vertical_NoBorder_F32() {
+		ConvolveDownNoBorder.vertical(kernelF32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void vertical_F32() {
+		ConvolveDownNormalized.vertical(kernelF32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void convolve_Naive_F32() {
+		ConvolveDownNormalizedNaive.convolve(kernel2D_F32, imgFloat32, out_F32, skip);
+	}
+
+	@Benchmark
+	public void convolve_NoBorder_F32() {
+		ConvolveDownNoBorder.convolve(kernel2D_F32,imgFloat32,out_F32,skip);
+	}
+
+	@Benchmark
+	public void convolve_F32() {
+		ConvolveDownNormalized.convolve(kernel2D_F32,imgFloat32,out_F32,skip);
+	}
+}
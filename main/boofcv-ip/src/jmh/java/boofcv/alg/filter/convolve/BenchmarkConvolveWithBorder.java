@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.*;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for convolution of single band images with an {@link ImageBorder}.  The "general" benchmarks
+ * convolve the inner image and then the border with {@link ConvolveJustBorder_General_SB}, which is what
+ * {@link ConvolveWithBorder} does when it doesn't use a padded copy.  The small size is typical of the top
+ * of a pyramid or a tracker's template.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveWithBorder {
+	@Param({"32","500","2000"})
+	public int size;
+
+	@Param({"U8","S16","F32"})
+	public String imageType;
+
+	@Param({"1","2","5"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray output;
+	ImageBorder border;
+
+	Kernel1D kernel1D;
+	Kernel2D kernel2D;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		// integer images are convolved into a 16-bit image
+		ImageDataType outputType = dataType.isInteger() ? ImageDataType.S16 : dataType;
+		output = GeneralizedImageOps.createSingleBand(outputType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 20);
+
+		border = FactoryImageBorder.single(input.getClass(), BorderType.EXTENDED);
+
+		kernel1D = FactoryKernelGaussian.gaussian(1, !dataType.isInteger(), 32, -1, radius);
+		kernel2D = FactoryKernelGaussian.gaussian(2, !dataType.isInteger(), 32, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal() {
+		GConvolveImageOps.horizontal(kernel1D, input, output, border);
+	}
+
+	@Benchmark
+	public void vertical() {
+		GConvolveImageOps.vertical(kernel1D, input, output, border);
+	}
+
+	@Benchmark
+	public void convolve2D() {
+		GConvolveImageOps.convolve(kernel2D, input, output, border);
+	}
+
+	@Benchmark
+	public void horizontalGeneral() {
+		border.setImage(input);
+		GConvolveImageOps.horizontal(kernel1D, input, output);
+		if( input instanceof GrayF32 )
+			ConvolveJustBorder_General_SB.horizontal((Kernel1D_F32)kernel1D, (ImageBorder_F32)border, (GrayF32)output);
+		else
+			ConvolveJustBorder_General_SB.horizontal((Kernel1D_S32)kernel1D, (ImageBorder_S32)border, (GrayI16)output);
+	}
+
+	@Benchmark
+	public void verticalGeneral() {
+		border.setImage(input);
+		GConvolveImageOps.vertical(kernel1D, input, output);
+		if( input instanceof GrayF32 )
+			ConvolveJustBorder_General_SB.vertical((Kernel1D_F32)kernel1D, (ImageBorder_F32)border, (GrayF32)output);
+		else
+			ConvolveJustBorder_General_SB.vertical((Kernel1D_S32)kernel1D, (ImageBorder_S32)border, (GrayI16)output);
+	}
+
+	@Benchmark
+	public void convolve2DGeneral() {
+		border.setImage(input);
+		GConvolveImageOps.convolve(kernel2D, input, output);
+		if( input instanceof GrayF32 )
+			ConvolveJustBorder_General_SB.convolve((Kernel2D_F32)kernel2D, (ImageBorder_F32)border, (GrayF32)output);
+		else
+			ConvolveJustBorder_General_SB.convolve((Kernel2D_S32)kernel2D, (ImageBorder_S32)border, (GrayI16)output);
+	}
+}
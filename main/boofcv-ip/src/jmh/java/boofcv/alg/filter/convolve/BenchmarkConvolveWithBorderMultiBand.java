@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for convolution of interleaved and planar images with an {@link ImageBorder}.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvolveWithBorderMultiBand {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"IL","PL"})
+	public String family;
+
+	@Param({"1","5"})
+	public int radius;
+
+	@Param({"1","4"})
+	public int threads;
+
+	// number of bands in each image
+	static final int NUM_BANDS = 2;
+
+	ImageBase input;
+	ImageBase output;
+	ImageBorder border;
+
+	Kernel1D_F32 kernel1D;
+	Kernel2D_F32 kernel2D;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageType imageType = family.equals("IL") ?
+				ImageType.il(NUM_BANDS, InterleavedF32.class) : ImageType.pl(NUM_BANDS, GrayF32.class);
+
+		input = imageType.createImage(size, size);
+		output = imageType.createImage(size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 20);
+
+		border = FactoryImageBorder.generic(BorderType.EXTENDED, imageType);
+
+		kernel1D = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernel2D = FactoryKernelGaussian.gaussian(Kernel2D_F32.class, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal() {
+		GConvolveImageOps.horizontal(kernel1D, input, output, border);
+	}
+
+	@Benchmark
+	public void vertical() {
+		GConvolveImageOps.vertical(kernel1D, input, output, border);
+	}
+
+	@Benchmark
+	public void convolve2D() {
+		GConvolveImageOps.convolve(kernel2D, input, output, border);
+	}
+}
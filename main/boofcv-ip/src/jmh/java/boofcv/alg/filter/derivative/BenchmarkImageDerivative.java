@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.filter.derivative.impl.GradientPrewitt_Shared;
+import boofcv.alg.filter.derivative.impl.GradientThree_Standard;
+import boofcv.alg.filter.derivative.impl.HessianThree_Standard;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the hessian and Laplacian, along with the reference implementations of image derivatives.
+ * See {@link BenchmarkImageGradient} for the gradient.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageDerivative {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray derivX, derivY;
+	ImageGray derivXX, derivYY, derivXY;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		Class derivType = GImageDerivativeOps.getDerivativeType(input.getClass());
+		derivX = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivY = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivXX = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivYY = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivXY = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		// gradient which the hessian is computed from
+		GImageDerivativeOps.gradient(DerivativeType.SOBEL, input, derivX, derivY, BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void hessianThree() {
+		GImageDerivativeOps.hessian(DerivativeType.THREE, input, derivXX, derivYY, derivXY, BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void hessianSobel() {
+		GImageDerivativeOps.hessian(DerivativeType.SOBEL, input, derivXX, derivYY, derivXY, BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void hessianSobelFromGradient() {
+		GImageDerivativeOps.hessian(DerivativeType.SOBEL, derivX, derivY, derivXX, derivYY, derivXY, BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void laplacian() {
+		if( input instanceof GrayU8 )
+			LaplacianEdge.process((GrayU8)input,(GrayS16)derivXX);
+		else
+			LaplacianEdge.process((GrayF32)input,(GrayF32)derivXX);
+	}
+
+	@Benchmark
+	public void gradientThreeStandard() {
+		if( input instanceof GrayU8 )
+			GradientThree_Standard.process((GrayU8)input,(GrayS16)derivXX,(GrayS16)derivYY);
+		else
+			GradientThree_Standard.process((GrayF32)input,(GrayF32)derivXX,(GrayF32)derivYY);
+	}
+
+	@Benchmark
+	public void gradientPrewittShared() {
+		if( input instanceof GrayU8 )
+			GradientPrewitt_Shared.process((GrayU8)input,(GrayS16)derivXX,(GrayS16)derivYY);
+		else
+			GradientPrewitt_Shared.process((GrayF32)input,(GrayF32)derivXX,(GrayF32)derivYY);
+	}
+
+	@Benchmark
+	public void hessianThreeStandard() {
+		if( input instanceof GrayU8 )
+			HessianThree_Standard.process((GrayU8)input,(GrayS16)derivXX,(GrayS16)derivYY,(GrayS16)derivXY);
+		else
+			HessianThree_Standard.process((GrayF32)input,(GrayF32)derivXX,(GrayF32)derivYY,(GrayF32)derivXY);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for computing the image gradient using different operators
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageGradient {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"SOBEL","PREWITT","THREE","TWO_0"})
+	public String operator;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray derivX;
+	ImageGray derivY;
+
+	DerivativeType type;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		type = DerivativeType.valueOf(operator);
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		Class derivType = GImageDerivativeOps.getDerivativeType(input.getClass());
+		derivX = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		derivY = GeneralizedImageOps.createSingleBand(derivType, size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+	}
+
+	@Benchmark
+	public void gradient() {
+		GImageDerivativeOps.gradient(type, input, derivX, derivY, BorderType.EXTENDED);
+	}
+
+	@Benchmark
+	public void gradientSkipBorder() {
+		GImageDerivativeOps.gradient(type, input, derivX, derivY, BorderType.SKIP);
+	}
+}
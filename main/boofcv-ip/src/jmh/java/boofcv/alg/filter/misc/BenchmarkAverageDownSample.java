@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.misc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for down sampling an image by averaging square regions.  "general" always uses the implementation
+ * for an arbitrary square width, even when a specialized one is available.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkAverageDownSample {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"2","3","4"})
+	public int square;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray output;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = GeneralizedImageOps.createSingleBand(dataType, 1, 1);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+		AverageDownSampleOps.reshapeDown(output, size, size, square);
+	}
+
+	@Benchmark
+	public void down() {
+		AverageDownSampleOps.down(input, square, output);
+	}
+
+	@Benchmark
+	public void general() {
+		if( input instanceof GrayU8 )
+			ImplAverageDownSampleN.down((GrayU8)input, square, (GrayU8)output);
+		else
+			ImplAverageDownSampleN.down((GrayF32)input, square, (GrayF32)output);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for interpolating on a per-pixel basis.  Every pixel inside the image, offset by a fraction of a
+ * pixel, is sampled.  Interpolation isn't concurrent so there is no thread parameter.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkInterpolatePixel {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"nearest","bilinear","bicubic","polynomial"})
+	public String interpolation;
+
+	// pixels this close to the border are skipped so that get_fast() can be used
+	static final int BORDER = 5;
+
+	ImageGray image;
+	InterpolatePixelS alg;
+
+	@Setup
+	public void setup() {
+		image = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 200);
+
+		Class type = image.getClass();
+		switch( interpolation ) {
+			case "nearest": alg = FactoryInterpolation.nearestNeighborPixelS(type); break;
+			case "bilinear": alg = FactoryInterpolation.bilinearPixelS(type, BorderType.EXTENDED); break;
+			case "bicubic": alg = FactoryInterpolation.bicubicS(-0.5f, 0, 255, type); break;
+			case "polynomial": alg = FactoryInterpolation.polynomialS(5, 0, 255, type); break;
+			default: throw new IllegalArgumentException("Unknown interpolation "+interpolation);
+		}
+		alg.setImage(image);
+	}
+
+	@Benchmark
+	public float get() {
+		float total = 0;
+		for (float y = BORDER+0.1f; y < size-BORDER; y++)
+			for (float x = BORDER+0.1f; x < size-BORDER; x++)
+				total += alg.get(x, y);
+		return total;
+	}
+
+	@Benchmark
+	public float getFast() {
+		float total = 0;
+		for (float y = BORDER+0.1f; y < size-BORDER; y++)
+			for (float x = BORDER+0.1f; x < size-BORDER; x++)
+				total += alg.get_fast(x, y);
+		return total;
+	}
+}
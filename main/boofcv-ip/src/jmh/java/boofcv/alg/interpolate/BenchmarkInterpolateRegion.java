@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for bilinear interpolation of rectangular regions.  The region is half the width of the image and
+ * starts at a fractional pixel.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkInterpolateRegion {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	ImageGray image;
+	GrayF32 region;
+	InterpolateRectangle alg;
+
+	@Setup
+	public void setup() {
+		image = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 200);
+		region = new GrayF32(size/2,size/2);
+
+		alg = FactoryInterpolation.bilinearRectangle(image.getClass());
+		alg.setImage(image);
+	}
+
+	@Benchmark
+	public void region() {
+		alg.region(10.1f, 10.1f, region);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for functions in {@link ImageStatistics}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImageStatistics {
+	@Param({"1000","5000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray imageA;
+	ImageGray imageB;
+	int histogram[] = new int[256];
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		imageA = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		imageB = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(imageA, rand, 0, 255);
+		GImageMiscOps.fillUniform(imageB, rand, 0, 255);
+	}
+
+	@Benchmark
+	public double max() {
+		return GImageStatistics.max(imageA);
+	}
+
+	@Benchmark
+	public double mean() {
+		return GImageStatistics.mean(imageA);
+	}
+
+	@Benchmark
+	public double variance() {
+		return GImageStatistics.variance(imageA, 120);
+	}
+
+	@Benchmark
+	public double meanDiffSq() {
+		return GImageStatistics.meanDiffSq(imageA, imageB);
+	}
+
+	@Benchmark
+	public int[] histogram() {
+		GImageStatistics.histogram(imageA, 0, histogram);
+		return histogram;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares chained calls to {@link PixelMath} against the same operations evaluated with {@link PixelExpression}.
+ * Both compute output = bound( a*b + 0.5*c - 10 , 0 , 255 ).
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPixelExpression {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","4"})
+	public int threads;
+
+	GrayF32 a, b, c;
+	GrayF32 tmp0, tmp1;
+	GrayF32 outputF32;
+	GrayU8 outputU8;
+
+	PixelExpression expression;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		Random rand = new Random(234);
+		a = new GrayF32(size,size);
+		b = new GrayF32(size,size);
+		c = new GrayF32(size,size);
+		tmp0 = new GrayF32(size,size);
+		tmp1 = new GrayF32(size,size);
+		outputF32 = new GrayF32(size,size);
+		outputU8 = new GrayU8(size,size);
+		GImageMiscOps.fillUniform(a, rand, 0, 20);
+		GImageMiscOps.fillUniform(b, rand, 0, 20);
+		GImageMiscOps.fillUniform(c, rand, 0, 255);
+
+		expression = PixelExpression.image(a).multiply(PixelExpression.image(b)).
+				plus(PixelExpression.image(c).multiply(0.5)).minus(10).boundImage(0,255);
+	}
+
+	@Benchmark
+	public void chained_F32() {
+		PixelMath.multiply(a,b,tmp0);
+		PixelMath.multiply(c,0.5f,tmp1);
+		PixelMath.add(tmp0,tmp1,outputF32);
+		PixelMath.minus(outputF32,10f,outputF32);
+		PixelMath.boundImage(outputF32,0,255);
+	}
+
+	@Benchmark
+	public void fused_F32() {
+		expression.process(outputF32);
+	}
+
+	@Benchmark
+	public void fused_U8() {
+		expression.process(outputU8);
+	}
+}
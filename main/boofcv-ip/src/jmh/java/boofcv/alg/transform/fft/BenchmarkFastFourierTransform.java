@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the forward and inverse discrete Fourier transform. The "general" benchmarks apply
+ * the 2D transforms in {@link GeneralPurposeFFT_F32_2D} to the full complex image, which is how
+ * the transform used to be computed.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkFastFourierTransform {
+	// powers of two and sizes which aren't a power of two are handled very differently
+	@Param({"512","500","2048"})
+	public int size;
+
+	@Param({"F32","F64"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageInterleaved fourier;
+	ImageGray output;
+
+	DiscreteFourierTransform dft;
+
+	GeneralPurposeFFT_F32_2D generalF32;
+	GeneralPurposeFFT_F64_2D generalF64;
+	// work space for the general transforms
+	float[] workF32;
+	double[] workF64;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		input = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		output = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		fourier = GeneralizedImageOps.createInterleaved(dataType, size, size, 2);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		if( dataType == ImageDataType.F32 ) {
+			dft = DiscreteFourierTransformOps.createTransformF32();
+			generalF32 = new GeneralPurposeFFT_F32_2D(size, size);
+			workF32 = new float[size*size*2];
+		} else {
+			dft = DiscreteFourierTransformOps.createTransformF64();
+			generalF64 = new GeneralPurposeFFT_F64_2D(size, size);
+			workF64 = new double[size*size*2];
+		}
+		dft.forward(input, fourier);
+	}
+
+	@Benchmark
+	public void forward() {
+		dft.forward(input, fourier);
+	}
+
+	@Benchmark
+	public void inverse() {
+		dft.inverse(fourier, output);
+	}
+
+	/**
+	 * Creates a new transform each time, like a tracker being initialized. Plans are cached
+	 */
+	@Benchmark
+	public void forwardNewTransform() {
+		if( generalF32 != null )
+			DiscreteFourierTransformOps.createTransformF32().forward((GrayF32)input, (InterleavedF32)fourier);
+		else
+			DiscreteFourierTransformOps.createTransformF64().forward((GrayF64)input, (InterleavedF64)fourier);
+	}
+
+	@Benchmark
+	public void forwardGeneral() {
+		if( generalF32 != null ) {
+			System.arraycopy(((GrayF32)input).data, 0, workF32, 0, size*size);
+			generalF32.realForwardFull(workF32);
+		} else {
+			System.arraycopy(((GrayF64)input).data, 0, workF64, 0, size*size);
+			generalF64.realForwardFull(workF64);
+		}
+	}
+
+	@Benchmark
+	public void inverseGeneral() {
+		if( generalF32 != null ) {
+			System.arraycopy(((InterleavedF32)fourier).data, 0, workF32, 0, size*size*2);
+			generalF32.complexInverse(workF32, true);
+		} else {
+			System.arraycopy(((InterleavedF64)fourier).data, 0, workF64, 0, size*size*2);
+			generalF64.complexInverse(workF64, true);
+		}
+	}
+}
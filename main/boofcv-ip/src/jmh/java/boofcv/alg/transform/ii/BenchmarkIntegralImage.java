@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for computing integral images and convolving kernels across them
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkIntegralImage {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+	ImageGray integral;
+
+	GrayF32 integralF32;
+	GrayF32 output;
+	IntegralKernel kernelXX;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		integral = GeneralizedImageOps.createSingleBand(GIntegralImageOps.getIntegralType(input.getClass()), size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		integralF32 = new GrayF32(size, size);
+		GImageMiscOps.fillUniform(integralF32, new Random(234), 0, 100);
+		IntegralImageOps.transform(integralF32.clone(), integralF32);
+		output = new GrayF32(size, size);
+		kernelXX = DerivativeIntegralImage.kernelDerivXX(9, null);
+	}
+
+	@Benchmark
+	public void transform() {
+		GIntegralImageOps.transform(input, integral);
+	}
+
+	@Benchmark
+	public void convolveDerivXX() {
+		IntegralImageOps.convolve(integralF32, kernelXX, output);
+	}
+
+	@Benchmark
+	public void convolveBorderDerivXX() {
+		IntegralImageOps.convolveBorder(integralF32, kernelXX, output, 4, 4);
+	}
+}
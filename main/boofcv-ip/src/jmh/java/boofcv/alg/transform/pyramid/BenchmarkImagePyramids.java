@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import boofcv.struct.pyramid.PyramidFloat;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows runtime performance difference of each type of image pyramid given similar configurations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkImagePyramids {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","F32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray input;
+
+	PyramidDiscrete discrete;
+	PyramidFloat scaleSpace;
+	PyramidFloat floatScale;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		input = GeneralizedImageOps.createSingleBand(ImageDataType.valueOf(imageType), size, size);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		ImageType type = ImageType.single(input.getClass());
+		discrete = FactoryPyramid.discreteGaussian(new int[]{1,2,4,8},-1,2,true,type);
+		scaleSpace = FactoryPyramid.scaleSpacePyramid(new double[]{1,2,4,8},input.getClass());
+		floatScale = new PyramidFloatScale(FactoryInterpolation.bilinearPixelS(input.getClass(), BorderType.EXTENDED),
+				new double[]{1,1.5,2.25,3.375},input.getClass());
+	}
+
+	@Benchmark
+	public void discrete() {
+		discrete.process(input);
+	}
+
+	@Benchmark
+	public void scaleSpace() {
+		scaleSpace.process(input);
+	}
+
+	@Benchmark
+	public void floatScale() {
+		floatScale.process(input);
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the forward and inverse wavelet transform.  The naive implementation is included as a reference.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkWaveletTransform {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"F32","S32"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	// number of levels in the multi-level transform
+	static final int LEVELS = 3;
+
+	WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
+	WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+
+	// single level transforms.  The image size is even so the transform is the same size as the image
+	GrayF32 orig_F32, temp1_F32, temp2_F32, copy_F32;
+	GrayS32 orig_I32, temp1_I32, temp2_I32, copy_I32;
+	// multi-level transform, a copy of it which is modified, and workspace
+	GrayF32 tranN_F32, workN_F32, storageN_F32;
+	GrayS32 tranN_I32, workN_I32, storageN_I32;
+
+	boolean isFloat;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		isFloat = imageType.equals("F32");
+		Random rand = new Random(234);
+
+		ImageDimension dim = UtilWavelet.transformDimension(size,size,LEVELS);
+
+		orig_F32 = new GrayF32(size,size);
+		temp1_F32 = new GrayF32(size,size);
+		temp2_F32 = new GrayF32(size,size);
+		copy_F32 = new GrayF32(size,size);
+		tranN_F32 = new GrayF32(dim.width,dim.height);
+		workN_F32 = new GrayF32(dim.width,dim.height);
+		storageN_F32 = new GrayF32(dim.width,dim.height);
+		orig_I32 = new GrayS32(size,size);
+		temp1_I32 = new GrayS32(size,size);
+		temp2_I32 = new GrayS32(size,size);
+		copy_I32 = new GrayS32(size,size);
+		tranN_I32 = new GrayS32(dim.width,dim.height);
+		workN_I32 = new GrayS32(dim.width,dim.height);
+		storageN_I32 = new GrayS32(dim.width,dim.height);
+
+		ImageMiscOps.fillUniform(orig_F32, rand, 0, 100);
+		ImageMiscOps.fillUniform(orig_I32, rand, 0, 100);
+
+		// transforms used as input to the multi-level inverse
+		WaveletTransformOps.transformN(desc_F32,orig_F32.clone(),tranN_F32,null,LEVELS);
+		WaveletTransformOps.transformN(desc_I32,orig_I32.clone(),tranN_I32,null,LEVELS);
+	}
+
+	@Benchmark
+	public void naive() {
+		if( isFloat ) {
+			ImplWaveletTransformNaive.horizontal(desc_F32.getBorder(),desc_F32.getForward(),orig_F32,temp1_F32);
+			ImplWaveletTransformNaive.vertical(desc_F32.getBorder(),desc_F32.getForward(),temp1_F32,temp2_F32);
+		} else {
+			ImplWaveletTransformNaive.horizontal(desc_I32.getBorder(),desc_I32.getForward(),orig_I32,temp1_I32);
+			ImplWaveletTransformNaive.vertical(desc_I32.getBorder(),desc_I32.getForward(),temp1_I32,temp2_I32);
+		}
+	}
+
+	@Benchmark
+	public void transform1() {
+		if( isFloat )
+			WaveletTransformOps.transform1(desc_F32,orig_F32,temp1_F32,temp2_F32);
+		else
+			WaveletTransformOps.transform1(desc_I32,orig_I32,temp1_I32,temp2_I32);
+	}
+
+	@Benchmark
+	public void transformN() {
+		// the input image is modified, so transform a copy
+		if( isFloat ) {
+			copy_F32.setTo(orig_F32);
+			WaveletTransformOps.transformN(desc_F32,copy_F32,workN_F32,storageN_F32,LEVELS);
+		} else {
+			copy_I32.setTo(orig_I32);
+			WaveletTransformOps.transformN(desc_I32,copy_I32,workN_I32,storageN_I32,LEVELS);
+		}
+	}
+
+	@Benchmark
+	public void inverseNaive() {
+		if( isFloat ) {
+			ImplWaveletTransformNaive.verticalInverse(desc_F32.getBorder(),desc_F32.getInverse(),orig_F32,temp1_F32);
+			ImplWaveletTransformNaive.horizontalInverse(desc_F32.getBorder(),desc_F32.getInverse(),temp1_F32,temp2_F32);
+		} else {
+			ImplWaveletTransformNaive.verticalInverse(desc_I32.getBorder(),desc_I32.getInverse(),orig_I32,temp1_I32);
+			ImplWaveletTransformNaive.horizontalInverse(desc_I32.getBorder(),desc_I32.getInverse(),temp1_I32,temp2_I32);
+		}
+	}
+
+	@Benchmark
+	public void inverse1() {
+		if( isFloat )
+			WaveletTransformOps.inverse1(desc_F32,orig_F32,temp1_F32,temp2_F32,0,255);
+		else
+			WaveletTransformOps.inverse1(desc_I32,orig_I32,temp1_I32,temp2_I32,0,255);
+	}
+
+	@Benchmark
+	public void inverseN() {
+		// the input transform is modified, so invert a copy
+		if( isFloat ) {
+			workN_F32.setTo(tranN_F32);
+			WaveletTransformOps.inverseN(desc_F32,workN_F32,copy_F32,storageN_F32,LEVELS,0,255);
+		} else {
+			workN_I32.setTo(tranN_I32);
+			WaveletTransformOps.inverseN(desc_I32,workN_I32,copy_I32,storageN_I32,LEVELS,0,255);
+		}
+	}
+}
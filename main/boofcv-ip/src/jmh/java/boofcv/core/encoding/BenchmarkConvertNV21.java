@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.encoding;
+
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.alg.transform.pyramid.PyramidDiscreteAverage;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting NV21 camera images into BoofCV images.  The direct down sampling and pyramid
+ * conversions are compared against converting into a gray image first.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvertNV21 {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"1","4"})
+	public int threads;
+
+	byte nv21[];
+
+	GrayU8 grayU8;
+	GrayF32 grayF32;
+	Planar<GrayU8> planarU8;
+	Planar<GrayF32> planarF32;
+	InterleavedU8 interleavedU8;
+	InterleavedF32 interleavedF32;
+	GrayU8 grayHalf;
+	GrayU8 grayQuarter;
+	PyramidDiscrete<GrayU8> pyramid;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		nv21 = new byte[size*size*2];
+		Random rand = new Random(234);
+		for (int i = 0; i < nv21.length; i++) {
+			nv21[i] = (byte)rand.nextInt(256);
+		}
+
+		grayU8 = new GrayU8(size,size);
+		grayF32 = new GrayF32(size,size);
+		planarU8 = new Planar<>(GrayU8.class,size,size,3);
+		planarF32 = new Planar<>(GrayF32.class,size,size,3);
+		interleavedU8 = new InterleavedU8(size,size,3);
+		interleavedF32 = new InterleavedF32(size,size,3);
+		grayHalf = new GrayU8(size/2,size/2);
+		grayQuarter = new GrayU8(size/4,size/4);
+		pyramid = new PyramidDiscreteAverage<>(ImageType.single(GrayU8.class),false,1,2,4,8);
+	}
+
+	@Benchmark
+	public void grayU8() {
+		ConvertNV21.nv21ToGray(nv21,size,size,grayU8);
+	}
+
+	@Benchmark
+	public void grayF32() {
+		ConvertNV21.nv21ToGray(nv21,size,size,grayF32);
+	}
+
+	@Benchmark
+	public void planarU8() {
+		ConvertNV21.nv21TPlanarRgb_U8(nv21,size,size,planarU8);
+	}
+
+	@Benchmark
+	public void planarF32() {
+		ConvertNV21.nv21ToPlanarRgb_F32(nv21,size,size,planarF32);
+	}
+
+	@Benchmark
+	public void interleavedU8() {
+		ConvertNV21.nv21ToInterleaved(nv21,size,size,interleavedU8);
+	}
+
+	@Benchmark
+	public void interleavedF32() {
+		ConvertNV21.nv21ToInterleaved(nv21,size,size,interleavedF32);
+	}
+
+	@Benchmark
+	public void grayDown2() {
+		ConvertNV21.nv21ToGrayDown(nv21,size,size,2,grayHalf);
+	}
+
+	@Benchmark
+	public void grayThenDown2() {
+		ConvertNV21.nv21ToGray(nv21,size,size,grayU8);
+		AverageDownSampleOps.down(grayU8,2,grayHalf);
+	}
+
+	@Benchmark
+	public void grayDown4() {
+		ConvertNV21.nv21ToGrayDown(nv21,size,size,4,grayQuarter);
+	}
+
+	@Benchmark
+	public void grayThenDown4() {
+		ConvertNV21.nv21ToGray(nv21,size,size,grayU8);
+		AverageDownSampleOps.down(grayU8,4,grayQuarter);
+	}
+
+	@Benchmark
+	public void pyramid() {
+		ConvertNV21.nv21ToPyramid(nv21,size,size,pyramid);
+	}
+
+	@Benchmark
+	public void grayThenPyramid() {
+		ConvertNV21.nv21ToGray(nv21,size,size,grayU8);
+		pyramid.process(grayU8);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting between image types using {@link ConvertImage}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkConvertImage {
+	@Param({"500","2000"})
+	public int size;
+
+	@Param({"U8","S16","F64"})
+	public String imageType;
+
+	@Param({"1","4"})
+	public int threads;
+
+	ImageGray gray;
+	GrayF32 grayF32;
+
+	ImageInterleaved interleaved;
+	Planar planar;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = threads > 1;
+		BoofConcurrency.setMaxThreads(threads);
+
+		ImageDataType dataType = ImageDataType.valueOf(imageType);
+		gray = GeneralizedImageOps.createSingleBand(dataType, size, size);
+		grayF32 = new GrayF32(size, size);
+		interleaved = GeneralizedImageOps.createInterleaved(dataType, size, size, 3);
+		planar = new Planar(gray.getClass(), size, size, 3);
+
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(gray, rand, 0, 100);
+		GImageMiscOps.fillUniform(grayF32, rand, 0, 100);
+		GImageMiscOps.fillUniform(interleaved, rand, 0, 100);
+	}
+
+	@Benchmark
+	public void grayToF32() {
+		GConvertImage.convert(gray, grayF32);
+	}
+
+	@Benchmark
+	public void F32ToGray() {
+		GConvertImage.convert(grayF32, gray);
+	}
+
+	@Benchmark
+	public void interleavedToPlanar() {
+		GConvertImage.convert(interleaved, planar);
+	}
+
+	@Benchmark
+	public void planarToInterleaved() {
+		GConvertImage.convert(planar, interleaved);
+	}
+}
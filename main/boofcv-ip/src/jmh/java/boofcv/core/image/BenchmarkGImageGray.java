@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of writing to an image directly against going through the {@link GImageGray} wrapper.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkGImageGray {
+	@Param({"500","2000"})
+	public int size;
+
+	GrayF32 input;
+	GrayU8 outputU8;
+	GrayF32 outputF32;
+
+	GImageGray wrappedU8;
+	GImageGray wrappedF32;
+
+	@Setup
+	public void setup() {
+		input = new GrayF32(size,size);
+		outputU8 = new GrayU8(size,size);
+		outputF32 = new GrayF32(size,size);
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 50);
+
+		wrappedU8 = FactoryGImageGray.wrap(outputU8);
+		wrappedF32 = FactoryGImageGray.wrap(outputF32);
+	}
+
+	@Benchmark
+	public void directU8() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				outputU8.data[index] = (byte)input.data[index];
+			}
+		}
+	}
+
+	@Benchmark
+	public void directF32() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				outputF32.data[index] = input.data[index];
+			}
+		}
+	}
+
+	@Benchmark
+	public void wrappedIndexU8() {
+		indexAccess(wrappedU8);
+	}
+
+	@Benchmark
+	public void wrappedIndexF32() {
+		indexAccess(wrappedF32);
+	}
+
+	@Benchmark
+	public void wrappedPixelU8() {
+		pixelAccess(wrappedU8);
+	}
+
+	@Benchmark
+	public void wrappedPixelF32() {
+		pixelAccess(wrappedF32);
+	}
+
+	private void indexAccess( GImageGray output ) {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output.set(index,input.data[index]);
+			}
+		}
+	}
+
+	private void pixelAccess( GImageGray output ) {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				output.set(x,y,input.data[index]);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -81,6 +81,16 @@ public class PointDeform_MLS implements PointDeformKeyPoints
 		alg.fixateDistorted();
 	}
 
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PointDeform_MLS copy() {
+		return new PointDeform_MLS(alg.copy(),rows,cols);
+	}
+
 	public ImageDeformPointMLS_F32 getAlgorithm() {
 		return alg;
 	}
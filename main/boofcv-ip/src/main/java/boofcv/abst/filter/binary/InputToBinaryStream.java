@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.binary;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Interface for threshold filters which process an image as a stream of rows, e.g. from a line-scan camera.
+ * Rows are passed in as chunks of any height and only the local statistics needed by the threshold are kept
+ * in memory. Binary rows are written out once all the information needed to compute them has been seen,
+ * which is at most {@link #getMaxDelay()} rows after they were passed in.
+ *
+ * @author Peter Abeles
+ */
+public interface InputToBinaryStream<Input extends ImageGray<Input>>
+{
+	/**
+	 * Starts a new stream and discards any rows which have not been processed.
+	 *
+	 * @param width Width of every row in the stream
+	 */
+	void reset( int width );
+
+	/**
+	 * Adds rows to the end of the stream.
+	 *
+	 * @param rows The next rows in the stream. Must have the width specified in {@link #reset(int)}. Not modified.
+	 * @param output Reshaped to hold the binary rows which were finished by this call. Can have a height of zero.
+	 * @return Number of rows written to output
+	 */
+	int process( Input rows , GrayU8 output );
+
+	/**
+	 * Marks the end of the stream and writes out all the remaining binary rows. Call {@link #reset(int)}
+	 * before passing in more rows.
+	 *
+	 * @param output Reshaped to hold the remaining binary rows
+	 * @return Number of rows written to output
+	 */
+	int finish( GrayU8 output );
+
+	/**
+	 * Maximum number of rows which can be buffered before they are written out
+	 */
+	int getMaxDelay();
+
+	/**
+	 * Total number of binary rows written out since the stream was started
+	 */
+	int getRowsOutput();
+
+	ImageType<Input> getInputType();
+}
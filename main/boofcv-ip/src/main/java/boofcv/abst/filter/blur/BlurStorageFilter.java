@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -18,10 +18,10 @@
 
 package boofcv.abst.filter.blur;
 
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.core.image.GeneralizedImageOps;
-import boofcv.struct.image.ImageBase;
-import boofcv.struct.image.ImageType;
+import boofcv.struct.image.*;
 
 /**
  * Simplified interface for using a blur filter that requires storage.  Reflections are used to look up a function inside
@@ -40,6 +40,8 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 	private int radius;
 	// stores intermediate results
 	private T storage;
+	// storage for the integral image used by mean with large radii
+	private ImageGray integral;
 
 	// type of image it processes
 	ImageType<T> inputType;
@@ -56,6 +58,7 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		if( functionName.equals("mean")) {
 			operation = new MeanOperation();
 			createStorage();
+			createIntegral();
 		} else if( functionName.equals("gaussian")) {
 			operation = new GaussianOperation();
 			createStorage();
@@ -74,6 +77,15 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 		}
 	}
 
+	private void createIntegral() {
+		if( inputType.getFamily() != ImageType.Family.GRAY )
+			return;
+		if( inputType.getDataType() == ImageDataType.U8 )
+			integral = new GrayS32(1,1);
+		else if( inputType.getDataType() == ImageDataType.F32 )
+			integral = new GrayF64(1,1);
+	}
+
 	/**
 	 * Radius of the square region.  The width is defined as the radius*2 + 1.
 	 *
@@ -93,6 +105,8 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 	public void process(T input, T output) {
 		if( storage != null )
 			storage.reshape(output.width, output.height);
+		if( integral != null && radius >= BlurImageOps.MEAN_INTEGRAL_RADIUS )
+			integral.reshape(output.width, output.height);
 		operation.process(input,output);
 	}
 
@@ -123,7 +137,7 @@ public class BlurStorageFilter<T extends ImageBase<T>> implements BlurFilter<T>
 	private class MeanOperation implements BlurOperation {
 		@Override
 		public void process(ImageBase input, ImageBase output) {
-			GBlurImageOps.mean(input,output,radius,storage);
+			GBlurImageOps.mean(input,output,radius,storage,integral);
 		}
 	}
 
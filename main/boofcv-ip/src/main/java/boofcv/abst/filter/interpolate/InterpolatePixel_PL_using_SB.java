@@ -101,4 +101,9 @@ public class InterpolatePixel_PL_using_SB<T extends ImageGray<T>>
 	public ImageType<Planar<T>> getImageType() {
 		throw new RuntimeException("Image type isn't determined until it processes an image");
 	}
+
+	@Override
+	public InterpolatePixelMB<Planar<T>> copy() {
+		return new InterpolatePixel_PL_using_SB<>(alg.copy());
+	}
 }
@@ -19,29 +19,22 @@
 package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
-import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
+import boofcv.alg.transform.fft.RealFourierTransform2D_F32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.InterleavedF32;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link RealFourierTransform2D_F32} which implements {@link DiscreteFourierTransform}
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F32
 		implements DiscreteFourierTransform<GrayF32,InterleavedF32>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
-
 	// performs the FFT
-	private GeneralPurposeFFT_F32_2D alg;
-
-	// storage for temporary results
-	private InterleavedF32 tmp = new InterleavedF32(1,1,2);
+	private RealFourierTransform2D_F32 alg = new RealFourierTransform2D_F32();
 
-	// if true then it can modify the input images
+	// if true then it can modify the input images. The transform never modifies its inputs
 	private boolean modifyInputs = false;
 
 	@Override
@@ -50,13 +43,7 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
-		int N = image.width*image.height;
-		System.arraycopy(image.data,0,transform.data,0,N);
-
-		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		alg.forward(image,transform);
 	}
 
 	@Override
@@ -65,36 +52,7 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
-		// If he user lets us, modify the transform
-		InterleavedF32 workImage;
-		if(modifyInputs) {
-			workImage = transform;
-		} else {
-			tmp.reshape(transform.width,transform.height);
-			tmp.setTo(transform);
-			workImage = tmp;
-		}
-
-		alg.complexInverse(workImage.data, true);
-
-		// copy the real portion.  imaginary should be zeros
-		int N = image.width*image.height;
-		for( int i = 0; i < N; i++ ) {
-			image.data[i] = workImage.data[i*2];
-		}
-	}
-
-	/**
-	 * Declare the algorithm if the image size has changed
-	 */
-	private void checkDeclareAlg(GrayF32 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
-			alg = new GeneralPurposeFFT_F32_2D(image.height,image.width);
-		}
+		alg.inverse(transform,image);
 	}
 
 	@Override
@@ -19,82 +19,40 @@
 package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
-import boofcv.alg.transform.fft.GeneralPurposeFFT_F64_2D;
+import boofcv.alg.transform.fft.RealFourierTransform2D_F64;
 import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.InterleavedF64;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F64_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link RealFourierTransform2D_F64} which implements {@link DiscreteFourierTransform}
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F64
 		implements DiscreteFourierTransform<GrayF64,InterleavedF64>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
-
 	// performs the FFT
-	private GeneralPurposeFFT_F64_2D alg;
-
-	// storage for temporary results
-	private InterleavedF64 tmp = new InterleavedF64(1,1,2);
+	private RealFourierTransform2D_F64 alg = new RealFourierTransform2D_F64();
 
-	// if true then it can modify the input images
+	// if true then it can modify the input images. The transform never modifies its inputs
 	private boolean modifyInputs = false;
 
 	@Override
 	public void forward(GrayF64 image, InterleavedF64 transform ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
-		if( image.isSubimage() )
+		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
-		int N = image.width*image.height;
-		System.arraycopy(image.data,0,transform.data,0,N);
-
-		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		alg.forward(image,transform);
 	}
 
 	@Override
 	public void inverse(InterleavedF64 transform, GrayF64 image ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
-		if( image.isSubimage() )
+		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
-		// If he user lets us, modify the transform
-		InterleavedF64 workImage;
-		if(modifyInputs) {
-			workImage = transform;
-		} else {
-			tmp.reshape(transform.width,transform.height);
-			tmp.setTo(transform);
-			workImage = tmp;
-		}
-
-		alg.complexInverse(workImage.data, true);
-
-		// copy the real portion.  imaginary should be zeros
-		int N = image.width*image.height;
-		for( int i = 0; i < N; i++ ) {
-			image.data[i] = workImage.data[i*2];
-		}
-	}
-
-	/**
-	 * Declare the algorithm if the image size has changed
-	 */
-	private void checkDeclareAlg(GrayF64 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
-			alg = new GeneralPurposeFFT_F64_2D(image.height,image.width);
-		}
+		alg.inverse(transform,image);
 	}
 
 	@Override
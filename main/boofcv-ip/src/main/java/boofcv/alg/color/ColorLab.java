@@ -19,8 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorLab;
+import boofcv.alg.color.impl.ImplColorLab_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -56,6 +60,22 @@ public class ColorLab {
 	public static final float Yr_f = 1.0f;		//reference white
 	public static final float Zr_f = 1.088754f;	//reference white
 
+	/**
+	 * Cube root of a positive number.  An initial estimate is found by dividing the float's exponent by three
+	 * then refined with Newton's method.  Accurate to float precision and much faster than {@link Math#pow}
+	 * or {@link Math#cbrt}.
+	 *
+	 * @param x A positive number
+	 * @return Cube root of x
+	 */
+	public static float cubeRoot( float x ) {
+		float y = Float.intBitsToFloat(Float.floatToRawIntBits(x)/3 + 709921077);
+		y = (2f*y + x/(y*y))*(1f/3f);
+		y = (2f*y + x/(y*y))*(1f/3f);
+		y = (2f*y + x/(y*y))*(1f/3f);
+		return y;
+	}
+
 	/**
 	 * Conversion from normalized RGB into LAB.  Normalized RGB values have a range of 0:1
 	 */
@@ -99,11 +119,11 @@ public class ColorLab {
 		float zr = Z/Zr_f;
 
 		float fx, fy, fz;
-		if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
+		if(xr > epsilon_f)	fx = cubeRoot(xr);
 		else				fx = (kappa_f*xr + 16.0f)/116.0f;
-		if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
+		if(yr > epsilon_f)	fy = cubeRoot(yr);
 		else				fy = (kappa_f*yr + 16.0f)/116.0f;
-		if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
+		if(zr > epsilon_f)	fz = cubeRoot(zr);
 		else				fz = (kappa_f*zr + 16.0f)/116.0f;
 
 		lab[0] = 116.0f*fy-16.0f;
@@ -124,43 +144,10 @@ public class ColorLab {
 
 		InputSanityCheck.checkSameShape(lab, rgb);
 
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		GrayF32 L_ = lab.getBand(0);
-		GrayF32 A_ = lab.getBand(1);
-		GrayF32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_U8(rgb,lab);
+		} else {
+			ImplColorLab.rgbToLab_U8(rgb,lab);
 		}
 	}
 
@@ -177,43 +164,29 @@ public class ColorLab {
 
 		InputSanityCheck.checkSameShape(lab, rgb);
 
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		GrayF32 L_ = lab.getBand(0);
-		GrayF32 A_ = lab.getBand(1);
-		GrayF32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_F32(rgb,lab);
+		} else {
+			ImplColorLab.rgbToLab_F32(rgb,lab);
+		}
+	}
+
+	/**
+	 * <p>Convert a 3-channel {@link InterleavedU8} image from RGB into LAB.  RGB is assumed
+	 * to have a range from 0:255.  The LAB image is computed directly from the interleaved image without
+	 * first converting it into a {@link Planar} image.</p>
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image.  L = channel 0, A = channel 1, B = channel 2
+	 */
+	public static void rgbToLab(InterleavedU8 rgb , Planar<GrayF32> lab ) {
+
+		InputSanityCheck.checkSameShapeB(lab, rgb);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab(rgb,lab);
+		} else {
+			ImplColorLab.rgbToLab(rgb,lab);
 		}
 	}
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplColorHsv}.  Blocks of rows are passed in parallel to the row range
+ * functions in {@link ImplColorHsv} using {@link BoofConcurrency}, so the results are identical.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorHsv_MT {
+
+	public static void hsvToRgb_F32(Planar<GrayF32> hsv , Planar<GrayF32> rgb ) {
+		BoofConcurrency.loopBlocks(0, hsv.height, (row0, row1) ->
+				ImplColorHsv.hsvToRgb_F32(hsv,rgb,row0,row1));
+	}
+
+	public static void rgbToHsv_F32(Planar<GrayF32> rgb , Planar<GrayF32> hsv ) {
+		BoofConcurrency.loopBlocks(0, hsv.height, (row0, row1) ->
+				ImplColorHsv.rgbToHsv_F32(rgb,hsv,row0,row1));
+	}
+
+	public static void rgbToHsv(InterleavedU8 rgb , Planar<GrayF32> hsv ) {
+		BoofConcurrency.loopBlocks(0, hsv.height, (row0, row1) ->
+				ImplColorHsv.rgbToHsv(rgb,hsv,row0,row1));
+	}
+}
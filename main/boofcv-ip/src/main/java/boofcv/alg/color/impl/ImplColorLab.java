@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+import static boofcv.alg.color.ColorLab.*;
+
+/**
+ * <p>
+ * Implementation of functions in {@link boofcv.alg.color.ColorLab}.  Only float math is used and the cube root
+ * is computed with {@link boofcv.alg.color.ColorLab#cubeRoot} instead of {@link Math#pow}, which is much faster.
+ * Each function has a version which only processes rows from row0 to row1-1, which is used by
+ * {@link ImplColorLab_MT}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab {
+
+	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+		rgbToLab_U8(rgb,lab,0,lab.height);
+	}
+
+	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab , int row0 , int row1 ) {
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = row0; row < row1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = (R.data[indexRgb]&0xFF)*(1f/255f);
+				float g = (G.data[indexRgb]&0xFF)*(1f/255f);
+				float b = (B.data[indexRgb]&0xFF)*(1f/255f);
+
+				float xr = (0.412453f*r + 0.35758f*g + 0.180423f*b)*(1f/Xr_f);
+				float yr = (0.212671f*r + 0.71516f*g + 0.072169f*b)*(1f/Yr_f);
+				float zr = (0.019334f*r + 0.119193f*g + 0.950227f*b)*(1f/Zr_f);
+
+				float fx, fy, fz;
+				if(xr > epsilon_f)	fx = cubeRoot(xr);
+				else				fx = (kappa_f*xr + 16.0f)*(1f/116.0f);
+				if(yr > epsilon_f)	fy = cubeRoot(yr);
+				else				fy = (kappa_f*yr + 16.0f)*(1f/116.0f);
+				if(zr > epsilon_f)	fz = cubeRoot(zr);
+				else				fz = (kappa_f*zr + 16.0f)*(1f/116.0f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
+		rgbToLab_F32(rgb,lab,0,lab.height);
+	}
+
+	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab , int row0 , int row1 ) {
+
+		GrayF32 R = rgb.getBand(0);
+		GrayF32 G = rgb.getBand(1);
+		GrayF32 B = rgb.getBand(2);
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = row0; row < row1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = R.data[indexRgb]*(1f/255f);
+				float g = G.data[indexRgb]*(1f/255f);
+				float b = B.data[indexRgb]*(1f/255f);
+
+				float xr = (0.412453f*r + 0.35758f*g + 0.180423f*b)*(1f/Xr_f);
+				float yr = (0.212671f*r + 0.71516f*g + 0.072169f*b)*(1f/Yr_f);
+				float zr = (0.019334f*r + 0.119193f*g + 0.950227f*b)*(1f/Zr_f);
+
+				float fx, fy, fz;
+				if(xr > epsilon_f)	fx = cubeRoot(xr);
+				else				fx = (kappa_f*xr + 16.0f)*(1f/116.0f);
+				if(yr > epsilon_f)	fy = cubeRoot(yr);
+				else				fy = (kappa_f*yr + 16.0f)*(1f/116.0f);
+				if(zr > epsilon_f)	fz = cubeRoot(zr);
+				else				fz = (kappa_f*zr + 16.0f)*(1f/116.0f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab(InterleavedU8 rgb , Planar<GrayF32> lab ) {
+		rgbToLab(rgb,lab,0,lab.height);
+	}
+
+	public static void rgbToLab(InterleavedU8 rgb , Planar<GrayF32> lab , int row0 , int row1 ) {
+
+		GrayF32 L_ = lab.getBand(0);
+		GrayF32 A_ = lab.getBand(1);
+		GrayF32 B_ = lab.getBand(2);
+
+		for( int row = row0; row < row1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ ) {
+				float r = (rgb.data[indexRgb++]&0xFF)*(1f/255f);
+				float g = (rgb.data[indexRgb++]&0xFF)*(1f/255f);
+				float b = (rgb.data[indexRgb++]&0xFF)*(1f/255f);
+
+				float xr = (0.412453f*r + 0.35758f*g + 0.180423f*b)*(1f/Xr_f);
+				float yr = (0.212671f*r + 0.71516f*g + 0.072169f*b)*(1f/Yr_f);
+				float zr = (0.019334f*r + 0.119193f*g + 0.950227f*b)*(1f/Zr_f);
+
+				float fx, fy, fz;
+				if(xr > epsilon_f)	fx = cubeRoot(xr);
+				else				fx = (kappa_f*xr + 16.0f)*(1f/116.0f);
+				if(yr > epsilon_f)	fy = cubeRoot(yr);
+				else				fy = (kappa_f*yr + 16.0f)*(1f/116.0f);
+				if(zr > epsilon_f)	fz = cubeRoot(zr);
+				else				fz = (kappa_f*zr + 16.0f)*(1f/116.0f);
+
+				L_.data[indexLab] = 116.0f*fy-16.0f;
+				A_.data[indexLab] = 500.0f*(fx-fy);
+				B_.data[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+}
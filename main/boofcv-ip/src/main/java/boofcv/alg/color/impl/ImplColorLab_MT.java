@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplColorLab}.  Blocks of rows are passed in parallel to the row range
+ * functions in {@link ImplColorLab} using {@link BoofConcurrency}, so the results are identical.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab_MT {
+
+	public static void rgbToLab_U8(Planar<GrayU8> rgb , Planar<GrayF32> lab ) {
+		BoofConcurrency.loopBlocks(0, lab.height, (row0, row1) ->
+				ImplColorLab.rgbToLab_U8(rgb,lab,row0,row1));
+	}
+
+	public static void rgbToLab_F32(Planar<GrayF32> rgb , Planar<GrayF32> lab ) {
+		BoofConcurrency.loopBlocks(0, lab.height, (row0, row1) ->
+				ImplColorLab.rgbToLab_F32(rgb,lab,row0,row1));
+	}
+
+	public static void rgbToLab(InterleavedU8 rgb , Planar<GrayF32> lab ) {
+		BoofConcurrency.loopBlocks(0, lab.height, (row0, row1) ->
+				ImplColorLab.rgbToLab(rgb,lab,row0,row1));
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplColorRgb}.  Blocks of rows are passed in parallel to the row range
+ * functions in {@link ImplColorRgb} using {@link BoofConcurrency}, so the results are identical.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorRgb_MT {
+
+	public static void rgbToGray_Weighted_U8(Planar<GrayU8> rgb , GrayU8 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted_U8(rgb,gray,row0,row1));
+	}
+
+	public static void rgbToGray_Weighted_F32(Planar<GrayF32> rgb , GrayF32 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted_F32(rgb,gray,row0,row1));
+	}
+
+	public static void rgbToGray_Weighted_F64(Planar<GrayF64> rgb , GrayF64 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted_F64(rgb,gray,row0,row1));
+	}
+
+	public static void rgbToGray_Weighted(InterleavedU8 rgb , GrayU8 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted(rgb,gray,row0,row1));
+	}
+
+	public static void rgbToGray_Weighted(InterleavedF32 rgb , GrayF32 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted(rgb,gray,row0,row1));
+	}
+
+	public static void rgbToGray_Weighted(InterleavedF64 rgb , GrayF64 gray ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, (row0, row1) ->
+				ImplColorRgb.rgbToGray_Weighted(rgb,gray,row0,row1));
+	}
+}
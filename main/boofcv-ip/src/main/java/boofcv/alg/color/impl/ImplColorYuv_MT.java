@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.Planar;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplColorYuv}.  Blocks of rows are passed in parallel to the row range
+ * functions in {@link ImplColorYuv} using {@link BoofConcurrency}, so the results are identical.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorYuv_MT {
+
+	public static void yuvToRgb_F32(Planar<GrayF32> yuv , Planar<GrayF32> rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, (row0, row1) ->
+				ImplColorYuv.yuvToRgb_F32(yuv,rgb,row0,row1));
+	}
+
+	public static void rgbToYuv_F32(Planar<GrayF32> rgb , Planar<GrayF32> yuv ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, (row0, row1) ->
+				ImplColorYuv.rgbToYuv_F32(rgb,yuv,row0,row1));
+	}
+
+	public static void rgbToYuv(InterleavedU8 rgb , Planar<GrayF32> yuv ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, (row0, row1) ->
+				ImplColorYuv.rgbToYuv(rgb,yuv,row0,row1));
+	}
+
+	public static void ycbcrToRgb_U8(Planar<GrayU8> yuv , Planar<GrayU8> rgb ) {
+		BoofConcurrency.loopBlocks(0, yuv.height, (row0, row1) ->
+				ImplColorYuv.ycbcrToRgb_U8(yuv,rgb,row0,row1));
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,8 +19,8 @@
 package boofcv.alg.denoise.wavelet;
 
 import boofcv.alg.denoise.ShrinkThresholdRule;
-import boofcv.alg.misc.ImageStatistics;
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 
 /**
@@ -46,6 +46,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseVariance;
 
+	// storage for the coefficients used to estimate the noise
+	GrowQueue_F32 storage = new GrowQueue_F32();
+
 	public DenoiseBayesShrink_F32( ShrinkThresholdRule<GrayF32> rule ) {
 		super(rule);
 	}
@@ -53,22 +56,20 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 	@Override
 	protected Number computeThreshold( GrayF32 subband )
 	{
-		// the maximum magnitude coefficient is used to normalize all the other coefficients
-		// and reduce numerical round-off error
-		float max = ImageStatistics.maxAbs(subband);
-		float varianceY = 0;
+		// A double is used to reduce numerical round-off error, which allows the variance to be
+		// computed in a single pass instead of first normalizing by the maximum magnitude coefficient
+		double sumSq = 0;
 		for( int y = 0; y < subband.height; y++ ) {
 			int index = subband.startIndex + subband.stride*y;
 			int end = index + subband.width;
 
 			for( ;index < end; index++ ) {
-				float v = subband.data[index]/max;
-				varianceY += v*v;
+				float v = subband.data[index];
+				sumSq += v*v;
 			}
 		}
-		// undo normalization.
 		// these coefficients are modeled as being zero mean, so the variance can be computed this way
-		varianceY = (varianceY/(subband.width*subband.height))*max*max;
+		float varianceY = (float)(sumSq/(subband.width*subband.height));
 
 		// signal standard deviation
 		float inner = varianceY-noiseVariance;
@@ -86,7 +87,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h, null),null);
+		subband = transform.subimage(w/2,h/2,w,h, subband);
+		storage.resize(subband.width*subband.height);
+		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(subband,storage.data);
 		noiseVariance *= noiseVariance;
 
 //		System.out.println("Noise Variance: "+noiseVariance);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,6 +19,7 @@
 package boofcv.alg.denoise.wavelet;
 
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 import java.util.Arrays;
 
@@ -45,6 +46,9 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseSigma;
 
+	// storage for the absolute value of each coefficient in a subband
+	GrowQueue_F32 storage = new GrowQueue_F32();
+
 	public DenoiseSureShrink_F32() {
 		super(new ShrinkThresholdSoft_F32());
 	}
@@ -52,19 +56,20 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 	@Override
 	protected Number computeThreshold( GrayF32 subband  )
 	{
-		float coef[] = new float[ subband.width*subband.height ];
-		UtilDenoiseWavelet.subbandAbsVal(subband,coef);
-		Arrays.sort(coef);
+		int total = subband.width*subband.height;
+		storage.resize(total);
+		float coef[] = UtilDenoiseWavelet.subbandAbsVal(subband,storage.data);
+		Arrays.sort(coef,0,total);
 
 		float maxThreshold =(float) UtilDenoiseWavelet.universalThreshold(subband,1.0);
 
-		float N = coef.length;
+		float N = total;
 
 		float threshold = maxThreshold;
 		float bestRisk = Float.MAX_VALUE;
 		float sumW = 0;
 		float right = N-2.0f;
-		for( int i = 0; i < coef.length; i++ , right -= 2.0f) {
+		for( int i = 0; i < total; i++ , right -= 2.0f) {
 			float c = coef[i]/noiseSigma;
 			if( c > maxThreshold ) {
 				break;
@@ -89,7 +94,9 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<GrayF32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h, null),null);
+		subband = transform.subimage(w/2,h/2,w,h, subband);
+		storage.resize(subband.width*subband.height);
+		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(subband,storage.data);
 
 //		System.out.println("Noise sigma: "+noiseSigma);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -22,6 +22,7 @@ import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 
 /**
@@ -41,6 +42,10 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 
 	ShrinkThresholdRule<GrayF32> rule = new ShrinkThresholdSoft_F32();
 
+	// storage for the coefficients used to estimate the noise and reused sub-images
+	GrowQueue_F32 storage = new GrowQueue_F32();
+	GrayF32 subband = new GrayF32();
+
 	/**
 	 * Applies VisuShrink denoising to the provided multilevel wavelet transform using
 	 * the provided threshold.
@@ -59,12 +64,13 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 		final int innerWidth = w/scale;
 		final int innerHeight = h/scale;
 
-		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
-		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
-		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
+		transform.subimage(w/2,h/2,w,h, subband);
+		storage.resize(subband.width*subband.height);
+		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subband,storage.data);
+		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subband,sigma);
 
 		// apply same threshold to all wavelet coefficients
-		rule.process(transform.subimage(innerWidth,0,w,h, null),threshold);
-		rule.process(transform.subimage(0,innerHeight,innerWidth,h, null),threshold);
+		rule.process(transform.subimage(innerWidth,0,w,h, subband),threshold);
+		rule.process(transform.subimage(0,innerHeight,innerWidth,h, subband),threshold);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -34,6 +34,9 @@ public abstract class SubbandShrink<I extends ImageGray<I>> implements DenoiseWa
 	// specifies how the threshold is applied to each pixel in the image
 	protected ShrinkThresholdRule<I> rule;
 
+	// sub-images which are reused to avoid declaring new ones each time the image is processed
+	protected I level, subband;
+
 	protected SubbandShrink(ShrinkThresholdRule<I> rule) {
 		this.rule = rule;
 	}
@@ -55,37 +58,38 @@ public abstract class SubbandShrink<I extends ImageGray<I>> implements DenoiseWa
 	 */
 	protected void performShrinkage( I transform , int numLevels ) {
 
+		level = transform.subimage(0,0,transform.width,transform.height, level);
+
 		// step through each layer in the pyramid.
 		for( int i = 0; i < numLevels; i++ ) {
-			int w = transform.width;
-			int h = transform.height;
+			int w = level.width;
+			int h = level.height;
 			int ww = w/2;
 			int hh = h/2;
 			Number threshold;
-			I subband;
 
 			// HL
-			subband = transform.subimage(ww,0,w,hh, null);
+			subband = level.subimage(ww,0,w,hh, subband);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
 
 //			System.out.print("HL = "+threshold);
 
 			// LH
-			subband = transform.subimage(0,hh,ww,h, null);
+			subband = level.subimage(0,hh,ww,h, subband);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
 
 //			System.out.print("  LH = "+threshold);
 
 			// HH
-			subband = transform.subimage(ww,hh,w,h, null);
+			subband = level.subimage(ww,hh,w,h, subband);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
 
 //			System.out.println("  HH = "+threshold);
 
-			transform = transform.subimage(0,0,ww,hh, null);
+			level = level.subimage(0,0,ww,hh, level);
 		}
 
 	}
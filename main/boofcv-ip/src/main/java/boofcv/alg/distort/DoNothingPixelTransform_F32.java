@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -31,4 +31,14 @@ public class DoNothingPixelTransform_F32 extends PixelTransform2_F32 {
 		distX = x;
 		distY = y;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public DoNothingPixelTransform_F32 copy() {
+		return new DoNothingPixelTransform_F32();
+	}
 }
@@ -45,6 +45,9 @@ public abstract class ImageDistortBasic
 	protected Input srcImg;
 	protected Output dstImg;
 
+	// distorted coordinates of the row being processed, computed using PixelTransform2_F32.computeRow()
+	protected float[] row = new float[0];
+
 	/**
 	 * Specifies configuration parameters
 	 *
@@ -64,6 +67,7 @@ public abstract class ImageDistortBasic
 		init(srcImg, dstImg);
 
 		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
+		growRow();
 
 		if(renderAll)
 			applyAll();
@@ -76,6 +80,7 @@ public abstract class ImageDistortBasic
 		init(srcImg, dstImg);
 
 		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
+		growRow();
 
 		if(renderAll)
 			applyAll();
@@ -89,6 +94,11 @@ public abstract class ImageDistortBasic
 		interp.setImage(srcImg);
 	}
 
+	private void growRow() {
+		if( row.length < (x1-x0)*2 )
+			row = new float[(x1-x0)*2];
+	}
+
 	protected abstract void applyAll();
 
 	protected abstract void applyOnlyInside();
@@ -56,12 +56,15 @@ public abstract class ImageDistortBasic_IL
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
+		final float[] row = this.row;
+		final int length = (x1-x0)*2;
+
 		for( int y = y0; y < y1; y++ ) {
-			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
-			for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
-				dstToSrc.compute(x,y);
+			dstToSrc.computeRow(x0,y,x1-x0,row);
 
-				interp.get(dstToSrc.distX, dstToSrc.distY, values);
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
+			for( int i = 0; i < length; i += 2 , indexDst += dstImg.numBands ) {
+				interp.get(row[i], row[i+1], values);
 				assign(indexDst,values);
 			}
 		}
@@ -73,14 +76,18 @@ public abstract class ImageDistortBasic_IL
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
+		final float[] row = this.row;
+		final int length = (x1-x0)*2;
+
 		for( int y = y0; y < y1; y++ ) {
+			dstToSrc.computeRow(x0,y,x1-x0,row);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0*dstImg.numBands;
-			for( int x = x0; x < x1; x++ , indexDst += dstImg.numBands ) {
-				dstToSrc.compute(x,y);
+			for( int i = 0; i < length; i += 2 , indexDst += dstImg.numBands ) {
+				float srcX = row[i], srcY = row[i+1];
 
-				if( dstToSrc.distX >= 0 && dstToSrc.distX <= maxWidth &&
-						dstToSrc.distY >= 0 && dstToSrc.distY <= maxHeight ) {
-					interp.get(dstToSrc.distX, dstToSrc.distY, values);
+				if( srcX >= 0 && srcX <= maxWidth && srcY >= 0 && srcY <= maxHeight ) {
+					interp.get(srcX, srcY, values);
 					assign(indexDst,values);
 				}
 			}
@@ -44,12 +44,15 @@ public abstract class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output
 
 		// todo TO make this faster first apply inside the region which can process the fast border
 		// then do the slower border thingy
+		final float[] row = this.row;
+		final int length = (x1-x0)*2;
+
 		for( int y = y0; y < y1; y++ ) {
-			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
+			dstToSrc.computeRow(x0,y,x1-x0,row);
 
-				assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			for( int i = 0; i < length; i += 2 , indexDst++ ) {
+				assign(indexDst,interp.get(row[i], row[i+1]));
 			}
 		}
 	}
@@ -60,14 +63,18 @@ public abstract class ImageDistortBasic_SB<Input extends ImageGray<Input>,Output
 		float maxWidth = srcImg.getWidth()-1;
 		float maxHeight = srcImg.getHeight()-1;
 
+		final float[] row = this.row;
+		final int length = (x1-x0)*2;
+
 		for( int y = y0; y < y1; y++ ) {
+			dstToSrc.computeRow(x0,y,x1-x0,row);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
+			for( int i = 0; i < length; i += 2 , indexDst++ ) {
+				float srcX = row[i], srcY = row[i+1];
 
-				if( dstToSrc.distX >= 0 && dstToSrc.distX <= maxWidth &&
-						dstToSrc.distY >= 0 && dstToSrc.distY <= maxHeight ) {
-					assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
+				if( srcX >= 0 && srcX <= maxWidth && srcY >= 0 && srcY <= maxHeight ) {
+					assign(indexDst,interp.get(srcX, srcY));
 				}
 			}
 		}
@@ -100,11 +100,12 @@ public abstract class ImageDistortCache_SB<Input extends ImageGray<Input>,Output
 				map[i] = new Point2D_F32();
 			}
 
+			float[] row = new float[width*2];
 			int index = 0;
 			for( int y = 0; y < height; y++ ) {
-				for( int x = 0; x < width; x++ ) {
-					dstToSrc.compute(x,y);
-					map[index++].set(dstToSrc.distX,dstToSrc.distY);
+				dstToSrc.computeRow(0,y,width,row);
+				for( int i = 0; i < row.length; i += 2 ) {
+					map[index++].set(row[i],row[i+1]);
 				}
 			}
 			dirty = false;
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * <p>
+ * Distorts an image using a {@link RemapTable}. The table is computed once from the transform and then reused
+ * until the model or the image shapes change. Interpolation is done using integer math only. Rows are processed
+ * in parallel when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * <p>
+ * Only {@link InterpolationType#BILINEAR} and {@link InterpolationType#NEAREST_NEIGHBOR} interpolation and
+ * {@link BorderType#EXTENDED} and {@link BorderType#ZERO} borders are supported.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageDistortRemap<Input extends ImageBase<Input>, Output extends ImageBase<Output>>
+		implements ImageDistort<Input,Output> {
+
+	// look up table from destination to source pixels
+	protected RemapTable table = new RemapTable();
+	// transform used to compute the table. null if the table was provided
+	private PixelTransform2_F32 dstToSrc;
+	// if true the table needs to be recomputed
+	private boolean dirty = true;
+
+	protected boolean bilinear;
+	// true for extended border and false for a zero border
+	protected boolean extended;
+
+	// should it render all pixels in the destination, even ones outside the input image
+	protected boolean renderAll = true;
+
+	/**
+	 * Specifies configuration
+	 *
+	 * @param interpType Type of interpolation. BILINEAR or NEAREST_NEIGHBOR
+	 * @param borderType How pixels outside the source image are handled. EXTENDED or ZERO
+	 */
+	protected ImageDistortRemap( InterpolationType interpType , BorderType borderType ) {
+		switch( interpType ) {
+			case BILINEAR: bilinear = true; break;
+			case NEAREST_NEIGHBOR: bilinear = false; break;
+			default: throw new IllegalArgumentException("Unsupported interpolation "+interpType);
+		}
+		switch( borderType ) {
+			case EXTENDED: extended = true; break;
+			case ZERO: extended = false; break;
+			default: throw new IllegalArgumentException("Unsupported border "+borderType);
+		}
+	}
+
+	@Override
+	public void setModel(PixelTransform2_F32 dstToSrc) {
+		this.dstToSrc = dstToSrc;
+		this.dirty = true;
+	}
+
+	/**
+	 * Specifies a precomputed table. Useful when the same distortion is applied to multiple images, e.g.
+	 * several identical cameras. The table isn't copied or modified.
+	 */
+	public void setTable( RemapTable table ) {
+		this.table = table;
+		this.dstToSrc = null;
+		this.dirty = false;
+	}
+
+	@Override
+	public void apply(Input srcImg, Output dstImg) {
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
+	}
+
+	@Override
+	public void apply(Input srcImg, Output dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		if( dirty || !table.isShape(dstImg.width,dstImg.height,srcImg.width,srcImg.height) ) {
+			if( dstToSrc == null )
+				throw new IllegalArgumentException("Image shapes don't match the table and there is no model");
+			table.configure(dstToSrc,dstImg.width,dstImg.height,srcImg.width,srcImg.height);
+			dirty = false;
+		}
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(dstY0,dstY1,(y0,y1)->render(srcImg,dstImg,dstX0,y0,dstX1,y1));
+		} else {
+			render(srcImg,dstImg,dstX0,dstY0,dstX1,dstY1);
+		}
+	}
+
+	/**
+	 * Renders the specified region in the destination image. Must be safe to call on different rows at the
+	 * same time.
+	 */
+	protected abstract void render(Input srcImg, Output dstImg, int x0, int y0, int x1, int y1);
+
+	public RemapTable getTable() {
+		return table;
+	}
+
+	@Override
+	public void setRenderAll(boolean renderAll) {
+		this.renderAll = renderAll;
+	}
+
+	@Override
+	public boolean getRenderAll() {
+		return renderAll;
+	}
+}
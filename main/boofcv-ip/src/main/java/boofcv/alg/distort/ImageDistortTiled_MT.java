@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageBase;
+
+import java.util.ArrayDeque;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImageDistort} which splits the destination image into tiles and
+ * processes them in parallel. Transforms and interpolation algorithms are stateful, so each worker
+ * thread has its own {@link ImageDistort} with its own copy of them. Copies are made using
+ * {@link InterpolatePixel#copy()} and {@link PixelTransform2_F32#copy()}. The model is copied again each time
+ * apply is called, so changes made to the model after {@link #setModel} are used like they are with the
+ * single threaded implementations.
+ * </p>
+ *
+ * <p>
+ * If {@link PixelTransform2_F32#isCopyable()} returns false then the image is processed in the calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageDistortTiled_MT<Input extends ImageBase<Input>,Output extends ImageBase<Output>>
+		implements ImageDistort<Input,Output> {
+
+	// creates the distortion used inside each worker
+	private Factory<Input,Output> factory;
+	// interpolation which is copied for each worker
+	private InterpolatePixel interp;
+
+	// distortion model from the dst to src image
+	private PixelTransform2_F32 dstToSrc;
+	// if false the model can't be copied and the image is processed in a single thread
+	private boolean copyModel;
+
+	// should it render all pixels in the destination, even ones outside the input image
+	private boolean renderAll = true;
+
+	// size of a square tile in pixels
+	private int tileSize = 64;
+
+	// workers which aren't being used
+	private final ArrayDeque<Worker> available = new ArrayDeque<>();
+	// used to tell if a worker's model and settings are out of date
+	private int stamp;
+
+	// used when the model can't be copied
+	private ImageDistort<Input,Output> single;
+
+	/**
+	 * Specifies how the distortion for each worker is created.
+	 *
+	 * @param interp Interpolation algorithm. A copy is passed to factory for each worker.
+	 * @param factory Creates a single threaded distortion from the interpolation
+	 */
+	public ImageDistortTiled_MT(InterpolatePixel interp , Factory<Input,Output> factory ) {
+		this.interp = interp;
+		this.factory = factory;
+	}
+
+	@Override
+	public void setModel(PixelTransform2_F32 dstToSrc) {
+		this.dstToSrc = dstToSrc;
+		copyModel = dstToSrc.isCopyable();
+		stamp++;
+	}
+
+	@Override
+	public void apply(Input srcImg, Output dstImg) {
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
+	}
+
+	@Override
+	public void apply(Input srcImg, Output dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		if( !copyModel ) {
+			if( single == null )
+				single = factory.create(interp);
+			single.setModel(dstToSrc);
+			single.setRenderAll(renderAll);
+			single.apply(srcImg, dstImg, dstX0, dstY0, dstX1, dstY1);
+			return;
+		}
+
+		// force each worker to get a new copy of the model
+		stamp++;
+
+		final int tilesX = (dstX1-dstX0+tileSize-1)/tileSize;
+		final int tilesY = (dstY1-dstY0+tileSize-1)/tileSize;
+
+		BoofConcurrency.loopFor(0, tilesX*tilesY, tile -> {
+			int x0 = dstX0 + (tile%tilesX)*tileSize;
+			int y0 = dstY0 + (tile/tilesX)*tileSize;
+			int x1 = Math.min(dstX1, x0+tileSize);
+			int y1 = Math.min(dstY1, y0+tileSize);
+
+			Worker worker = acquire();
+			try {
+				worker.alg.apply(srcImg, dstImg, x0, y0, x1, y1);
+			} finally {
+				release(worker);
+			}
+		});
+	}
+
+	/**
+	 * Returns a worker whose model and settings are up to date. A new worker is created if none are available.
+	 */
+	private Worker acquire() {
+		Worker worker;
+		int stamp;
+		synchronized (available) {
+			worker = available.poll();
+			stamp = this.stamp;
+		}
+		if( worker == null ) {
+			worker = new Worker();
+			worker.alg = factory.create(interp.copy());
+		}
+		if( worker.stamp != stamp ) {
+			worker.alg.setModel(dstToSrc.copy());
+			worker.alg.setRenderAll(renderAll);
+			worker.stamp = stamp;
+		}
+		return worker;
+	}
+
+	private void release( Worker worker ) {
+		synchronized (available) {
+			available.push(worker);
+		}
+	}
+
+	@Override
+	public void setRenderAll(boolean renderAll) {
+		this.renderAll = renderAll;
+		stamp++;
+	}
+
+	@Override
+	public boolean getRenderAll() {
+		return renderAll;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	/**
+	 * Specifies the width and height of each tile in the destination image
+	 */
+	public void setTileSize(int tileSize) {
+		if( tileSize <= 0 )
+			throw new IllegalArgumentException("Tile size must be positive");
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Distortion and the stamp of the model it was configured with
+	 */
+	private class Worker {
+		ImageDistort<Input,Output> alg;
+		int stamp = -1;
+	}
+
+	/**
+	 * Creates a single threaded {@link ImageDistort} which uses the provided interpolation
+	 */
+	public interface Factory<Input extends ImageBase<Input>,Output extends ImageBase<Output>> {
+		ImageDistort<Input,Output> create( InterpolatePixel interp );
+	}
+}
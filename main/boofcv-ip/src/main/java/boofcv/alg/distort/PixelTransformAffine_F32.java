@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -53,7 +53,32 @@ public class PixelTransformAffine_F32 extends PixelTransform2_F32 {
 		distY = tran.y;
 	}
 
+	@Override
+	public void computeRow(int x0, int y, int length, float[] output) {
+		final float a11 = affine.a11, a21 = affine.a21, tx = affine.tx, ty = affine.ty;
+		// terms which are constant along the row. Order of operations matches compute()
+		final float a12y = affine.a12*y, a22y = affine.a22*y;
+
+		for (int i = 0, index = 0; i < length; i++) {
+			float x = x0 + i;
+			output[index++] = tx + a11*x + a12y;
+			output[index++] = ty + a21*x + a22y;
+		}
+	}
+
 	public Affine2D_F32 getModel() {
 		return affine;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PixelTransformAffine_F32 copy() {
+		PixelTransformAffine_F32 out = new PixelTransformAffine_F32();
+		out.set(affine);
+		return out;
+	}
 }
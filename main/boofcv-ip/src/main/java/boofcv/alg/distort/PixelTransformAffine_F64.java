@@ -53,6 +53,19 @@ public class PixelTransformAffine_F64 extends PixelTransform2_F64 {
 		distY = tran.y;
 	}
 
+	@Override
+	public void computeRow(int x0, int y, int length, double[] output) {
+		final double a11 = affine.a11, a21 = affine.a21, tx = affine.tx, ty = affine.ty;
+		// terms which are constant along the row. Order of operations matches compute()
+		final double a12y = affine.a12*y, a22y = affine.a22*y;
+
+		for (int i = 0, index = 0; i < length; i++) {
+			double x = x0 + i;
+			output[index++] = tx + a11*x + a12y;
+			output[index++] = ty + a21*x + a22y;
+		}
+	}
+
 	public Affine2D_F64 getModel() {
 		return affine;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -20,7 +20,6 @@ package boofcv.alg.distort;
 
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.distort.Point2Transform2_F32;
-import georegression.struct.point.Point2D_F32;
 
 /**
  * Precomputes transformations for each pixel in the image.  Doesn't check bounds and will give an incorrect result
@@ -30,7 +29,8 @@ import georegression.struct.point.Point2D_F32;
  */
 public class PixelTransformCached_F32 extends PixelTransform2_F32 {
 
-	Point2D_F32 map[];
+	// interleaved (x,y) coordinates of each pixel
+	float map[];
 	int width,height;
 
 	public PixelTransformCached_F32(int width, int height, Point2Transform2_F32 transform ) {
@@ -41,23 +41,45 @@ public class PixelTransformCached_F32 extends PixelTransform2_F32 {
 		this.width = width+1; // add one to the width since some stuff checks the outside border
 		this.height = height+1;
 
-		map = new Point2D_F32[this.width*this.height];
-		int index = 0;
+		map = new float[this.width*this.height*2];
+		float row[] = new float[this.width*2];
 		for (int y = 0; y < this.height; y++) {
-			for (int x = 0; x < this.width; x++) {
-				transform.compute(x,y);
-				map[index++] = new Point2D_F32(transform.distX,transform.distY);
-			}
+			transform.computeRow(0,y,this.width,row);
+			System.arraycopy(row,0,map,y*this.width*2,row.length);
 		}
 	}
 
+	/**
+	 * Copy constructor. The look up table is shared since it's never modified
+	 */
+	protected PixelTransformCached_F32( PixelTransformCached_F32 original ) {
+		this.map = original.map;
+		this.width = original.width;
+		this.height = original.height;
+	}
+
 	@Override
 	public void compute(int x, int y) {
 //		if( x < 0 || y < 0 || x >= width || y >= height )
 //			throw new IllegalArgumentException("Out of bounds");
 
-		Point2D_F32 p = map[y*width+x];
-		distX = p.x;
-		distY = p.y;
+		int index = (y*width+x)*2;
+		distX = map[index];
+		distY = map[index+1];
+	}
+
+	@Override
+	public void computeRow(int x0, int y, int length, float[] output) {
+		System.arraycopy(map,(y*width+x0)*2,output,0,length*2);
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PixelTransformCached_F32 copy() {
+		return new PixelTransformCached_F32(this);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -68,7 +68,34 @@ public class PixelTransformHomography_F32 extends PixelTransform2_F32 {
 		distY = tran.y;
 	}
 
+	@Override
+	public void computeRow(int x0, int y, int length, float[] output) {
+		final float a11 = homo.a11, a13 = homo.a13, a21 = homo.a21, a23 = homo.a23, a31 = homo.a31, a33 = homo.a33;
+		// terms which are constant along the row
+		final float a12y = homo.a12*y, a22y = homo.a22*y, a32y = homo.a32*y;
+
+		for (int i = 0, index = 0; i < length; i++) {
+			float x = x0 + i;
+			// one division instead of two. Results can differ from compute() in the last bit
+			float z = 1.0f/(a31*x + a32y + a33);
+			output[index++] = (a11*x + a12y + a13)*z;
+			output[index++] = (a21*x + a22y + a23)*z;
+		}
+	}
+
 	public Homography2D_F32 getModel() {
 		return homo;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PixelTransformHomography_F32 copy() {
+		PixelTransformHomography_F32 out = new PixelTransformHomography_F32();
+		out.set(homo);
+		return out;
+	}
 }
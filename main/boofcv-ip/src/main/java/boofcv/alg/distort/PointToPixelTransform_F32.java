@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -49,4 +49,23 @@ public class PointToPixelTransform_F32 extends PixelTransform2_F32 {
 		distX = point.x;
 		distY = point.y;
 	}
+
+	@Override
+	public void computeRow(int x0, int y, int length, float[] output) {
+		for (int i = 0, index = 0; i < length; i++) {
+			output[index++] = x0 + i;
+			output[index++] = y;
+		}
+		alg.compute(output, output, length);
+	}
+
+	@Override
+	public boolean isCopyable() {
+		return alg.isCopyable();
+	}
+
+	@Override
+	public PointToPixelTransform_F32 copy() {
+		return new PointToPixelTransform_F32(alg.copy());
+	}
 }
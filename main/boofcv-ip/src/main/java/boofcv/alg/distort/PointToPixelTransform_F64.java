@@ -43,6 +43,15 @@ public class PointToPixelTransform_F64 extends PixelTransform2_F64 {
 		this.alg = transform;
 	}
 
+	@Override
+	public void computeRow(int x0, int y, int length, double[] output) {
+		for (int i = 0, index = 0; i < length; i++) {
+			output[index++] = x0 + i;
+			output[index++] = y;
+		}
+		alg.compute(output, output, length);
+	}
+
 	@Override
 	public void compute(int x, int y) {
 		alg.compute(x,y,point);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -56,6 +56,20 @@ public class PointTransformHomography_F32 implements Point2Transform2Model_F32<H
 		HomographyPointOps_F32.transform(homo, x, y, out);
 	}
 
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		final float a11 = homo.a11, a12 = homo.a12, a13 = homo.a13;
+		final float a21 = homo.a21, a22 = homo.a22, a23 = homo.a23;
+		final float a31 = homo.a31, a32 = homo.a32, a33 = homo.a33;
+
+		for (int i = 0; i < length*2; i += 2) {
+			float x = input[i], y = input[i+1];
+			float z = 1.0f/(a31*x + a32*y + a33);
+			output[i  ] = (a11*x + a12*y + a13)*z;
+			output[i+1] = (a21*x + a22*y + a23)*z;
+		}
+	}
+
 	@Override
 	public void setModel(Homography2D_F32 o) {
 		homo.set(o);
@@ -70,4 +84,14 @@ public class PointTransformHomography_F32 implements Point2Transform2Model_F32<H
 	public Homography2D_F32 newInstanceModel() {
 		return new Homography2D_F32();
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public PointTransformHomography_F32 copy() {
+		return new PointTransformHomography_F32(homo);
+	}
 }
@@ -56,6 +56,20 @@ public class PointTransformHomography_F64 implements Point2Transform2Model_F64<H
 		HomographyPointOps_F64.transform(homo, x, y, out);
 	}
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		final double a11 = homo.a11, a12 = homo.a12, a13 = homo.a13;
+		final double a21 = homo.a21, a22 = homo.a22, a23 = homo.a23;
+		final double a31 = homo.a31, a32 = homo.a32, a33 = homo.a33;
+
+		for (int i = 0; i < length*2; i += 2) {
+			double x = input[i], y = input[i+1];
+			double z = 1.0/(a31*x + a32*y + a33);
+			output[i  ] = (a11*x + a12*y + a13)*z;
+			output[i+1] = (a21*x + a22*y + a23)*z;
+		}
+	}
+
 	@Override
 	public void setModel(Homography2D_F64 o) {
 		homo.set(o);
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+
+/**
+ * <p>
+ * Compact look up table which maps each pixel in the destination image to a location in the source image.
+ * Source coordinates are stored in fixed point with {@link #BITS} fractional bits. The integer part is stored
+ * in a short and the fractional parts of x and y are packed together with two flags into another short, 6 bytes
+ * per pixel instead of a {@link georegression.struct.point.Point2D_F32} for each pixel. Integer only interpolation
+ * can then be done directly from the table.
+ * </p>
+ *
+ * <p>
+ * Each pixel is flagged with {@link #FLAG_BORDER} if the 2x2 neighborhood used by bilinear interpolation
+ * extends outside the source image and {@link #FLAG_OUTSIDE} if the source coordinate is outside the source
+ * image. Pixels which aren't flagged can be interpolated without any bounds checks.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RemapTable {
+	/**
+	 * Number of bits used to store the fractional part of a coordinate
+	 */
+	public static final int BITS = 5;
+	/**
+	 * Scale factor between a coordinate and its fixed point representation
+	 */
+	public static final int SCALE = 1 << BITS;
+	/**
+	 * Mask for extracting the fractional part of a coordinate
+	 */
+	public static final int MASK = SCALE-1;
+	/**
+	 * Interpolation requires pixels outside the source image
+	 */
+	public static final int FLAG_BORDER = 1 << (2*BITS);
+	/**
+	 * Source coordinate is outside the source image
+	 */
+	public static final int FLAG_OUTSIDE = 1 << (2*BITS+1);
+
+	// shape of the destination image
+	public int width,height;
+	// shape of the source image
+	public int srcWidth,srcHeight;
+
+	/**
+	 * Integer part of the source coordinate for each destination pixel. Interleaved x and y. 2*width*height
+	 */
+	public short[] xy = new short[0];
+	/**
+	 * Fractional part of x in the lower bits, fractional y in the next bits, then the flags. width*height
+	 */
+	public short[] frac = new short[0];
+
+	/**
+	 * Creates the table. See {@link #configure}
+	 */
+	public RemapTable(PixelTransform2_F32 dstToSrc, int width, int height, int srcWidth, int srcHeight) {
+		configure(dstToSrc, width, height, srcWidth, srcHeight);
+	}
+
+	public RemapTable() {
+	}
+
+	/**
+	 * Computes the table for the specified transform. The transform is only invoked here and doesn't need to be
+	 * saved afterwards.
+	 *
+	 * @param dstToSrc Transform from destination pixels to source pixels
+	 * @param width Width of the destination image
+	 * @param height Height of the destination image
+	 * @param srcWidth Width of the source image
+	 * @param srcHeight Height of the source image
+	 */
+	public void configure(PixelTransform2_F32 dstToSrc, int width, int height, int srcWidth, int srcHeight) {
+		if( srcWidth >= Short.MAX_VALUE-1 || srcHeight >= Short.MAX_VALUE-1 )
+			throw new IllegalArgumentException("Source image is too large for a short");
+
+		this.width = width;
+		this.height = height;
+		this.srcWidth = srcWidth;
+		this.srcHeight = srcHeight;
+
+		int N = width*height;
+		if( frac.length < N ) {
+			xy = new short[N*2];
+			frac = new short[N];
+		}
+
+		float[] row = new float[width*2];
+		int index = 0;
+		for (int y = 0; y < height; y++) {
+			dstToSrc.computeRow(0,y,width,row);
+			for (int i = 0; i < row.length; i += 2, index++ ) {
+				set(index, row[i], row[i+1]);
+			}
+		}
+	}
+
+	/**
+	 * Encodes a source coordinate and saves it in the table
+	 *
+	 * @param index Index of the destination pixel, y*width + x
+	 */
+	protected void set( int index , float srcX , float srcY ) {
+		int flags = 0;
+		// the negated test also catches NaN
+		if( !(srcX >= 0 && srcX <= srcWidth-1 && srcY >= 0 && srcY <= srcHeight-1) ) {
+			flags = FLAG_OUTSIDE;
+			// Only the region just outside the image can influence a pixel. Clamping keeps it in a short
+			srcX = clamp(srcX,srcWidth);
+			srcY = clamp(srcY,srcHeight);
+		}
+
+		int fixedX = Math.round(srcX*SCALE);
+		int fixedY = Math.round(srcY*SCALE);
+		int px = fixedX >> BITS;
+		int py = fixedY >> BITS;
+
+		if( px < 0 || py < 0 || px+1 >= srcWidth || py+1 >= srcHeight )
+			flags |= FLAG_BORDER;
+
+		xy[index*2  ] = (short)px;
+		xy[index*2+1] = (short)py;
+		frac[index] = (short)(flags | ((fixedY & MASK) << BITS) | (fixedX & MASK));
+	}
+
+	private static float clamp( float value , int length ) {
+		if( value >= -2 ) {
+			return value <= length+1 ? value : length+1;
+		} else {
+			return -2;
+		}
+	}
+
+	/**
+	 * Returns true if the table was computed for images with these shapes
+	 */
+	public boolean isShape(int width, int height, int srcWidth, int srcHeight) {
+		return this.width == width && this.height == height &&
+				this.srcWidth == srcWidth && this.srcHeight == srcHeight;
+	}
+
+	/**
+	 * Returns the source x-coordinate saved in the table for a destination pixel
+	 */
+	public float getX( int x , int y ) {
+		int index = y*width + x;
+		return xy[index*2] + (frac[index] & MASK)/(float)SCALE;
+	}
+
+	/**
+	 * Returns the source y-coordinate saved in the table for a destination pixel
+	 */
+	public float getY( int x , int y ) {
+		int index = y*width + x;
+		return xy[index*2+1] + ((frac[index] >> BITS) & MASK)/(float)SCALE;
+	}
+}
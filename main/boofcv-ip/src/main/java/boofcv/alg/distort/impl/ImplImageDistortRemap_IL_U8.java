@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTable;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.InterleavedU8;
+
+import static boofcv.alg.distort.RemapTable.*;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link InterleavedU8}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_IL_U8 extends ImageDistortRemap<InterleavedU8,InterleavedU8> {
+
+	public ImplImageDistortRemap_IL_U8(InterpolationType interpType, BorderType borderType) {
+		super(interpType, borderType);
+	}
+
+	@Override
+	public void apply(InterleavedU8 srcImg, InterleavedU8 dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		if( srcImg.numBands != dstImg.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same. "+srcImg.numBands+" vs "+dstImg.numBands);
+		super.apply(srcImg, dstImg, dstX0, dstY0, dstX1, dstY1);
+	}
+
+	@Override
+	protected void render(InterleavedU8 srcImg, InterleavedU8 dstImg, int x0, int y0, int x1, int y1) {
+		if( bilinear )
+			renderBilinear(srcImg, dstImg, x0, y0, x1, y1);
+		else
+			renderNearest(srcImg, dstImg, x0, y0, x1, y1);
+	}
+
+	private void renderBilinear(InterleavedU8 srcImg, InterleavedU8 dstImg, int x0, int y0, int x1, int y1) {
+		final RemapTable table = this.table;
+		final byte[] src = srcImg.data;
+		final int stride = srcImg.stride;
+		final int numBands = srcImg.numBands;
+
+		for (int y = y0; y < y1; y++) {
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0*numBands;
+			int indexTable = y*table.width + x0;
+			for (int x = x0; x < x1; x++, indexDst += numBands, indexTable++) {
+				int f = table.frac[indexTable];
+				int px = table.xy[indexTable*2];
+				int py = table.xy[indexTable*2+1];
+				int fx = f & MASK;
+				int fy = (f >> BITS) & MASK;
+				int w00 = (SCALE-fx)*(SCALE-fy);
+				int w10 = fx*(SCALE-fy);
+				int w01 = (SCALE-fx)*fy;
+				int w11 = fx*fy;
+
+				if( (f & FLAG_BORDER) == 0 ) {
+					int indexSrc = srcImg.startIndex + py*stride + px*numBands;
+					for (int band = 0; band < numBands; band++, indexSrc++) {
+						int a = src[indexSrc] & 0xFF;
+						int b = src[indexSrc+numBands] & 0xFF;
+						int c = src[indexSrc+stride] & 0xFF;
+						int d = src[indexSrc+stride+numBands] & 0xFF;
+						dstImg.data[indexDst+band] = (byte)((a*w00 + b*w10 + c*w01 + d*w11 + (1 << (2*BITS-1))) >> (2*BITS));
+					}
+				} else if( renderAll || (f & FLAG_OUTSIDE) == 0 ) {
+					for (int band = 0; band < numBands; band++) {
+						int a = get(srcImg,px  ,py  ,band);
+						int b = get(srcImg,px+1,py  ,band);
+						int c = get(srcImg,px  ,py+1,band);
+						int d = get(srcImg,px+1,py+1,band);
+						dstImg.data[indexDst+band] = (byte)((a*w00 + b*w10 + c*w01 + d*w11 + (1 << (2*BITS-1))) >> (2*BITS));
+					}
+				}
+			}
+		}
+	}
+
+	private void renderNearest(InterleavedU8 srcImg, InterleavedU8 dstImg, int x0, int y0, int x1, int y1) {
+		final RemapTable table = this.table;
+		final byte[] src = srcImg.data;
+		final int numBands = srcImg.numBands;
+
+		for (int y = y0; y < y1; y++) {
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0*numBands;
+			int indexTable = y*table.width + x0;
+			for (int x = x0; x < x1; x++, indexDst += numBands, indexTable++) {
+				int f = table.frac[indexTable];
+				int px = table.xy[indexTable*2];
+				int py = table.xy[indexTable*2+1];
+
+				if( (f & FLAG_BORDER) == 0 ) {
+					System.arraycopy(src,srcImg.startIndex + py*srcImg.stride + px*numBands,dstImg.data,indexDst,numBands);
+				} else if( renderAll || (f & FLAG_OUTSIDE) == 0 ) {
+					for (int band = 0; band < numBands; band++) {
+						dstImg.data[indexDst+band] = (byte)get(srcImg,px,py,band);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads a pixel which might be outside the image
+	 */
+	private int get( InterleavedU8 img , int x , int y , int band ) {
+		if( extended ) {
+			x = x < 0 ? 0 : (x >= img.width ? img.width-1 : x);
+			y = y < 0 ? 0 : (y >= img.height ? img.height-1 : y);
+		} else if( x < 0 || y < 0 || x >= img.width || y >= img.height ) {
+			return 0;
+		}
+		return img.data[img.startIndex + y*img.stride + x*img.numBands + band] & 0xFF;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTable;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.GrayU8;
+
+import static boofcv.alg.distort.RemapTable.*;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link GrayU8}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_U8 extends ImageDistortRemap<GrayU8,GrayU8> {
+
+	public ImplImageDistortRemap_U8(InterpolationType interpType, BorderType borderType) {
+		super(interpType, borderType);
+	}
+
+	@Override
+	protected void render(GrayU8 srcImg, GrayU8 dstImg, int x0, int y0, int x1, int y1) {
+		if( bilinear )
+			renderBilinear(srcImg, dstImg, x0, y0, x1, y1);
+		else
+			renderNearest(srcImg, dstImg, x0, y0, x1, y1);
+	}
+
+	private void renderBilinear(GrayU8 srcImg, GrayU8 dstImg, int x0, int y0, int x1, int y1) {
+		final RemapTable table = this.table;
+		final byte[] src = srcImg.data;
+		final int stride = srcImg.stride;
+
+		for (int y = y0; y < y1; y++) {
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0;
+			int indexTable = y*table.width + x0;
+			for (int x = x0; x < x1; x++, indexDst++, indexTable++) {
+				int f = table.frac[indexTable];
+				int px = table.xy[indexTable*2];
+				int py = table.xy[indexTable*2+1];
+				int fx = f & MASK;
+				int fy = (f >> BITS) & MASK;
+
+				int a,b,c,d;
+				if( (f & FLAG_BORDER) == 0 ) {
+					int indexSrc = srcImg.startIndex + py*stride + px;
+					a = src[indexSrc] & 0xFF;
+					b = src[indexSrc+1] & 0xFF;
+					c = src[indexSrc+stride] & 0xFF;
+					d = src[indexSrc+stride+1] & 0xFF;
+				} else if( renderAll || (f & FLAG_OUTSIDE) == 0 ) {
+					a = get(srcImg,px  ,py);
+					b = get(srcImg,px+1,py);
+					c = get(srcImg,px  ,py+1);
+					d = get(srcImg,px+1,py+1);
+				} else {
+					continue;
+				}
+
+				int top = a*(SCALE-fx) + b*fx;
+				int bottom = c*(SCALE-fx) + d*fx;
+				dstImg.data[indexDst] = (byte)((top*(SCALE-fy) + bottom*fy + (1 << (2*BITS-1))) >> (2*BITS));
+			}
+		}
+	}
+
+	private void renderNearest(GrayU8 srcImg, GrayU8 dstImg, int x0, int y0, int x1, int y1) {
+		final RemapTable table = this.table;
+		final byte[] src = srcImg.data;
+
+		for (int y = y0; y < y1; y++) {
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0;
+			int indexTable = y*table.width + x0;
+			for (int x = x0; x < x1; x++, indexDst++, indexTable++) {
+				int f = table.frac[indexTable];
+				int px = table.xy[indexTable*2];
+				int py = table.xy[indexTable*2+1];
+
+				if( (f & FLAG_BORDER) == 0 ) {
+					dstImg.data[indexDst] = src[srcImg.startIndex + py*srcImg.stride + px];
+				} else if( renderAll || (f & FLAG_OUTSIDE) == 0 ) {
+					dstImg.data[indexDst] = (byte)get(srcImg,px,py);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads a pixel which might be outside the image
+	 */
+	private int get( GrayU8 img , int x , int y ) {
+		if( extended ) {
+			x = x < 0 ? 0 : (x >= img.width ? img.width-1 : x);
+			y = y < 0 ? 0 : (y >= img.height ? img.height-1 : y);
+		} else if( x < 0 || y < 0 || x >= img.width || y >= img.height ) {
+			return 0;
+		}
+		return img.data[img.startIndex + y*img.stride + x] & 0xFF;
+	}
+}
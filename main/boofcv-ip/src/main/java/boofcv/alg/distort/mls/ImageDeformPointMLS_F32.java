@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -78,9 +78,11 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 	float scaleX,scaleY;
 
 	// Pixel distortion model
+	TypeDeformMLS type;
 	Model model;
 
 	public ImageDeformPointMLS_F32( TypeDeformMLS type ) {
+		this.type = type;
 		switch( type ) {
 			case AFFINE: model = new AffineModel(); break;
 			case SIMILARITY: model = new SimilarityModel(); break;
@@ -283,6 +285,35 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 		interpolateDeformedPoint(x/scaleX, y/scaleY, out);
 	}
 
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public ImageDeformPointMLS_F32 copy() {
+		ImageDeformPointMLS_F32 out = new ImageDeformPointMLS_F32(type);
+		out.alpha = alpha;
+		out.scaleX = scaleX;
+		out.scaleY = scaleY;
+		out.gridRows = gridRows;
+		out.gridCols = gridCols;
+
+		out.controls.resize(controls.size);
+		for (int i = 0; i < controls.size; i++) {
+			Control src = controls.get(i);
+			Control dst = out.controls.get(i);
+			dst.p.set(src.p);
+			dst.q.set(src.q);
+		}
+
+		out.grid.resize(grid.size);
+		for (int i = 0; i < grid.size; i++) {
+			out.grid.get(i).setTo(grid.get(i));
+		}
+		return out;
+	}
+
 	/**
 	 * Samples the 4 grid points around v and performs bilinear interpolation
 	 *
@@ -526,6 +557,20 @@ public class ImageDeformPointMLS_F32 implements Point2Transform2_F32 {
 
 		// mu for simularity
 		float mu;
+
+		public void setTo( Cache src ) {
+			deformed.set(src.deformed);
+			weights.setTo(src.weights);
+			totalWeight = src.totalWeight;
+			A.setTo(src.A);
+			aveP.set(src.aveP);
+			aveQ.set(src.aveQ);
+			A_s.resize(src.A_s.size);
+			for (int i = 0; i < src.A_s.size; i++) {
+				A_s.get(i).set(src.A_s.get(i));
+			}
+			mu = src.mu;
+		}
 	}
 
 	public float getAlpha() {
@@ -19,9 +19,12 @@
 package boofcv.alg.enhance;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.enhance.impl.ImplEnhanceClahe;
+import boofcv.alg.enhance.impl.ImplEnhanceClahe_MT;
 import boofcv.alg.enhance.impl.ImplEnhanceFilter;
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -211,6 +214,74 @@ public class EnhanceImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Contrast Limited Adaptive Histogram Equalization (CLAHE).  The image is divided into a grid of tiles and each
+	 * tile's histogram is clipped then equalized.  Pixels are transformed by interpolating between the four
+	 * closest tiles.  Unlike {@link #equalizeLocal} the cost per pixel does not depend on the size of the region.
+	 * </p>
+	 *
+	 * @see ImplEnhanceClahe
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis.  Try 8.
+	 * @param tilesY Number of tiles along the y-axis.  Try 8.
+	 * @param clipLimit Maximum count in a histogram bin relative to the average count.  Try 3.  If &le; 0 there is
+	 *                  no clipping.
+	 * @param output Output image.
+	 * @param work (Optional) Storage which can be reused between calls.  Can be null.
+	 */
+	public static void equalizeClahe(GrayU8 input , int tilesX , int tilesY , double clipLimit , GrayU8 output ,
+									 ImplEnhanceClahe.Workspace work ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		if( work == null )
+			work = new ImplEnhanceClahe.Workspace();
+		work.configure(input.width, input.height, tilesX, tilesY, 255, clipLimit);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceClahe_MT.process(input, output, work);
+		} else {
+			ImplEnhanceClahe.process(input, output, work);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Contrast Limited Adaptive Histogram Equalization (CLAHE).  The image is divided into a grid of tiles and each
+	 * tile's histogram is clipped then equalized.  Pixels are transformed by interpolating between the four
+	 * closest tiles.  Unlike {@link #equalizeLocal} the cost per pixel does not depend on the size of the region.
+	 * </p>
+	 *
+	 * @see ImplEnhanceClahe
+	 *
+	 * @param input Input image.
+	 * @param maxValue Maximum pixel value.  Larger values are treated as the maximum value.  If &lt; 0 then the
+	 *                 maximum value in the input image is used.
+	 * @param tilesX Number of tiles along the x-axis.  Try 8.
+	 * @param tilesY Number of tiles along the y-axis.  Try 8.
+	 * @param clipLimit Maximum count in a histogram bin relative to the average count.  Try 3.  If &le; 0 there is
+	 *                  no clipping.
+	 * @param output Output image.
+	 * @param work (Optional) Storage which can be reused between calls.  Can be null.
+	 */
+	public static void equalizeClahe(GrayU16 input , int maxValue , int tilesX , int tilesY , double clipLimit ,
+									 GrayU16 output , ImplEnhanceClahe.Workspace work ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		if( maxValue < 0 )
+			maxValue = ImageStatistics.max(input);
+		if( work == null )
+			work = new ImplEnhanceClahe.Workspace();
+		work.configure(input.width, input.height, tilesX, tilesY, maxValue, clipLimit);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceClahe_MT.process(input, output, work);
+		} else {
+			ImplEnhanceClahe.process(input, output, work);
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
@@ -19,6 +19,7 @@
 package boofcv.alg.enhance;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.enhance.impl.ImplEnhanceClahe;
 import boofcv.struct.image.*;
 
 /**
@@ -75,6 +76,32 @@ public class GEnhanceImageOps {
 		}
 	}
 
+	/**
+	 * Contrast Limited Adaptive Histogram Equalization (CLAHE).  For {@link GrayU16} images the maximum value
+	 * in the image is used as the maximum pixel value.
+	 *
+	 * @see EnhanceImageOps#equalizeClahe(GrayU8, int, int, double, GrayU8, ImplEnhanceClahe.Workspace)
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis.  Try 8.
+	 * @param tilesY Number of tiles along the y-axis.  Try 8.
+	 * @param clipLimit Maximum count in a histogram bin relative to the average count.  Try 3.  If &le; 0 there is
+	 *                  no clipping.
+	 * @param output Output image.
+	 * @param work (Optional) Storage which can be reused between calls.  Can be null.
+	 */
+	public static <T extends ImageGray<T>>
+	void equalizeClahe( T input , int tilesX , int tilesY , double clipLimit , T output ,
+						ImplEnhanceClahe.Workspace work ) {
+		if( input instanceof GrayU8) {
+			EnhanceImageOps.equalizeClahe((GrayU8)input,tilesX,tilesY,clipLimit,(GrayU8)output,work);
+		} else if( input instanceof GrayU16) {
+			EnhanceImageOps.equalizeClahe((GrayU16)input,-1,tilesX,tilesY,clipLimit,(GrayU16)output,work);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Contrast Limited Adaptive Histogram Equalization (CLAHE).  The image is divided into a grid of tiles and a
+ * histogram equalization transform is computed for each tile.  Before the transform is computed, bins in the
+ * histogram are clipped at a limit and the excess is spread across all the bins.  This limits how much the contrast
+ * can be amplified in regions with a nearly constant value.  The output value of each pixel is found by bilinear
+ * interpolation between the transforms of the four closest tile centers, which removes visible seams between tiles.
+ * </p>
+ *
+ * <p>
+ * The cost per pixel does not depend on the size of the tiles.  All memory is kept in a {@link Workspace}, which
+ * can be reused between calls to avoid declaring new memory.  Transforms are computed in-place inside the same
+ * array as the histograms.
+ * </p>
+ *
+ * <p>
+ * Zuiderveld, Karel. "Contrast limited adaptive histogram equalization." Graphics gems IV. Academic Press
+ * Professional, Inc., 1994.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplEnhanceClahe {
+
+	/**
+	 * Applies CLAHE to the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param work Storage which has been configured for this image using {@link Workspace#configure}.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , Workspace work ) {
+		computeTransforms(input, work, 0, work.tilesX*work.tilesY);
+		applyTransforms(input, output, work, 0, input.height);
+	}
+
+	/**
+	 * Applies CLAHE to the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param work Storage which has been configured for this image using {@link Workspace#configure}.
+	 */
+	public static void process( GrayU16 input , GrayU16 output , Workspace work ) {
+		computeTransforms(input, work, 0, work.tilesX*work.tilesY);
+		applyTransforms(input, output, work, 0, input.height);
+	}
+
+	/**
+	 * Computes the histogram and then the transform for tiles from tile0 to tile1, exclusive.  Tiles are
+	 * indexed in a row-major order.
+	 */
+	static void computeTransforms( GrayU8 input , Workspace work , int tile0 , int tile1 ) {
+		final int bins = work.bins;
+		final int[] transforms = work.transforms;
+
+		for( int tile = tile0; tile < tile1; tile++ ) {
+			int tileX = tile % work.tilesX;
+			int tileY = tile / work.tilesX;
+			int x0 = work.boundsX[tileX], x1 = work.boundsX[tileX + 1];
+			int y0 = work.boundsY[tileY], y1 = work.boundsY[tileY + 1];
+
+			final int offset = tile*bins;
+			for( int i = 0; i < bins; i++ ) {
+				transforms[offset + i] = 0;
+			}
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = input.startIndex + y*input.stride + x0;
+				int end = index + (x1 - x0);
+				while( index < end ) {
+					transforms[offset + (input.data[index++] & 0xFF)]++;
+				}
+			}
+
+			equalizeClipped(transforms, offset, bins, (x1 - x0)*(y1 - y0), work.clipLimit);
+		}
+	}
+
+	/**
+	 * Computes the histogram and then the transform for tiles from tile0 to tile1, exclusive.  Tiles are
+	 * indexed in a row-major order.  Values larger than the maximum value are counted as the maximum value.
+	 */
+	static void computeTransforms( GrayU16 input , Workspace work , int tile0 , int tile1 ) {
+		final int bins = work.bins;
+		final int maxValue = bins - 1;
+		final int[] transforms = work.transforms;
+
+		for( int tile = tile0; tile < tile1; tile++ ) {
+			int tileX = tile % work.tilesX;
+			int tileY = tile / work.tilesX;
+			int x0 = work.boundsX[tileX], x1 = work.boundsX[tileX + 1];
+			int y0 = work.boundsY[tileY], y1 = work.boundsY[tileY + 1];
+
+			final int offset = tile*bins;
+			for( int i = 0; i < bins; i++ ) {
+				transforms[offset + i] = 0;
+			}
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = input.startIndex + y*input.stride + x0;
+				int end = index + (x1 - x0);
+				while( index < end ) {
+					int value = input.data[index++] & 0xFFFF;
+					transforms[offset + (value < maxValue ? value : maxValue)]++;
+				}
+			}
+
+			equalizeClipped(transforms, offset, bins, (x1 - x0)*(y1 - y0), work.clipLimit);
+		}
+	}
+
+	/**
+	 * Clips the histogram, spreads the clipped counts across all the bins, then replaces the histogram with
+	 * its equalization transform.
+	 *
+	 * @param histogram Array containing the histogram.  The transform is written here.
+	 * @param offset Index of the first bin
+	 * @param bins Number of bins
+	 * @param total Sum of all the bins
+	 * @param clipLimit Maximum count in a bin relative to the average count.  If &le; 0 then it isn't clipped.
+	 */
+	static void equalizeClipped( int[] histogram , int offset , int bins , int total , double clipLimit ) {
+		final int end = offset + bins;
+
+		if( clipLimit > 0 ) {
+			int limit = Math.max(1, (int)(clipLimit*total/bins));
+
+			int excess = 0;
+			for( int i = offset; i < end; i++ ) {
+				if( histogram[i] > limit ) {
+					excess += histogram[i] - limit;
+					histogram[i] = limit;
+				}
+			}
+
+			if( excess > 0 ) {
+				int increment = excess/bins;
+				for( int i = offset; i < end; i++ ) {
+					histogram[i] += increment;
+				}
+				// spread what's left evenly across the histogram
+				int remainder = excess - increment*bins;
+				if( remainder > 0 ) {
+					int step = bins/remainder;
+					for( int i = offset; remainder > 0; i += step, remainder-- ) {
+						histogram[i]++;
+					}
+				}
+			}
+		}
+
+		// same as EnhanceImageOps.equalize() but without overflow for large images
+		final long maxValue = bins - 1;
+		long sum = 0;
+		for( int i = offset; i < end; i++ ) {
+			sum += histogram[i];
+			histogram[i] = (int)(sum*maxValue/total);
+		}
+	}
+
+	/**
+	 * Computes the output value of pixels in rows from y0 to y1, exclusive, by interpolating between the
+	 * transforms of the closest tiles.
+	 */
+	static void applyTransforms( GrayU8 input , GrayU8 output , Workspace work , int y0 , int y1 ) {
+		final int width = input.width;
+		final int rowStride = work.tilesX*work.bins;
+		final int[] transforms = work.transforms;
+		final int[] columnTileA = work.columnTileA;
+		final int[] columnTileB = work.columnTileB;
+		final float[] columnWeight = work.columnWeight;
+
+		for( int y = y0; y < y1; y++ ) {
+			int tileY = work.rowTileA[y];
+			int offsetA = tileY*rowStride;
+			int offsetB = Math.min(tileY + 1, work.tilesY - 1)*rowStride;
+			float wy = work.rowWeight[y];
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				int value = input.data[indexIn++] & 0xFF;
+				int a = columnTileA[x] + value;
+				int b = columnTileB[x] + value;
+				float wx = columnWeight[x];
+
+				int t00 = transforms[offsetA + a];
+				int t10 = transforms[offsetA + b];
+				int t01 = transforms[offsetB + a];
+				int t11 = transforms[offsetB + b];
+
+				float top = t00 + wx*(t10 - t00);
+				float bottom = t01 + wx*(t11 - t01);
+
+				output.data[indexOut++] = (byte)(top + wy*(bottom - top) + 0.5f);
+			}
+		}
+	}
+
+	/**
+	 * Computes the output value of pixels in rows from y0 to y1, exclusive, by interpolating between the
+	 * transforms of the closest tiles.
+	 */
+	static void applyTransforms( GrayU16 input , GrayU16 output , Workspace work , int y0 , int y1 ) {
+		final int width = input.width;
+		final int maxValue = work.bins - 1;
+		final int rowStride = work.tilesX*work.bins;
+		final int[] transforms = work.transforms;
+		final int[] columnTileA = work.columnTileA;
+		final int[] columnTileB = work.columnTileB;
+		final float[] columnWeight = work.columnWeight;
+
+		for( int y = y0; y < y1; y++ ) {
+			int tileY = work.rowTileA[y];
+			int offsetA = tileY*rowStride;
+			int offsetB = Math.min(tileY + 1, work.tilesY - 1)*rowStride;
+			float wy = work.rowWeight[y];
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				int value = input.data[indexIn++] & 0xFFFF;
+				if( value > maxValue )
+					value = maxValue;
+				int a = columnTileA[x] + value;
+				int b = columnTileB[x] + value;
+				float wx = columnWeight[x];
+
+				int t00 = transforms[offsetA + a];
+				int t10 = transforms[offsetA + b];
+				int t01 = transforms[offsetB + a];
+				int t11 = transforms[offsetB + b];
+
+				float top = t00 + wx*(t10 - t00);
+				float bottom = t01 + wx*(t11 - t01);
+
+				output.data[indexOut++] = (short)(top + wy*(bottom - top) + 0.5f);
+			}
+		}
+	}
+
+	/**
+	 * Storage for CLAHE.  Arrays only grow, so once it has been used with the largest image there is no
+	 * need to declare more memory.
+	 */
+	public static class Workspace {
+		/** Number of tiles along the x and y axis */
+		public int tilesX, tilesY;
+		/** Number of histogram bins, which is the maximum pixel value plus one */
+		public int bins;
+		/** Maximum count in a histogram bin relative to the average count.  If &le; 0 there is no clipping. */
+		public double clipLimit;
+
+		/** Histogram then transform for each tile.  Tile (i,j) starts at index (j*tilesX + i)*bins */
+		public int[] transforms = new int[0];
+
+		/** Boundary of each tile along the x and y axis.  Tile i goes from bounds[i] to bounds[i+1], exclusive */
+		public int[] boundsX = new int[0], boundsY = new int[0];
+
+		/** For each column, index of the first bin in the tiles to the left and right of it */
+		public int[] columnTileA = new int[0], columnTileB = new int[0];
+		/** For each column, weight of the tile to the right */
+		public float[] columnWeight = new float[0];
+
+		/** For each row, the tile above it.  The tile below it is the next one */
+		public int[] rowTileA = new int[0];
+		/** For each row, weight of the tile below */
+		public float[] rowWeight = new float[0];
+
+		/**
+		 * Configures the workspace for an image.  If there are more tiles than pixels along an axis then the number
+		 * of tiles is reduced.
+		 *
+		 * @param width Image width
+		 * @param height Image height
+		 * @param tilesX Number of tiles along the x-axis
+		 * @param tilesY Number of tiles along the y-axis
+		 * @param maxValue Maximum possible pixel value
+		 * @param clipLimit Maximum count in a histogram bin relative to the average count.  Try 2 to 4. If
+		 *                  &le; 0 there is no clipping.
+		 */
+		public void configure( int width , int height , int tilesX , int tilesY , int maxValue , double clipLimit ) {
+			if( tilesX <= 0 || tilesY <= 0 )
+				throw new IllegalArgumentException("Number of tiles must be positive");
+			if( maxValue < 0 )
+				throw new IllegalArgumentException("Maximum value must not be negative");
+
+			this.tilesX = Math.max(1, Math.min(tilesX, width));
+			this.tilesY = Math.max(1, Math.min(tilesY, height));
+			this.bins = maxValue + 1;
+			this.clipLimit = clipLimit;
+
+			int length = this.tilesX*this.tilesY*bins;
+			if( transforms.length < length )
+				transforms = new int[length];
+			if( boundsX.length < this.tilesX + 1 )
+				boundsX = new int[this.tilesX + 1];
+			if( boundsY.length < this.tilesY + 1 )
+				boundsY = new int[this.tilesY + 1];
+			if( columnTileA.length < width ) {
+				columnTileA = new int[width];
+				columnTileB = new int[width];
+				columnWeight = new float[width];
+			}
+			if( rowTileA.length < height ) {
+				rowTileA = new int[height];
+				rowWeight = new float[height];
+			}
+
+			computeBounds(width, this.tilesX, boundsX);
+			computeBounds(height, this.tilesY, boundsY);
+
+			for( int x = 0; x < width; x++ ) {
+				int tile = interpolationTile(x, boundsX, this.tilesX);
+				columnWeight[x] = interpolationWeight(x, tile, boundsX, this.tilesX);
+				columnTileA[x] = tile*bins;
+				columnTileB[x] = Math.min(tile + 1, this.tilesX - 1)*bins;
+			}
+			for( int y = 0; y < height; y++ ) {
+				int tile = interpolationTile(y, boundsY, this.tilesY);
+				rowWeight[y] = interpolationWeight(y, tile, boundsY, this.tilesY);
+				rowTileA[y] = tile;
+			}
+		}
+
+		private static void computeBounds( int length , int tiles , int[] bounds ) {
+			for( int i = 0; i <= tiles; i++ ) {
+				bounds[i] = (int)((long)i*length/tiles);
+			}
+		}
+
+		private static float center( int[] bounds , int tile ) {
+			return (bounds[tile] + bounds[tile + 1] - 1)/2.0f;
+		}
+
+		/**
+		 * Returns the tile whose center is the closest one at or before the coordinate
+		 */
+		private static int interpolationTile( int coordinate , int[] bounds , int tiles ) {
+			int tile = 0;
+			while( tile + 1 < tiles && center(bounds, tile + 1) <= coordinate ) {
+				tile++;
+			}
+			return tile;
+		}
+
+		/**
+		 * Weight of the next tile.  Pixels before the first center or after the last center use a single tile.
+		 */
+		private static float interpolationWeight( int coordinate , int tile , int[] bounds , int tiles ) {
+			float centerA = center(bounds, tile);
+			if( tile + 1 >= tiles || coordinate <= centerA )
+				return 0;
+			float centerB = center(bounds, tile + 1);
+			return (coordinate - centerA)/(centerB - centerA);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplEnhanceClahe}.  First the tile transforms are computed concurrently, with each
+ * thread writing to a different part of the transform array.  Then blocks of rows are interpolated concurrently.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplEnhanceClahe_MT {
+
+	/**
+	 * Applies CLAHE to the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param work Storage which has been configured for this image.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , ImplEnhanceClahe.Workspace work ) {
+		BoofConcurrency.loopBlocks(0, work.tilesX*work.tilesY, 1, (tile0, tile1) ->
+				ImplEnhanceClahe.computeTransforms(input, work, tile0, tile1));
+		BoofConcurrency.loopBlocks(0, input.height, (y0, y1) ->
+				ImplEnhanceClahe.applyTransforms(input, output, work, y0, y1));
+	}
+
+	/**
+	 * Applies CLAHE to the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param work Storage which has been configured for this image.
+	 */
+	public static void process( GrayU16 input , GrayU16 output , ImplEnhanceClahe.Workspace work ) {
+		BoofConcurrency.loopBlocks(0, work.tilesX*work.tilesY, 1, (tile0, tile1) ->
+				ImplEnhanceClahe.computeTransforms(input, work, tile0, tile1));
+		BoofConcurrency.loopBlocks(0, input.height, (y0, y1) ->
+				ImplEnhanceClahe.applyTransforms(input, output, work, y0, y1));
+	}
+}
@@ -316,6 +316,37 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * See {@link #threshold(ImageGray, GrayU8, double, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality &le; is used, otherwise if false then &gt; is used.
+	 * @return packed binary image.
+	 */
+	public static <T extends ImageGray<T>>
+	PackedBinaryImage thresholdPacked(T input , PackedBinaryImage output ,
+									  double threshold , boolean down )
+	{
+		if( input instanceof GrayF32) {
+			return ThresholdImageOps.thresholdPacked((GrayF32)input,output,(float)threshold,down);
+		} else if( input instanceof GrayU8) {
+			return ThresholdImageOps.thresholdPacked((GrayU8)input,output,(int)threshold,down);
+		} else if( input instanceof GrayU16) {
+			return ThresholdImageOps.thresholdPacked((GrayU16)input,output,(int)threshold,down);
+		} else if( input instanceof GrayS16) {
+			return ThresholdImageOps.thresholdPacked((GrayS16)input,output,(int)threshold,down);
+		} else if( input instanceof GrayS32) {
+			return ThresholdImageOps.thresholdPacked((GrayS32)input,output,(int)threshold,down);
+		} else if( input instanceof GrayF64) {
+			return ThresholdImageOps.thresholdPacked((GrayF64)input,output,threshold,down);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * <p>
 	 * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered
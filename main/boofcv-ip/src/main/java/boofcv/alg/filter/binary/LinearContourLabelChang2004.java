@@ -19,10 +19,12 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
 import org.ddogleg.struct.FastQueue;
 
 /**
@@ -50,6 +52,11 @@ import org.ddogleg.struct.FastQueue;
  * </p>
  *
  * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true large images are processed by
+ * {@link LinearContourLabelChang2004_MT}, which splits the image into strips.  The output is identical.
+ * </p>
+ *
+ * <p>
  * [1] Fu Chang and Chun-jen Chen and Chi-jen Lu, "A linear-time component-labeling algorithm using contour
  * tracing technique" Computer Vision and Image Understanding, 2004
  * </p>
@@ -58,6 +65,12 @@ import org.ddogleg.struct.FastQueue;
  */
 public class LinearContourLabelChang2004 {
 
+	/**
+	 * Images with fewer pixels than this are always processed in a single thread, even when
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true, since the overhead isn't worth it.
+	 */
+	public static int MIN_PIXELS_CONCURRENT = 300*300;
+
 	// The maximum number of elements in a contour that will be recorded
 	private int minContourSize = 0;
 	// The maximum number of elements in a contour that will be recorded
@@ -78,6 +91,9 @@ public class LinearContourLabelChang2004 {
 	// internal book keeping variables
 	private int x,y,indexIn,indexOut;
 
+	// used instead of the single threaded algorithm when concurrency is turned on
+	private LinearContourLabelChang2004_MT concurrent;
+
 	/**
 	 * Configures the algorithm.
 	 *
@@ -97,17 +113,55 @@ public class LinearContourLabelChang2004 {
 		// initialize data structures
 		labeled.reshape(binary.width,binary.height);
 
-		// ensure that the image border pixels are filled with zero by enlarging the image
-		if( border.width != binary.width+2 || border.height != binary.height+2)  {
-			border.reshape(binary.width + 2, binary.height + 2);
+		declareBorder(binary.width, binary.height);
+		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
+
+		processBorder(labeled);
+	}
+
+	/**
+	 * Processes a packed binary image to find the contour of and label blobs.  The packed image is unpacked
+	 * directly into the internal image with a border, so there is no additional overhead compared to
+	 * {@link #process(GrayU8, GrayS32)}.
+	 *
+	 * @param binary Input packed binary image. Not modified.
+	 * @param labeled Output. Labeled image.  Modified.
+	 */
+	public void process(PackedBinaryImage binary , GrayS32 labeled ) {
+		// initialize data structures
+		labeled.reshape(binary.width,binary.height);
+
+		declareBorder(binary.width, binary.height);
+		PackedBinaryOps.unpack(binary, border.subimage(1,1,border.width-1,border.height-1, null));
+
+		processBorder(labeled);
+	}
+
+	/**
+	 * Ensure that the image border pixels are filled with zero by enlarging the image
+	 */
+	private void declareBorder( int width , int height ) {
+		if( border.width != width+2 || border.height != height+2)  {
+			border.reshape(width + 2, height + 2);
 			ImageMiscOps.fillBorder(border, 0, 1);
 		}
-		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
+	}
+
+	/**
+	 * Labels the image after the input has been copied inside the border image
+	 */
+	private void processBorder( GrayS32 labeled ) {
+		if( BoofConcurrency.USE_CONCURRENT && labeled.width*labeled.height >= MIN_PIXELS_CONCURRENT ) {
+			if( concurrent == null || concurrent.getConnectRule() != tracer.getConnectRule() )
+				concurrent = new LinearContourLabelChang2004_MT(tracer.getConnectRule());
+			concurrent.process(border, labeled, this);
+			return;
+		}
 
 		// labeled image must initially be filled with zeros
 		ImageMiscOps.fill(labeled,0);
 
-		binary = border;
+		GrayU8 binary = border;
 		packedPoints.reset();
 		contours.reset();
 		tracer.setInputs(binary,labeled, packedPoints);
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearContourLabelChang2004}.  The labeled image and contours are identical
+ * to what the single threaded algorithm produces, including the order of the contours and their points.
+ * </p>
+ *
+ * <p>
+ * Processing is done in two phases:
+ * <ol>
+ *     <li>The image is split into horizontal strips which are labeled independently with union-find.  Foreground
+ *     and background pixels are both labeled, with background using the opposite connectivity rule.  Labels which
+ *     touch across the seam between strips are then merged.  The final blob IDs are assigned in the order the
+ *     first pixel in each blob is encountered in a raster scan, just like in the single threaded algorithm.</li>
+ *     <li>Background regions which don't touch the image border are holes.  The single threaded algorithm traces
+ *     the external contour starting at the first pixel in a blob and an internal contour starting at the pixel
+ *     above the first pixel in a hole.  Those contours are traced in parallel and then added to the output in
+ *     the same order as the single threaded raster scan.</li>
+ * </ol>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT {
+
+	/**
+	 * Strips will not be smaller than this many rows.
+	 */
+	public static int MIN_STRIP_HEIGHT = 32;
+
+	private ConnectRule rule;
+
+	// labeling results for each strip
+	private FastQueue<Strip> strips = new FastQueue<>(Strip.class, true);
+	private int rowsPerStrip;
+
+	// Union-find forest for labels from all strips. The root of a set is always its smallest ID.
+	// IDs are in the order they were created in a raster scan
+	private GrowQueue_I32 parent = new GrowQueue_I32();
+	// index of the first pixel in each region
+	private GrowQueue_I32 firstIndex = new GrowQueue_I32();
+	// true if a region is foreground
+	private GrowQueue_B foreground = new GrowQueue_B();
+	// true if a background region touches the image border
+	private GrowQueue_B outside = new GrowQueue_B();
+	// conversion from region ID to the blob ID in the output. 0 for background
+	private GrowQueue_I32 lookup = new GrowQueue_I32();
+
+	// Contours which will be traced. Sorted in the order they would be encountered in a raster scan
+	private GrowQueue_I32 traceIndex = new GrowQueue_I32();
+	private GrowQueue_I32 traceLabel = new GrowQueue_I32();
+	private GrowQueue_B traceExternal = new GrowQueue_B();
+
+	// Storage for each thread when tracing contours
+	private final FastQueue<TraceBlock> blocks = new FastQueue<>(TraceBlock.class, true);
+
+	public LinearContourLabelChang2004_MT( ConnectRule rule ) {
+		this.rule = rule;
+	}
+
+	/**
+	 * Labels the image and finds the contours
+	 *
+	 * @param border Binary image with a 1 pixel border of zeros.  The border might be modified.
+	 * @param labeled Output labeled image.  Same size as the binary image without the border.
+	 * @param alg Contains the contour settings and storage for the found contours
+	 */
+	public void process( GrayU8 border , GrayS32 labeled , LinearContourLabelChang2004 alg ) {
+		labelStrips(border, labeled);
+		mergeStrips(border, labeled);
+		assignLabels(labeled);
+		relabel(border, labeled);
+		selectContours(labeled);
+		traceContours(border, labeled, alg);
+	}
+
+	/**
+	 * Labels each strip independently
+	 */
+	private void labelStrips( GrayU8 border , GrayS32 labeled ) {
+		int height = labeled.height;
+		int maxStrips = Math.max(1, height/Math.max(1, MIN_STRIP_HEIGHT));
+		int numStrips = Math.min(maxStrips, BoofConcurrency.getMaxThreads());
+		rowsPerStrip = (height + numStrips - 1)/numStrips;
+		numStrips = (height + rowsPerStrip - 1)/rowsPerStrip;
+
+		strips.reset();
+		for (int i = 0; i < numStrips; i++) {
+			Strip s = strips.grow();
+			s.y0 = i*rowsPerStrip;
+			s.y1 = Math.min(height, s.y0 + rowsPerStrip);
+		}
+
+		BoofConcurrency.loopFor(0, numStrips, i -> labelStrip(strips.get(i), border, labeled));
+	}
+
+	/**
+	 * Labels a strip with union-find.  Pixels above the strip are ignored.  The label image contains the
+	 * local ID of each pixel's region.
+	 */
+	private void labelStrip( Strip s , GrayU8 border , GrayS32 labeled ) {
+		s.parent.reset();
+		s.firstIndex.reset();
+
+		final int width = labeled.width;
+		final boolean foreground8 = rule == ConnectRule.EIGHT;
+		final int strideB = border.stride;
+		final int strideL = labeled.stride;
+
+		for (int y = s.y0; y < s.y1; y++) {
+			int indexB = border.startIndex + (y+1)*strideB + 1;
+			int indexL = labeled.startIndex + y*strideL;
+
+			for (int x = 0; x < width; x++, indexB++, indexL++) {
+				boolean fg = border.data[indexB] == 1;
+				// background uses the opposite connectivity as the foreground
+				boolean eight = fg == foreground8;
+
+				int label = -1;
+				if( x > 0 && (border.data[indexB-1] == 1) == fg )
+					label = labeled.data[indexL-1];
+				if( y > s.y0 ) {
+					int indexBU = indexB - strideB;
+					int indexLU = indexL - strideL;
+					if( (border.data[indexBU] == 1) == fg )
+						label = s.merge(label, labeled.data[indexLU]);
+					if( eight ) {
+						if( x > 0 && (border.data[indexBU-1] == 1) == fg )
+							label = s.merge(label, labeled.data[indexLU-1]);
+						if( x < width-1 && (border.data[indexBU+1] == 1) == fg )
+							label = s.merge(label, labeled.data[indexLU+1]);
+					}
+				}
+
+				if( label == -1 ) {
+					label = s.parent.size;
+					s.parent.add(label);
+					s.firstIndex.add(y*width + x);
+				}
+				labeled.data[indexL] = label;
+			}
+		}
+	}
+
+	/**
+	 * Combines the strips into a single forest and merges regions which touch across the seams
+	 */
+	private void mergeStrips( GrayU8 border , GrayS32 labeled ) {
+		parent.reset();
+		firstIndex.reset();
+		foreground.reset();
+
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			s.offset = parent.size;
+			for (int j = 0; j < s.parent.size; j++) {
+				parent.add(s.offset + s.find(j));
+				int index = s.firstIndex.get(j);
+				firstIndex.add(index);
+				int x = index % labeled.width, y = index / labeled.width;
+				foreground.add(border.unsafe_get(x+1, y+1) == 1);
+			}
+		}
+
+		final int width = labeled.width;
+		final boolean foreground8 = rule == ConnectRule.EIGHT;
+		for (int i = 1; i < strips.size; i++) {
+			Strip above = strips.get(i-1);
+			Strip below = strips.get(i);
+
+			int y = below.y0;
+			int indexB = border.startIndex + (y+1)*border.stride + 1;
+			int indexL = labeled.startIndex + y*labeled.stride;
+			for (int x = 0; x < width; x++, indexB++, indexL++) {
+				boolean fg = border.data[indexB] == 1;
+				boolean eight = fg == foreground8;
+				int label = below.offset + labeled.data[indexL];
+
+				int indexBU = indexB - border.stride;
+				int indexLU = indexL - labeled.stride;
+				if( (border.data[indexBU] == 1) == fg )
+					union(label, above.offset + labeled.data[indexLU]);
+				if( eight ) {
+					if( x > 0 && (border.data[indexBU-1] == 1) == fg )
+						union(label, above.offset + labeled.data[indexLU-1]);
+					if( x < width-1 && (border.data[indexBU+1] == 1) == fg )
+						union(label, above.offset + labeled.data[indexLU+1]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Assigns blob IDs in the order of each blob's first pixel and finds background regions which touch
+	 * the image border.
+	 */
+	private void assignLabels( GrayS32 labeled ) {
+		final int N = parent.size;
+		lookup.resize(N);
+		outside.resize(N);
+
+		// since a parent always has a smaller ID than its child, the roots can be found in a single pass
+		int total = 0;
+		for (int i = 0; i < N; i++) {
+			int p = parent.data[i];
+			if( p == i ) {
+				lookup.data[i] = foreground.data[i] ? ++total : 0;
+			} else {
+				parent.data[i] = parent.data[p];
+				lookup.data[i] = lookup.data[parent.data[i]];
+			}
+			outside.data[i] = false;
+		}
+
+		// background regions touching the border are connected to the outside
+		for (int x = 0; x < labeled.width; x++) {
+			markOutside(labeled, x, 0);
+			markOutside(labeled, x, labeled.height-1);
+		}
+		for (int y = 0; y < labeled.height; y++) {
+			markOutside(labeled, 0, y);
+			markOutside(labeled, labeled.width-1, y);
+		}
+	}
+
+	private void markOutside( GrayS32 labeled , int x , int y ) {
+		int root = parent.data[globalId(labeled, x, y)];
+		if( !foreground.data[root] )
+			outside.data[root] = true;
+	}
+
+	/**
+	 * Converts the local IDs in the labeled image into the final blob IDs
+	 */
+	private void relabel( GrayU8 border , GrayS32 labeled ) {
+		BoofConcurrency.loopFor(0, strips.size, i -> {
+			Strip s = strips.get(i);
+			for (int y = s.y0; y < s.y1; y++) {
+				int indexL = labeled.startIndex + y*labeled.stride;
+				int end = indexL + labeled.width;
+				for (; indexL < end; indexL++) {
+					labeled.data[indexL] = lookup.data[s.offset + labeled.data[indexL]];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Selects the starting point of each contour and sorts them into raster order
+	 */
+	private void selectContours( GrayS32 labeled ) {
+		traceIndex.reset();
+		traceLabel.reset();
+		traceExternal.reset();
+
+		final int width = labeled.width;
+		final int N = parent.size;
+
+		// external contours start at the first pixel in a blob. internal contours start at the pixel above
+		// the first pixel in a hole. Both lists are already sorted. Merge them together
+		int external = nextExternal(0);
+		int internal = nextInternal(0);
+		while( external < N || internal < N ) {
+			int indexExternal = external < N ? firstIndex.data[external] : Integer.MAX_VALUE;
+			int indexInternal = internal < N ? firstIndex.data[internal] - width : Integer.MAX_VALUE;
+
+			// the external contour is traced first if both start on the same pixel
+			if( indexExternal <= indexInternal ) {
+				traceIndex.add(indexExternal);
+				traceLabel.add(lookup.data[external]);
+				traceExternal.add(true);
+				external = nextExternal(external+1);
+			} else {
+				int x = indexInternal % width, y = indexInternal / width;
+				traceIndex.add(indexInternal);
+				traceLabel.add(labeled.unsafe_get(x, y));
+				traceExternal.add(false);
+				internal = nextInternal(internal+1);
+			}
+		}
+	}
+
+	private int nextExternal( int i ) {
+		while( i < parent.size && !(parent.data[i] == i && foreground.data[i]) )
+			i++;
+		return i;
+	}
+
+	private int nextInternal( int i ) {
+		while( i < parent.size && !(parent.data[i] == i && !foreground.data[i] && !outside.data[i]) )
+			i++;
+		return i;
+	}
+
+	/**
+	 * Traces contours in parallel then adds them to the output in raster order
+	 */
+	private void traceContours( GrayU8 border , GrayS32 labeled , LinearContourLabelChang2004 alg ) {
+		final int width = labeled.width;
+		final int maxContourSize = alg.getMaxContourSize();
+		final int minContourSize = alg.getMinContourSize();
+		final boolean saveInternal = alg.isSaveInternalContours();
+
+		blocks.reset();
+		BoofConcurrency.loopBlocks(0, traceIndex.size, (idx0, idx1) -> {
+			TraceBlock b;
+			synchronized (blocks) {
+				b = blocks.grow();
+			}
+			b.idx0 = idx0;
+			b.idx1 = idx1;
+			if( b.tracer == null || b.tracer.getConnectRule() != rule )
+				b.tracer = new ContourTracer(rule);
+			b.points.reset();
+			b.tracer.setInputs(border, labeled, b.points);
+
+			for (int i = idx0; i < idx1; i++) {
+				boolean external = traceExternal.data[i];
+				int index = traceIndex.data[i];
+				b.points.grow();
+				b.tracer.setMaxContourSize(external || saveInternal ? maxContourSize : 0);
+				b.tracer.trace(traceLabel.data[i], index % width + 1, index / width + 1, external);
+			}
+		});
+
+		// blocks can finish in any order. Sort them with an insertion sort since there are only a few
+		for (int i = 1; i < blocks.size; i++) {
+			TraceBlock b = blocks.data[i];
+			int j = i - 1;
+			for (; j >= 0 && blocks.data[j].idx0 > b.idx0; j--) {
+				blocks.data[j+1] = blocks.data[j];
+			}
+			blocks.data[j+1] = b;
+		}
+
+		PackedSetsPoint2D_I32 packedPoints = alg.getPackedPoints();
+		FastQueue<ContourPacked> contours = alg.getContours();
+		packedPoints.reset();
+		contours.reset();
+
+		for (int blockIdx = 0; blockIdx < blocks.size; blockIdx++) {
+			TraceBlock b = blocks.get(blockIdx);
+			PackedSetsPoint2D_I32.SetIterator iterator = b.points.createIterator();
+
+			for (int i = b.idx0; i < b.idx1; i++) {
+				if( traceExternal.data[i] ) {
+					ContourPacked c = contours.grow();
+					c.reset();
+					c.id = contours.size();
+					c.externalIndex = packedPoints.size();
+				} else {
+					ContourPacked c = contours.get(traceLabel.data[i]-1);
+					c.internalIndexes.add(packedPoints.size());
+				}
+				packedPoints.grow();
+				iterator.setup(i - b.idx0);
+				while( iterator.hasNext() ) {
+					Point2D_I32 p = iterator.next();
+					packedPoints.addPointToTail(p.x, p.y);
+				}
+
+				// Remove contours which are too large or small, but keep track that they exist
+				if( packedPoints.sizeOfTail() >= maxContourSize || packedPoints.sizeOfTail() < minContourSize ) {
+					packedPoints.removeTail();
+					packedPoints.grow();
+				}
+			}
+		}
+	}
+
+	public ConnectRule getConnectRule() {
+		return rule;
+	}
+
+	private int globalId( GrayS32 labeled , int x , int y ) {
+		return strips.get(y/rowsPerStrip).offset + labeled.unsafe_get(x, y);
+	}
+
+	private int find( int id ) {
+		while( parent.data[id] != id ) {
+			parent.data[id] = parent.data[parent.data[id]];
+			id = parent.data[id];
+		}
+		return id;
+	}
+
+	private void union( int a , int b ) {
+		int rootA = find(a);
+		int rootB = find(b);
+		if( rootA < rootB )
+			parent.data[rootB] = rootA;
+		else if( rootB < rootA )
+			parent.data[rootA] = rootB;
+	}
+
+	/**
+	 * Labeling results for a horizontal strip in the image.  Rows y0 to y1-1.
+	 */
+	public static class Strip {
+		int y0, y1;
+		// ID of the first region in this strip in the combined forest
+		int offset;
+		// union-find forest with local IDs. Root is always the smallest ID
+		GrowQueue_I32 parent = new GrowQueue_I32();
+		GrowQueue_I32 firstIndex = new GrowQueue_I32();
+
+		int find( int id ) {
+			while( parent.data[id] != id ) {
+				parent.data[id] = parent.data[parent.data[id]];
+				id = parent.data[id];
+			}
+			return id;
+		}
+
+		int merge( int label , int neighbor ) {
+			if( label == -1 )
+				return neighbor;
+			int rootA = find(label);
+			int rootB = find(neighbor);
+			if( rootA < rootB )
+				parent.data[rootB] = rootA;
+			else if( rootB < rootA )
+				parent.data[rootA] = rootB;
+			return label;
+		}
+	}
+
+	/**
+	 * Contours traced by a single thread
+	 */
+	public static class TraceBlock {
+		int idx0, idx1;
+		ContourTracer tracer;
+		PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32();
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ImplPackedBinaryOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+/**
+ * <p>
+ * Operations on binary images stored in a {@link PackedBinaryImage}.  The results are identical to the same
+ * operations in {@link BinaryImageOps} but 64 pixels are processed at once and 1/8 the memory is used.
+ * </p>
+ *
+ * <p>
+ * If an output image is provided it will be reshaped to match the input image.  Unless stated otherwise the
+ * output can't be the same instance as the input.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PackedBinaryOps {
+
+	/**
+	 * Converts a binary {@link GrayU8} image into a packed binary image.  Any pixel which is not zero is set to 1.
+	 *
+	 * @param input Input binary image. Not modified.
+	 * @param output (Optional) Output packed image. If null a new image will be declared. Modified.
+	 * @return Packed binary image
+	 */
+	public static PackedBinaryImage pack( GrayU8 input , PackedBinaryImage output ) {
+		output = declare(input.width, input.height, output);
+		ImplPackedBinaryOps.pack(input, output);
+		return output;
+	}
+
+	/**
+	 * Converts a packed binary image into a binary {@link GrayU8} image with values of 0 and 1.
+	 *
+	 * @param input Input packed image. Not modified.
+	 * @param output (Optional) Output binary image. If null a new image will be declared. Modified.
+	 * @return Binary image
+	 */
+	public static GrayU8 unpack( PackedBinaryImage input , GrayU8 output ) {
+		if( output == null )
+			output = new GrayU8(input.width, input.height);
+		else if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+		ImplPackedBinaryOps.unpack(input, output);
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'and' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicAnd( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											  PackedBinaryImage output ) {
+		output = declare(inputA, inputB, output);
+		ImplPackedBinaryOps.logicAnd(inputA, inputB, output);
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'or' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicOr( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											 PackedBinaryImage output ) {
+		output = declare(inputA, inputB, output);
+		ImplPackedBinaryOps.logicOr(inputA, inputB, output);
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'xor' operator between two images.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicXor( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											  PackedBinaryImage output ) {
+		output = declare(inputA, inputB, output);
+		ImplPackedBinaryOps.logicXor(inputA, inputB, output);
+		return output;
+	}
+
+	/**
+	 * Inverts each pixel from true to false and vis-versa.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Can be same as input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage invert( PackedBinaryImage input , PackedBinaryImage output ) {
+		output = declare(input.width, input.height, output);
+		ImplPackedBinaryOps.invert(input, output);
+		return output;
+	}
+
+	/**
+	 * Erodes an image according to a 4-neighborhood.  See {@link BinaryImageOps#erode4}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode4( PackedBinaryImage input , int numTimes , PackedBinaryImage output ) {
+		return apply(Operation.ERODE4, input, numTimes, output);
+	}
+
+	/**
+	 * Dilates an image according to a 4-neighborhood.  See {@link BinaryImageOps#dilate4}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate4( PackedBinaryImage input , int numTimes , PackedBinaryImage output ) {
+		return apply(Operation.DILATE4, input, numTimes, output);
+	}
+
+	/**
+	 * Removes all pixels but ones which are on the edge of an object, using a 4-neighborhood.
+	 * See {@link BinaryImageOps#edge4}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage edge4( PackedBinaryImage input , PackedBinaryImage output ) {
+		return apply(Operation.EDGE4, input, 1, output);
+	}
+
+	/**
+	 * Erodes an image according to an 8-neighborhood.  See {@link BinaryImageOps#erode8}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode8( PackedBinaryImage input , int numTimes , PackedBinaryImage output ) {
+		return apply(Operation.ERODE8, input, numTimes, output);
+	}
+
+	/**
+	 * Dilates an image according to an 8-neighborhood.  See {@link BinaryImageOps#dilate8}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate8( PackedBinaryImage input , int numTimes , PackedBinaryImage output ) {
+		return apply(Operation.DILATE8, input, numTimes, output);
+	}
+
+	/**
+	 * Removes all pixels but ones which are on the edge of an object, using an 8-neighborhood.
+	 * See {@link BinaryImageOps#edge8}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage edge8( PackedBinaryImage input , PackedBinaryImage output ) {
+		return apply(Operation.EDGE8, input, 1, output);
+	}
+
+	/**
+	 * Removes small bits of spurious noise.  See {@link BinaryImageOps#removePointNoise}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage removePointNoise( PackedBinaryImage input , PackedBinaryImage output ) {
+		return apply(Operation.REMOVE_POINT_NOISE, input, 1, output);
+	}
+
+	private enum Operation {
+		ERODE4, DILATE4, EDGE4, ERODE8, DILATE8, EDGE8, REMOVE_POINT_NOISE
+	}
+
+	/**
+	 * Applies the operation multiple times, switching between the output and a work image
+	 */
+	private static PackedBinaryImage apply( Operation op , PackedBinaryImage input , int numTimes ,
+											PackedBinaryImage output ) {
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+		if( input == output )
+			throw new IllegalArgumentException("The input and output can't be the same instance");
+
+		output = declare(input.width, input.height, output);
+
+		apply(op, input, output);
+
+		if( numTimes > 1 ) {
+			PackedBinaryImage tmp1 = new PackedBinaryImage(input.width, input.height);
+			PackedBinaryImage tmp2 = output;
+
+			for( int i = 1; i < numTimes; i++ ) {
+				apply(op, tmp2, tmp1);
+
+				PackedBinaryImage a = tmp1;
+				tmp1 = tmp2;
+				tmp2 = a;
+			}
+
+			if( tmp2 != output ) {
+				output.setTo(tmp2);
+			}
+		}
+
+		return output;
+	}
+
+	private static void apply( Operation op , PackedBinaryImage input , PackedBinaryImage output ) {
+		switch( op ) {
+			case ERODE4: ImplPackedBinaryOps.erode4(input, output); break;
+			case DILATE4: ImplPackedBinaryOps.dilate4(input, output); break;
+			case EDGE4: ImplPackedBinaryOps.edge4(input, output); break;
+			case ERODE8: ImplPackedBinaryOps.erode8(input, output); break;
+			case DILATE8: ImplPackedBinaryOps.dilate8(input, output); break;
+			case EDGE8: ImplPackedBinaryOps.edge8(input, output); break;
+			case REMOVE_POINT_NOISE: ImplPackedBinaryOps.removePointNoise(input, output); break;
+		}
+	}
+
+	private static PackedBinaryImage declare( PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											  PackedBinaryImage output ) {
+		if( inputA.width != inputB.width || inputA.height != inputB.height )
+			throw new IllegalArgumentException("Width and/or height of inputs do not match. "+
+					inputA.width+"x"+inputA.height+" "+inputB.width+"x"+inputB.height);
+		return declare(inputA.width, inputA.height, output);
+	}
+
+	private static PackedBinaryImage declare( int width , int height , PackedBinaryImage output ) {
+		if( output == null )
+			return new PackedBinaryImage(width, height);
+		if( output.width != width || output.height != height )
+			output.reshape(width, height);
+		return output;
+	}
+}
@@ -58,14 +58,9 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		stats = new InterleavedS32(1,1,256);
 	}
 
-	@Override
-	protected void computeStatistics(GrayU8 input, int innerWidth, int innerHeight) {
-		Arrays.fill(stats.data,0,stats.width*stats.height*256,0);
-		super.computeStatistics(input, innerWidth, innerHeight);
-	}
-
 	@Override
 	protected void computeBlockStatistics(int x0, int y0, int width, int height, int indexStats, GrayU8 input) {
+		Arrays.fill(stats.data,indexStats,indexStats+256,0);
 
 		for (int y = 0; y < height; y++) {
 			int indexInput = input.startIndex + (y0+y)*input.stride + x0;
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.abst.filter.binary.InputToBinaryStream;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>Streaming version of {@link ThresholdBlockCommon} for images which arrive a few rows at a time, e.g. from
+ * a line-scan camera. Block statistics are computed as soon as a full row of blocks has been seen and only the
+ * rows of blocks which are still needed are kept in memory. The statistics and threshold for each block are
+ * computed by the wrapped algorithm.</p>
+ *
+ * <p>The block size is selected from the image width only, as if the image was taller than it is wide. The
+ * last row of blocks absorbs any rows left over at the end of the stream. The output is identical to calling
+ * {@link ThresholdBlockCommon#process} on the entire image if it selects the same block size. This is the case
+ * when the image's height is a multiple of the block height or there are at least as many rows of blocks
+ * as there are pixels in the block height.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ThresholdBlockStream<T extends ImageGray<T>,S extends ImageBase<S>>
+		implements InputToBinaryStream<T>
+{
+	// number of rows of blocks which can be stored
+	private static final int CAPACITY_BLOCKS = 8;
+
+	// algorithm that computes statistics and thresholds a block
+	ThresholdBlockCommon<T,S> alg;
+
+	// rows of the input image which are still needed
+	T window;
+	// Storage for the binary image when a row of blocks is thresholded
+	GrayU8 binary = new GrayU8(1,1);
+	// Statistics for each row of blocks in the window. Swapped into the algorithm while it's being used
+	S stats;
+
+	// shape of the image
+	int width;
+	int numCols;
+	// number of rows in the window
+	int windowRows;
+	// index of the first row of blocks in the window
+	int windowBlock0;
+	// number of rows of blocks with computed statistics
+	int numStats;
+	// index of the next row of blocks to be written out
+	int nextBlock;
+	// total number of rows passed in and written out
+	int totalRows;
+	int rowsOutput;
+	boolean finished;
+
+	public ThresholdBlockStream(ThresholdBlockCommon<T, S> alg) {
+		this.alg = alg;
+		this.window = alg.getInputType().createImage(1,1);
+		this.stats = alg.stats.createNew(1,1);
+	}
+
+	@Override
+	public void reset(int width) {
+		int requestedBlockWidth = alg.requestedBlockWidth.computeI(width);
+		if( width < requestedBlockWidth ) {
+			throw new IllegalArgumentException("Image is smaller than block size");
+		}
+		alg.selectBlockSize(width,requestedBlockWidth,requestedBlockWidth);
+
+		this.width = width;
+		this.numCols = width/alg.blockWidth;
+		window.reshape(width,CAPACITY_BLOCKS*alg.blockHeight);
+		binary.reshape(width,CAPACITY_BLOCKS*alg.blockHeight);
+		stats.reshape(numCols,CAPACITY_BLOCKS);
+
+		windowRows = 0;
+		windowBlock0 = 0;
+		numStats = 0;
+		nextBlock = 0;
+		totalRows = 0;
+		rowsOutput = 0;
+		finished = false;
+	}
+
+	@Override
+	public int process(T rows, GrayU8 output) {
+		if( finished )
+			throw new IllegalArgumentException("The stream has finished. Call reset()");
+		if( rows.width != width )
+			throw new IllegalArgumentException("Expected rows with a width of "+width);
+
+		int blockHeight = alg.blockHeight;
+		int lag = alg.thresholdFromLocalBlocks ? 2 : 1;
+		int numOutput = Math.max(nextBlock,(totalRows+rows.height)/blockHeight-lag)*blockHeight - nextBlock*blockHeight;
+		output.reshape(width,numOutput);
+		int outputRow = 0;
+
+		int y = 0;
+		while( y < rows.height ) {
+			if( windowRows == window.height )
+				discardBlocks();
+			int length = Math.min(rows.height-y,window.height-windowRows);
+			window.subimage(0,windowRows,width,windowRows+length).setTo(rows.subimage(0,y,width,y+length));
+			windowRows += length;
+			totalRows += length;
+			y += length;
+
+			// a row of blocks is final once it's known not to be the last row, which absorbs extra rows
+			while( (windowBlock0+numStats+2)*blockHeight <= totalRows ) {
+				computeStatistics(numStats,blockHeight);
+				numStats++;
+			}
+			// the next row of blocks also needs to be final if local blocks are used
+			while( nextBlock + lag - 1 < windowBlock0 + numStats ) {
+				outputRow = thresholdBlockRow(nextBlock++,false,output,outputRow);
+			}
+		}
+
+		rowsOutput += numOutput;
+		return numOutput;
+	}
+
+	@Override
+	public int finish(GrayU8 output) {
+		if( finished )
+			throw new IllegalArgumentException("The stream has finished. Call reset()");
+		finished = true;
+
+		int blockHeight = alg.blockHeight;
+		int numBlocks = totalRows/blockHeight;
+		if( numBlocks == 0 )
+			throw new IllegalArgumentException("Image is smaller than block size");
+
+		// the last row of blocks includes the extra rows at the bottom
+		while( windowBlock0 + numStats < numBlocks ) {
+			int row = numStats*blockHeight;
+			boolean last = windowBlock0 + numStats == numBlocks-1;
+			computeStatistics(numStats, last ? windowRows-row : blockHeight);
+			numStats++;
+		}
+
+		int numOutput = totalRows-nextBlock*blockHeight;
+		output.reshape(width,numOutput);
+		int outputRow = 0;
+		while( nextBlock < numBlocks ) {
+			outputRow = thresholdBlockRow(nextBlock,nextBlock==numBlocks-1,output,outputRow);
+			nextBlock++;
+		}
+		rowsOutput += numOutput;
+		return numOutput;
+	}
+
+	/**
+	 * Computes statistics for every block in a row of blocks inside the window
+	 */
+	private void computeStatistics( int blockRow , int height ) {
+		int statPixelStride = stats.getImageType().getNumBands();
+		int y0 = blockRow*alg.blockHeight;
+		int indexStats = stats.startIndex + blockRow*stats.stride;
+		S original = alg.stats;
+		alg.stats = stats;
+		try {
+			for (int col = 0; col < numCols; col++, indexStats += statPixelStride) {
+				int x0 = col*alg.blockWidth;
+				int blockWidth = col == numCols-1 ? width-x0 : alg.blockWidth;
+				alg.computeBlockStatistics(x0,y0,blockWidth,height,indexStats,window);
+			}
+		} finally {
+			alg.stats = original;
+		}
+	}
+
+	/**
+	 * Thresholds a row of blocks and copies the results into the output image
+	 *
+	 * @param block Index of the row of blocks
+	 * @param last true if it's the last row of blocks in the image
+	 */
+	private int thresholdBlockRow( int block , boolean last , GrayU8 output , int outputRow ) {
+		int blockHeight = alg.blockHeight;
+
+		// rows of blocks which are used to compute the threshold
+		int statsRow0 = block, statsRow1 = block;
+		if( alg.thresholdFromLocalBlocks ) {
+			statsRow0 = Math.max(0,block-1);
+			statsRow1 = Math.min(windowBlock0+numStats-1,block+1);
+		}
+		statsRow0 -= windowBlock0;
+		statsRow1 -= windowBlock0;
+
+		// Pixel rows start at the first row of blocks in the statistics so that the coordinates line up
+		int y0 = statsRow0*blockHeight;
+		int y1 = last ? windowRows : (block-windowBlock0+1)*blockHeight;
+
+		T input = window.subimage(0,y0,width,y1);
+		GrayU8 binaryRows = binary.subimage(0,y0,width,y1);
+		S original = alg.stats;
+		alg.stats = stats.subimage(0,statsRow0,numCols,statsRow1+1);
+		try {
+			for (int col = 0; col < numCols; col++) {
+				alg.thresholdBlock(col,block-windowBlock0-statsRow0,input,binaryRows);
+			}
+		} finally {
+			alg.stats = original;
+		}
+
+		int rowStart = (block-windowBlock0)*blockHeight;
+		int numRows = y1-rowStart;
+		output.subimage(0,outputRow,width,outputRow+numRows).setTo(binary.subimage(0,rowStart,width,y1));
+		return outputRow + numRows;
+	}
+
+	/**
+	 * Removes rows of blocks from the window which are no longer needed
+	 */
+	private void discardBlocks() {
+		int keep = alg.thresholdFromLocalBlocks ? Math.max(0,nextBlock-1) : nextBlock;
+		int shift = keep-windowBlock0;
+		if( shift <= 0 )
+			throw new RuntimeException("BUG! Window is full");
+
+		int blockHeight = alg.blockHeight;
+		int shiftRows = shift*blockHeight;
+		window.subimage(0,0,width,windowRows-shiftRows).setTo(window.subimage(0,shiftRows,width,windowRows));
+		if( numStats > shift ) {
+			stats.subimage(0,0,numCols,numStats-shift).setTo(stats.subimage(0,shift,numCols,numStats));
+		}
+		windowRows -= shiftRows;
+		numStats = Math.max(0,numStats-shift);
+		windowBlock0 = keep;
+	}
+
+	@Override
+	public int getMaxDelay() {
+		return (alg.thresholdFromLocalBlocks ? 3 : 2)*alg.blockHeight - 1;
+	}
+
+	@Override
+	public int getRowsOutput() {
+		return rowsOutput;
+	}
+
+	@Override
+	public ImageType<T> getInputType() {
+		return alg.getInputType();
+	}
+
+	public ThresholdBlockCommon<T, S> getAlgorithm() {
+		return alg;
+	}
+}
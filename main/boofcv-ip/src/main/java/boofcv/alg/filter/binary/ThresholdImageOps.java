@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -84,6 +84,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayF32, GrayU8, float, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayF32 input , PackedBinaryImage output ,
+														float threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
@@ -133,6 +176,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayF64, GrayU8, double, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayF64 input , PackedBinaryImage output ,
+														double threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
@@ -182,6 +268,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayU8, GrayU8, int, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayU8 input , PackedBinaryImage output ,
+														int threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]& 0xFF) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]& 0xFF) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
@@ -231,6 +360,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayS16, GrayU8, int, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayS16 input , PackedBinaryImage output ,
+														int threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
@@ -280,6 +452,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayU16, GrayU8, int, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayU16 input , PackedBinaryImage output ,
+														int threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]& 0xFFFF) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]& 0xFFFF) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies a global threshold across the whole image.  If 'down' is true, then pixels with values <=
 	 * to 'threshold' are set to 1 and the others set to 0.  If 'down' is false, then pixels with values >
@@ -329,6 +544,49 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results into a packed binary image.
+	 * 64 pixels are thresholded and written at once.  Same results as
+	 * {@link #threshold(GrayS32, GrayU8, int, boolean)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayS32 input , PackedBinaryImage output ,
+														int threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = indexIn + Math.min(64,input.width-x);
+				long word = 0;
+
+				if( down ) {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) <= threshold ? 1L : 0L) << bit;
+					}
+				} else {
+					for( int bit = 0; indexIn < end; indexIn++ , bit++ ) {
+						word |= ((input.data[indexIn]) > threshold ? 1L : 0L) << bit;
+					}
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+
+		return output;
+	}
+
 	/**
 	 * Thresholds the image using a locally adaptive threshold that is computed using a local square region centered
 	 * on each pixel.  The threshold is equal to the average value of the surrounding pixels times the scale.
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.abst.filter.binary.InputToBinaryStream;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>Streaming version of {@link ThresholdLocalOtsu} for images which arrive a few rows at a time, e.g. from
+ * a line-scan camera. Only the rows covered by the local region of the next output row are kept in memory.
+ * A row is written out once the rows below it which are inside its local region have been passed in.</p>
+ *
+ * <p>The region width is computed from the image width only, as if the image was taller than it is wide. If
+ * the same region width is used then the output is identical to {@link ThresholdLocalOtsu}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ThresholdLocalOtsuStream implements InputToBinaryStream<GrayU8> {
+
+	// Computes the histograms and threshold
+	ThresholdLocalOtsu alg;
+
+	// rows of the input image which are still needed
+	GrayU8 window = new GrayU8(1,1);
+	// threshold for each column in a row
+	double thresholds[] = new double[0];
+	// the row in the window that the thresholds were computed at. -1 if unknown
+	int thresholdsRow;
+
+	int width;
+	// number of rows in the window
+	int windowRows;
+	// index of the first row in the window
+	int windowY0;
+	// index of the next row to be written out
+	int nextRow;
+	// total number of rows passed in
+	int totalRows;
+	boolean finished;
+
+	public ThresholdLocalOtsuStream(ThresholdLocalOtsu alg) {
+		this.alg = alg;
+	}
+
+	@Override
+	public void reset(int width) {
+		int regionWidth = alg.regionWidthLength.computeI(width);
+		if( width < regionWidth ) {
+			throw new IllegalArgumentException("Image is smaller than region size");
+		}
+		alg.regionWidth = regionWidth;
+		alg.numPixels = regionWidth*regionWidth;
+
+		this.width = width;
+		window.reshape(width,2*regionWidth);
+		if( thresholds.length < width )
+			thresholds = new double[width];
+
+		thresholdsRow = -1;
+		windowRows = 0;
+		windowY0 = 0;
+		nextRow = 0;
+		totalRows = 0;
+		finished = false;
+	}
+
+	@Override
+	public int process(GrayU8 rows, GrayU8 output) {
+		if( finished )
+			throw new IllegalArgumentException("The stream has finished. Call reset()");
+		if( rows.width != width )
+			throw new IllegalArgumentException("Expected rows with a width of "+width);
+
+		int regionWidth = alg.regionWidth;
+		int radius = regionWidth/2;
+		// the last row which can be written out has a local region which ends at the last row passed in
+		int rowsAfter = totalRows+rows.height;
+		int numOutput = rowsAfter < regionWidth ? 0 : Math.max(nextRow,rowsAfter-regionWidth+radius+1) - nextRow;
+		output.reshape(width,numOutput);
+		int outputRow = 0;
+
+		int y = 0;
+		while( y < rows.height ) {
+			if( windowRows == window.height )
+				discardRows();
+			int length = Math.min(rows.height-y,window.height-windowRows);
+			window.subimage(0,windowRows,width,windowRows+length).setTo(rows.subimage(0,y,width,y+length));
+			windowRows += length;
+			totalRows += length;
+			y += length;
+
+			// the local region is only moved up at the image bottom, so it's known once all its rows are seen
+			while( true ) {
+				int top = Math.max(0,nextRow-radius);
+				if( top + regionWidth > totalRows )
+					break;
+				thresholdRow(nextRow++,top,output,outputRow++);
+			}
+		}
+
+		return numOutput;
+	}
+
+	@Override
+	public int finish(GrayU8 output) {
+		if( finished )
+			throw new IllegalArgumentException("The stream has finished. Call reset()");
+		finished = true;
+
+		int regionWidth = alg.regionWidth;
+		if( totalRows < regionWidth )
+			throw new IllegalArgumentException("Image is smaller than region size");
+
+		int numOutput = totalRows - nextRow;
+		output.reshape(width,numOutput);
+		for (int outputRow = 0; nextRow < totalRows; nextRow++, outputRow++ ) {
+			int top = Math.min(totalRows-regionWidth,Math.max(0,nextRow-regionWidth/2));
+			thresholdRow(nextRow,top,output,outputRow);
+		}
+		return numOutput;
+	}
+
+	/**
+	 * Thresholds a single row using local regions which start at the specified row
+	 */
+	private void thresholdRow( int row , int top , GrayU8 output , int outputRow ) {
+		int topWindow = top-windowY0;
+		if( topWindow != thresholdsRow ) {
+			computeThresholds(topWindow);
+		}
+
+		boolean down = alg.otsu.down;
+		int indexInput = window.startIndex + (row-windowY0)*window.stride;
+		int indexOutput = output.startIndex + outputRow*output.stride;
+		for (int x = 0; x < width; x++) {
+			output.data[indexOutput++] = down == (window.data[indexInput++]&0xFF) <= thresholds[x] ? (byte)1 : 0;
+		}
+	}
+
+	/**
+	 * Computes the threshold for each column when the local region starts at the specified row in the window.
+	 * Rows which share the same local region, along the top and bottom image border, reuse the thresholds.
+	 */
+	private void computeThresholds( int topWindow ) {
+		int regionWidth = alg.regionWidth;
+		int x0 = regionWidth/2;
+		int x1 = width-(regionWidth-x0);
+
+		alg.computeHistogram(0,topWindow,window);
+		for (int x = 0; x <= x0; x++) {
+			thresholds[x] = alg.otsu.threshold;
+		}
+		for (int x = x0+1; x <= x1; x++) {
+			alg.updateHistogramX(x-x0,topWindow,window);
+			thresholds[x] = alg.otsu.threshold;
+		}
+		for (int x = x1+1; x < width; x++) {
+			thresholds[x] = alg.otsu.threshold;
+		}
+		thresholdsRow = topWindow;
+	}
+
+	/**
+	 * Removes rows from the window which are above the local region of the next row
+	 */
+	private void discardRows() {
+		int keep = Math.max(0,nextRow-alg.regionWidth/2);
+		int shift = keep-windowY0;
+		if( shift <= 0 )
+			throw new RuntimeException("BUG! Window is full");
+
+		window.subimage(0,0,width,windowRows-shift).setTo(window.subimage(0,shift,width,windowRows));
+		windowRows -= shift;
+		windowY0 = keep;
+		thresholdsRow = thresholdsRow >= shift ? thresholdsRow-shift : -1;
+	}
+
+	@Override
+	public int getMaxDelay() {
+		return alg.regionWidth - 1;
+	}
+
+	@Override
+	public int getRowsOutput() {
+		return nextRow;
+	}
+
+	@Override
+	public ImageType<GrayU8> getInputType() {
+		return alg.getImageType();
+	}
+
+	public ThresholdLocalOtsu getAlgorithm() {
+		return alg;
+	}
+}
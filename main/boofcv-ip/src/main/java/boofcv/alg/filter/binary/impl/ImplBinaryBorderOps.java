@@ -30,7 +30,7 @@ import boofcv.struct.image.GrayU8;
 public class ImplBinaryBorderOps {
 	public static void erode4(GrayU8 input, GrayU8 output) {
 
-		ImageBorder_S32 in = ImageBorderValue.wrap(input,0);
+		ImageBorder_S32 in = ImageBorderValue.wrap(input,1);
 		
 		final int h = input.height - 1;
 		final int w = input.width - 1;
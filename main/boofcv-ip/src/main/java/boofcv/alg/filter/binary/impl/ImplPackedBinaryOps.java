@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+/**
+ * <p>
+ * Implementations of binary operations on {@link PackedBinaryImage}.  Each operation is applied to 64 pixels at once
+ * by shifting and masking whole words.  Neighbors to the left and right are found by shifting a word by one bit
+ * and carrying in a bit from the adjacent word.
+ * </p>
+ *
+ * <p>
+ * Pixels outside the image are handled the same way as in {@link ImplBinaryNaiveOps}.  Erode and edge treat them as 1,
+ * dilate and point noise removal treat them as 0.
+ * </p>
+ *
+ * @author Peter Abeles
+ * @see boofcv.alg.filter.binary.PackedBinaryOps
+ */
+public class ImplPackedBinaryOps {
+
+	public static void pack( GrayU8 input , PackedBinaryImage output ) {
+		final int width = input.width;
+		for (int y = 0; y < input.height; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for (int x = 0; x < width; x += 64) {
+				int length = Math.min(64, width - x);
+				long word = 0;
+				for (int bit = 0; bit < length; bit++) {
+					int value = input.data[indexIn++];
+					// 1 if not zero and 0 otherwise
+					word |= ((long)((value | -value) >>> 31)) << bit;
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+	}
+
+	public static void unpack( PackedBinaryImage input , GrayU8 output ) {
+		final int width = input.width;
+		for (int y = 0; y < input.height; y++) {
+			int indexIn = y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for (int x = 0; x < width; x += 64) {
+				int length = Math.min(64, width - x);
+				long word = input.data[indexIn++];
+				for (int bit = 0; bit < length; bit++) {
+					output.data[indexOut++] = (byte)((word >>> bit) & 1);
+				}
+			}
+		}
+	}
+
+	public static void logicAnd( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int N = inputA.stride*inputA.height;
+		for (int i = 0; i < N; i++) {
+			output.data[i] = inputA.data[i] & inputB.data[i];
+		}
+	}
+
+	public static void logicOr( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int N = inputA.stride*inputA.height;
+		for (int i = 0; i < N; i++) {
+			output.data[i] = inputA.data[i] | inputB.data[i];
+		}
+	}
+
+	public static void logicXor( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int N = inputA.stride*inputA.height;
+		for (int i = 0; i < N; i++) {
+			output.data[i] = inputA.data[i] ^ inputB.data[i];
+		}
+	}
+
+	public static void invert( PackedBinaryImage input , PackedBinaryImage output ) {
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int index = y*stride;
+			for (int i = 0; i < stride; i++, index++) {
+				output.data[index] = ~input.data[index] & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void erode4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = -1L;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long c = word(input, y, i, fill);
+				long l = left(input, y, i, fill);
+				long r = right(input, y, i, fill);
+				long u = word(input, y - 1, i, fill);
+				long d = word(input, y + 1, i, fill);
+
+				output.data[indexOut++] = c & l & r & u & d & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void dilate4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = 0;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long c = word(input, y, i, fill);
+				long l = left(input, y, i, fill);
+				long r = right(input, y, i, fill);
+				long u = word(input, y - 1, i, fill);
+				long d = word(input, y + 1, i, fill);
+
+				output.data[indexOut++] = (c | l | r | u | d) & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void edge4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = -1L;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long c = word(input, y, i, 0);
+				long l = left(input, y, i, fill);
+				long r = right(input, y, i, fill);
+				long u = word(input, y - 1, i, fill);
+				long d = word(input, y + 1, i, fill);
+
+				output.data[indexOut++] = c & ~(l & r & u & d) & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void erode8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = -1L;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long neighbors =
+						left(input, y - 1, i, fill) & word(input, y - 1, i, fill) & right(input, y - 1, i, fill) &
+						left(input, y    , i, fill) &                               right(input, y    , i, fill) &
+						left(input, y + 1, i, fill) & word(input, y + 1, i, fill) & right(input, y + 1, i, fill);
+
+				output.data[indexOut++] = word(input, y, i, fill) & neighbors & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void dilate8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = 0;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long neighbors =
+						left(input, y - 1, i, fill) | word(input, y - 1, i, fill) | right(input, y - 1, i, fill) |
+						left(input, y    , i, fill) |                               right(input, y    , i, fill) |
+						left(input, y + 1, i, fill) | word(input, y + 1, i, fill) | right(input, y + 1, i, fill);
+
+				output.data[indexOut++] = (word(input, y, i, fill) | neighbors) & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	public static void edge8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = -1L;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				long neighbors =
+						left(input, y - 1, i, fill) & word(input, y - 1, i, fill) & right(input, y - 1, i, fill) &
+						left(input, y    , i, fill) &                               right(input, y    , i, fill) &
+						left(input, y + 1, i, fill) & word(input, y + 1, i, fill) & right(input, y + 1, i, fill);
+
+				output.data[indexOut++] = word(input, y, i, 0) & ~neighbors & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	/**
+	 * Counts the number of neighbors for all 64 pixels in parallel.  Each bit of the count is stored in its own
+	 * word and the 8 neighbors are added to it one at a time.
+	 */
+	public static void removePointNoise( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long fill = 0;
+		final int stride = input.stride;
+		final long last = PackedBinaryImage.lastWordMask(input.width);
+		final long count[] = new long[4];
+		for (int y = 0; y < input.height; y++) {
+			int indexOut = y*stride;
+			for (int i = 0; i < stride; i++) {
+				count[0] = count[1] = count[2] = count[3] = 0;
+				add(count, left(input, y - 1, i, fill));
+				add(count, word(input, y - 1, i, fill));
+				add(count, right(input, y - 1, i, fill));
+				add(count, left(input, y, i, fill));
+				add(count, right(input, y, i, fill));
+				add(count, left(input, y + 1, i, fill));
+				add(count, word(input, y + 1, i, fill));
+				add(count, right(input, y + 1, i, fill));
+
+				// fewer than 2 neighbors: counts of 0 and 1
+				long lessThan2 = ~(count[1] | count[2] | count[3]);
+				// more than 6 neighbors: counts of 7 and 8
+				long moreThan6 = (count[0] & count[1] & count[2]) | count[3];
+				long center = word(input, y, i, fill);
+
+				output.data[indexOut++] = ~lessThan2 & (moreThan6 | center) & (i == stride-1 ? last : -1L);
+			}
+		}
+	}
+
+	/**
+	 * Adds one to the bit sliced counter for each bit in 'mask' which is set.  count[0] is the least significant bit.
+	 * The counter saturates at 8, which is all that's needed for an 8-neighborhood.
+	 */
+	static void add( long count[] , long mask ) {
+		long carry = count[0] & mask;
+		count[0] ^= mask;
+		long carry1 = count[1] & carry;
+		count[1] ^= carry;
+		long carry2 = count[2] & carry1;
+		count[2] ^= carry1;
+		count[3] |= carry2;
+	}
+
+	/**
+	 * Returns word 'i' in row 'y'.  Pixels outside the image are set to the bits in 'fill'
+	 */
+	static long word( PackedBinaryImage image , int y , int i , long fill ) {
+		if( y < 0 || y >= image.height || i < 0 || i >= image.stride )
+			return fill;
+		long value = image.data[y*image.stride + i];
+		if( i == image.stride-1 )
+			value |= fill & ~PackedBinaryImage.lastWordMask(image.width);
+		return value;
+	}
+
+	/**
+	 * Each bit is the value of the pixel to its left
+	 */
+	static long left( PackedBinaryImage image , int y , int i , long fill ) {
+		return (word(image, y, i, fill) << 1) | (word(image, y, i - 1, fill) >>> 63);
+	}
+
+	/**
+	 * Each bit is the value of the pixel to its right
+	 */
+	static long right( PackedBinaryImage image , int y , int i , long fill ) {
+		return (word(image, y, i, fill) >>> 1) | (word(image, y, i + 1, fill) << 63);
+	}
+}
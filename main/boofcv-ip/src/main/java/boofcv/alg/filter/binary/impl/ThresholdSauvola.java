@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -24,6 +24,7 @@ import boofcv.alg.misc.ImageStatistics;
 import boofcv.alg.misc.PixelMath;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
 
@@ -60,6 +61,7 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	GrayF32 stdev = new GrayF32(1,1); // computed standard deviation
 
 	GrayF32 tmp = new GrayF32(1,1); // work space
+	GrayF64 integral = new GrayF64(1,1); // integral image used by mean for large regions
 
 	/**
 	 * Configures the algorithm.
@@ -89,13 +91,15 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 		inputPow2.reshape(input.width,input.height);
 
 		int radius = width.computeI(Math.min(input.width,input.height))/2;
+		if( radius >= BlurImageOps.MEAN_INTEGRAL_RADIUS )
+			integral.reshape(input.width,input.height);
 
 		// mean of input image = E[X]
-		BlurImageOps.mean(input, inputMean, radius, tmp);
+		BlurImageOps.mean(input, inputMean, radius, tmp, integral);
 
 		// standard deviation = sqrt( E[X^2] + E[X]^2)
 		PixelMath.pow2(input, inputPow2);
-		BlurImageOps.mean(inputPow2,inputPow2Mean,radius,tmp);
+		BlurImageOps.mean(inputPow2,inputPow2Mean,radius,tmp,integral);
 		PixelMath.pow2(inputMean,inputMeanPow2);
 		PixelMath.subtract(inputPow2Mean, inputMeanPow2, stdev);
 		PixelMath.sqrt(stdev, stdev);
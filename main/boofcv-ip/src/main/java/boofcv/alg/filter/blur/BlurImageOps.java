@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,11 +19,18 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive_MT;
+import boofcv.alg.filter.blur.impl.ImplMeanIntegral;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -40,7 +47,20 @@ import boofcv.struct.image.*;
 public class BlurImageOps {
 
 	/**
-	 * Applies a mean box filter.
+	 * When the radius is this size or larger {@link #mean} will compute the mean using an integral image instead of
+	 * a separable running sum.  See BenchmarkMeanBlur for how this value was selected.
+	 */
+	public static int MEAN_INTEGRAL_RADIUS = 8;
+
+	/**
+	 * When the radius is this size or larger {@link #median(GrayU8, GrayU8, int)} will use a constant time
+	 * histogram median filter.  See BenchmarkMedianBlur for how this value was selected.
+	 */
+	public static int MEDIAN_CONSTANT_RADIUS = 5;
+
+	/**
+	 * Applies a mean box filter.  See {@link #mean(GrayU8, GrayU8, int, GrayU8, GrayS32)}.  If the integral
+	 * image is used it will be declared internally.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -49,16 +69,34 @@ public class BlurImageOps {
 	 * @return Output blurred image.
 	 */
 	public static GrayU8 mean(GrayU8 input, GrayU8 output, int radius, GrayU8 storage) {
+		return mean(input, output, radius, storage, null);
+	}
+
+	/**
+	 * Applies a mean box filter.  Once the radius reaches {@link #MEAN_INTEGRAL_RADIUS} the mean is computed
+	 * from an integral image.  The integral image rounds the exact mean once, while the separable running sum
+	 * used for smaller radii rounds after each pass, so the two can differ by one.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param integral (Optional) Storage for the integral image.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 mean(GrayU8 input, GrayU8 output, int radius, GrayU8 storage, GrayS32 integral) {
 
 		if( radius <= 0 )
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		if( BOverrideBlurImageOps.mean_U8 != null )
-			BOverrideBlurImageOps.mean_U8.process(input,output,radius,storage);
-		else {
+			BOverrideBlurImageOps.mean_U8.process(input,output,radius,InputSanityCheck.checkDeclare(input,storage));
+		else if( radius >= MEAN_INTEGRAL_RADIUS ) {
+			meanIntegral(input, output, radius, integral);
+		} else {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
 		}
@@ -67,7 +105,8 @@ public class BlurImageOps {
 	}
 
 	/**
-	 * Applies a mean box filter.
+	 * Applies a mean box filter.  See {@link #mean(GrayF32, GrayF32, int, GrayF32, GrayF64)}.  If the integral
+	 * image is used it will be declared internally.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -76,16 +115,33 @@ public class BlurImageOps {
 	 * @return Output blurred image.
 	 */
 	public static GrayF32 mean(GrayF32 input, GrayF32 output, int radius, GrayF32 storage) {
+		return mean(input, output, radius, storage, null);
+	}
+
+	/**
+	 * Applies a mean box filter.  Once the radius reaches {@link #MEAN_INTEGRAL_RADIUS} the mean is computed
+	 * from an integral image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param integral (Optional) Storage for the integral image.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 mean(GrayF32 input, GrayF32 output, int radius, GrayF32 storage, GrayF64 integral) {
 
 		if( radius <= 0 )
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		if( BOverrideBlurImageOps.mean_F32 != null ) {
-			BOverrideBlurImageOps.mean_F32.process(input,output,radius,storage);
+			BOverrideBlurImageOps.mean_F32.process(input,output,radius,InputSanityCheck.checkDeclare(input,storage));
+		} else if( radius >= MEAN_INTEGRAL_RADIUS ) {
+			meanIntegral(input, output, radius, integral);
 		} else {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
 		}
@@ -94,7 +150,8 @@ public class BlurImageOps {
 	}
 
 	/**
-	 * Applies a mean box filter.
+	 * Applies a mean box filter.  Once the radius reaches {@link #MEAN_INTEGRAL_RADIUS} the mean is computed
+	 * from an integral image, which is stored inside of 'storage'.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -108,11 +165,13 @@ public class BlurImageOps {
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
 		if( BOverrideBlurImageOps.mean_F64 != null ) {
-			BOverrideBlurImageOps.mean_F64.process(input,output,radius,storage);
+			BOverrideBlurImageOps.mean_F64.process(input,output,radius,InputSanityCheck.checkDeclare(input,storage));
+		} else if( radius >= MEAN_INTEGRAL_RADIUS ) {
+			meanIntegral(input, output, radius, InputSanityCheck.checkDeclare(input,storage));
 		} else {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
 		}
@@ -120,6 +179,77 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a mean box filter using an integral image.  The cost per pixel is independent of the radius, which
+	 * makes it faster than {@link #mean} for large radii.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param integral (Optional) Storage for the integral image.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayU8 meanIntegral(GrayU8 input, GrayU8 output, int radius, GrayS32 integral) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		// The S32 integral can overflow for large images, but the sum inside a block is always small enough
+		// to fit inside an int and the wrap around cancels out when the corners are subtracted
+		integral = IntegralImageOps.transform(input, integral);
+		ImplMeanIntegral.mean(integral, radius, output);
+
+		return output;
+	}
+
+	/**
+	 * Applies a mean box filter using an integral image.  The cost per pixel is independent of the radius, which
+	 * makes it faster than {@link #mean} for large radii.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param integral (Optional) Storage for the integral image.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 meanIntegral(GrayF32 input, GrayF32 output, int radius, GrayF64 integral) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		integral = IntegralImageOps.transform64(input, integral);
+		ImplMeanIntegral.mean(integral, radius, output);
+
+		return output;
+	}
+
+	/**
+	 * Applies a mean box filter using an integral image.  The cost per pixel is independent of the radius, which
+	 * makes it faster than {@link #mean} for large radii.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param integral (Optional) Storage for the integral image.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static GrayF64 meanIntegral(GrayF64 input, GrayF64 output, int radius, GrayF64 integral) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		integral = IntegralImageOps.transform(input, integral);
+		ImplMeanIntegral.mean(integral, radius, output);
+
+		return output;
+	}
+
 	/**
 	 * Applies mean box filter to a {@link Planar}
 	 *
@@ -138,8 +268,17 @@ public class BlurImageOps {
 		if( output == null )
 			output = input.createNew(input.width,input.height);
 
+		// declare the integral image once so that it can be shared by all the bands
+		ImageGray integral = null;
+		if( radius >= MEAN_INTEGRAL_RADIUS ) {
+			if( input.getBandType() == GrayU8.class )
+				integral = new GrayS32(input.width,input.height);
+			else if( input.getBandType() == GrayF32.class )
+				integral = new GrayF64(input.width,input.height);
+		}
+
 		for( int band = 0; band < input.getNumBands(); band++ ) {
-			GBlurImageOps.mean(input.getBand(band),output.getBand(band),radius, storage);
+			GBlurImageOps.mean(input.getBand(band),output.getBand(band),radius, storage, integral);
 		}
 		return output;
 	}
@@ -160,7 +299,12 @@ public class BlurImageOps {
 
 		if( BOverrideBlurImageOps.median_U8 != null )
 			BOverrideBlurImageOps.median_U8.process(input,output,radius);
-		else {
+		else if( radius >= MEDIAN_CONSTANT_RADIUS ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ImplMedianHistogramConstant_MT.process(input, output, radius);
+			else
+				ImplMedianHistogramConstant.process(input, output, radius);
+		} else {
 			int w = radius * 2 + 1;
 			int offset[] = new int[w * w];
 			int histogram[] = new int[256];
@@ -288,6 +432,48 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Approximates Gaussian blur using a recursive filter whose cost doesn't depend on sigma. Faster than
+	 * {@link #gaussian(GrayF32, GrayF32, double, int, GrayF32)} for large sigma, e.g. &ge; 5, but less accurate.
+	 * The border is handled the same way. See {@link ImplGaussianRecursive} for a discussion of its accuracy.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(GrayF32 input, GrayF32 output, double sigma ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplGaussianRecursive_MT.process(input,output,sigma);
+		else
+			ImplGaussianRecursive.process(input,output,sigma);
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur using a recursive filter whose cost doesn't depend on sigma. Faster than
+	 * {@link #gaussian(GrayU8, GrayU8, double, int, GrayU8)} for large sigma, e.g. &ge; 5, but less accurate.
+	 * The border is handled the same way. See {@link ImplGaussianRecursive} for a discussion of its accuracy.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(GrayU8 input, GrayF32 output, double sigma ) {
+		output = InputSanityCheck.checkDeclare(input,output,GrayF32.class);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplGaussianRecursive_MT.process(input,output,sigma);
+		else
+			ImplGaussianRecursive.process(input,output,sigma);
+
+		return output;
+	}
+
 	/**
 	 * Applies Gaussian blur.
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -42,10 +42,27 @@ public class GBlurImageOps {
 	 */
 	public static <T extends ImageBase<T>>
 	T mean(T input, T output, int radius, ImageBase storage ) {
+		return mean(input, output, radius, storage, null);
+	}
+
+	/**
+	 * Applies a mean box filter.  See {@link BlurImageOps#mean(GrayU8, GrayU8, int, GrayU8, GrayS32)}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param integral (Optional) Storage for the integral image. GrayS32 for GrayU8 input and GrayF64 otherwise.
+	 *                 Ignored for GrayF64 and Planar input.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase<T>>
+	T mean(T input, T output, int radius, ImageBase storage, ImageGray integral ) {
 		if( input instanceof GrayU8) {
-			return (T)BlurImageOps.mean((GrayU8)input,(GrayU8)output,radius,(GrayU8)storage);
+			return (T)BlurImageOps.mean((GrayU8)input,(GrayU8)output,radius,(GrayU8)storage,(GrayS32)integral);
 		} else if( input instanceof GrayF32) {
-			return (T)BlurImageOps.mean((GrayF32)input,(GrayF32)output,radius,(GrayF32)storage);
+			return (T)BlurImageOps.mean((GrayF32)input,(GrayF32)output,radius,(GrayF32)storage,(GrayF64)integral);
 		} else if( input instanceof GrayF64) {
 			return (T)BlurImageOps.mean((GrayF64)input,(GrayF64)output,radius,(GrayF64)storage);
 		} else if( input instanceof Planar) {
@@ -55,6 +72,29 @@ public class GBlurImageOps {
 		}
 	}
 
+	/**
+	 * Applies a mean box filter using an integral image.  See {@link BlurImageOps#meanIntegral(GrayU8, GrayU8, int, GrayS32)}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @param integral (Optional) Storage for the integral image. GrayS32 for GrayU8 input and GrayF64 otherwise.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageGray<T>>
+	T meanIntegral(T input, T output, int radius, ImageGray integral ) {
+		if( input instanceof GrayU8) {
+			return (T)BlurImageOps.meanIntegral((GrayU8)input,(GrayU8)output,radius,(GrayS32)integral);
+		} else if( input instanceof GrayF32) {
+			return (T)BlurImageOps.meanIntegral((GrayF32)input,(GrayF32)output,radius,(GrayF64)integral);
+		} else if( input instanceof GrayF64) {
+			return (T)BlurImageOps.meanIntegral((GrayF64)input,(GrayF64)output,radius,(GrayF64)integral);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type");
+		}
+	}
+
 	/**
 	 * Applies a median filter.
 	 *
@@ -123,4 +163,23 @@ public class GBlurImageOps {
 				throw new IllegalArgumentException("Unknown image family");
 		}
 	}
+
+	/**
+	 * Approximates Gaussian blur with a recursive filter whose cost doesn't depend on sigma. See
+	 * {@link BlurImageOps#gaussianRecursive(GrayF32, GrayF32, double)}.
+	 *
+	 * @param input Input image, {@link GrayU8} or {@link GrayF32}.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 gaussianRecursive(ImageGray input, GrayF32 output, double sigma ) {
+		if( input instanceof GrayU8 ) {
+			return BlurImageOps.gaussianRecursive((GrayU8) input, output, sigma);
+		} else if( input instanceof GrayF32 ) {
+			return BlurImageOps.gaussianRecursive((GrayF32) input, output, sigma);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type: " + input.getClass().getSimpleName());
+		}
+	}
 }
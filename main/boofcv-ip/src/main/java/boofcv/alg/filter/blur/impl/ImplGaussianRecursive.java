@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Gaussian blur which is approximated using the recursive (IIR) filter of Young, van Vliet, and van Ginkel [1].
+ * Along each axis a third order causal filter is applied followed by a third order anti-causal filter, making the
+ * cost independent of sigma. The filter's poles are scaled so that its variance is exactly sigma squared.
+ * Initial conditions for the anti-causal filter are found by computing the filter's response to the causal
+ * output past the end of the signal, the same idea as Triggs and Sdika [2].
+ * </p>
+ *
+ * <p>
+ * The image border is handled the same way as {@link boofcv.alg.filter.convolve.ConvolveNormalized}: pixels outside
+ * the image are zero and the result is divided by the sum of the kernel's weights which are inside the image.
+ * These weights only depend on the distance from the border and are precomputed along each axis.
+ * </p>
+ *
+ * <p>
+ * Accuracy: The filter's impulse response is an approximation of a Gaussian. Compared to convolution with a
+ * Gaussian kernel which has a radius of 6*sigma, the maximum error along a step edge is about 0.7% of the step's
+ * height for sigma from 2 to 30 and 1.1% at sigma = 1. Where the image is only a few sigma across the error near
+ * the border increases to about 1.5%. Fine details are smoothed less accurately. For uniform noise the maximum
+ * error is 2.2% of the noise's range at sigma = 1 and below 0.5% for sigma &ge; 2. Below sigma = 1 the
+ * approximation degrades quickly and sigma must be at least 0.5.
+ * </p>
+ *
+ * <p>
+ * [1] Young, Ian T., Lucas J. Van Vliet, and Michael Van Ginkel. "Recursive Gabor filtering."
+ * IEEE Transactions on Signal Processing 50.11 (2002): 2798-2805.<br>
+ * [2] Triggs, Bill, and Michael Sdika. "Boundary conditions for Young-van Vliet recursive filtering."
+ * IEEE Transactions on Signal Processing 54.6 (2006): 2365-2367.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplGaussianRecursive {
+
+	/**
+	 * Applies the filter along the rows and then the columns.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Blurred image. Modified.
+	 * @param sigma Gaussian's standard deviation. Must be &ge; 0.5
+	 */
+	public static void process( GrayF32 input , GrayF32 output , double sigma ) {
+		Coefficients coef = new Coefficients(sigma);
+		horizontal(coef, input, output, coef.computeWeights(input.width), 0, input.height);
+		vertical(coef, output, coef.computeWeights(input.height), 0, input.width);
+	}
+
+	/**
+	 * Applies the filter along the rows and then the columns.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Blurred image. Modified.
+	 * @param sigma Gaussian's standard deviation. Must be &ge; 0.5
+	 */
+	public static void process( GrayU8 input , GrayF32 output , double sigma ) {
+		Coefficients coef = new Coefficients(sigma);
+		horizontal(coef, input, output, coef.computeWeights(input.width), 0, input.height);
+		vertical(coef, output, coef.computeWeights(input.height), 0, input.width);
+	}
+
+	/**
+	 * Filters the rows from y0 to y1-1 along the horizontal axis
+	 *
+	 * @param weights Normalization for each column, see {@link Coefficients#computeWeights(int)}
+	 */
+	public static void horizontal( Coefficients coef , GrayF32 input , GrayF32 output , float[] weights ,
+								   int y0 , int y1 ) {
+		final double B = coef.B, a1 = coef.a1, a2 = coef.a2, a3 = coef.a3;
+		final int width = input.width;
+
+		for (int y = y0; y < y1; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			double w1 = 0, w2 = 0, w3 = 0;
+			for (int x = 0; x < width; x++) {
+				double w = B*input.data[indexIn + x] + a1*w1 + a2*w2 + a3*w3;
+				output.data[indexOut + x] = (float)w;
+				w3 = w2; w2 = w1; w1 = w;
+			}
+
+			anticausal(coef, output.data, indexOut, width, weights);
+		}
+	}
+
+	/**
+	 * Filters the rows from y0 to y1-1 along the horizontal axis
+	 *
+	 * @param weights Normalization for each column, see {@link Coefficients#computeWeights(int)}
+	 */
+	public static void horizontal( Coefficients coef , GrayU8 input , GrayF32 output , float[] weights ,
+								   int y0 , int y1 ) {
+		final double B = coef.B, a1 = coef.a1, a2 = coef.a2, a3 = coef.a3;
+		final int width = input.width;
+
+		for (int y = y0; y < y1; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			double w1 = 0, w2 = 0, w3 = 0;
+			for (int x = 0; x < width; x++) {
+				double w = B*(input.data[indexIn + x] & 0xFF) + a1*w1 + a2*w2 + a3*w3;
+				output.data[indexOut + x] = (float)w;
+				w3 = w2; w2 = w1; w1 = w;
+			}
+
+			anticausal(coef, output.data, indexOut, width, weights);
+		}
+	}
+
+	/**
+	 * Applies the anti-causal filter in place to a row which contains the causal filter's output and
+	 * then normalizes it.
+	 */
+	private static void anticausal( Coefficients coef , float[] data , int start , int length , float[] weights ) {
+		final double B = coef.B, a1 = coef.a1, a2 = coef.a2, a3 = coef.a3;
+		final double[] M = coef.M;
+		if( length == 0 )
+			return;
+
+		// causal output before the start of the row is zero
+		double u0 = data[start + length - 1];
+		double u1 = length > 1 ? data[start + length - 2] : 0;
+		double u2 = length > 2 ? data[start + length - 3] : 0;
+
+		double v1 = M[6]*u0 + M[7]*u1 + M[8]*u2;
+		double v2 = M[3]*u0 + M[4]*u1 + M[5]*u2;
+		double v3 = M[0]*u0 + M[1]*u1 + M[2]*u2;
+
+		data[start + length - 1] = (float)(v3*weights[length - 1]);
+		if( length > 1 )
+			data[start + length - 2] = (float)(v2*weights[length - 2]);
+		if( length > 2 )
+			data[start + length - 3] = (float)(v1*weights[length - 3]);
+
+		for (int x = length - 4; x >= 0; x--) {
+			double v = B*data[start + x] + a1*v1 + a2*v2 + a3*v3;
+			data[start + x] = (float)(v*weights[x]);
+			v3 = v2; v2 = v1; v1 = v;
+		}
+	}
+
+	/**
+	 * Filters the columns from x0 to x1-1 along the vertical axis in place. Rows are traversed in order so that
+	 * memory is accessed sequentially.
+	 *
+	 * @param weights Normalization for each row, see {@link Coefficients#computeWeights(int)}
+	 */
+	public static void vertical( Coefficients coef , GrayF32 image , float[] weights , int x0 , int x1 ) {
+		final double B = coef.B, a1 = coef.a1, a2 = coef.a2, a3 = coef.a3;
+		final double[] M = coef.M;
+		final float[] data = image.data;
+		final int stride = image.stride;
+		final int height = image.height;
+		if( height == 0 )
+			return;
+
+		// causal filter
+		for (int y = 0; y < height; y++) {
+			int index = image.startIndex + y*stride + x0;
+			int end = index + x1 - x0;
+
+			if( y >= 3 ) {
+				for (; index < end; index++) {
+					data[index] = (float)(B*data[index] + a1*data[index-stride] +
+							a2*data[index-2*stride] + a3*data[index-3*stride]);
+				}
+			} else {
+				for (; index < end; index++) {
+					double w = B*data[index];
+					if( y >= 1 ) w += a1*data[index-stride];
+					if( y >= 2 ) w += a2*data[index-2*stride];
+					data[index] = (float)w;
+				}
+			}
+		}
+
+		// initial conditions for the anti-causal filter in the last three rows
+		int indexLast = image.startIndex + (height-1)*stride;
+		for (int x = x0; x < x1; x++) {
+			int index = indexLast + x;
+			double u0 = data[index];
+			double u1 = height > 1 ? data[index-stride] : 0;
+			double u2 = height > 2 ? data[index-2*stride] : 0;
+
+			data[index] = (float)(M[0]*u0 + M[1]*u1 + M[2]*u2);
+			if( height > 1 )
+				data[index-stride] = (float)(M[3]*u0 + M[4]*u1 + M[5]*u2);
+			if( height > 2 )
+				data[index-2*stride] = (float)(M[6]*u0 + M[7]*u1 + M[8]*u2);
+		}
+
+		// anti-causal filter. A row is normalized once it's no longer needed by the filter
+		for (int y = height-4; y >= 0; y--) {
+			int index = image.startIndex + y*stride + x0;
+			int end = index + x1 - x0;
+			for (; index < end; index++) {
+				data[index] = (float)(B*data[index] + a1*data[index+stride] +
+						a2*data[index+2*stride] + a3*data[index+3*stride]);
+			}
+			scaleRow(image, y+3, weights[y+3], x0, x1);
+		}
+		for (int y = Math.min(3,height)-1; y >= 0; y--) {
+			scaleRow(image, y, weights[y], x0, x1);
+		}
+	}
+
+	private static void scaleRow( GrayF32 image , int y , float scale , int x0 , int x1 ) {
+		int index = image.startIndex + y*image.stride + x0;
+		int end = index + x1 - x0;
+		for (; index < end; index++) {
+			image.data[index] *= scale;
+		}
+	}
+
+	/**
+	 * Coefficients of the recursive filter for a specific sigma.
+	 */
+	public static class Coefficients {
+		// poles for sigma = 2 from table 1 in [1]
+		private static final double POLE_REAL = 1.41650, POLE_IMAG = 1.00829, POLE_3 = 1.86543;
+
+		/** Gain applied to the input */
+		public double B;
+		/** Feedback coefficients */
+		public double a1, a2, a3;
+		/**
+		 * Row major 3x3 matrix which maps the last three outputs of the causal filter, starting with the last one,
+		 * to the first three outputs of the anti-causal filter, starting with the last pixel.
+		 */
+		public double[] M = new double[9];
+
+		// inverse of the scaled poles
+		private double c_real, c_imag, c3;
+
+		public Coefficients( double sigma ) {
+			setSigma(sigma);
+		}
+
+		public void setSigma( double sigma ) {
+			if( sigma < 0.5 )
+				throw new IllegalArgumentException("Sigma must be at least 0.5");
+
+			// The filter's poles are found by scaling the poles for sigma = 2 in [1] so that the filter's variance
+			// is sigma*sigma
+			double lower = 0.01, upper = 10.0*sigma + 10.0;
+			for (int i = 0; i < 100; i++) {
+				double q = (lower + upper)/2.0;
+				if( variance(q) < sigma*sigma )
+					lower = q;
+				else
+					upper = q;
+			}
+			double q = (lower + upper)/2.0;
+			computePoles(q);
+
+			// expand the product of (1 - c_i/z)
+			double magnitude2 = c_real*c_real + c_imag*c_imag;
+			a1 = 2.0*c_real + c3;
+			a2 = -(magnitude2 + 2.0*c_real*c3);
+			a3 = magnitude2*c3;
+			B = 1.0 - (a1 + a2 + a3);
+
+			// the causal filter's response decays at a rate determined by the largest pole
+			computeInitialConditions((int)(20*sigma) + 50);
+		}
+
+		/**
+		 * Computes the inverse of the poles after they have been scaled by q. c_real and c_imag are one of the
+		 * complex conjugate pair and c3 is the real pole.
+		 */
+		private void computePoles( double q ) {
+			double magnitude = Math.pow(Math.sqrt(POLE_REAL*POLE_REAL + POLE_IMAG*POLE_IMAG), 1.0/q);
+			double angle = Math.atan2(POLE_IMAG, POLE_REAL)/q;
+			c_real = Math.cos(angle)/magnitude;
+			c_imag = -Math.sin(angle)/magnitude;
+			c3 = 1.0/Math.pow(POLE_3, 1.0/q);
+		}
+
+		/**
+		 * Variance of the causal plus anti-causal filter with the poles scaled by q. Each pole contributes
+		 * 2*c/(1-c)^2.
+		 */
+		private double variance( double q ) {
+			computePoles(q);
+
+			// real part of c/(1-c)^2 for the complex poles
+			double dr = 1.0 - c_real, di = -c_imag;
+			double d2r = dr*dr - di*di, d2i = 2.0*dr*di;
+			double complex = (c_real*d2r + c_imag*d2i)/(d2r*d2r + d2i*d2i);
+
+			return 2.0*(2.0*complex + c3/((1.0 - c3)*(1.0 - c3)));
+		}
+
+		/**
+		 * Finds M by applying the causal filter to each of the last three outputs past the end of the signal
+		 * with an input of zero and then applying the anti-causal filter backwards. The causal filter's response
+		 * has decayed to nothing after the specified number of samples.
+		 */
+		private void computeInitialConditions( int length ) {
+			double[] w = new double[length+3];
+			double[] v = new double[length+6];
+
+			for (int j = 0; j < 3; j++) {
+				// w[2] is the last causal output inside the signal, w[1] the one before it
+				w[0] = w[1] = w[2] = 0;
+				w[2-j] = 1;
+				for (int n = 3; n < w.length; n++) {
+					w[n] = a1*w[n-1] + a2*w[n-2] + a3*w[n-3];
+				}
+				v[w.length] = v[w.length+1] = v[w.length+2] = 0;
+				for (int n = w.length-1; n >= 0; n--) {
+					v[n] = B*w[n] + a1*v[n+1] + a2*v[n+2] + a3*v[n+3];
+				}
+				M[j] = v[2];
+				M[3+j] = v[1];
+				M[6+j] = v[0];
+			}
+		}
+
+		/**
+		 * Computes the inverse of the sum of the filter's weights which are inside a signal of the specified
+		 * length at each element. Dividing by this sum is equivalent to normalizing the kernel at the border.
+		 */
+		public float[] computeWeights( int length ) {
+			if( length == 0 )
+				return new float[0];
+			double[] u = new double[length];
+
+			// filter a signal of all ones
+			double w1 = 0, w2 = 0, w3 = 0;
+			for (int i = 0; i < length; i++) {
+				u[i] = B + a1*w1 + a2*w2 + a3*w3;
+				w3 = w2; w2 = w1; w1 = u[i];
+			}
+
+			double u0 = u[length-1];
+			double u1 = length > 1 ? u[length-2] : 0;
+			double u2 = length > 2 ? u[length-3] : 0;
+
+			double v1 = M[6]*u0 + M[7]*u1 + M[8]*u2;
+			double v2 = M[3]*u0 + M[4]*u1 + M[5]*u2;
+			double v3 = M[0]*u0 + M[1]*u1 + M[2]*u2;
+
+			float[] weights = new float[length];
+			weights[length-1] = (float)(1.0/v3);
+			if( length > 1 )
+				weights[length-2] = (float)(1.0/v2);
+			if( length > 2 )
+				weights[length-3] = (float)(1.0/v1);
+			for (int i = length-4; i >= 0; i--) {
+				double v = B*u[i] + a1*v1 + a2*v2 + a3*v3;
+				weights[i] = (float)(1.0/v);
+				v3 = v2; v2 = v1; v1 = v;
+			}
+			return weights;
+		}
+	}
+}
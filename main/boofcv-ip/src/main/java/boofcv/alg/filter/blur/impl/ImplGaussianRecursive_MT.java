@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplGaussianRecursive}. The horizontal pass splits the image into blocks of rows.
+ * The vertical pass splits the image into blocks of columns and each thread traverses its columns one row at
+ * a time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplGaussianRecursive_MT {
+
+	/**
+	 * @see ImplGaussianRecursive#process(GrayF32, GrayF32, double)
+	 */
+	public static void process( GrayF32 input , GrayF32 output , double sigma ) {
+		ImplGaussianRecursive.Coefficients coef = new ImplGaussianRecursive.Coefficients(sigma);
+		float[] weightsX = coef.computeWeights(input.width);
+		float[] weightsY = coef.computeWeights(input.height);
+
+		BoofConcurrency.loopBlocks(0, input.height, (y0, y1) ->
+				ImplGaussianRecursive.horizontal(coef, input, output, weightsX, y0, y1));
+		BoofConcurrency.loopBlocks(0, input.width, (x0, x1) ->
+				ImplGaussianRecursive.vertical(coef, output, weightsY, x0, x1));
+	}
+
+	/**
+	 * @see ImplGaussianRecursive#process(GrayU8, GrayF32, double)
+	 */
+	public static void process( GrayU8 input , GrayF32 output , double sigma ) {
+		ImplGaussianRecursive.Coefficients coef = new ImplGaussianRecursive.Coefficients(sigma);
+		float[] weightsX = coef.computeWeights(input.width);
+		float[] weightsY = coef.computeWeights(input.height);
+
+		BoofConcurrency.loopBlocks(0, input.height, (y0, y1) ->
+				ImplGaussianRecursive.horizontal(coef, input, output, weightsX, y0, y1));
+		BoofConcurrency.loopBlocks(0, input.width, (x0, x1) ->
+				ImplGaussianRecursive.vertical(coef, output, weightsY, x0, x1));
+	}
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Mean (box) blur computed from an integral image.  Once the integral image has been computed the sum inside any
+ * rectangle is found with four array lookups, so the cost per pixel does not depend on the region's radius.  This
+ * makes it faster than the separable running sum in {@link boofcv.alg.filter.convolve.ConvolveImageMean} for large
+ * radii, where the normalized image border starts to dominate.
+ * </p>
+ *
+ * <p>
+ * Along the image border only pixels inside the image are included in the mean, which is the same as
+ * normalized convolution with a box kernel.  Integer images are rounded to the nearest integer.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMeanIntegral {
+
+	/**
+	 * Computes the mean of the square region around each pixel using an integral image.  Only pixels inside the
+	 * image are included in the mean.
+	 *
+	 * @param integral (Input) Integral image of the image being blurred.
+	 * @param radius Radius of the square region.
+	 * @param output (Output) Blurred image.  Same shape as the integral image.
+	 */
+	public static void mean( GrayS32 integral , int radius , GrayU8 output ) {
+		final int width = output.width;
+		final int height = output.height;
+		final int r1 = radius + 1;
+
+		// Columns where the region is entirely inside the image
+		final int innerX0 = Math.min(r1, width);
+		final int innerX1 = Math.max(innerX0, width - radius);
+
+		for( int y = 0; y < height; y++ ) {
+			// the row above the region, which is subtracted from the sum
+			final int y0 = y - r1;
+			final int y1 = Math.min(height - 1, y + radius);
+			final int regionHeight = y1 - Math.max(-1, y0);
+
+			meanBorder(integral, radius, output, y, 0, innerX0);
+			meanBorder(integral, radius, output, y, innerX1, width);
+
+			final int area = (2*radius + 1)*regionHeight;
+			final int halfArea = area/2;
+			int indexBR = integral.startIndex + y1*integral.stride + innerX0 + radius;
+			int indexBL = indexBR - (2*radius + 1);
+			int indexOut = output.startIndex + y*output.stride + innerX0;
+			final int indexEnd = indexOut + innerX1 - innerX0;
+
+			if( y0 >= 0 ) {
+				final int offsetTop = (y1 - y0)*integral.stride;
+				while( indexOut < indexEnd ) {
+					int sum = integral.data[indexBR] - integral.data[indexBL]
+							- integral.data[indexBR - offsetTop] + integral.data[indexBL - offsetTop];
+					output.data[indexOut++] = (byte)((sum + halfArea)/area);
+					indexBR++;
+					indexBL++;
+				}
+			} else {
+				while( indexOut < indexEnd ) {
+					int sum = integral.data[indexBR++] - integral.data[indexBL++];
+					output.data[indexOut++] = (byte)((sum + halfArea)/area);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles pixels in a row where the region extends outside the image horizontally
+	 */
+	private static void meanBorder( GrayS32 integral , int radius , GrayU8 output , int y , int x0 , int x1 ) {
+		final int width = output.width;
+		final int r1 = radius + 1;
+		final int blockY0 = y - r1;
+		final int blockY1 = Math.min(output.height - 1, y + radius);
+		final int regionHeight = blockY1 - Math.max(-1, blockY0);
+
+		int indexOut = output.startIndex + y*output.stride + x0;
+		for( int x = x0; x < x1; x++ ) {
+			int blockX0 = x - r1;
+			int blockX1 = Math.min(width - 1, x + radius);
+			int sum = ImplIntegralImageOps.block_zero(integral, blockX0, blockY0, blockX1, blockY1);
+			int area = (blockX1 - Math.max(-1, blockX0))*regionHeight;
+			output.data[indexOut++] = (byte)((sum + area/2)/area);
+		}
+	}
+
+	/**
+	 * Computes the mean of the square region around each pixel using an integral image.  Only pixels inside the
+	 * image are included in the mean.
+	 *
+	 * @param integral (Input) Integral image of the image being blurred.
+	 * @param radius Radius of the square region.
+	 * @param output (Output) Blurred image.  Same shape as the integral image.
+	 */
+	public static void mean( GrayS64 integral , int radius , GrayU8 output ) {
+		final int width = output.width;
+		final int height = output.height;
+		final int r1 = radius + 1;
+
+		// Columns where the region is entirely inside the image
+		final int innerX0 = Math.min(r1, width);
+		final int innerX1 = Math.max(innerX0, width - radius);
+
+		for( int y = 0; y < height; y++ ) {
+			// the row above the region, which is subtracted from the sum
+			final int y0 = y - r1;
+			final int y1 = Math.min(height - 1, y + radius);
+			final int regionHeight = y1 - Math.max(-1, y0);
+
+			meanBorder(integral, radius, output, y, 0, innerX0);
+			meanBorder(integral, radius, output, y, innerX1, width);
+
+			final int area = (2*radius + 1)*regionHeight;
+			final int halfArea = area/2;
+			int indexBR = integral.startIndex + y1*integral.stride + innerX0 + radius;
+			int indexBL = indexBR - (2*radius + 1);
+			int indexOut = output.startIndex + y*output.stride + innerX0;
+			final int indexEnd = indexOut + innerX1 - innerX0;
+
+			if( y0 >= 0 ) {
+				final int offsetTop = (y1 - y0)*integral.stride;
+				while( indexOut < indexEnd ) {
+					long sum = integral.data[indexBR] - integral.data[indexBL]
+							- integral.data[indexBR - offsetTop] + integral.data[indexBL - offsetTop];
+					output.data[indexOut++] = (byte)((sum + halfArea)/area);
+					indexBR++;
+					indexBL++;
+				}
+			} else {
+				while( indexOut < indexEnd ) {
+					long sum = integral.data[indexBR++] - integral.data[indexBL++];
+					output.data[indexOut++] = (byte)((sum + halfArea)/area);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles pixels in a row where the region extends outside the image horizontally
+	 */
+	private static void meanBorder( GrayS64 integral , int radius , GrayU8 output , int y , int x0 , int x1 ) {
+		final int width = output.width;
+		final int r1 = radius + 1;
+		final int blockY0 = y - r1;
+		final int blockY1 = Math.min(output.height - 1, y + radius);
+		final int regionHeight = blockY1 - Math.max(-1, blockY0);
+
+		int indexOut = output.startIndex + y*output.stride + x0;
+		for( int x = x0; x < x1; x++ ) {
+			int blockX0 = x - r1;
+			int blockX1 = Math.min(width - 1, x + radius);
+			long sum = ImplIntegralImageOps.block_zero(integral, blockX0, blockY0, blockX1, blockY1);
+			int area = (blockX1 - Math.max(-1, blockX0))*regionHeight;
+			output.data[indexOut++] = (byte)((sum + area/2)/area);
+		}
+	}
+
+	/**
+	 * Computes the mean of the square region around each pixel using an integral image.  Only pixels inside the
+	 * image are included in the mean.
+	 *
+	 * @param integral (Input) Integral image of the image being blurred.
+	 * @param radius Radius of the square region.
+	 * @param output (Output) Blurred image.  Same shape as the integral image.
+	 */
+	public static void mean( GrayF64 integral , int radius , GrayF32 output ) {
+		final int width = output.width;
+		final int height = output.height;
+		final int r1 = radius + 1;
+
+		// Columns where the region is entirely inside the image
+		final int innerX0 = Math.min(r1, width);
+		final int innerX1 = Math.max(innerX0, width - radius);
+
+		for( int y = 0; y < height; y++ ) {
+			// the row above the region, which is subtracted from the sum
+			final int y0 = y - r1;
+			final int y1 = Math.min(height - 1, y + radius);
+			final int regionHeight = y1 - Math.max(-1, y0);
+
+			meanBorder(integral, radius, output, y, 0, innerX0);
+			meanBorder(integral, radius, output, y, innerX1, width);
+
+			final double area = (2*radius + 1)*regionHeight;
+			int indexBR = integral.startIndex + y1*integral.stride + innerX0 + radius;
+			int indexBL = indexBR - (2*radius + 1);
+			int indexOut = output.startIndex + y*output.stride + innerX0;
+			final int indexEnd = indexOut + innerX1 - innerX0;
+
+			if( y0 >= 0 ) {
+				final int offsetTop = (y1 - y0)*integral.stride;
+				while( indexOut < indexEnd ) {
+					double sum = integral.data[indexBR] - integral.data[indexBL]
+							- integral.data[indexBR - offsetTop] + integral.data[indexBL - offsetTop];
+					output.data[indexOut++] = (float)(sum/area);
+					indexBR++;
+					indexBL++;
+				}
+			} else {
+				while( indexOut < indexEnd ) {
+					double sum = integral.data[indexBR++] - integral.data[indexBL++];
+					output.data[indexOut++] = (float)(sum/area);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles pixels in a row where the region extends outside the image horizontally
+	 */
+	private static void meanBorder( GrayF64 integral , int radius , GrayF32 output , int y , int x0 , int x1 ) {
+		final int width = output.width;
+		final int r1 = radius + 1;
+		final int blockY0 = y - r1;
+		final int blockY1 = Math.min(output.height - 1, y + radius);
+		final int regionHeight = blockY1 - Math.max(-1, blockY0);
+
+		int indexOut = output.startIndex + y*output.stride + x0;
+		for( int x = x0; x < x1; x++ ) {
+			int blockX0 = x - r1;
+			int blockX1 = Math.min(width - 1, x + radius);
+			double sum = ImplIntegralImageOps.block_zero(integral, blockX0, blockY0, blockX1, blockY1);
+			double area = (blockX1 - Math.max(-1, blockX0))*regionHeight;
+			output.data[indexOut++] = (float)(sum/area);
+		}
+	}
+
+	/**
+	 * Computes the mean of the square region around each pixel using an integral image.  Only pixels inside the
+	 * image are included in the mean.
+	 *
+	 * @param integral (Input) Integral image of the image being blurred.
+	 * @param radius Radius of the square region.
+	 * @param output (Output) Blurred image.  Same shape as the integral image.
+	 */
+	public static void mean( GrayF64 integral , int radius , GrayF64 output ) {
+		final int width = output.width;
+		final int height = output.height;
+		final int r1 = radius + 1;
+
+		// Columns where the region is entirely inside the image
+		final int innerX0 = Math.min(r1, width);
+		final int innerX1 = Math.max(innerX0, width - radius);
+
+		for( int y = 0; y < height; y++ ) {
+			// the row above the region, which is subtracted from the sum
+			final int y0 = y - r1;
+			final int y1 = Math.min(height - 1, y + radius);
+			final int regionHeight = y1 - Math.max(-1, y0);
+
+			meanBorder(integral, radius, output, y, 0, innerX0);
+			meanBorder(integral, radius, output, y, innerX1, width);
+
+			final double area = (2*radius + 1)*regionHeight;
+			int indexBR = integral.startIndex + y1*integral.stride + innerX0 + radius;
+			int indexBL = indexBR - (2*radius + 1);
+			int indexOut = output.startIndex + y*output.stride + innerX0;
+			final int indexEnd = indexOut + innerX1 - innerX0;
+
+			if( y0 >= 0 ) {
+				final int offsetTop = (y1 - y0)*integral.stride;
+				while( indexOut < indexEnd ) {
+					double sum = integral.data[indexBR] - integral.data[indexBL]
+							- integral.data[indexBR - offsetTop] + integral.data[indexBL - offsetTop];
+					output.data[indexOut++] = sum/area;
+					indexBR++;
+					indexBL++;
+				}
+			} else {
+				while( indexOut < indexEnd ) {
+					double sum = integral.data[indexBR++] - integral.data[indexBL++];
+					output.data[indexOut++] = sum/area;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles pixels in a row where the region extends outside the image horizontally
+	 */
+	private static void meanBorder( GrayF64 integral , int radius , GrayF64 output , int y , int x0 , int x1 ) {
+		final int width = output.width;
+		final int r1 = radius + 1;
+		final int blockY0 = y - r1;
+		final int blockY1 = Math.min(output.height - 1, y + radius);
+		final int regionHeight = blockY1 - Math.max(-1, blockY0);
+
+		int indexOut = output.startIndex + y*output.stride + x0;
+		for( int x = x0; x < x1; x++ ) {
+			int blockX0 = x - r1;
+			int blockX1 = Math.min(width - 1, x + radius);
+			double sum = ImplIntegralImageOps.block_zero(integral, blockX0, blockY0, blockX1, blockY1);
+			double area = (blockX1 - Math.max(-1, blockX0))*regionHeight;
+			output.data[indexOut++] = sum/area;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayU8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter for {@link GrayU8} images where the cost per pixel does not depend on the radius.  A histogram is
+ * kept for each column in the image and is updated once per row by removing the pixel which left the region and
+ * adding the pixel that entered it.  The histogram of the region around a pixel is then found by adding and
+ * subtracting column histograms as the region slides across the row.
+ * </p>
+ *
+ * <p>
+ * Histograms have a coarse level with 16 bins and a fine level with 256 bins.  Only the coarse histogram of the region
+ * is updated at every pixel.  A fine bin of the region is only brought up to date when the median lies inside of it,
+ * which keeps the number of operations per pixel small.
+ * </p>
+ *
+ * <p>
+ * Along the image border only pixels inside the image are included, which produces the same results as
+ * {@link ImplMedianSortNaive}.
+ * </p>
+ *
+ * <p>
+ * Perreault, S., and Hébert, P. "Median filtering in constant time." IEEE Transactions on Image Processing
+ * 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramConstant {
+
+	/**
+	 * Applies a median image filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius ) {
+		process(input, output, radius, 0, input.height, new Workspace(input.width));
+	}
+
+	/**
+	 * Applies the median filter to the rows from y0 to y1.  The column histograms are initialized from scratch
+	 * at row y0, which allows blocks of rows to be processed independently.
+	 *
+	 * @param y0 First row, inclusive.
+	 * @param y1 Last row, exclusive.
+	 * @param work Storage for histograms.  Must have been declared for an image with the same width.
+	 */
+	static void process( GrayU8 input , GrayU8 output , int radius , int y0 , int y1 , Workspace work ) {
+		final int width = input.width;
+		final int height = input.height;
+
+		final int[] columnCoarse = work.columnCoarse;
+		final int[] columnFine = work.columnFine;
+		final int[] kernelCoarse = work.kernelCoarse;
+		final int[] kernelFine = work.kernelFine;
+		final int[] fineX = work.fineX;
+
+		// Initialize column histograms with the rows which are inside the region of row y0
+		Arrays.fill(columnCoarse, 0);
+		Arrays.fill(columnFine, 0);
+		for( int i = Math.max(0, y0 - radius); i < Math.min(height, y0 + radius + 1); i++ ) {
+			addRow(input, i, columnCoarse, columnFine, 1);
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				if( y - radius - 1 >= 0 )
+					addRow(input, y - radius - 1, columnCoarse, columnFine, -1);
+				if( y + radius < height )
+					addRow(input, y + radius, columnCoarse, columnFine, 1);
+			}
+
+			final int regionHeight = Math.min(height, y + radius + 1) - Math.max(0, y - radius);
+
+			// coarse histogram for the region around x = 0
+			Arrays.fill(kernelCoarse, 0);
+			for( int x = 0; x <= radius && x < width; x++ ) {
+				addColumn(columnCoarse, x*16, kernelCoarse, 0, 16, 1);
+			}
+			// fine histograms are computed from scratch the first time they are needed
+			Arrays.fill(fineX, -2*radius - 2);
+
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				final int regionWidth = Math.min(width, x + radius + 1) - Math.max(0, x - radius);
+				final int threshold = regionWidth*regionHeight/2 + 1;
+
+				// find the coarse bin which contains the median
+				int sum = 0;
+				int coarse = 0;
+				while( sum + kernelCoarse[coarse] < threshold ) {
+					sum += kernelCoarse[coarse++];
+				}
+
+				updateFine(coarse, x, radius, width, columnFine, kernelFine, fineX);
+
+				// find the median inside the coarse bin
+				int median = coarse*16;
+				while( sum + kernelFine[median] < threshold ) {
+					sum += kernelFine[median++];
+				}
+				output.data[indexOut++] = (byte)median;
+
+				// slide the region to the next pixel
+				final int removed = x - radius;
+				final int added = x + radius + 1;
+				if( removed >= 0 && added < width ) {
+					final int indexRemoved = removed*16;
+					final int indexAdded = added*16;
+					for( int i = 0; i < 16; i++ ) {
+						kernelCoarse[i] += columnCoarse[indexAdded + i] - columnCoarse[indexRemoved + i];
+					}
+				} else if( removed >= 0 ) {
+					addColumn(columnCoarse, removed*16, kernelCoarse, 0, 16, -1);
+				} else if( added < width ) {
+					addColumn(columnCoarse, added*16, kernelCoarse, 0, 16, 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Brings the fine histogram for a single coarse bin up to date for the region around x
+	 */
+	private static void updateFine( int coarse , int x , int radius , int width ,
+									int[] columnFine , int[] kernelFine , int[] fineX ) {
+		final int prevX = fineX[coarse];
+		final int offset = coarse*16;
+
+		if( x - prevX > 2*radius ) {
+			// none of the columns overlap.  Compute it from scratch
+			for( int i = 0; i < 16; i++ ) {
+				kernelFine[offset + i] = 0;
+			}
+			int x0 = Math.max(0, x - radius);
+			int x1 = Math.min(width, x + radius + 1);
+			for( int j = x0; j < x1; j++ ) {
+				addColumn(columnFine, j*256 + offset, kernelFine, offset, 16, 1);
+			}
+		} else {
+			// remove the columns which left the region and add the ones which entered it
+			for( int j = Math.max(0, prevX - radius); j < Math.max(0, x - radius); j++ ) {
+				addColumn(columnFine, j*256 + offset, kernelFine, offset, 16, -1);
+			}
+			for( int j = Math.min(width, prevX + radius + 1); j < Math.min(width, x + radius + 1); j++ ) {
+				addColumn(columnFine, j*256 + offset, kernelFine, offset, 16, 1);
+			}
+		}
+		fineX[coarse] = x;
+	}
+
+	/**
+	 * Adds or removes every pixel in the row from the column histograms
+	 */
+	private static void addRow( GrayU8 input , int row , int[] columnCoarse , int[] columnFine , int amount ) {
+		int indexIn = input.startIndex + row*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			int value = input.data[indexIn++] & 0xFF;
+			columnCoarse[x*16 + (value >> 4)] += amount;
+			columnFine[x*256 + value] += amount;
+		}
+	}
+
+	private static void addColumn( int[] column , int indexColumn , int[] kernel , int indexKernel ,
+								   int length , int amount ) {
+		if( amount > 0 ) {
+			for( int i = 0; i < length; i++ ) {
+				kernel[indexKernel + i] += column[indexColumn + i];
+			}
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				kernel[indexKernel + i] -= column[indexColumn + i];
+			}
+		}
+	}
+
+	/**
+	 * Storage for the histograms.  Each thread needs its own copy.
+	 */
+	static class Workspace {
+		// coarse and fine histograms for each column in the image
+		final int[] columnCoarse;
+		final int[] columnFine;
+		// coarse and fine histograms for the region around the current pixel
+		final int[] kernelCoarse = new int[16];
+		final int[] kernelFine = new int[256];
+		// the x-coordinate which each fine bin in the region was last updated for
+		final int[] fineX = new int[16];
+
+		Workspace( int width ) {
+			columnCoarse = new int[width*16];
+			columnFine = new int[width*256];
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplMedianHistogramConstant}.  The image is split into blocks of rows and each
+ * block has its own column histograms, which are initialized at the first row in the block.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramConstant_MT {
+
+	/**
+	 * Applies a median image filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius ) {
+		// Initializing the column histograms costs about as much as processing 2*radius+1 rows, so make
+		// sure each block is much larger than that
+		int minBlock = Math.max(BoofConcurrency.SMALLEST_BLOCK, 4*(2*radius + 1));
+
+		BoofConcurrency.loopBlocks(0, input.height, minBlock, (y0, y1) -> {
+			ImplMedianHistogramConstant.Workspace work = new ImplMedianHistogramConstant.Workspace(input.width);
+			ImplMedianHistogramConstant.process(input, output, radius, y0, y1, work);
+		});
+	}
+}
@@ -20,7 +20,10 @@ package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
+import boofcv.alg.filter.convolve.noborder.ImplConvolveMean_MT;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_F64;
@@ -52,8 +55,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.horizontal(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, input ,output );
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -72,8 +80,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.vertical(kernel, input, output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, input, output);
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 
@@ -92,8 +105,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.horizontal(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, input ,output );
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -112,8 +130,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.vertical(kernel, input, output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, input, output);
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 
@@ -131,8 +154,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.horizontal(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, input ,output );
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -151,8 +179,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.vertical(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, input ,output );
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 
@@ -170,8 +203,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.horizontal(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
-			ImplConvolveMean.horizontal(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, input ,output );
+				ImplConvolveMean_MT.horizontal(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, input ,output );
+				ImplConvolveMean.horizontal(input, output, radius);
+			}
 		}
 	}
 
@@ -190,8 +228,13 @@ public class ConvolveImageMean {
 			ConvolveNormalized.vertical(kernel,input,output);
 		} else {
 			InputSanityCheck.checkSameShape(input , output);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
-			ImplConvolveMean.vertical(input, output, radius);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, input ,output );
+				ImplConvolveMean_MT.vertical(input, output, radius);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, input ,output );
+				ImplConvolveMean.vertical(input, output, radius);
+			}
 		}
 	}
 }
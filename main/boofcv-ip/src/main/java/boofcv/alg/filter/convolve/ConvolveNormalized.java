@@ -23,7 +23,9 @@ import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_IL;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_SB;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_IL;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB_MT;
 import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
@@ -59,7 +61,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.horizontal(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+			}
 		}
 	}
 
@@ -83,7 +89,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.vertical(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
+			}
 		}
 	}
 
@@ -107,7 +117,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.convolve(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
+			}
 		}
 	}
 
@@ -203,7 +217,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.horizontal(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+			}
 		}
 	}
 
@@ -227,7 +245,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.vertical(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel,src,dst);
+			}
 		}
 	}
 
@@ -251,7 +273,11 @@ public class ConvolveNormalized {
 				kernel = k;
 			}
 			ConvolveImageNoBorder.convolve(kernel,src,dst);
-			ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.convolve(kernel,src,dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.convolve(kernel,src,dst);
+			}
 		}
 	}
 
@@ -342,7 +368,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			}
 		}
 	}
 
@@ -361,7 +391,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			}
 		}
 	}
 
@@ -380,7 +414,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.convolve(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			}
 		}
 	}
 
@@ -456,7 +494,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			}
 		}
 	}
 
@@ -475,7 +517,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			}
 		}
 	}
 
@@ -494,7 +540,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.convolve(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			}
 		}
 	}
 
@@ -570,7 +620,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.horizontal(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.horizontal(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.horizontal(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.horizontal(kernel, src, dst);
+			}
 		}
 	}
 
@@ -589,7 +643,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.vertical(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.vertical(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.vertical(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.vertical(kernel, src, dst);
+			}
 		}
 	}
 
@@ -608,7 +666,11 @@ public class ConvolveNormalized {
 			ConvolveNormalizedNaive_SB.convolve(kernel, src, dst);
 		} else {
 			ConvolveImageNoBorder.convolve(kernel, src, dst, kernel.computeSum());
-			ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveNormalized_JustBorder_SB_MT.convolve(kernel, src, dst);
+			} else {
+				ConvolveNormalized_JustBorder_SB.convolve(kernel, src, dst);
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,7 @@ package boofcv.alg.filter.convolve;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_IL;
 import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.filter.convolve.border.ConvolvePaddedBorder_SB;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_IL_F32;
 import boofcv.core.image.border.ImageBorder_IL_S32;
@@ -54,6 +55,11 @@ public class ConvolveWithBorder {
 								  GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.horizontal(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.horizontal(kernel,input,output);
 		ConvolveJustBorder_General_SB.horizontal(kernel, border,output);
@@ -71,6 +77,11 @@ public class ConvolveWithBorder {
 								  GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredVertical(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.vertical(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.vertical(kernel,input,output);
 		ConvolveJustBorder_General_SB.vertical(kernel, border,output);
@@ -88,6 +99,11 @@ public class ConvolveWithBorder {
 								  GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredConvolve(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.convolve(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.convolve(kernel,input,output);
 		ConvolveJustBorder_General_SB.convolve(kernel, border,output);
@@ -156,6 +172,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.horizontal(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.horizontal(kernel,input,output);
 		ConvolveJustBorder_General_SB.horizontal(kernel, border,output);
@@ -173,6 +194,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredVertical(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.vertical(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.vertical(kernel,input,output);
 		ConvolveJustBorder_General_SB.vertical(kernel, border,output);
@@ -190,6 +216,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredConvolve(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.convolve(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.convolve(kernel,input,output);
 		ConvolveJustBorder_General_SB.convolve(kernel, border,output);
@@ -258,6 +289,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.horizontal(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.horizontal(kernel,input,output);
 		ConvolveJustBorder_General_SB.horizontal(kernel, border,output);
@@ -275,6 +311,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredVertical(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.vertical(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.vertical(kernel,input,output);
 		ConvolveJustBorder_General_SB.vertical(kernel, border,output);
@@ -292,6 +333,11 @@ public class ConvolveWithBorder {
 								  GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredConvolve(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.convolve(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.convolve(kernel,input,output);
 		ConvolveJustBorder_General_SB.convolve(kernel, border,output);
@@ -360,6 +406,11 @@ public class ConvolveWithBorder {
 								  GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.horizontal(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.horizontal(kernel,input,output);
 		ConvolveJustBorder_General_SB.horizontal(kernel, border,output);
@@ -377,6 +428,11 @@ public class ConvolveWithBorder {
 								  GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredVertical(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.vertical(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.vertical(kernel,input,output);
 		ConvolveJustBorder_General_SB.vertical(kernel, border,output);
@@ -394,6 +450,11 @@ public class ConvolveWithBorder {
 								  GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredConvolve(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.convolve(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.convolve(kernel,input,output);
 		ConvolveJustBorder_General_SB.convolve(kernel, border,output);
@@ -462,6 +523,11 @@ public class ConvolveWithBorder {
 								  GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.horizontal(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.horizontal(kernel,input,output);
 		ConvolveJustBorder_General_SB.horizontal(kernel, border,output);
@@ -479,6 +545,11 @@ public class ConvolveWithBorder {
 								  GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredVertical(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.vertical(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.vertical(kernel,input,output);
 		ConvolveJustBorder_General_SB.vertical(kernel, border,output);
@@ -496,6 +567,11 @@ public class ConvolveWithBorder {
 								  GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( ConvolvePaddedBorder_SB.isPreferredConvolve(kernel,input,border) ) {
+			ConvolvePaddedBorder_SB.convolve(kernel,input,output,border);
+			return;
+		}
+
 		border.setImage(input);
 		ConvolveImageNoBorder.convolve(kernel,input,output);
 		ConvolveJustBorder_General_SB.convolve(kernel, border,output);
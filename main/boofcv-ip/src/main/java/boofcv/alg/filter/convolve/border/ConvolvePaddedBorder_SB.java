@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.border;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.core.image.border.*;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_S32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Convolves a kernel across the entire image by first copying the image into a larger padded image, where the
+ * padding is filled in once using the {@link ImageBorder}, and then applying the unrolled kernels in
+ * {@link ConvolveImageNoBorder} to the padded image. The border is looked up once per padded pixel instead of
+ * once per kernel element, which makes this approach faster for small images where the border is a significant
+ * fraction of the image. For large images the extra copies cost more than they save, see
+ * {@link #isPreferredHorizontal(KernelBase, ImageGray, ImageBorder)}.
+ * </p>
+ *
+ * <p>
+ * Padded images are saved in a per thread workspace and reused by later calls.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolvePaddedBorder_SB {
+
+	/**
+	 * Images with more pixels than this are always convolved using {@link ConvolveJustBorder_General_SB}
+	 */
+	public static int MAXIMUM_PIXELS = 256*256;
+	/**
+	 * The padded image is used when the number of kernel elements applied to border pixels divided by the
+	 * number of pixels in the image is at least this value. Determined using BenchmarkConvolveWithBorder.
+	 */
+	public static double MINIMUM_BORDER_RATIO = 0.4;
+
+	private static final ThreadLocal<Workspace> workspace = ThreadLocal.withInitial(Workspace::new);
+
+	/**
+	 * Returns true if a horizontal convolution should use the padded image instead of
+	 * {@link ConvolveJustBorder_General_SB}
+	 */
+	public static boolean isPreferredHorizontal( KernelBase kernel , ImageGray input , ImageBorder border ) {
+		int borderPixels = Math.min(input.width,kernel.getWidth()-1)*input.height;
+		return isPreferred(input,border,borderPixels*kernel.getWidth());
+	}
+
+	/**
+	 * Returns true if a vertical convolution should use the padded image instead of
+	 * {@link ConvolveJustBorder_General_SB}
+	 */
+	public static boolean isPreferredVertical( KernelBase kernel , ImageGray input , ImageBorder border ) {
+		int borderPixels = input.width*Math.min(input.height,kernel.getWidth()-1);
+		return isPreferred(input,border,borderPixels*kernel.getWidth());
+	}
+
+	/**
+	 * Returns true if a 2D convolution should use the padded image instead of
+	 * {@link ConvolveJustBorder_General_SB}
+	 */
+	public static boolean isPreferredConvolve( KernelBase kernel , ImageGray input , ImageBorder border ) {
+		int innerWidth = Math.max(0,input.width-kernel.getWidth()+1);
+		int innerHeight = Math.max(0,input.height-kernel.getWidth()+1);
+		int borderPixels = input.width*input.height - innerWidth*innerHeight;
+		return isPreferred(input,border,borderPixels*kernel.getWidth()*kernel.getWidth());
+	}
+
+	/**
+	 * @param borderOperations Number of times a kernel element is applied to a pixel in the border
+	 */
+	private static boolean isPreferred( ImageGray input , ImageBorder border , int borderOperations ) {
+		int N = input.width*input.height;
+		if( N > MAXIMUM_PIXELS || borderOperations < MINIMUM_BORDER_RATIO*N )
+			return false;
+
+		// The padded image has the same type as the input. Only values read from the image are known
+		// to fit inside of it
+		return input instanceof GrayF32 || input instanceof GrayS32 || border instanceof ImageBorder1D_S32;
+	}
+
+	public static void horizontal(Kernel1D_F32 kernel, GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayF32 padded = w.pad(input,border,offset,kernel.getWidth()-offset-1,0,0);
+		GrayF32 work = w.output(output,padded);
+		ConvolveImageNoBorder.horizontal(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void vertical(Kernel1D_F32 kernel, GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayF32 padded = w.pad(input,border,0,0,offset,kernel.getWidth()-offset-1);
+		GrayF32 work = w.output(output,padded);
+		ConvolveImageNoBorder.vertical(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void convolve(Kernel2D_F32 kernel, GrayF32 input, GrayF32 output , ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		int right = kernel.getWidth()-offset-1;
+		GrayF32 padded = w.pad(input,border,offset,right,offset,right);
+		GrayF32 work = w.output(output,padded);
+		ConvolveImageNoBorder.convolve(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void horizontal(Kernel1D_S32 kernel, GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayU8 padded = w.pad(input,border,offset,kernel.getWidth()-offset-1,0,0);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.horizontal(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void vertical(Kernel1D_S32 kernel, GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayU8 padded = w.pad(input,border,0,0,offset,kernel.getWidth()-offset-1);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.vertical(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void convolve(Kernel2D_S32 kernel, GrayU8 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		int right = kernel.getWidth()-offset-1;
+		GrayU8 padded = w.pad(input,border,offset,right,offset,right);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.convolve(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void horizontal(Kernel1D_S32 kernel, GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayU8 padded = w.pad(input,border,offset,kernel.getWidth()-offset-1,0,0);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.horizontal(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void vertical(Kernel1D_S32 kernel, GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayU8 padded = w.pad(input,border,0,0,offset,kernel.getWidth()-offset-1);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.vertical(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void convolve(Kernel2D_S32 kernel, GrayU8 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		int right = kernel.getWidth()-offset-1;
+		GrayU8 padded = w.pad(input,border,offset,right,offset,right);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.convolve(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void horizontal(Kernel1D_S32 kernel, GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayS16 padded = w.pad(input,border,offset,kernel.getWidth()-offset-1,0,0);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.horizontal(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void vertical(Kernel1D_S32 kernel, GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayS16 padded = w.pad(input,border,0,0,offset,kernel.getWidth()-offset-1);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.vertical(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void convolve(Kernel2D_S32 kernel, GrayS16 input, GrayI16 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		int right = kernel.getWidth()-offset-1;
+		GrayS16 padded = w.pad(input,border,offset,right,offset,right);
+		GrayI16 work = w.output(output,padded);
+		ConvolveImageNoBorder.convolve(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void horizontal(Kernel1D_S32 kernel, GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayS32 padded = w.pad(input,border,offset,kernel.getWidth()-offset-1,0,0);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.horizontal(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void vertical(Kernel1D_S32 kernel, GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		GrayS32 padded = w.pad(input,border,0,0,offset,kernel.getWidth()-offset-1);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.vertical(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	public static void convolve(Kernel2D_S32 kernel, GrayS32 input, GrayS32 output , ImageBorder_S32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+		Workspace w = workspace.get();
+		int offset = kernel.getOffset();
+		int right = kernel.getWidth()-offset-1;
+		GrayS32 padded = w.pad(input,border,offset,right,offset,right);
+		GrayS32 work = w.output(output,padded);
+		ConvolveImageNoBorder.convolve(kernel,padded,work);
+		w.crop(work,output);
+	}
+
+	/**
+	 * Storage for the padded images. One padded input and output image is saved for each image type.
+	 */
+	@SuppressWarnings("unchecked")
+	private static class Workspace {
+		Map<Class,ImageGray> inputs = new HashMap<>();
+		Map<Class,ImageGray> outputs = new HashMap<>();
+		Map<Class,ImageGray> views = new HashMap<>();
+		Map<Class,ImageGray> rows = new HashMap<>();
+
+		// location of the input image inside the padded image
+		int x0,y0;
+		// index of the image column each padded column outside the image is read from
+		int[] columns = new int[0];
+
+		/**
+		 * Copies the input image into the padded image and fills in its border
+		 *
+		 * @return the padded image
+		 */
+		<T extends ImageGray<T>> T pad( T input , ImageBorder border , int left, int right, int top, int bottom ) {
+			this.x0 = left;
+			this.y0 = top;
+			T padded = reshape(inputs,input,input.width+left+right,input.height+top+bottom);
+
+			padded.subimage(left,top,left+input.width,top+input.height,view(padded)).setTo(input);
+
+			border.setImage(input);
+			if( border instanceof ImageBorder1D_F32 ) {
+				ImageBorder1D_F32 b = (ImageBorder1D_F32)border;
+				padColumns((GrayF32)padded,input.width,input.height,right,b.getColWrap());
+				padRows(padded,input.height,b.getRowWrap());
+			} else if( border instanceof ImageBorder1D_S32 ) {
+				ImageBorder1D_S32 b = (ImageBorder1D_S32)border;
+				padColumns((GrayI)padded,input.width,input.height,right,b.getColWrap());
+				padRows(padded,input.height,b.getRowWrap());
+			} else if( border instanceof ImageBorder_F32 ) {
+				padOutside((GrayF32)padded,input.width,input.height,(ImageBorder_F32)border);
+			} else {
+				padOutside((GrayI)padded,input.width,input.height,(ImageBorder_S32)border);
+			}
+
+			return padded;
+		}
+
+		/**
+		 * Returns an image the same type as output which is the same shape as the padded image
+		 */
+		<T extends ImageGray<T>> T output( T output , ImageGray padded ) {
+			return reshape(outputs,output,padded.width,padded.height);
+		}
+
+		/**
+		 * Copies the inner portion of the padded output image into the output image
+		 */
+		<T extends ImageGray<T>> void crop( T work , T output ) {
+			output.setTo(work.subimage(x0,y0,x0+output.width,y0+output.height,view(work)));
+		}
+
+		/**
+		 * Fills in the padded columns to the left and right of the image using the image's columns
+		 */
+		void padColumns( GrayF32 padded , int width , int height , int right , BorderIndex1D colWrap ) {
+			computeColumns(width,right,colWrap);
+			for (int y = y0; y < y0+height; y++) {
+				for (int x = 0; x < x0; x++) {
+					padded.unsafe_set(x,y,padded.unsafe_get(x0+columns[x],y));
+				}
+				for (int x = 0; x < right; x++) {
+					padded.unsafe_set(x0+width+x,y,padded.unsafe_get(x0+columns[x0+x],y));
+				}
+			}
+		}
+
+		/**
+		 * Fills in the padded columns to the left and right of the image using the image's columns
+		 */
+		void padColumns( GrayI padded , int width , int height , int right , BorderIndex1D colWrap ) {
+			computeColumns(width,right,colWrap);
+			for (int y = y0; y < y0+height; y++) {
+				for (int x = 0; x < x0; x++) {
+					padded.unsafe_set(x,y,padded.unsafe_get(x0+columns[x],y));
+				}
+				for (int x = 0; x < right; x++) {
+					padded.unsafe_set(x0+width+x,y,padded.unsafe_get(x0+columns[x0+x],y));
+				}
+			}
+		}
+
+		private void computeColumns( int width , int right , BorderIndex1D colWrap ) {
+			if( columns.length < x0+right )
+				columns = new int[x0+right];
+			for (int x = 0; x < x0; x++) {
+				columns[x] = colWrap.getIndex(x-x0);
+			}
+			for (int x = 0; x < right; x++) {
+				columns[x0+x] = colWrap.getIndex(width+x);
+			}
+		}
+
+		/**
+		 * Fills in the padded rows above and below the image by copying entire rows from the padded image.
+		 * Must be called after the columns have been filled in.
+		 */
+		<T extends ImageGray<T>> void padRows( T padded , int height , BorderIndex1D rowWrap ) {
+			T src = view(padded);
+			T dst = (T)rows.computeIfAbsent(padded.getClass(),k->padded.createNew(-1,-1));
+			for (int y = 0; y < padded.height; y++) {
+				if( y >= y0 && y < y0+height )
+					continue;
+				int srcY = y0 + rowWrap.getIndex(y-y0);
+				padded.subimage(0,srcY,padded.width,srcY+1,src);
+				padded.subimage(0,y,padded.width,y+1,dst).setTo(src);
+			}
+		}
+
+		/**
+		 * Fills in every padded pixel outside the image using the border
+		 */
+		void padOutside( GrayF32 padded , int width , int height , ImageBorder_F32 border ) {
+			for (int y = 0; y < padded.height; y++) {
+				boolean inside = y >= y0 && y < y0+height;
+				for (int x = 0; x < padded.width; x++) {
+					if( inside && x == x0 )
+						x += width;
+					if( x < padded.width )
+						padded.unsafe_set(x,y,border.get(x-x0,y-y0));
+				}
+			}
+		}
+
+		/**
+		 * Fills in every padded pixel outside the image using the border
+		 */
+		void padOutside( GrayI padded , int width , int height , ImageBorder_S32 border ) {
+			for (int y = 0; y < padded.height; y++) {
+				boolean inside = y >= y0 && y < y0+height;
+				for (int x = 0; x < padded.width; x++) {
+					if( inside && x == x0 )
+						x += width;
+					if( x < padded.width )
+						padded.unsafe_set(x,y,border.get(x-x0,y-y0));
+				}
+			}
+		}
+
+		<T extends ImageGray<T>> T view( T image ) {
+			return (T)views.computeIfAbsent(image.getClass(),k->image.createNew(-1,-1));
+		}
+
+		static <T extends ImageGray<T>> T reshape( Map<Class,ImageGray> storage , T template , int width , int height ) {
+			ImageGray image = storage.get(template.getClass());
+			if( image == null ) {
+				image = template.createNew(width,height);
+				storage.put(template.getClass(),image);
+			} else {
+				image.reshape(width,height);
+			}
+			return (T)image;
+		}
+	}
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.down;
+
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Applies a separable kernel in the horizontal and vertical direction and down samples the image in a single
+ * pass.  The output is equivalent to a horizontal then a vertical normalized down convolution, see
+ * {@link boofcv.alg.filter.convolve.ConvolveDownNormalized}, but the full height horizontally blurred image
+ * is never written.  Instead the most recent kernel.width horizontally convolved
+ * rows are kept in a ring buffer, which stays in cache for typical image sizes.
+ * </p>
+ *
+ * <p>
+ * Only pixels which are a multiple of skip and inside of (width - width%skip, height - height%skip) are written to.
+ * The kernel is re-normalized along the image border.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveDownNormalizedSeparable {
+
+	/**
+	 * Blurs and down samples the input image.
+	 *
+	 * @param kernel The kernel applied along each axis. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Down sampled image. Must be at least (width/skip, height/skip). Modified.
+	 * @param skip How many pixels are skipped
+	 * @param work (Optional) Storage for internal work space.  If null then it will be declared.
+	 */
+	public static void process( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int skip , Workspace work ) {
+		checkParameters(input, output, skip);
+		if( work == null )
+			work = new Workspace();
+		process(kernel, input, output, skip, 0, input.height/skip, work);
+	}
+
+	/**
+	 * Blurs and down samples the input image.
+	 *
+	 * @param kernel The kernel applied along each axis. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Down sampled image. Must be at least (width/skip, height/skip). Modified.
+	 * @param skip How many pixels are skipped
+	 * @param work (Optional) Storage for internal work space.  If null then it will be declared.
+	 */
+	public static void process( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int skip , Workspace work ) {
+		checkParameters(input, output, skip);
+		if( work == null )
+			work = new Workspace();
+		process(kernel, input, output, skip, 0, input.height/skip, work);
+	}
+
+	/**
+	 * Computes output rows from outY0 to outY1.  The ring buffer is filled from scratch at the first row,
+	 * which allows blocks of rows to be processed independently.
+	 *
+	 * @param outY0 First output row, inclusive.
+	 * @param outY1 Last output row, exclusive.
+	 */
+	static void process( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int skip ,
+						 int outY0 , int outY1 , Workspace work )
+	{
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final float[] dataKer = kernel.data;
+		final int outWidth = input.width/skip;
+
+		work.reshape(kernelWidth, outWidth, false);
+		final float[] rows = work.rowsF32;
+
+		int lastRow = -1;
+
+		for( int outY = outY0; outY < outY1; outY++ ) {
+			final int y = outY*skip;
+			final int rowStart = Math.max(0, y - radius);
+			final int rowEnd = Math.min(input.height - 1, y + radius);
+
+			// horizontally convolve the rows which have not been seen yet
+			for( int row = Math.max(lastRow + 1, rowStart); row <= rowEnd; row++ ) {
+				horizontal(dataKer, radius, input, row, skip, rows, (row % kernelWidth)*outWidth, outWidth);
+			}
+			lastRow = rowEnd;
+
+			final int indexDst = output.startIndex + outY*output.stride;
+
+			if( y >= radius && y + radius < input.height ) {
+				// the entire kernel is inside the image and its sum is one
+				vertical(dataKer, rows, y - radius, outWidth, output.data, indexDst);
+			} else {
+				float weight = 0;
+				for( int row = rowStart; row <= rowEnd; row++ ) {
+					int indexRow = (row % kernelWidth)*outWidth;
+					float k = dataKer[row - y + radius];
+					if( row == rowStart ) {
+						for( int x = 0; x < outWidth; x++ ) {
+							output.data[indexDst + x] = rows[indexRow + x]*k;
+						}
+					} else {
+						for( int x = 0; x < outWidth; x++ ) {
+							output.data[indexDst + x] += rows[indexRow + x]*k;
+						}
+					}
+					weight += k;
+				}
+				for( int x = 0; x < outWidth; x++ ) {
+					output.data[indexDst + x] /= weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes output rows from outY0 to outY1.  The ring buffer is filled from scratch at the first row,
+	 * which allows blocks of rows to be processed independently.
+	 *
+	 * @param outY0 First output row, inclusive.
+	 * @param outY1 Last output row, exclusive.
+	 */
+	static void process( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int skip ,
+						 int outY0 , int outY1 , Workspace work )
+	{
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int[] dataKer = kernel.data;
+		final int divisor = kernel.computeSum();
+		final int outWidth = input.width/skip;
+
+		work.reshape(kernelWidth, outWidth, true);
+		final int[] rows = work.rowsS32;
+		final int[] total = work.total;
+
+		int lastRow = -1;
+
+		for( int outY = outY0; outY < outY1; outY++ ) {
+			final int y = outY*skip;
+			final int rowStart = Math.max(0, y - radius);
+			final int rowEnd = Math.min(input.height - 1, y + radius);
+
+			// horizontally convolve the rows which have not been seen yet
+			for( int row = Math.max(lastRow + 1, rowStart); row <= rowEnd; row++ ) {
+				horizontal(dataKer, divisor, radius, input, row, skip, rows, (row % kernelWidth)*outWidth, outWidth);
+			}
+			lastRow = rowEnd;
+
+			final int indexDst = output.startIndex + outY*output.stride;
+
+			if( y >= radius && y + radius < input.height && kernelWidth <= 7 ) {
+				vertical(dataKer, divisor, rows, y - radius, outWidth, output.data, indexDst);
+				continue;
+			}
+
+			int weight = 0;
+			for( int row = rowStart; row <= rowEnd; row++ ) {
+				int indexRow = (row % kernelWidth)*outWidth;
+				int k = dataKer[row - y + radius];
+				if( row == rowStart ) {
+					for( int x = 0; x < outWidth; x++ ) {
+						total[x] = rows[indexRow + x]*k;
+					}
+				} else {
+					for( int x = 0; x < outWidth; x++ ) {
+						total[x] += rows[indexRow + x]*k;
+					}
+				}
+				weight += k;
+			}
+
+			// along the border the weight is the sum of the kernel elements inside the image
+			final int halfWeight = weight/2;
+			for( int x = 0; x < outWidth; x++ ) {
+				output.data[indexDst + x] = (byte)((total[x] + halfWeight)/weight);
+			}
+		}
+	}
+
+	/**
+	 * Vertically convolves rows in the ring buffer when the kernel is entirely inside the image.  Commonly used
+	 * kernel widths are unrolled.
+	 *
+	 * @param row0 Input row which the first kernel element is applied to
+	 */
+	private static void vertical( float[] dataKer , float[] rows , int row0 , int outWidth ,
+								  float[] dataDst , int indexDst ) {
+		final int kernelWidth = dataKer.length;
+
+		switch( kernelWidth ) {
+			case 3: {
+				final float k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2];
+				final int i1 = (row0 % 3)*outWidth, i2 = ((row0 + 1) % 3)*outWidth, i3 = ((row0 + 2) % 3)*outWidth;
+				for( int x = 0; x < outWidth; x++ ) {
+					dataDst[indexDst + x] = rows[i1 + x]*k1 + rows[i2 + x]*k2 + rows[i3 + x]*k3;
+				}
+			} break;
+
+			case 5: {
+				final float k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2], k4 = dataKer[3], k5 = dataKer[4];
+				final int i1 = (row0 % 5)*outWidth, i2 = ((row0 + 1) % 5)*outWidth, i3 = ((row0 + 2) % 5)*outWidth;
+				final int i4 = ((row0 + 3) % 5)*outWidth, i5 = ((row0 + 4) % 5)*outWidth;
+				for( int x = 0; x < outWidth; x++ ) {
+					dataDst[indexDst + x] = rows[i1 + x]*k1 + rows[i2 + x]*k2 + rows[i3 + x]*k3
+							+ rows[i4 + x]*k4 + rows[i5 + x]*k5;
+				}
+			} break;
+
+			default: {
+				int indexRow = (row0 % kernelWidth)*outWidth;
+				float k = dataKer[0];
+				for( int x = 0; x < outWidth; x++ ) {
+					dataDst[indexDst + x] = rows[indexRow + x]*k;
+				}
+				for( int i = 1; i < kernelWidth; i++ ) {
+					indexRow = ((row0 + i) % kernelWidth)*outWidth;
+					k = dataKer[i];
+					for( int x = 0; x < outWidth; x++ ) {
+						dataDst[indexDst + x] += rows[indexRow + x]*k;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Vertically convolves rows in the ring buffer when the kernel is entirely inside the image.  Only kernels
+	 * with a width of 7 or less are handled.
+	 *
+	 * @param row0 Input row which the first kernel element is applied to
+	 */
+	private static void vertical( int[] dataKer , int divisor , int[] rows , int row0 , int outWidth ,
+								  byte[] dataDst , int indexDst ) {
+		final int kernelWidth = dataKer.length;
+		final int halfDivisor = divisor/2;
+
+		// elements beyond the kernel width are set to zero and never used
+		final int k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2];
+		final int k4 = kernelWidth > 3 ? dataKer[3] : 0, k5 = kernelWidth > 3 ? dataKer[4] : 0;
+		final int k6 = kernelWidth > 5 ? dataKer[5] : 0, k7 = kernelWidth > 5 ? dataKer[6] : 0;
+
+		final int i1 = (row0 % kernelWidth)*outWidth;
+		final int i2 = ((row0 + 1) % kernelWidth)*outWidth;
+		final int i3 = ((row0 + 2) % kernelWidth)*outWidth;
+
+		if( kernelWidth == 3 ) {
+			for( int x = 0; x < outWidth; x++ ) {
+				int total = rows[i1 + x]*k1 + rows[i2 + x]*k2 + rows[i3 + x]*k3;
+				dataDst[indexDst + x] = (byte)((total + halfDivisor)/divisor);
+			}
+			return;
+		}
+
+		final int i4 = ((row0 + 3) % kernelWidth)*outWidth;
+		final int i5 = ((row0 + 4) % kernelWidth)*outWidth;
+
+		if( kernelWidth == 5 ) {
+			for( int x = 0; x < outWidth; x++ ) {
+				int total = rows[i1 + x]*k1 + rows[i2 + x]*k2 + rows[i3 + x]*k3 + rows[i4 + x]*k4 + rows[i5 + x]*k5;
+				dataDst[indexDst + x] = (byte)((total + halfDivisor)/divisor);
+			}
+			return;
+		}
+
+		final int i6 = ((row0 + 5) % kernelWidth)*outWidth;
+		final int i7 = ((row0 + 6) % kernelWidth)*outWidth;
+
+		for( int x = 0; x < outWidth; x++ ) {
+			int total = rows[i1 + x]*k1 + rows[i2 + x]*k2 + rows[i3 + x]*k3 + rows[i4 + x]*k4 + rows[i5 + x]*k5
+					+ rows[i6 + x]*k6 + rows[i7 + x]*k7;
+			dataDst[indexDst + x] = (byte)((total + halfDivisor)/divisor);
+		}
+	}
+
+	/**
+	 * Horizontally convolves and down samples a single row.  Pixels where the kernel is entirely inside the image
+	 * are handled separately from the border and commonly used kernel widths are unrolled.
+	 */
+	private static void horizontal( float[] dataKer , int radius , GrayF32 input , int row , int skip ,
+									float[] rows , int indexRow , int outWidth ) {
+		final float[] dataSrc = input.data;
+		final int width = input.width;
+		final int indexSrcRow = input.startIndex + row*input.stride;
+
+		// range of output pixels where the kernel is inside the image
+		final int x0 = Math.min(outWidth, (radius + skip - 1)/skip);
+		final int x1 = width - 1 - radius < 0 ? x0 : Math.max(x0, Math.min(outWidth, (width - 1 - radius)/skip + 1));
+
+		for( int outX = 0; outX < x0; outX++ ) {
+			rows[indexRow + outX] = border(dataKer, radius, dataSrc, indexSrcRow, width, outX*skip);
+		}
+
+		int indexSrc = indexSrcRow + x0*skip - radius;
+		switch( dataKer.length ) {
+			case 3: {
+				final float k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					rows[indexRow + outX] = dataSrc[indexSrc]*k1 + dataSrc[indexSrc + 1]*k2 + dataSrc[indexSrc + 2]*k3;
+				}
+			} break;
+
+			case 5: {
+				final float k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2], k4 = dataKer[3], k5 = dataKer[4];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					rows[indexRow + outX] = dataSrc[indexSrc]*k1 + dataSrc[indexSrc + 1]*k2 + dataSrc[indexSrc + 2]*k3
+							+ dataSrc[indexSrc + 3]*k4 + dataSrc[indexSrc + 4]*k5;
+				}
+			} break;
+
+			case 7: {
+				final float k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2], k4 = dataKer[3], k5 = dataKer[4];
+				final float k6 = dataKer[5], k7 = dataKer[6];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					rows[indexRow + outX] = dataSrc[indexSrc]*k1 + dataSrc[indexSrc + 1]*k2 + dataSrc[indexSrc + 2]*k3
+							+ dataSrc[indexSrc + 3]*k4 + dataSrc[indexSrc + 4]*k5 + dataSrc[indexSrc + 5]*k6
+							+ dataSrc[indexSrc + 6]*k7;
+				}
+			} break;
+
+			default:
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					float total = dataSrc[indexSrc]*dataKer[0];
+					for( int k = 1; k < dataKer.length; k++ ) {
+						total += dataSrc[indexSrc + k]*dataKer[k];
+					}
+					rows[indexRow + outX] = total;
+				}
+		}
+
+		for( int outX = x1; outX < outWidth; outX++ ) {
+			rows[indexRow + outX] = border(dataKer, radius, dataSrc, indexSrcRow, width, outX*skip);
+		}
+	}
+
+	/**
+	 * Horizontally convolves and down samples a single row.  Results are rounded to the nearest integer, which
+	 * is the same as what's done when the intermediate image is saved as a {@link GrayU8}.
+	 */
+	private static void horizontal( int[] dataKer , int divisor , int radius , GrayU8 input , int row , int skip ,
+									int[] rows , int indexRow , int outWidth ) {
+		final byte[] dataSrc = input.data;
+		final int width = input.width;
+		final int indexSrcRow = input.startIndex + row*input.stride;
+		final int halfDivisor = divisor/2;
+
+		// range of output pixels where the kernel is inside the image
+		final int x0 = Math.min(outWidth, (radius + skip - 1)/skip);
+		final int x1 = width - 1 - radius < 0 ? x0 : Math.max(x0, Math.min(outWidth, (width - 1 - radius)/skip + 1));
+
+		for( int outX = 0; outX < x0; outX++ ) {
+			rows[indexRow + outX] = border(dataKer, radius, dataSrc, indexSrcRow, width, outX*skip);
+		}
+
+		int indexSrc = indexSrcRow + x0*skip - radius;
+		switch( dataKer.length ) {
+			case 3: {
+				final int k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					int total = (dataSrc[indexSrc] & 0xFF)*k1 + (dataSrc[indexSrc + 1] & 0xFF)*k2
+							+ (dataSrc[indexSrc + 2] & 0xFF)*k3;
+					rows[indexRow + outX] = (total + halfDivisor)/divisor;
+				}
+			} break;
+
+			case 5: {
+				final int k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2], k4 = dataKer[3], k5 = dataKer[4];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					int total = (dataSrc[indexSrc] & 0xFF)*k1 + (dataSrc[indexSrc + 1] & 0xFF)*k2
+							+ (dataSrc[indexSrc + 2] & 0xFF)*k3 + (dataSrc[indexSrc + 3] & 0xFF)*k4
+							+ (dataSrc[indexSrc + 4] & 0xFF)*k5;
+					rows[indexRow + outX] = (total + halfDivisor)/divisor;
+				}
+			} break;
+
+			case 7: {
+				final int k1 = dataKer[0], k2 = dataKer[1], k3 = dataKer[2], k4 = dataKer[3], k5 = dataKer[4];
+				final int k6 = dataKer[5], k7 = dataKer[6];
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					int total = (dataSrc[indexSrc] & 0xFF)*k1 + (dataSrc[indexSrc + 1] & 0xFF)*k2
+							+ (dataSrc[indexSrc + 2] & 0xFF)*k3 + (dataSrc[indexSrc + 3] & 0xFF)*k4
+							+ (dataSrc[indexSrc + 4] & 0xFF)*k5 + (dataSrc[indexSrc + 5] & 0xFF)*k6
+							+ (dataSrc[indexSrc + 6] & 0xFF)*k7;
+					rows[indexRow + outX] = (total + halfDivisor)/divisor;
+				}
+			} break;
+
+			default:
+				for( int outX = x0; outX < x1; outX++, indexSrc += skip ) {
+					int total = 0;
+					for( int k = 0; k < dataKer.length; k++ ) {
+						total += (dataSrc[indexSrc + k] & 0xFF)*dataKer[k];
+					}
+					rows[indexRow + outX] = (total + halfDivisor)/divisor;
+				}
+		}
+
+		for( int outX = x1; outX < outWidth; outX++ ) {
+			rows[indexRow + outX] = border(dataKer, radius, dataSrc, indexSrcRow, width, outX*skip);
+		}
+	}
+
+	/**
+	 * Convolves a pixel at x where the kernel extends outside the image.  The kernel is re-normalized.
+	 */
+	private static float border( float[] dataKer , int radius , float[] dataSrc , int indexSrcRow , int width , int x ) {
+		int startX = Math.max(0, x - radius);
+		int endX = Math.min(width - 1, x + radius);
+		float total = 0;
+		float weight = 0;
+		for( int j = startX; j <= endX; j++ ) {
+			float w = dataKer[j - x + radius];
+			weight += w;
+			total += dataSrc[indexSrcRow + j]*w;
+		}
+		return total/weight;
+	}
+
+	/**
+	 * Convolves a pixel at x where the kernel extends outside the image.  The kernel is re-normalized.
+	 */
+	private static int border( int[] dataKer , int radius , byte[] dataSrc , int indexSrcRow , int width , int x ) {
+		int startX = Math.max(0, x - radius);
+		int endX = Math.min(width - 1, x + radius);
+		int total = 0;
+		int weight = 0;
+		for( int j = startX; j <= endX; j++ ) {
+			int w = dataKer[j - x + radius];
+			weight += w;
+			total += (dataSrc[indexSrcRow + j] & 0xFF)*w;
+		}
+		return (total + weight/2)/weight;
+	}
+
+	static void checkParameters( GrayF32 input , GrayF32 output , int skip ) {
+		checkParameters(input.width, input.height, output.width, output.height, skip);
+	}
+
+	static void checkParameters( GrayU8 input , GrayU8 output , int skip ) {
+		checkParameters(input.width, input.height, output.width, output.height, skip);
+	}
+
+	private static void checkParameters( int inputWidth , int inputHeight , int outputWidth , int outputHeight ,
+										 int skip ) {
+		if( skip <= 0 )
+			throw new IllegalArgumentException("Skip must be >= 1");
+		if( outputWidth < inputWidth/skip || outputHeight < inputHeight/skip )
+			throw new IllegalArgumentException("Output image is too small. Must be at least (width/skip,height/skip)");
+	}
+
+	/**
+	 * Storage for the ring buffer of horizontally convolved rows.
+	 */
+	public static class Workspace {
+		float[] rowsF32 = new float[0];
+		int[] rowsS32 = new int[0];
+		int[] total = new int[0];
+
+		void reshape( int kernelWidth , int outWidth , boolean integer ) {
+			int N = kernelWidth*outWidth;
+			if( integer ) {
+				if( rowsS32.length < N )
+					rowsS32 = new int[N];
+				if( total.length < outWidth )
+					total = new int[outWidth];
+			} else if( rowsF32.length < N ) {
+				rowsF32 = new float[N];
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.down;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Concurrent version of {@link ConvolveDownNormalizedSeparable}.  Blocks of output rows are processed in parallel
+ * and each block has its own ring buffer, which is filled at the first row in the block.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveDownNormalizedSeparable_MT {
+
+	/**
+	 * @see ConvolveDownNormalizedSeparable#process(Kernel1D_F32, GrayF32, GrayF32, int, ConvolveDownNormalizedSeparable.Workspace)
+	 */
+	public static void process( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int skip ) {
+		ConvolveDownNormalizedSeparable.checkParameters(input, output, skip);
+
+		BoofConcurrency.loopBlocks(0, input.height/skip, minimumBlock(kernel.getWidth(), skip), (y0, y1) -> {
+			ConvolveDownNormalizedSeparable.Workspace work = new ConvolveDownNormalizedSeparable.Workspace();
+			ConvolveDownNormalizedSeparable.process(kernel, input, output, skip, y0, y1, work);
+		});
+	}
+
+	/**
+	 * @see ConvolveDownNormalizedSeparable#process(Kernel1D_S32, GrayU8, GrayU8, int, ConvolveDownNormalizedSeparable.Workspace)
+	 */
+	public static void process( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int skip ) {
+		ConvolveDownNormalizedSeparable.checkParameters(input, output, skip);
+
+		BoofConcurrency.loopBlocks(0, input.height/skip, minimumBlock(kernel.getWidth(), skip), (y0, y1) -> {
+			ConvolveDownNormalizedSeparable.Workspace work = new ConvolveDownNormalizedSeparable.Workspace();
+			ConvolveDownNormalizedSeparable.process(kernel, input, output, skip, y0, y1, work);
+		});
+	}
+
+	/**
+	 * Filling the ring buffer at the start of a block costs up to kernel.width input rows.  Make sure each block
+	 * processes several times that many input rows.
+	 */
+	private static int minimumBlock( int kernelWidth , int skip ) {
+		return Math.max(BoofConcurrency.SMALLEST_BLOCK, (4*kernelWidth)/skip);
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.alg.filter.misc;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -85,42 +86,22 @@ public class AverageDownSampleOps {
 	 * @param output Output image. Modified.
 	 */
 	public static void down(ImageGray input , int sampleWidth , ImageGray output ) {
-		if( sampleWidth == 2 ) {
-			if( input instanceof GrayU8) {
-				ImplAverageDownSample2.down((GrayU8) input, (GrayI8) output);
-			} else if( input instanceof GrayS8) {
-				ImplAverageDownSample2.down((GrayS8) input, (GrayI8) output);
-			} else if( input instanceof GrayU16) {
-				ImplAverageDownSample2.down((GrayU16) input, (GrayI16) output);
-			} else if( input instanceof GrayS16) {
-				ImplAverageDownSample2.down((GrayS16) input, (GrayI16) output);
-			} else if( input instanceof GrayS32) {
-				ImplAverageDownSample2.down((GrayS32) input, (GrayS32) output);
-			} else if( input instanceof GrayF32) {
-				ImplAverageDownSample2.down((GrayF32) input, (GrayF32) output);
-			} else if( input instanceof GrayF64) {
-				ImplAverageDownSample2.down((GrayF64) input, (GrayF64) output);
-			} else {
-				throw new IllegalArgumentException("Unknown image type");
-			}
+		if( input instanceof GrayU8) {
+			down((GrayU8) input, sampleWidth, (GrayI8) output);
+		} else if( input instanceof GrayS8) {
+			down((GrayS8) input, sampleWidth, (GrayI8) output);
+		} else if( input instanceof GrayU16) {
+			down((GrayU16) input, sampleWidth, (GrayI16) output);
+		} else if( input instanceof GrayS16) {
+			down((GrayS16) input, sampleWidth, (GrayI16) output);
+		} else if( input instanceof GrayS32) {
+			down((GrayS32) input, sampleWidth, (GrayS32) output);
+		} else if( input instanceof GrayF32) {
+			down((GrayF32) input, sampleWidth, (GrayF32) output);
+		} else if( input instanceof GrayF64) {
+			down((GrayF64) input, sampleWidth, (GrayF64) output);
 		} else {
-			if( input instanceof GrayU8) {
-				ImplAverageDownSampleN.down((GrayU8) input, sampleWidth , (GrayI8) output);
-			} else if( input instanceof GrayS8) {
-				ImplAverageDownSampleN.down((GrayS8) input, sampleWidth , (GrayI8) output);
-			} else if( input instanceof GrayU16) {
-				ImplAverageDownSampleN.down((GrayU16) input, sampleWidth , (GrayI16) output);
-			} else if( input instanceof GrayS16) {
-				ImplAverageDownSampleN.down((GrayS16) input, sampleWidth , (GrayI16) output);
-			} else if( input instanceof GrayS32) {
-				ImplAverageDownSampleN.down((GrayS32) input, sampleWidth , (GrayS32) output);
-			} else if( input instanceof GrayF32) {
-				ImplAverageDownSampleN.down((GrayF32) input, sampleWidth , (GrayF32) output);
-			} else if( input instanceof GrayF64) {
-				ImplAverageDownSampleN.down((GrayF64) input, sampleWidth , (GrayF64) output);
-			} else {
-				throw new IllegalArgumentException("Unknown image type");
-			}
+			throw new IllegalArgumentException("Unknown image type");
 		}
 	}
 
@@ -201,9 +182,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayU8 input , int sampleWidth , GrayI8 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down (input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -216,9 +205,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS8 input , int sampleWidth , GrayI8 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -231,9 +228,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayU16 input , int sampleWidth , GrayI16 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -246,9 +251,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS16 input , int sampleWidth , GrayI16 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -261,9 +274,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayS32 input , int sampleWidth , GrayS32 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -276,9 +297,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayF32 input , int sampleWidth , GrayF32 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 
@@ -291,9 +320,17 @@ public class AverageDownSampleOps {
 	 */
 	public static void down(GrayF64 input , int sampleWidth , GrayF64 output ) {
 		if( sampleWidth == 2 ) {
-			ImplAverageDownSample2.down( input, output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSample2_MT.down(input, output);
+			} else {
+				ImplAverageDownSample2.down(input, output);
+			}
 		} else {
-			ImplAverageDownSampleN.down( input, sampleWidth , output);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplAverageDownSampleN_MT.down(input, sampleWidth, output);
+			} else {
+				ImplAverageDownSampleN.down(input, sampleWidth, output);
+			}
 		}
 	}
 }
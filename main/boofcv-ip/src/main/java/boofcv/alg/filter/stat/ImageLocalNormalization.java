@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -19,6 +19,7 @@
 package boofcv.alg.filter.stat;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.misc.GImageStatistics;
@@ -48,6 +49,8 @@ public class ImageLocalNormalization<T extends GrayF<T>> {
 	protected T pow2;
 	// storage for locally weighted power of 2
 	protected T localPow2;
+	// storage for the integral image used by the mean with a large radius
+	protected GrayF64 integral = new GrayF64(1,1);
 
 	protected Class<T> imageType;
 
@@ -137,9 +140,11 @@ public class ImageLocalNormalization<T extends GrayF<T>> {
 
 		// take advantage of 2D gaussian kernels being separable
 		if( border == null ) {
-			GBlurImageOps.mean(adjusted, localMean, radius, output);
+			if( imageType == GrayF32.class && radius >= BlurImageOps.MEAN_INTEGRAL_RADIUS )
+				integral.reshape(input.width,input.height);
+			GBlurImageOps.mean(adjusted, localMean, radius, output, integral);
 			GPixelMath.pow2(adjusted, pow2);
-			GBlurImageOps.mean(pow2, localPow2, radius, output);
+			GBlurImageOps.mean(pow2, localPow2, radius, output, integral);
 		} else {
 			throw new IllegalArgumentException("Only renormalize border supported here so far.  This can be changed...");
 		}
@@ -85,4 +85,10 @@ public interface InterpolatePixel<T extends ImageBase<T>> {
 	 */
 	public ImageType<T> getImageType();
 
+	/**
+	 * Creates a new instance of this interpolation algorithm with the same configuration and a copy of the
+	 * image border. The image isn't set. A copy can be used in a different thread than the original.
+	 */
+	InterpolatePixel<T> copy();
+
 }
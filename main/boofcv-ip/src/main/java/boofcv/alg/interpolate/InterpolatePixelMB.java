@@ -51,4 +51,7 @@ public interface InterpolatePixelMB<T extends ImageBase<T>> extends InterpolateP
 	 */
 	void get_fast(float x, float y, float []values );
 
+	@Override
+	InterpolatePixelMB<T> copy();
+
 }
@@ -85,4 +85,9 @@ public class InterpolatePixel_S_to_MB<T extends ImageGray<T>> implements Interpo
 	public ImageType<T> getImageType() {
 		return interp.getImageType();
 	}
+
+	@Override
+	public InterpolatePixelMB<T> copy() {
+		return new InterpolatePixel_S_to_MB<>(interp.copy());
+	}
 }
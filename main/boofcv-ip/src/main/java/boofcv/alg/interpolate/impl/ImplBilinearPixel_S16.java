@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixelS;
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.ImageType;
@@ -94,4 +95,11 @@ public class ImplBilinearPixel_S16 extends BilinearPixelS<GrayS16> {
 		return ImageType.single(GrayS16.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS16> copy() {
+		ImplBilinearPixel_S16 out = new ImplBilinearPixel_S16();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
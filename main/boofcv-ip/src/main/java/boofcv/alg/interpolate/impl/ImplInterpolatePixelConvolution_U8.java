@@ -210,4 +210,11 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<Gra
 		return ImageType.single(GrayU8.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayU8> copy() {
+		ImplInterpolatePixelConvolution_U8 out = new ImplInterpolatePixelConvolution_U8(kernel,min,max);
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
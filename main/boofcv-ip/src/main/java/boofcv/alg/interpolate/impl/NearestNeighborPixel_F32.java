@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.struct.image.GrayF32;
@@ -75,4 +76,11 @@ public class NearestNeighborPixel_F32 extends NearestNeighborPixelS<GrayF32> {
 		return ImageType.single(GrayF32.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayF32> copy() {
+		NearestNeighborPixel_F32 out = new NearestNeighborPixel_F32();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
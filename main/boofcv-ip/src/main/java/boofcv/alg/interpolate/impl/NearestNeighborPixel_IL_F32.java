@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
 import boofcv.core.image.border.ImageBorder_IL_F32;
 import boofcv.struct.image.InterleavedF32;
@@ -61,4 +62,11 @@ public class NearestNeighborPixel_IL_F32 extends NearestNeighborPixelMB<Interlea
 		orig.unsafe_get(xx,yy,values);
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedF32> copy() {
+		NearestNeighborPixel_IL_F32 out = new NearestNeighborPixel_IL_F32();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
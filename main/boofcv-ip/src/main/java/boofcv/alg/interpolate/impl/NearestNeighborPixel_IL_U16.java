@@ -17,6 +17,7 @@
  */
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.NearestNeighborPixelMB;
 import boofcv.core.image.border.ImageBorder_IL_S32;
 import boofcv.struct.image.InterleavedU16;
@@ -74,4 +75,11 @@ public class NearestNeighborPixel_IL_U16 extends NearestNeighborPixelMB<Interlea
 		}
 	}
 
+	@Override
+	public InterpolatePixelMB<InterleavedU16> copy() {
+		NearestNeighborPixel_IL_U16 out = new NearestNeighborPixel_IL_U16();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
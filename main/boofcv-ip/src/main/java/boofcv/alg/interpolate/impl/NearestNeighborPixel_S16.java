@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayS16;
@@ -75,4 +76,11 @@ public class NearestNeighborPixel_S16 extends NearestNeighborPixelS<GrayS16> {
 		return ImageType.single(GrayS16.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayS16> copy() {
+		NearestNeighborPixel_S16 out = new NearestNeighborPixel_S16();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixelS;
 import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.struct.image.GrayU16;
@@ -75,4 +76,11 @@ public class NearestNeighborPixel_U16 extends NearestNeighborPixelS<GrayU16> {
 		return ImageType.single(GrayU16.class);
 	}
 
+	@Override
+	public InterpolatePixelS<GrayU16> copy() {
+		NearestNeighborPixel_U16 out = new NearestNeighborPixel_U16();
+		if( border != null )
+			out.setBorder(border.copy());
+		return out;
+	}
 }
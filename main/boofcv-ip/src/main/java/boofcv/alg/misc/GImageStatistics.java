@@ -22,6 +22,8 @@ import boofcv.struct.image.*;
 
 /**
  * Generalized version of {@link ImageStatistics}.  Type checking is performed at runtime instead of at compile type.
+ * The concurrent implementations in {@link boofcv.alg.misc.impl.ImplImageStatistics_MT} are used when
+ * {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true.
  *
  * @author Peter Abeles
  */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -18,12 +18,15 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.impl.ImplImageStatistics_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
 
 /**
- * Computes statistical properties of pixels inside an image.
+ * Computes statistical properties of pixels inside an image.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+ * then the concurrent implementations in {@link ImplImageStatistics_MT} are used.
  *
  * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.GenerateImageStatistics</p>.
  *
@@ -39,6 +42,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -49,6 +54,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -76,6 +83,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -86,6 +95,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -113,6 +124,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -123,6 +136,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -152,6 +167,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayU8 imgA, GrayU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -165,6 +183,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedU8 imgA, InterleavedU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -172,7 +193,7 @@ public class ImageStatistics {
 	private static double meanDiffSqU(byte []dataA, int startIndexA , int strideA,
 									byte []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -198,6 +219,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayU8 imgA, GrayU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -211,6 +235,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedU8 imgA, InterleavedU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -218,7 +245,7 @@ public class ImageStatistics {
 	private static double meanDiffAbsU(byte []dataA, int startIndexA , int strideA,
 									byte []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -243,6 +270,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -268,7 +297,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayU8 img ) {
-		return sum(img)/(double)(img.width*img.height);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] & 0xFF;
+			}
+		}
+
+		return total/(double)(img.width*img.height);
 	}
 
 	/**
@@ -279,6 +323,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -304,7 +350,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedU8 img ) {
-		return sum(img)/(double)(img.width*img.height*img.numBands);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width*img.numBands;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] & 0xFF;
+			}
+		}
+
+		return total/(double)(img.width*img.height*img.numBands);
 	}
 
 	/**
@@ -315,6 +376,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU8 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -340,6 +403,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU8 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -360,6 +428,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -370,6 +440,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -397,6 +469,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -407,6 +481,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -434,6 +510,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -444,6 +522,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -473,6 +553,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS8 imgA, GrayS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -486,6 +569,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS8 imgA, InterleavedS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -493,7 +579,7 @@ public class ImageStatistics {
 	private static double meanDiffSq(byte []dataA, int startIndexA , int strideA,
 									byte []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -519,6 +605,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS8 imgA, GrayS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -532,6 +621,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS8 imgA, InterleavedS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -539,7 +631,7 @@ public class ImageStatistics {
 	private static double meanDiffAbs(byte []dataA, int startIndexA , int strideA,
 									byte []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -564,6 +656,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -589,7 +683,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayS8 img ) {
-		return sum(img)/(double)(img.width*img.height);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height);
 	}
 
 	/**
@@ -600,6 +709,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -625,7 +736,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedS8 img ) {
-		return sum(img)/(double)(img.width*img.height*img.numBands);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width*img.numBands;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height*img.numBands);
 	}
 
 	/**
@@ -636,6 +762,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS8 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -661,6 +789,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS8 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -681,6 +814,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -691,6 +826,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -718,6 +855,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -728,6 +867,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -755,6 +896,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -765,6 +908,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -794,6 +939,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayU16 imgA, GrayU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -807,6 +955,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedU16 imgA, InterleavedU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -814,7 +965,7 @@ public class ImageStatistics {
 	private static double meanDiffSqU(short []dataA, int startIndexA , int strideA,
 									short []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -840,6 +991,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayU16 imgA, GrayU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -853,6 +1007,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedU16 imgA, InterleavedU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -860,7 +1017,7 @@ public class ImageStatistics {
 	private static double meanDiffAbsU(short []dataA, int startIndexA , int strideA,
 									short []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -885,6 +1042,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -910,7 +1069,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayU16 img ) {
-		return sum(img)/(double)(img.width*img.height);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] & 0xFFFF;
+			}
+		}
+
+		return total/(double)(img.width*img.height);
 	}
 
 	/**
@@ -921,6 +1095,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -946,7 +1122,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedU16 img ) {
-		return sum(img)/(double)(img.width*img.height*img.numBands);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width*img.numBands;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] & 0xFFFF;
+			}
+		}
+
+		return total/(double)(img.width*img.height*img.numBands);
 	}
 
 	/**
@@ -957,6 +1148,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU16 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -982,6 +1175,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU16 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1002,6 +1200,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1012,6 +1212,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1039,6 +1241,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1049,6 +1253,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1076,6 +1282,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1086,6 +1294,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1115,6 +1325,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS16 imgA, GrayS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1128,6 +1341,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS16 imgA, InterleavedS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1135,7 +1351,7 @@ public class ImageStatistics {
 	private static double meanDiffSq(short []dataA, int startIndexA , int strideA,
 									short []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -1161,6 +1377,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS16 imgA, GrayS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1174,6 +1393,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS16 imgA, InterleavedS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1181,7 +1403,7 @@ public class ImageStatistics {
 	private static double meanDiffAbs(short []dataA, int startIndexA , int strideA,
 									short []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -1206,6 +1428,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1231,7 +1455,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayS16 img ) {
-		return sum(img)/(double)(img.width*img.height);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height);
 	}
 
 	/**
@@ -1242,6 +1481,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1267,7 +1508,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedS16 img ) {
-		return sum(img)/(double)(img.width*img.height*img.numBands);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width*img.numBands;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height*img.numBands);
 	}
 
 	/**
@@ -1278,6 +1534,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS16 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -1303,6 +1561,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS16 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1323,6 +1586,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1333,6 +1598,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1360,6 +1627,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1370,6 +1639,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1397,6 +1668,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1407,6 +1680,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1436,6 +1711,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS32 imgA, GrayS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1449,6 +1727,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS32 imgA, InterleavedS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1456,7 +1737,7 @@ public class ImageStatistics {
 	private static double meanDiffSq(int []dataA, int startIndexA , int strideA,
 									int []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -1482,6 +1763,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS32 imgA, GrayS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1495,6 +1779,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS32 imgA, InterleavedS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1502,7 +1789,7 @@ public class ImageStatistics {
 	private static double meanDiffAbs(int []dataA, int startIndexA , int strideA,
 									int []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		int total = 0;
+		long total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -1527,6 +1814,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1552,7 +1841,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayS32 img ) {
-		return sum(img)/(double)(img.width*img.height);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height);
 	}
 
 	/**
@@ -1563,6 +1867,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1588,7 +1894,22 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedS32 img ) {
-		return sum(img)/(double)(img.width*img.height*img.numBands);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
+		final int columns = img.width*img.numBands;
+		long total = 0;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.startIndex + y * img.stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += img.data[index] ;
+			}
+		}
+
+		return total/(double)(img.width*img.height*img.numBands);
 	}
 
 	/**
@@ -1599,6 +1920,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS32 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -1624,6 +1947,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS32 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1644,6 +1972,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1654,6 +1984,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1681,6 +2013,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1691,6 +2025,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1718,6 +2054,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long maxAbs( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1728,6 +2066,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long maxAbs( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1757,6 +2097,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS64 imgA, GrayS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1770,6 +2113,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS64 imgA, InterleavedS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1803,6 +2149,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS64 imgA, GrayS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1816,6 +2165,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS64 imgA, InterleavedS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1848,6 +2200,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( GrayS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1873,6 +2227,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(double)(img.width*img.height);
 	}
 
@@ -1884,6 +2241,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( InterleavedS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1909,6 +2268,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(double)(img.width*img.height*img.numBands);
 	}
 
@@ -1920,6 +2282,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS64 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -1945,6 +2309,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS64 input , long minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1965,6 +2334,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1975,6 +2346,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2002,6 +2375,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2012,6 +2387,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2039,6 +2416,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float maxAbs( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2049,6 +2428,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float maxAbs( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2078,6 +2459,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayF32 imgA, GrayF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2091,6 +2475,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedF32 imgA, InterleavedF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2124,6 +2511,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayF32 imgA, GrayF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2137,6 +2527,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedF32 imgA, InterleavedF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2169,6 +2562,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( GrayF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -2194,6 +2589,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static float mean( GrayF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(float)(img.width*img.height);
 	}
 
@@ -2205,6 +2603,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( InterleavedF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -2230,6 +2630,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static float mean( InterleavedF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(float)(img.width*img.height*img.numBands);
 	}
 
@@ -2241,6 +2644,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static float variance( GrayF32 img , float mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		float variance = 0;
 
@@ -2266,6 +2671,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF32 input , float minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -2286,6 +2696,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2296,6 +2708,8 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2323,6 +2737,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2333,6 +2749,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2360,6 +2778,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double maxAbs( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2370,6 +2790,8 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double maxAbs( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2399,6 +2821,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayF64 imgA, GrayF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2412,6 +2837,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedF64 imgA, InterleavedF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2445,6 +2873,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayF64 imgA, GrayF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2458,6 +2889,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedF64 imgA, InterleavedF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
+					imgA.height, imgA.width*imgA.numBands);
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2490,6 +2924,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( GrayF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -2515,6 +2951,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( GrayF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(double)(img.width*img.height);
 	}
 
@@ -2526,6 +2965,8 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( InterleavedF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.sum(img);
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -2551,6 +2992,9 @@ public class ImageStatistics {
 	 * @return Mean pixel intensity value
 	 */
 	public static double mean( InterleavedF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.mean(img);
+
 		return sum(img)/(double)(img.width*img.height*img.numBands);
 	}
 
@@ -2562,6 +3006,8 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayF64 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return ImplImageStatistics_MT.variance(img,mean);
 
 		double variance = 0;
 
@@ -2587,6 +3033,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF64 input , double minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Lazily evaluated pixel-wise expression built from the same operations found in {@link PixelMath}. Chaining
+ * several calls to {@link PixelMath} writes and then reads back a full sized intermediate image for every
+ * operation. An expression instead records the operations and when {@link #process(ImageBase)} is called
+ * evaluates all of them one row at a time, so intermediate values only live in small row buffers which stay
+ * in the cache. Rows are processed in parallel when {@link BoofConcurrency#USE_CONCURRENT} is true. Values
+ * written to an integer output image are saturated to the output type's range, while the {@link PixelMath}
+ * operations without lower and upper bounds wrap around on overflow.
+ * </p>
+ *
+ * <pre>
+ * // output = bound( a*b + 0.5*c , 0 , 255 )
+ * PixelExpression.image(a).multiply(PixelExpression.image(b)).
+ *         plus(PixelExpression.image(c).multiply(0.5)).boundImage(0,255).process(output);
+ * </pre>
+ *
+ * <p>
+ * Inputs can be any {@link ImageGray} or {@link ImageInterleaved}. All the inputs of a binary operation must
+ * have the same shape and number of bands. Sub-expressions which are used more than once are only computed
+ * once. Values are computed using floats. Pixel values of 8 and 16-bit integer images and {@link GrayF32} are
+ * represented exactly, but intermediate results with a magnitude larger than 2<sup>24</sup>, e.g. the product
+ * of two 16-bit images, can be rounded. Pixel values of 32 and 64-bit images can also lose precision. When the
+ * output is an integer image values are rounded, like {@link PixelMath} does, and then saturated. The output
+ * can be the same instance as one of the inputs.
+ * </p>
+ *
+ * <p>Expressions are immutable and can be processed any number of times.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelExpression {
+
+	// Types of operations
+	private static final int IMAGE = 0;
+	private static final int PLUS_SCALAR = 1;
+	private static final int MULTIPLY_SCALAR = 2;
+	private static final int DIVIDE_SCALAR = 3;
+	private static final int PLUS = 4;
+	private static final int MINUS = 5;
+	private static final int MULTIPLY = 6;
+	private static final int DIVIDE = 7;
+	private static final int DIFF_ABS = 8;
+	private static final int ABS = 9;
+	private static final int NEGATIVE = 10;
+	private static final int BOUND = 11;
+	private static final int AVERAGE_BAND = 12;
+
+	private final int operation;
+	private final PixelExpression left, right;
+	private final double scalarA, scalarB;
+	private final ImageBase image;
+
+	private PixelExpression( int operation , PixelExpression left , PixelExpression right ,
+							 double scalarA , double scalarB , ImageBase image ) {
+		this.operation = operation;
+		this.left = left;
+		this.right = right;
+		this.scalarA = scalarA;
+		this.scalarB = scalarB;
+		this.image = image;
+	}
+
+	/**
+	 * Creates an expression which reads its values from the image. The image is only read when the expression
+	 * is processed, so changes to the image's pixels after this function is called are seen.
+	 *
+	 * @param image {@link ImageGray} or {@link ImageInterleaved}. Not modified.
+	 */
+	public static PixelExpression image( ImageBase image ) {
+		if( !(image instanceof ImageGray) && !(image instanceof ImageInterleaved) )
+			throw new IllegalArgumentException("Only ImageGray and ImageInterleaved are supported");
+		return new PixelExpression(IMAGE,null,null,0,0,image);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) + value
+	 */
+	public PixelExpression plus( double value ) {
+		return new PixelExpression(PLUS_SCALAR,this,null,value,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) - value
+	 */
+	public PixelExpression minus( double value ) {
+		return new PixelExpression(PLUS_SCALAR,this,null,-value,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) * value
+	 */
+	public PixelExpression multiply( double value ) {
+		return new PixelExpression(MULTIPLY_SCALAR,this,null,value,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) / value
+	 */
+	public PixelExpression divide( double value ) {
+		return new PixelExpression(DIVIDE_SCALAR,this,null,value,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) + expression(x,y)
+	 */
+	public PixelExpression plus( PixelExpression expression ) {
+		return new PixelExpression(PLUS,this,expression,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) - expression(x,y)
+	 */
+	public PixelExpression minus( PixelExpression expression ) {
+		return new PixelExpression(MINUS,this,expression,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) * expression(x,y)
+	 */
+	public PixelExpression multiply( PixelExpression expression ) {
+		return new PixelExpression(MULTIPLY,this,expression,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = this(x,y) / expression(x,y)
+	 */
+	public PixelExpression divide( PixelExpression expression ) {
+		return new PixelExpression(DIVIDE,this,expression,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = |this(x,y) - expression(x,y)|
+	 */
+	public PixelExpression diffAbs( PixelExpression expression ) {
+		return new PixelExpression(DIFF_ABS,this,expression,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = |this(x,y)|
+	 */
+	public PixelExpression abs() {
+		return new PixelExpression(ABS,this,null,0,0,null);
+	}
+
+	/**
+	 * output(x,y) = -this(x,y)
+	 */
+	public PixelExpression negative() {
+		return new PixelExpression(NEGATIVE,this,null,0,0,null);
+	}
+
+	/**
+	 * Bounds each value so that it's inside the range min &le; output(x,y) &le; max
+	 */
+	public PixelExpression boundImage( double min , double max ) {
+		if( min > max )
+			throw new IllegalArgumentException("min must be less than or equal to max");
+		return new PixelExpression(BOUND,this,null,min,max,null);
+	}
+
+	/**
+	 * Averages the value of every band in a pixel together, converting an interleaved image into a gray scale one.
+	 */
+	public PixelExpression averageBand() {
+		return new PixelExpression(AVERAGE_BAND,this,null,0,0,null);
+	}
+
+	/**
+	 * Evaluates the expression and writes the results into output.
+	 *
+	 * @param output {@link ImageGray} or {@link ImageInterleaved} with the same shape and number of bands as the
+	 *               expression. Modified.
+	 */
+	public void process( ImageBase output ) {
+		Program program = compile(output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,output.height,program::evaluate);
+		} else {
+			program.evaluate(0,output.height);
+		}
+	}
+
+	/**
+	 * Converts the expression into a sequence of steps which are evaluated in order. Each step reads
+	 * and writes entire rows stored in registers. Registers are reused once nothing else reads from them.
+	 */
+	private Program compile( ImageBase output ) {
+		if( !(output instanceof ImageGray) && !(output instanceof ImageInterleaved) )
+			throw new IllegalArgumentException("Only ImageGray and ImageInterleaved are supported");
+
+		// order the unique nodes so that inputs come before the operations which use them
+		List<PixelExpression> nodes = new ArrayList<>();
+		Map<PixelExpression,Integer> references = new IdentityHashMap<>();
+		sortNodes(this,nodes,references);
+
+		Program program = new Program();
+		Map<PixelExpression,Step> lookup = new IdentityHashMap<>();
+		List<Integer> unusedRegisters = new ArrayList<>();
+		int width = -1, height = -1;
+
+		for( PixelExpression node : nodes ) {
+			Step step = new Step();
+			step.operation = node.operation;
+			step.scalarA = (float)node.scalarA;
+			step.scalarB = (float)node.scalarB;
+			step.references = references.get(node);
+
+			if( node.operation == IMAGE ) {
+				ImageBase image = node.image;
+				if( width == -1 ) {
+					width = image.width;
+					height = image.height;
+				} else if( image.width != width || image.height != height ) {
+					throw new IllegalArgumentException("Input images must all have the same shape");
+				}
+				step.bands = numBands(image);
+				step.image = new RowAccess(image);
+			} else {
+				Step stepA = lookup.get(node.left);
+				release(stepA,unusedRegisters);
+				step.inputA = stepA.register;
+				step.bands = stepA.bands;
+				if( node.right != null ) {
+					Step stepB = lookup.get(node.right);
+					release(stepB,unusedRegisters);
+					step.inputB = stepB.register;
+					if( stepA.bands != stepB.bands )
+						throw new IllegalArgumentException("Number of bands do not match. "+stepA.bands+" "+stepB.bands);
+				}
+				if( node.operation == AVERAGE_BAND ) {
+					step.averagedBands = step.bands;
+					step.bands = 1;
+				}
+			}
+
+			// every operation can safely write to the register it reads from
+			if( unusedRegisters.isEmpty() ) {
+				step.register = program.totalRegisters++;
+			} else {
+				step.register = unusedRegisters.remove(unusedRegisters.size()-1);
+			}
+			program.steps.add(step);
+			lookup.put(node,step);
+		}
+
+		Step last = program.steps.get(program.steps.size()-1);
+		if( output.width != width || output.height != height )
+			throw new IllegalArgumentException("Output shape doesn't match the inputs. "+
+					output.width+"x"+output.height+" vs "+width+"x"+height);
+		if( numBands(output) != last.bands )
+			throw new IllegalArgumentException("Output has "+numBands(output)+" bands but the expression has "+last.bands);
+
+		int maxBands = 1;
+		for( Step step : program.steps ) {
+			maxBands = Math.max(maxBands,step.bands);
+		}
+
+		program.width = width;
+		program.rowLength = width*maxBands;
+		program.result = last.register;
+		program.output = new RowAccess(output);
+		return program;
+	}
+
+	/**
+	 * Post order traversal which adds each node once and counts how many times its value is read
+	 */
+	private static void sortNodes( PixelExpression node , List<PixelExpression> nodes ,
+								   Map<PixelExpression,Integer> references ) {
+		Integer count = references.get(node);
+		if( count != null ) {
+			references.put(node,count+1);
+			return;
+		}
+		if( node.left != null )
+			sortNodes(node.left,nodes,references);
+		if( node.right != null )
+			sortNodes(node.right,nodes,references);
+		references.put(node,1);
+		nodes.add(node);
+	}
+
+	private static void release( Step step , List<Integer> unusedRegisters ) {
+		if( --step.references == 0 )
+			unusedRegisters.add(step.register);
+	}
+
+	private static int numBands( ImageBase image ) {
+		if( image instanceof ImageInterleaved )
+			return ((ImageInterleaved)image).numBands;
+		return 1;
+	}
+
+	/**
+	 * Compiled expression
+	 */
+	private static class Program {
+		List<Step> steps = new ArrayList<>();
+		int totalRegisters;
+		int width;
+		int rowLength;
+		int result;
+		RowAccess output;
+
+		void evaluate( int y0 , int y1 ) {
+			// each block of rows gets its own registers so that threads don't interfere with each other
+			float[][] registers = new float[totalRegisters][rowLength];
+
+			for( int y = y0; y < y1; y++ ) {
+				for( int i = 0; i < steps.size(); i++ ) {
+					steps.get(i).evaluate(registers,y,width);
+				}
+				output.store(registers[result],y);
+			}
+		}
+	}
+
+	/**
+	 * A single operation in the compiled expression
+	 */
+	private static class Step {
+		int operation;
+		int inputA, inputB;
+		int register;
+		float scalarA, scalarB;
+		// number of bands in the output row
+		int bands;
+		// number of bands which are averaged by AVERAGE_BAND
+		int averagedBands;
+		// number of operations which have yet to read from this step. Only used while compiling
+		int references;
+		RowAccess image;
+
+		void evaluate( float[][] registers , int y , int width ) {
+			final float[] out = registers[register];
+			final int length = width*bands;
+
+			if( operation == IMAGE ) {
+				image.load(y,out);
+				return;
+			}
+
+			final float[] a = registers[inputA];
+			final float[] b = operation >= PLUS && operation <= DIFF_ABS ? registers[inputB] : null;
+
+			switch( operation ) {
+				case PLUS_SCALAR:
+					for( int i = 0; i < length; i++ ) out[i] = a[i] + scalarA;
+					break;
+
+				case MULTIPLY_SCALAR:
+					for( int i = 0; i < length; i++ ) out[i] = a[i]*scalarA;
+					break;
+
+				case DIVIDE_SCALAR:
+					for( int i = 0; i < length; i++ ) out[i] = a[i]/scalarA;
+					break;
+
+				case PLUS:
+					for( int i = 0; i < length; i++ ) out[i] = a[i] + b[i];
+					break;
+
+				case MINUS:
+					for( int i = 0; i < length; i++ ) out[i] = a[i] - b[i];
+					break;
+
+				case MULTIPLY:
+					for( int i = 0; i < length; i++ ) out[i] = a[i]*b[i];
+					break;
+
+				case DIVIDE:
+					for( int i = 0; i < length; i++ ) out[i] = a[i]/b[i];
+					break;
+
+				case DIFF_ABS:
+					for( int i = 0; i < length; i++ ) out[i] = Math.abs(a[i] - b[i]);
+					break;
+
+				case ABS:
+					for( int i = 0; i < length; i++ ) out[i] = Math.abs(a[i]);
+					break;
+
+				case NEGATIVE:
+					for( int i = 0; i < length; i++ ) out[i] = -a[i];
+					break;
+
+				case BOUND:
+					for( int i = 0; i < length; i++ ) {
+						float value = a[i];
+						out[i] = value < scalarA ? scalarA : (value > scalarB ? scalarB : value);
+					}
+					break;
+
+				case AVERAGE_BAND: {
+					// writing to index x is safe when in place since bands*x >= x
+					final int numBands = averagedBands;
+					for( int x = 0, index = 0; x < length; x++ ) {
+						float sum = 0;
+						for( int band = 0; band < numBands; band++ ) {
+							sum += a[index++];
+						}
+						out[x] = sum/numBands;
+					}
+				} break;
+
+				default:
+					throw new RuntimeException("Unknown operation "+operation);
+			}
+		}
+	}
+
+	/**
+	 * Copies rows between an image and float arrays
+	 */
+	private static class RowAccess {
+		ImageBase image;
+		ImageDataType type;
+		Object data;
+		int length;
+
+		RowAccess( ImageBase image ) {
+			this.image = image;
+			this.type = image.getImageType().getDataType();
+			this.length = image.width*numBands(image);
+
+			if( image instanceof GrayI8 )
+				data = ((GrayI8)image).data;
+			else if( image instanceof GrayI16 )
+				data = ((GrayI16)image).data;
+			else if( image instanceof GrayS32 )
+				data = ((GrayS32)image).data;
+			else if( image instanceof GrayS64 )
+				data = ((GrayS64)image).data;
+			else if( image instanceof GrayF32 )
+				data = ((GrayF32)image).data;
+			else if( image instanceof GrayF64 )
+				data = ((GrayF64)image).data;
+			else if( image instanceof InterleavedI8 )
+				data = ((InterleavedI8)image).data;
+			else if( image instanceof InterleavedI16 )
+				data = ((InterleavedI16)image).data;
+			else if( image instanceof InterleavedS32 )
+				data = ((InterleavedS32)image).data;
+			else if( image instanceof InterleavedS64 )
+				data = ((InterleavedS64)image).data;
+			else if( image instanceof InterleavedF32 )
+				data = ((InterleavedF32)image).data;
+			else if( image instanceof InterleavedF64 )
+				data = ((InterleavedF64)image).data;
+			else
+				throw new IllegalArgumentException("Unsupported image type "+image.getClass().getSimpleName());
+		}
+
+		void load( int y , float[] row ) {
+			final int start = image.startIndex + y*image.stride;
+
+			switch( type ) {
+				case U8: {
+					byte[] data = (byte[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i] & 0xFF;
+				} break;
+
+				case S8: {
+					byte[] data = (byte[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i];
+				} break;
+
+				case U16: {
+					short[] data = (short[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i] & 0xFFFF;
+				} break;
+
+				case S16: {
+					short[] data = (short[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i];
+				} break;
+
+				case S32: {
+					int[] data = (int[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i];
+				} break;
+
+				case S64: {
+					long[] data = (long[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = data[start+i];
+				} break;
+
+				case F32:
+					System.arraycopy(data,start,row,0,length);
+					break;
+
+				case F64: {
+					double[] data = (double[])this.data;
+					for( int i = 0; i < length; i++ ) row[i] = (float)data[start+i];
+				} break;
+
+				default:
+					throw new RuntimeException("Unsupported data type "+type);
+			}
+		}
+
+		void store( float[] row , int y ) {
+			final int start = image.startIndex + y*image.stride;
+
+			switch( type ) {
+				case U8: {
+					byte[] data = (byte[])this.data;
+					for( int i = 0; i < length; i++ ) {
+						int value = Math.round(row[i]);
+						data[start+i] = (byte)(value < 0 ? 0 : (value > 255 ? 255 : value));
+					}
+				} break;
+
+				case S8: {
+					byte[] data = (byte[])this.data;
+					for( int i = 0; i < length; i++ ) {
+						int value = Math.round(row[i]);
+						data[start+i] = (byte)(value < Byte.MIN_VALUE ? Byte.MIN_VALUE :
+								(value > Byte.MAX_VALUE ? Byte.MAX_VALUE : value));
+					}
+				} break;
+
+				case U16: {
+					short[] data = (short[])this.data;
+					for( int i = 0; i < length; i++ ) {
+						int value = Math.round(row[i]);
+						data[start+i] = (short)(value < 0 ? 0 : (value > 0xFFFF ? 0xFFFF : value));
+					}
+				} break;
+
+				case S16: {
+					short[] data = (short[])this.data;
+					for( int i = 0; i < length; i++ ) {
+						int value = Math.round(row[i]);
+						data[start+i] = (short)(value < Short.MIN_VALUE ? Short.MIN_VALUE :
+								(value > Short.MAX_VALUE ? Short.MAX_VALUE : value));
+					}
+				} break;
+
+				case S32: {
+					// Math.round() saturates to the int range
+					int[] data = (int[])this.data;
+					for( int i = 0; i < length; i++ ) data[start+i] = Math.round(row[i]);
+				} break;
+
+				case S64: {
+					long[] data = (long[])this.data;
+					for( int i = 0; i < length; i++ ) data[start+i] = Math.round((double)row[i]);
+				} break;
+
+				case F32:
+					System.arraycopy(row,0,data,start,length);
+					break;
+
+				case F64: {
+					double[] data = (double[])this.data;
+					for( int i = 0; i < length; i++ ) data[start+i] = row[i];
+				} break;
+
+				default:
+					throw new RuntimeException("Unsupported data type "+type);
+			}
+		}
+	}
+}
@@ -0,0 +1,1426 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link boofcv.alg.misc.ImageStatistics}.  Each thread computes
+ * a partial result from a block of rows and the partial results are then combined in the order of the blocks,
+ * see {@link BoofConcurrency#reduceBlocks}.  Sums of integer images are accumulated in a long and sums of
+ * floating point images in a double.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.impl.GenerateImplImageStatistics_MT</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.misc.impl.GenerateImplImageStatistics_MT")
+public class ImplImageStatistics_MT {
+
+	public static int minU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFF;
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static int maxU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFF;
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static int maxAbsU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFF;
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSqU(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA]& 0xFF)-(dataB[indexB]& 0xFF);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbsU(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA]& 0xFF)-(dataB[indexB]& 0xFF);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static int sum( GrayU8 img ) {
+		return (int)sumU(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayU8 img ) {
+		return sumU(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static int sum( InterleavedU8 img ) {
+		return (int)sumU(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedU8 img ) {
+		return sumU(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sumU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index]& 0xFF;
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayU8 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]& 0xFF) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayU8 img , int minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(img.data[index]& 0xFF) - minValue]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static int min( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static int max( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static int maxAbs( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static int sum( GrayS8 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayS8 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static int sum( InterleavedS8 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedS8 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sum( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayS8 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayS8 img , int minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(img.data[index]) - minValue]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static int minU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFFFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFFFF;
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static int maxU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFFFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFFFF;
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static int maxAbsU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index]& 0xFFFF;
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index]& 0xFFFF;
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSqU(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA]& 0xFFFF)-(dataB[indexB]& 0xFFFF);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbsU(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA]& 0xFFFF)-(dataB[indexB]& 0xFFFF);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static int sum( GrayU16 img ) {
+		return (int)sumU(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayU16 img ) {
+		return sumU(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static int sum( InterleavedU16 img ) {
+		return (int)sumU(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedU16 img ) {
+		return sumU(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sumU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index]& 0xFFFF;
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayU16 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]& 0xFFFF) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayU16 img , int minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(img.data[index]& 0xFFFF) - minValue]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static int min( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static int max( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static int maxAbs( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static int sum( GrayS16 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayS16 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static int sum( InterleavedS16 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedS16 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sum( short[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayS16 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayS16 img , int minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(img.data[index]) - minValue]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static int min( int[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static int max( int[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static int maxAbs( int[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			int output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					int v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(int []dataA, int startIndexA , int strideA,
+									int []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(int []dataA, int startIndexA , int strideA,
+									int []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					int difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static int sum( GrayS32 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayS32 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static int sum( InterleavedS32 img ) {
+		return (int)sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedS32 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sum( int[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayS32 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayS32 img , int minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(img.data[index]) - minValue]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static long min( long[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			long output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					long v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static long max( long[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			long output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					long v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static long maxAbs( long[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			long output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					long v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(long []dataA, int startIndexA , int strideA,
+									long []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					long difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(long []dataA, int startIndexA , int strideA,
+									long []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					long difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Long::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static long sum( GrayS64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayS64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static long sum( InterleavedS64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedS64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static long sum( long[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			long total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Long::sum);
+	}
+
+	public static double variance( GrayS64 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayS64 img , long minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(int)(img.data[index] - minValue)]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static float min( float[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			float output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					float v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static float max( float[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			float output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					float v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static float maxAbs( float[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			float output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					float v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(float []dataA, int startIndexA , int strideA,
+									float []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					float difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(float []dataA, int startIndexA , int strideA,
+									float []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					float difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static float sum( GrayF32 img ) {
+		return (float)sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static float mean( GrayF32 img ) {
+		return (float)(sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height));
+	}
+
+	public static float sum( InterleavedF32 img ) {
+		return (float)sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static float mean( InterleavedF32 img ) {
+		return (float)(sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands));
+	}
+
+	private static double sum( float[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Double::sum);
+	}
+
+	public static float variance( GrayF32 img , float mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return (float)(variance/(img.width*img.height));
+	}
+
+	public static void histogram( GrayF32 img , float minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(int)(img.data[index] - minValue)]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	public static double min( double[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			double output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					double v = array[index];
+					if( v < output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v < output ? v : output);
+	}
+
+	public static double max( double[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			double output = array[index];
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					double v = array[index];
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double maxAbs( double[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			int index = startIndex + y0*stride;
+			double output = Math.abs(array[index]);
+
+			for( int y = y0; y < y1; y++ ) {
+				index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					double v = Math.abs(array[index]);
+					if( v > output )
+						output = v;
+				}
+			}
+			return output;
+		}, (output, v) -> v > output ? v : output);
+	}
+
+	public static double meanDiffSq(double []dataA, int startIndexA , int strideA,
+									double []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					double difference = (dataA[indexA])-(dataB[indexB]);
+					total += difference*difference;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double meanDiffAbs(double []dataA, int startIndexA , int strideA,
+									double []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double sum = BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int indexA = startIndexA + y * strideA;
+				int indexB = startIndexB + y * strideB;
+
+				int indexEnd = indexA+columns;
+
+				for (; indexA < indexEnd; indexA++,indexB++) {
+					double difference = (dataA[indexA])-(dataB[indexB]);
+					total += Math.abs(difference);
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return sum / (double)(rows*columns);
+	}
+
+	public static double sum( GrayF64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride);
+	}
+
+	public static double mean( GrayF64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width, img.stride)/(double)(img.width*img.height);
+	}
+
+	public static double sum( InterleavedF64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride);
+	}
+
+	public static double mean( InterleavedF64 img ) {
+		return sum(img.data, img.startIndex, img.height, img.width*img.numBands, img.stride)/(double)(img.width*img.height*img.numBands);
+	}
+
+	private static double sum( double[] array , int startIndex , int rows , int columns , int stride ) {
+		return BoofConcurrency.reduceBlocks(0, rows, (y0, y1) -> {
+			double total = 0;
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = startIndex + y*stride;
+				int end = index + columns;
+
+				for( ; index < end; index++ ) {
+					total += array[index];
+				}
+			}
+			return total;
+		}, Double::sum);
+	}
+
+	public static double variance( GrayF64 img , double mean ) {
+		double variance = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			double total = 0;
+
+			for (int y = y0; y < y1; y++) {
+				int index = img.startIndex + y * img.stride;
+
+				int indexEnd = index+img.width;
+				for (; index < indexEnd; index++ ) {
+					double d = (img.data[index]) - mean;
+					total += d*d;
+				}
+			}
+			return total;
+		}, Double::sum);
+
+		return variance/(img.width*img.height);
+	}
+
+	public static void histogram( GrayF64 img , double minValue , int histogram[] ) {
+		int[] total = BoofConcurrency.reduceBlocks(0, img.height, (y0, y1) -> {
+			int[] local = new int[histogram.length];
+
+			for( int y = y0; y < y1; y++ ) {
+				int index = img.startIndex + y*img.stride;
+				int end = index + img.width;
+
+				for( ; index < end; index++ ) {
+					local[(int)(img.data[index] - minValue)]++;
+				}
+			}
+			return local;
+		}, ImplImageStatistics_MT::addHistogram);
+
+		System.arraycopy(total, 0, histogram, 0, histogram.length);
+	}
+
+	/**
+	 * Adds the second histogram to the first one
+	 */
+	private static int[] addHistogram( int[] a , int[] b ) {
+		for( int i = 0; i < a.length; i++ ) {
+			a[i] += b[i];
+		}
+		return a;
+	}
+
+}
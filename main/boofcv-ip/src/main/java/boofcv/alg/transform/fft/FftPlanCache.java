@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Cache of 1D FFT plans keyed by the transform's size and data type. Creating a plan requires computing
+ * tables of sines and cosines, which is expensive compared to applying the transform to a single row.
+ * The instances which are returned share the tables of the cached plan but have their own local storage,
+ * so each thread should request its own instance.
+ * </p>
+ *
+ * <p>The least recently used plans are discarded once there are more than {@link #MAX_PLANS} of a type.</p>
+ *
+ * @author Peter Abeles
+ */
+public class FftPlanCache {
+	/**
+	 * Maximum number of plans of each type which are saved
+	 */
+	public static int MAX_PLANS = 32;
+
+	private static final Map<Integer,GeneralPurposeFFT_F32_1D> plansF32 = new Cache<>();
+	private static final Map<Integer,GeneralPurposeFFT_F64_1D> plansF64 = new Cache<>();
+
+	/**
+	 * Returns a new instance of a 1D transform for the specified size
+	 *
+	 * @param n Number of elements in the transform
+	 * @return New instance which can be used in a single thread
+	 */
+	public static synchronized GeneralPurposeFFT_F32_1D createF32( int n ) {
+		GeneralPurposeFFT_F32_1D plan = plansF32.get(n);
+		if( plan == null ) {
+			plan = new GeneralPurposeFFT_F32_1D(n);
+			plansF32.put(n,plan);
+		}
+		return new GeneralPurposeFFT_F32_1D(plan);
+	}
+
+	/**
+	 * Returns a new instance of a 1D transform for the specified size
+	 *
+	 * @param n Number of elements in the transform
+	 * @return New instance which can be used in a single thread
+	 */
+	public static synchronized GeneralPurposeFFT_F64_1D createF64( int n ) {
+		GeneralPurposeFFT_F64_1D plan = plansF64.get(n);
+		if( plan == null ) {
+			plan = new GeneralPurposeFFT_F64_1D(n);
+			plansF64.put(n,plan);
+		}
+		return new GeneralPurposeFFT_F64_1D(plan);
+	}
+
+	/**
+	 * Discards all the saved plans
+	 */
+	public static synchronized void clear() {
+		plansF32.clear();
+		plansF64.clear();
+	}
+
+	/**
+	 * Total number of plans saved
+	 */
+	public static synchronized int size() {
+		return plansF32.size() + plansF64.size();
+	}
+
+	private static class Cache<T> extends LinkedHashMap<Integer,T> {
+		Cache() {
+			super(16,0.75f,true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+			return size() > MAX_PLANS;
+		}
+	}
+}
@@ -144,6 +144,39 @@ public class GeneralPurposeFFT_F32_1D {
 		ch2 = new float[n*2];
 	}
 
+	/**
+	 * Creates a new instance which shares the precomputed tables of the original but has its own
+	 * local storage. Much faster than creating a new instance from scratch and allows the same size
+	 * transform to be computed in multiple threads at once.
+	 *
+	 * @param original Instance whose tables are shared. Not modified.
+	 */
+	public GeneralPurposeFFT_F32_1D( GeneralPurposeFFT_F32_1D original ) {
+		this.n = original.n;
+		this.nBluestein = original.nBluestein;
+		this.ip = original.ip;
+		this.w = original.w;
+		this.nw = original.nw;
+		this.nc = original.nc;
+		this.wtable = original.wtable;
+		this.wtable_r = original.wtable_r;
+		this.bk1 = original.bk1;
+		this.bk2 = original.bk2;
+		this.plan = original.plan;
+
+		if( original.ak != null )
+			ak = new float[original.ak.length];
+		ch = new float[n];
+		ch2 = new float[n*2];
+	}
+
+	/**
+	 * Number of elements in the transform
+	 */
+	public int getSize() {
+		return n;
+	}
+
 	/**
 	 * Computes 1D forward DFT of complex data leaving the result in
 	 * <code>a</code>. Complex number is stored as two float values in
@@ -1274,7 +1307,6 @@ public class GeneralPurposeFFT_F32_1D {
 		int l1, l2, na, kh, nf, ip, iw, ido, idl1;
 
 		Arrays.fill(ch,0);
-		ch = new float[ch.length];
 		final int twon = 2 * n;
 		nf = (int) wtable_r[1 + twon];
 		na = 1;
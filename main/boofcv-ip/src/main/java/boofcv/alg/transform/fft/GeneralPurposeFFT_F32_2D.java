@@ -89,11 +89,11 @@ public class GeneralPurposeFFT_F32_2D {
 			t = new float[nt];
 		}
 
-		fftRows = new GeneralPurposeFFT_F32_1D(rows);
+		fftRows = FftPlanCache.createF32(rows);
 		if (rows == columns) {
 			fftColumns = fftRows;
 		} else {
-			fftColumns = new GeneralPurposeFFT_F32_1D(columns);
+			fftColumns = FftPlanCache.createF32(columns);
 		}
 
 		temp = new float[2 * rows];
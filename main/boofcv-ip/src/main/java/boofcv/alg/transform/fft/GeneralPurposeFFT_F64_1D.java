@@ -144,6 +144,39 @@ public class GeneralPurposeFFT_F64_1D {
 		ch2 = new double[n*2];
 	}
 
+	/**
+	 * Creates a new instance which shares the precomputed tables of the original but has its own
+	 * local storage. Much faster than creating a new instance from scratch and allows the same size
+	 * transform to be computed in multiple threads at once.
+	 *
+	 * @param original Instance whose tables are shared. Not modified.
+	 */
+	public GeneralPurposeFFT_F64_1D( GeneralPurposeFFT_F64_1D original ) {
+		this.n = original.n;
+		this.nBluestein = original.nBluestein;
+		this.ip = original.ip;
+		this.w = original.w;
+		this.nw = original.nw;
+		this.nc = original.nc;
+		this.wtable = original.wtable;
+		this.wtable_r = original.wtable_r;
+		this.bk1 = original.bk1;
+		this.bk2 = original.bk2;
+		this.plan = original.plan;
+
+		if( original.ak != null )
+			ak = new double[original.ak.length];
+		ch = new double[n];
+		ch2 = new double[n*2];
+	}
+
+	/**
+	 * Number of elements in the transform
+	 */
+	public int getSize() {
+		return n;
+	}
+
 	/**
 	 * Computes 1D forward DFT of complex data leaving the result in
 	 * <code>a</code>. Complex number is stored as two double values in
@@ -343,7 +376,7 @@ public class GeneralPurposeFFT_F64_1D {
 					a[idx] = a[idx - 1];
 					a[idx - 1] = tmp;
 				}
-				ch = new double[n];
+				Arrays.fill(ch,0);
 				break;
 			case BLUESTEIN:
 				bluestein_real_forward(a, offa);
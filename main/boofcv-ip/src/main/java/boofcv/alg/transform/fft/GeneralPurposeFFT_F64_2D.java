@@ -86,11 +86,11 @@ public class GeneralPurposeFFT_F64_2D {
 			t = new double[nt];
 		}
 
-		fftRows = new GeneralPurposeFFT_F64_1D(rows);
+		fftRows = FftPlanCache.createF64(rows);
 		if (rows == columns) {
 			fftColumns = fftRows;
 		} else {
-			fftColumns = new GeneralPurposeFFT_F64_1D(columns);
+			fftColumns = FftPlanCache.createF64(columns);
 		}
 
 		temp = new double[2 * rows];
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.InterleavedF64;
+
+/**
+ * <p>
+ * 2D Discrete Fourier Transform of real images which is computed by applying 1D transforms to each row and then
+ * to each column. The transform of a real image has conjugate symmetry, F[y][x] = conj(F[-y][-x]), so only
+ * columns 0 to width/2 need to be transformed along the columns. The remaining columns are filled in using the
+ * symmetry. Rows and columns are processed in parallel when {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * <p>
+ * The forward transform takes a real image and outputs the full complex transform. The inverse transform
+ * returns the real component of the inverse transform, which is computed from the conjugate symmetric part
+ * of its input. 1D transforms are obtained from {@link FftPlanCache}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RealFourierTransform2D_F64 {
+
+	// Shape of the image
+	private int width=-1, height=-1;
+
+	// Transforms along rows and columns
+	private GeneralPurposeFFT_F64_1D fftRow, fftColumn;
+
+	// Storage for the columns 0 to width/2 of the transform when computing the inverse
+	private InterleavedF64 half = new InterleavedF64(1,1,2);
+
+	// Storage for single threaded processing
+	private Workspace work;
+
+	/**
+	 * Computes the forward transform
+	 *
+	 * @param image (Input) Real image. Not modified.
+	 * @param transform (Output) Complex transform. Must be the same shape as image. Modified.
+	 */
+	public void forward( GrayF64 image , InterleavedF64 transform ) {
+		declareTransforms(image.width,image.height);
+		final int halfWidth = width/2+1;
+
+		// rows are written into the first half of each row in the transform
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,height,(y0,y1)->forwardRows(image,transform,y0,y1,createWorkspace()));
+			BoofConcurrency.loopBlocks(0,halfWidth,(x0,x1)->forwardColumns(transform,x0,x1,createWorkspace()));
+			BoofConcurrency.loopBlocks(0,height,(y0,y1)->fillSymmetric(transform,y0,y1));
+		} else {
+			forwardRows(image,transform,0,height,work);
+			forwardColumns(transform,0,halfWidth,work);
+			fillSymmetric(transform,0,height);
+		}
+	}
+
+	/**
+	 * Computes the inverse transform. Only the conjugate symmetric part of the transform is used, which
+	 * produces the real component of the inverse.
+	 *
+	 * @param transform (Input) Complex transform. Not modified.
+	 * @param image (Output) Real image. Must be the same shape as transform. Modified.
+	 */
+	public void inverse( InterleavedF64 transform , GrayF64 image ) {
+		declareTransforms(image.width,image.height);
+		final int halfWidth = width/2+1;
+		half.reshape(halfWidth,height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,halfWidth,(x0,x1)->inverseColumns(transform,x0,x1,createWorkspace()));
+			BoofConcurrency.loopBlocks(0,height,(y0,y1)->inverseRows(image,y0,y1,createWorkspace()));
+		} else {
+			inverseColumns(transform,0,halfWidth,work);
+			inverseRows(image,0,height,work);
+		}
+	}
+
+	/**
+	 * Declares the 1D transforms if the shape has changed
+	 */
+	private void declareTransforms( int width , int height ) {
+		if( this.width == width && this.height == height )
+			return;
+		this.width = width;
+		this.height = height;
+		fftRow = FftPlanCache.createF64(width);
+		fftColumn = FftPlanCache.createF64(height);
+		work = new Workspace(fftRow,fftColumn);
+	}
+
+	private Workspace createWorkspace() {
+		return new Workspace(new GeneralPurposeFFT_F64_1D(fftRow),new GeneralPurposeFFT_F64_1D(fftColumn));
+	}
+
+	/**
+	 * Real transform of each row. Columns 0 to width/2 of the output are written to.
+	 */
+	private void forwardRows( GrayF64 image , InterleavedF64 transform , int y0 , int y1 , Workspace work ) {
+		final double[] row = work.row;
+		final boolean even = width%2 == 0;
+		final int halfWidth = width/2+1;
+
+		for (int y = y0; y < y1; y++) {
+			System.arraycopy(image.data,image.startIndex+y*image.stride,row,0,width);
+			work.fftRow.realForward(row);
+
+			// unpack the results. See realForward() for the layout
+			int index = transform.startIndex + y*transform.stride;
+			double[] d = transform.data;
+			d[index] = row[0];
+			d[index+1] = 0;
+			if( width > 1 ) {
+				if( even ) {
+					System.arraycopy(row,2,d,index+2,width-2);
+					d[index+width] = row[1];
+					d[index+width+1] = 0;
+				} else {
+					System.arraycopy(row,2,d,index+2,width-3);
+					d[index+2*(halfWidth-1)] = row[width-1];
+					d[index+2*(halfWidth-1)+1] = row[1];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Complex transform of each column from x0 to x1, in place
+	 */
+	private void forwardColumns( InterleavedF64 transform , int x0 , int x1 , Workspace work ) {
+		final double[] column = work.column;
+		for (int x = x0; x < x1; x++) {
+			int index = transform.startIndex + x*2;
+			for (int y = 0, i = 0; y < height; y++, index += transform.stride) {
+				column[i++] = transform.data[index];
+				column[i++] = transform.data[index+1];
+			}
+			work.fftColumn.complexForward(column);
+			index = transform.startIndex + x*2;
+			for (int y = 0, i = 0; y < height; y++, index += transform.stride) {
+				transform.data[index] = column[i++];
+				transform.data[index+1] = column[i++];
+			}
+		}
+	}
+
+	/**
+	 * Fills in columns width/2+1 and above using conjugate symmetry
+	 */
+	private void fillSymmetric( InterleavedF64 transform , int y0 , int y1 ) {
+		final int halfWidth = width/2+1;
+		for (int y = y0; y < y1; y++) {
+			int indexDst = transform.startIndex + y*transform.stride + halfWidth*2;
+			int indexSrc = transform.startIndex + ((height-y)%height)*transform.stride + (width-halfWidth)*2;
+			for (int x = halfWidth; x < width; x++, indexDst += 2, indexSrc -= 2) {
+				transform.data[indexDst] = transform.data[indexSrc];
+				transform.data[indexDst+1] = -transform.data[indexSrc+1];
+			}
+		}
+	}
+
+	/**
+	 * Inverse complex transform of the conjugate symmetric part of each column from x0 to x1
+	 */
+	private void inverseColumns( InterleavedF64 transform , int x0 , int x1 , Workspace work ) {
+		final double[] column = work.column;
+		final double[] d = transform.data;
+		for (int x = x0; x < x1; x++) {
+			int xx = (width-x)%width;
+			for (int y = 0, i = 0; y < height; y++) {
+				int index = transform.startIndex + y*transform.stride + x*2;
+				int indexConj = transform.startIndex + ((height-y)%height)*transform.stride + xx*2;
+				column[i++] = 0.5*(d[index] + d[indexConj]);
+				column[i++] = 0.5*(d[index+1] - d[indexConj+1]);
+			}
+			work.fftColumn.complexInverse(column,true);
+			int index = half.startIndex + x*2;
+			for (int y = 0, i = 0; y < height; y++, index += half.stride) {
+				half.data[index] = column[i++];
+				half.data[index+1] = column[i++];
+			}
+		}
+	}
+
+	/**
+	 * Inverse real transform of each row
+	 */
+	private void inverseRows( GrayF64 image , int y0 , int y1 , Workspace work ) {
+		final double[] row = work.row;
+		final boolean even = width%2 == 0;
+		final int halfWidth = width/2+1;
+		final double[] d = half.data;
+
+		for (int y = y0; y < y1; y++) {
+			// pack the row. See realInverse() for the layout
+			int index = half.startIndex + y*half.stride;
+			row[0] = d[index];
+			if( width > 1 ) {
+				if( even ) {
+					System.arraycopy(d,index+2,row,2,width-2);
+					row[1] = d[index+width];
+				} else {
+					System.arraycopy(d,index+2,row,2,width-3);
+					row[width-1] = d[index+2*(halfWidth-1)];
+					row[1] = d[index+2*(halfWidth-1)+1];
+				}
+			}
+			work.fftRow.realInverse(row,true);
+			System.arraycopy(row,0,image.data,image.startIndex+y*image.stride,width);
+		}
+	}
+
+	/**
+	 * Storage for processing a block of rows or columns
+	 */
+	private class Workspace {
+		GeneralPurposeFFT_F64_1D fftRow, fftColumn;
+		double[] row = new double[width];
+		double[] column = new double[2*height];
+
+		Workspace(GeneralPurposeFFT_F64_1D fftRow, GeneralPurposeFFT_F64_1D fftColumn) {
+			this.fftRow = fftRow;
+			this.fftColumn = fftColumn;
+		}
+	}
+}
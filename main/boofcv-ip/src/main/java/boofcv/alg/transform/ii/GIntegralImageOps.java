@@ -55,10 +55,14 @@ public class GIntegralImageOps {
 	public static <I extends ImageGray<I>, T extends ImageGray>
 	T transform( I input , T transformed ) {
 		if( input instanceof GrayF32) {
+			if( transformed instanceof GrayF64 )
+				return (T)IntegralImageOps.transform64((GrayF32)input,(GrayF64)transformed);
 			return (T)IntegralImageOps.transform((GrayF32)input,(GrayF32)transformed);
 		} else if( input instanceof GrayF64) {
 			return (T)IntegralImageOps.transform((GrayF64)input,(GrayF64)transformed);
 		} else if( input instanceof GrayU8) {
+			if( transformed instanceof GrayS64 )
+				return (T)IntegralImageOps.transform64((GrayU8)input,(GrayS64)transformed);
 			return (T)IntegralImageOps.transform((GrayU8)input,(GrayS32)transformed);
 		} else if( input instanceof GrayS32) {
 			return (T)IntegralImageOps.transform((GrayS32)input,(GrayS32)transformed);
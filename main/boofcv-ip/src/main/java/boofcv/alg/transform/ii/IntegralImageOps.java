@@ -48,6 +48,22 @@ public class IntegralImageOps {
 		return transformed;
 	}
 
+	/**
+	 * Converts a regular image into a 64-bit floating point integral image.  Named differently from
+	 * {@link #transform(GrayF32, GrayF32)} so that passing in a null output is not ambiguous.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static GrayF64 transform64(GrayF32 input , GrayF64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayF64.class);
+
+		ImplIntegralImageOps.transform64(input,transformed);
+
+		return transformed;
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -78,6 +94,22 @@ public class IntegralImageOps {
 		return transformed;
 	}
 
+	/**
+	 * Converts a regular image into a 64-bit integer integral image.  Named differently from
+	 * {@link #transform(GrayU8, GrayS32)} so that passing in a null output is not ambiguous.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static GrayS64 transform64(GrayU8 input , GrayS64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
+
+		ImplIntegralImageOps.transform64(input,transformed);
+
+		return transformed;
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -19,9 +19,16 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.convolve.ConvolveDown;
+import boofcv.alg.filter.convolve.down.ConvolveDownNormalizedSeparable;
+import boofcv.alg.filter.convolve.down.ConvolveDownNormalizedSeparable_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
@@ -42,6 +49,13 @@ import boofcv.struct.pyramid.PyramidDiscrete;
  * have it dependent on each level's scale factor.
  * </p>
  *
+ * <p>
+ * For {@link GrayU8} and {@link GrayF32} images the blur and down sampling is done in a single pass by
+ * {@link ConvolveDownNormalizedSeparable}, which avoids writing a blurred intermediate image.  If
+ * {@link BoofConcurrency#USE_CONCURRENT} is true then each layer is computed using multiple threads.  Other
+ * image types are convolved horizontally then vertically.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +66,10 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	ConvolveDown<T,T> horizontal;
 	ConvolveDown<T,T> vertical;
 
+	// blur kernel and storage used by the single pass blur and down sample. kernel is null if not supported
+	Kernel1D kernel;
+	ConvolveDownNormalizedSeparable.Workspace work = new ConvolveDownNormalizedSeparable.Workspace();
+
 	// amount of blur applied to each layer
 	double sigmas[];
 
@@ -72,6 +90,11 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 		horizontal = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, true, 1, imageType,imageType);
 		vertical = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, false, 1, imageType,imageType);
 
+		if( (imageType.getImageClass() == GrayF32.class && kernel instanceof Kernel1D_F32) ||
+				(imageType.getImageClass() == GrayU8.class && kernel instanceof Kernel1D_S32) ) {
+			this.kernel = kernel;
+		}
+
 		sigmas = new double[ scaleFactors.length ];
 		sigmas[0] = 0;
 		for( int i = 1; i < sigmas.length; i++ ) {
@@ -100,26 +123,38 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 				getLayer(0).setTo(input);
 			}
 		} else {
-			int skip = scale[0];
-
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
+			blurDown(input, getLayer(0), scale[0]);
 		}
 
 		for (int index = 1; index < getNumLayers(); index++) {
 			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			blurDown(getLayer(index-1), getLayer(index), skip);
+		}
+	}
 
+	/**
+	 * Blurs the input image then down samples it into the output image
+	 */
+	private void blurDown( T input , T output , int skip ) {
+		if( kernel instanceof Kernel1D_F32 ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveDownNormalizedSeparable_MT.process((Kernel1D_F32)kernel, (GrayF32)input, (GrayF32)output, skip);
+			} else {
+				ConvolveDownNormalizedSeparable.process((Kernel1D_F32)kernel, (GrayF32)input, (GrayF32)output, skip, work);
+			}
+		} else if( kernel instanceof Kernel1D_S32 ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ConvolveDownNormalizedSeparable_MT.process((Kernel1D_S32)kernel, (GrayU8)input, (GrayU8)output, skip);
+			} else {
+				ConvolveDownNormalizedSeparable.process((Kernel1D_S32)kernel, (GrayU8)input, (GrayU8)output, skip, work);
+			}
+		} else {
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
+			temp.reshape(input.width/skip,input.height);
+			horizontal.process(input,temp);
+			vertical.process(temp,output);
 		}
 	}
 
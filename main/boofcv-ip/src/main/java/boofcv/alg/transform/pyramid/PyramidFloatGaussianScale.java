@@ -19,10 +19,12 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.blur.BlurStorageFilter;
-import boofcv.alg.distort.DistortImageOps;
+import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -42,6 +44,12 @@ import boofcv.struct.pyramid.PyramidFloat;
  * with no sacrifices to improve speed.
  * </p>
  *
+ * <p>
+ * The blur filters, resampling algorithm, and layer images are all declared once and reused between calls to
+ * {@link #process}.  If {@link BoofConcurrency#USE_CONCURRENT} is true then resampling is done using multiple
+ * threads.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -59,6 +67,15 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 	// The effective amount of blur in each pyramid layer relative to the input image
 	protected double[] sigma;
 
+	// blur filter for each layer. Declared the first time it's needed
+	protected BlurStorageFilter<T>[] blurs;
+
+	// re-samples the blurred image. Declared the first time it's needed and after interpolation changes
+	protected ImageDistort<T,T> distort;
+	// if the distort algorithm was declared with concurrency turned on
+	protected boolean distortConcurrent;
+	protected PixelTransformAffine_F32 model = new PixelTransformAffine_F32();
+
 	/**
 	 * Configures the pyramid
 	 *
@@ -98,22 +115,33 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 		if( tempImage == null ) {
 			tempImage = (T)input.createNew(input.width,input.height);
 		}
+		if( blurs == null ) {
+			blurs = new BlurStorageFilter[ sigmaLayers.length ];
+			for( int i = 0; i < sigmaLayers.length; i++ ) {
+				blurs[i] = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(getImageType(), sigmaLayers[i],-1);
+			}
+		}
+		if( distort == null || distortConcurrent != BoofConcurrency.USE_CONCURRENT ) {
+			distortConcurrent = BoofConcurrency.USE_CONCURRENT;
+			distort = FactoryDistort.distortSB(false, interpolate, (Class<T>)input.getClass());
+			distort.setRenderAll(true);
+			distort.setModel(model);
+		}
 
 		for( int i = 0; i < scale.length; i++ ) {
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
 			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getImageType(), sigmaLayers[i],-1);
 			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
+			blurs[i].process(prev,tempImage);
 
 			// Resample the blurred image
 			if( scale[i] == 1 ) {
 				layer.setTo(tempImage);
 			} else {
-				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage, null);
-				DistortImageOps.distortSingle(tempImage,layer, true, model,interpolate);
+				DistortSupport.transformScale(layer,tempImage, model);
+				distort.apply(tempImage,layer);
 			}
 		}
 	}
@@ -124,6 +152,7 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 
 	public void setInterpolate(InterpolatePixelS<T> interpolate) {
 		this.interpolate = interpolate;
+		this.distort = null;
 	}
 
 	@Override
@@ -18,10 +18,12 @@
 
 package boofcv.alg.transform.pyramid;
 
-import boofcv.alg.distort.DistortImageOps;
+import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.distort.FactoryDistort;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidFloat;
@@ -33,6 +35,10 @@ import boofcv.struct.pyramid.PyramidFloat;
  * Unlike {@link PyramidFloatGaussianScale}, no additional blurring is done between layers.
  * </p>
  *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then each layer is resampled using multiple threads.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -42,6 +48,12 @@ public class PyramidFloatScale< T extends ImageGray<T>>
 	// interpolation algorithm
 	protected InterpolatePixelS<T> interpolate;
 
+	// re-samples the previous layer. Declared the first time it's needed
+	protected ImageDistort<T,T> distort;
+	// if the distort algorithm was declared with concurrency turned on
+	protected boolean distortConcurrent;
+	protected PixelTransformAffine_F32 model = new PixelTransformAffine_F32();
+
 	public PyramidFloatScale(InterpolatePixelS<T> interpolate, double scaleFactors[] , Class<T> imageType) {
 		super(ImageType.single(imageType),scaleFactors);
 		this.interpolate = interpolate;
@@ -54,12 +66,19 @@ public class PyramidFloatScale< T extends ImageGray<T>>
 		if( isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
+		if( distort == null || distortConcurrent != BoofConcurrency.USE_CONCURRENT ) {
+			distortConcurrent = BoofConcurrency.USE_CONCURRENT;
+			distort = FactoryDistort.distortSB(false, interpolate, (Class<T>)input.getClass());
+			distort.setRenderAll(true);
+			distort.setModel(model);
+		}
+
 		for( int i = 0; i < scale.length; i++ ) {
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
-			PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,prev, null);
-			DistortImageOps.distortSingle(prev,layer, true, model,interpolate);
+			DistortSupport.transformScale(layer,prev, model);
+			distort.apply(prev,layer);
 		}
 	}
 
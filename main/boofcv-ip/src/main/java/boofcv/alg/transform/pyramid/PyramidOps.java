@@ -26,7 +26,9 @@ import boofcv.alg.transform.pyramid.impl.ImplPyramidOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.pyramid.ImagePyramid;
 
 import java.lang.reflect.Array;
@@ -61,6 +63,25 @@ public class PyramidOps {
 		return ret;
 	}
 
+	/**
+	 * Same as {@link #declareOutput(ImagePyramid, Class)} but images are taken from the pool.  Give them back
+	 * with {@link ImagePool#release(ImageBase[])} when finished.
+	 *
+	 * @param pool (Input) Source of images.  If null new images are declared.
+	 */
+	public static <O extends ImageGray<O>>
+	O[] declareOutput( ImagePyramid<?> pyramid , Class<O> outputType , ImagePool pool ) {
+		O[] ret = (O[])Array.newInstance(outputType,pyramid.getNumLayers());
+
+		for( int i = 0; i < ret.length; i++ ) {
+			int w = pyramid.getWidth(i);
+			int h = pyramid.getHeight(i);
+			ret[i] = GeneralizedImageOps.createSingleBand(outputType,w,h,pool);
+		}
+
+		return ret;
+	}
+
 	/**
 	 * Reshapes each image in the array to match the layers in the pyramid
 	 * @param pyramid (Input) Image pyramid
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Central location for controlling multi-threaded code in BoofCV.  Concurrent implementations of an algorithm
+ * have the same name as the single threaded version with an "_MT" suffix and are only invoked when
+ * {@link #USE_CONCURRENT} is true.  Work is always divided by rows (or other independent units) so the output
+ * of a concurrent algorithm is identical to the output of its single threaded counter part.
+ * </p>
+ *
+ * <p>
+ * All threads come from a single {@link ForkJoinPool} which is shared across the library.  The number of threads
+ * in this pool can be changed with {@link #setMaxThreads(int)}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class BoofConcurrency {
+	/**
+	 * If true then concurrent implementations of algorithms will be used when available.  Turned off by default.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	/**
+	 * The smallest number of indexes which will be given to a single thread by {@link #loopBlocks}.
+	 */
+	public static int SMALLEST_BLOCK = 8;
+
+	// thread pool which all concurrent code runs inside of. Each call acquires it once so that the number of blocks
+	// and the pool which processes them always agree, even if it's replaced at the same time.
+	private static volatile Pool pool = new Pool(new ForkJoinPool());
+
+	/**
+	 * Changes the maximum number of threads which will be used by concurrent algorithms. The old pool is shut
+	 * down once all the calls which are still using it have finished.
+	 *
+	 * @param maxThreads Number of threads.  Must be &ge; 1
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Number of threads must be at least 1");
+		if( maxThreads == pool.threads.getParallelism() )
+			return;
+		Pool old = pool;
+		pool = new Pool(new ForkJoinPool(maxThreads));
+		if( old.users.get() == 0 )
+			old.threads.shutdown();
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used by concurrent algorithms.
+	 */
+	public static int getMaxThreads() {
+		return pool.threads.getParallelism();
+	}
+
+	/**
+	 * Concurrent for loop.  Each index in the range is passed to the consumer once, in an undefined order
+	 * and in an undefined thread.  Returns once all indexes have been processed.
+	 *
+	 * @param start First index, inclusive.
+	 * @param endExclusive Last index, exclusive.
+	 * @param consumer Processes a single index
+	 */
+	public static void loopFor( int start , int endExclusive , IntConsumer consumer ) {
+		if( endExclusive <= start )
+			return;
+		execute(() -> IntStream.range(start, endExclusive).parallel().forEach(consumer));
+	}
+
+	/**
+	 * Splits the range into contiguous blocks, one per thread, and processes the blocks concurrently.  Use this
+	 * instead of {@link #loopFor} when each thread needs its own workspace.
+	 *
+	 * @param start First index, inclusive.
+	 * @param endExclusive Last index, exclusive.
+	 * @param consumer Processes a block of indexes
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeConsumer consumer ) {
+		loopBlocks(start, endExclusive, SMALLEST_BLOCK, consumer);
+	}
+
+	/**
+	 * Splits the range into contiguous blocks, one per thread, and processes the blocks concurrently.  Use this
+	 * instead of {@link #loopFor} when each thread needs its own workspace.
+	 *
+	 * @param start First index, inclusive.
+	 * @param endExclusive Last index, exclusive.
+	 * @param minBlock The smallest number of indexes in a block
+	 * @param consumer Processes a block of indexes
+	 */
+	public static void loopBlocks( int start , int endExclusive , int minBlock , IntRangeConsumer consumer ) {
+		final int range = endExclusive-start;
+		if( range <= 0 )
+			return;
+
+		final Pool pool = acquire();
+		try {
+			final int threads = pool.threads.getParallelism();
+			final int blockSize = Math.max(Math.max(1,minBlock),(range+threads-1)/threads);
+			final int numBlocks = (range+blockSize-1)/blockSize;
+
+			if( numBlocks == 1 ) {
+				consumer.accept(start,endExclusive);
+				return;
+			}
+
+			execute(pool, () -> IntStream.range(0, numBlocks).parallel().forEach(block -> {
+				int idx0 = start + block*blockSize;
+				consumer.accept(idx0, Math.min(endExclusive, idx0 + blockSize));
+			}));
+		} finally {
+			release(pool);
+		}
+	}
+
+	/**
+	 * Computes a partial result for blocks of indexes concurrently then combines them.
+	 *
+	 * @see #reduceBlocks(int, int, int, IntRangeFunction, BinaryOperator)
+	 */
+	public static <T> T reduceBlocks( int start , int endExclusive ,
+									  IntRangeFunction<T> function , BinaryOperator<T> combine ) {
+		return reduceBlocks(start, endExclusive, SMALLEST_BLOCK, function, combine);
+	}
+
+	/**
+	 * Splits the range into the same blocks as {@link #loopBlocks} and computes a partial result for each block
+	 * concurrently.  The partial results are then combined in the calling thread in the order of the blocks.
+	 * For a fixed number of threads the result is deterministic, even when combine is not associative, e.g.
+	 * floating point addition.  If the range is empty then the function is called once with an empty range.
+	 *
+	 * @param start First index, inclusive.
+	 * @param endExclusive Last index, exclusive.
+	 * @param minBlock The smallest number of indexes in a block
+	 * @param function Computes the partial result for a block of indexes
+	 * @param combine Combines two partial results.  The first one always comes from the earlier block.
+	 * @return The combined result
+	 */
+	public static <T> T reduceBlocks( int start , int endExclusive , int minBlock ,
+									  IntRangeFunction<T> function , BinaryOperator<T> combine ) {
+		final int range = endExclusive-start;
+		if( range <= 0 )
+			return function.apply(start, start);
+
+		final Pool pool = acquire();
+		try {
+			final int threads = pool.threads.getParallelism();
+			final int blockSize = Math.max(Math.max(1,minBlock),(range+threads-1)/threads);
+			final int numBlocks = (range+blockSize-1)/blockSize;
+
+			if( numBlocks == 1 )
+				return function.apply(start,endExclusive);
+
+			final Object[] partial = new Object[numBlocks];
+			execute(pool, () -> IntStream.range(0, numBlocks).parallel().forEach(block -> {
+				int idx0 = start + block*blockSize;
+				partial[block] = function.apply(idx0, Math.min(endExclusive, idx0 + blockSize));
+			}));
+
+			T result = (T)partial[0];
+			for( int i = 1; i < numBlocks; i++ ) {
+				result = combine.apply(result, (T)partial[i]);
+			}
+			return result;
+		} finally {
+			release(pool);
+		}
+	}
+
+	/**
+	 * Runs the task inside the current pool and blocks until it finishes.
+	 */
+	private static void execute( Runnable task ) {
+		Pool pool = acquire();
+		try {
+			execute(pool, task);
+		} finally {
+			release(pool);
+		}
+	}
+
+	/**
+	 * Runs the task inside the specified pool and blocks until it finishes.  Unchecked exceptions thrown by
+	 * the task are passed on to the caller.
+	 */
+	private static void execute( Pool pool , Runnable task ) {
+		try {
+			pool.threads.submit(task).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException)cause;
+			if( cause instanceof Error )
+				throw (Error)cause;
+			throw new RuntimeException(cause);
+		}
+	}
+
+	/**
+	 * Returns the current pool after marking it as in use, so that it won't be shut down if it's replaced
+	 * before {@link #release} is called.
+	 */
+	private static Pool acquire() {
+		while( true ) {
+			Pool p = pool;
+			p.users.incrementAndGet();
+			// if it was replaced before being marked then it might have been shut down already
+			if( p == pool )
+				return p;
+			release(p);
+		}
+	}
+
+	/**
+	 * Marks the pool as no longer being used by the caller. If it has been replaced and nothing else is
+	 * using it then it's shut down.
+	 */
+	private static void release( Pool p ) {
+		if( p.users.decrementAndGet() == 0 && p != pool )
+			p.threads.shutdown();
+	}
+
+	/**
+	 * Thread pool and the number of calls which are currently using it
+	 */
+	private static class Pool {
+		final ForkJoinPool threads;
+		final AtomicInteger users = new AtomicInteger();
+
+		Pool( ForkJoinPool threads ) {
+			this.threads = threads;
+		}
+	}
+}
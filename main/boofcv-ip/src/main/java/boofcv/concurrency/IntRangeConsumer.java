@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+/**
+ * Processes a contiguous range of integers, e.g. a band of rows in an image.
+ *
+ * @author Peter Abeles
+ */
+@FunctionalInterface
+public interface IntRangeConsumer {
+	/**
+	 * Processes the specified range.
+	 *
+	 * @param idx0 First index in the range, inclusive.
+	 * @param idx1 Last index in the range, exclusive.
+	 */
+	void accept( int idx0 , int idx1 );
+}
@@ -18,7 +18,9 @@
 
 package boofcv.core.encoding;
 
+import boofcv.alg.filter.misc.AverageDownSampleOps;
 import boofcv.struct.image.*;
+import boofcv.struct.pyramid.PyramidDiscrete;
 
 /**
  * Used to convert NV21 image format used in Android into BoofCV standard image types. NV21 is an encoding of a
@@ -139,6 +141,83 @@ public class ConvertNV21 {
 		return output;
 	}
 
+	/**
+	 * Creates a gray scale image which references the Y plane inside the NV21 data.  Nothing is copied, so
+	 * modifying the image will modify the NV21 data.  The image is marked as a sub-image so that the UV data
+	 * after the Y plane is never touched.
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param output Output: Optional storage for output image.  Can be null.
+	 * @return Gray scale image which references the NV21 data
+	 */
+	public static GrayU8 wrapGray(byte[] data , int width , int height , GrayU8 output ) {
+		if( data.length < width*height )
+			throw new IllegalArgumentException("data is too small for an image of size "+width+" "+height);
+		if( output == null )
+			output = new GrayU8();
+
+		output.data = data;
+		output.width = width;
+		output.height = height;
+		output.stride = width;
+		output.startIndex = 0;
+		output.subImage = true;
+
+		return output;
+	}
+
+	/**
+	 * Converts an NV21 image into a gray scale U8 image which has been down sampled by averaging square regions.
+	 * The Y plane is read once and the full resolution gray image is never created.  Same results as
+	 * {@link AverageDownSampleOps#down(GrayU8, int, GrayI8)}.
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param sampleWidth Input: Width of the square region which is averaged, e.g. 2 for half resolution.
+	 * @param output Output: Optional storage for output image.  Can be null.  Reshaped to the down sampled size.
+	 * @return Down sampled gray scale image
+	 */
+	public static GrayU8 nv21ToGrayDown(byte[] data , int width , int height , int sampleWidth , GrayU8 output ) {
+		if( sampleWidth < 1 )
+			throw new IllegalArgumentException("sampleWidth must be at least 1");
+
+		int outWidth = AverageDownSampleOps.downSampleSize(width, sampleWidth);
+		int outHeight = AverageDownSampleOps.downSampleSize(height, sampleWidth);
+		if( output == null )
+			output = new GrayU8(outWidth, outHeight);
+		else
+			output.reshape(outWidth, outHeight);
+
+		GrayU8 gray = wrapGray(data, width, height, null);
+		if( sampleWidth == 1 )
+			output.setTo(gray);
+		else
+			AverageDownSampleOps.down(gray, sampleWidth, output);
+
+		return output;
+	}
+
+	/**
+	 * Computes an image pyramid directly from the Y plane of an NV21 image.  A full resolution gray image is
+	 * not created, unless the pyramid needs one for its first layer.
+	 *
+	 * <p>
+	 * WARNING: If the pyramid saves a reference to the original image then its first layer will reference the
+	 * NV21 data.  The data must not be modified while the pyramid is in use.
+	 * </p>
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param pyramid Output: The pyramid which is computed.
+	 */
+	public static void nv21ToPyramid(byte[] data , int width , int height , PyramidDiscrete<GrayU8> pyramid ) {
+		pyramid.process(wrapGray(data, width, height, null));
+	}
+
 	/**
 	 * Converts an NV21 image into a {@link Planar} YUV image.
 	 *
@@ -20,6 +20,7 @@ package boofcv.core.encoding;
 
 
 import boofcv.struct.image.*;
+import boofcv.struct.pyramid.PyramidDiscrete;
 
 /**
  * YUV / YCbCr image format.  The Y component is contained in the width*height block, followed by a (width/2)*(height/2) block
@@ -113,4 +114,32 @@ public class ConvertYV12 {
 
         return output;
     }
+
+    /**
+     * Converts an YV12 image into a gray scale U8 image which has been down sampled by averaging square regions.
+     * See {@link ConvertNV21#nv21ToGrayDown}.
+     *
+     * @param data Input: YV12 image data
+     * @param width Input: image width
+     * @param height Input: image height
+     * @param sampleWidth Input: Width of the square region which is averaged, e.g. 2 for half resolution.
+     * @param output Output: Optional storage for output image.  Can be null.
+     * @return Down sampled gray scale image
+     */
+    public static GrayU8 yu12ToGrayDown(byte[] data , int width , int height , int sampleWidth , GrayU8 output ) {
+        // The Y plane is the same as in NV21
+        return ConvertNV21.nv21ToGrayDown(data, width, height, sampleWidth, output);
+    }
+
+    /**
+     * Computes an image pyramid directly from the Y plane of an YV12 image.  See {@link ConvertNV21#nv21ToPyramid}.
+     *
+     * @param data Input: YV12 image data
+     * @param width Input: image width
+     * @param height Input: image height
+     * @param pyramid Output: The pyramid which is computed.
+     */
+    public static void yu12ToPyramid(byte[] data , int width , int height , PyramidDiscrete<GrayU8> pyramid ) {
+        ConvertNV21.nv21ToPyramid(data, width, height, pyramid);
+    }
 }
@@ -21,11 +21,22 @@ package boofcv.core.image;
 import boofcv.struct.image.*;
 import org.ddogleg.struct.GrowQueue_I8;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 
 /**
+ * <p>
  * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types and performs
  * a local copy when the raw array can't be accessed
+ * </p>
+ *
+ * <p>
+ * The wrap functions avoid the copy entirely by having the image reference the buffer's backing array.  This is
+ * only possible when the buffer has an accessible array, e.g. it was created with {@link ByteBuffer#allocate} or
+ * {@link ByteBuffer#wrap}.  Direct and memory mapped buffers have no array and must be copied, which is done
+ * one row at a time using bulk get and put.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -85,7 +96,7 @@ public class ConvertByteBufferImage {
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
 			src.position(indexSrc);
-			src.get(dst.data,0,dst.width*3);
+			src.get(dst.data,dst.startIndex + dst.stride * y,dst.width*3);
 			indexSrc += srcStride;
 		}
 	}
@@ -157,4 +168,165 @@ public class ConvertByteBufferImage {
 			indexSrc += srcStride;
 		}
 	}
+
+	/**
+	 * Changes the image so that it references the array inside the buffer.  The image's width and height are
+	 * not modified.  Since the image no longer owns its data it is marked as a sub-image and can't be reshaped.
+	 *
+	 * @param src Buffer containing the image. Not modified.
+	 * @param srcOffset Offset of the first pixel relative to the buffer's start.
+	 * @param srcStride Number of elements between rows.
+	 * @param dst (Output) Image which will reference the buffer.  Only modified if true is returned.
+	 * @return true if the buffer could be wrapped.  false if it's direct or read only.
+	 * @throws IllegalArgumentException If the image doesn't fit inside the buffer
+	 */
+	public static boolean wrap( ByteBuffer src , int srcOffset , int srcStride , GrayU8 dst ) {
+		if( !isWrappable(src) )
+			return false;
+		checkWrapBounds(src, srcOffset, srcStride, dst.width, dst.height, src.array().length);
+		dst.data = src.array();
+		wrapCommon(src, srcOffset, srcStride, dst);
+		return true;
+	}
+
+	/**
+	 * Same as {@link #wrap(ByteBuffer, int, int, GrayU8)} but for interleaved images
+	 */
+	public static boolean wrap( ByteBuffer src , int srcOffset , int srcStride , InterleavedU8 dst ) {
+		if( !isWrappable(src) )
+			return false;
+		checkWrapBounds(src, srcOffset, srcStride, dst.width*dst.numBands, dst.height, src.array().length);
+		dst.data = src.array();
+		wrapCommon(src, srcOffset, srcStride, dst);
+		return true;
+	}
+
+	/**
+	 * Same as {@link #wrap(ByteBuffer, int, int, GrayU8)} but for float images
+	 */
+	public static boolean wrap( FloatBuffer src , int srcOffset , int srcStride , GrayF32 dst ) {
+		if( !isWrappable(src) )
+			return false;
+		checkWrapBounds(src, srcOffset, srcStride, dst.width, dst.height, src.array().length);
+		dst.data = src.array();
+		wrapCommon(src, srcOffset, srcStride, dst);
+		return true;
+	}
+
+	/**
+	 * Same as {@link #wrap(ByteBuffer, int, int, GrayU8)} but for float interleaved images
+	 */
+	public static boolean wrap( FloatBuffer src , int srcOffset , int srcStride , InterleavedF32 dst ) {
+		if( !isWrappable(src) )
+			return false;
+		checkWrapBounds(src, srcOffset, srcStride, dst.width*dst.numBands, dst.height, src.array().length);
+		dst.data = src.array();
+		wrapCommon(src, srcOffset, srcStride, dst);
+		return true;
+	}
+
+	/**
+	 * Returns true if an image can reference the buffer's data directly
+	 */
+	public static boolean isWrappable( Buffer buffer ) {
+		return buffer.hasArray() && !buffer.isReadOnly();
+	}
+
+	/**
+	 * Makes sure the image lies inside the buffer's limit and its backing array.  Otherwise the image would silently
+	 * reference data past the end of the buffer or throw an exception later on when a pixel is accessed.
+	 */
+	private static void checkWrapBounds( Buffer src , int srcOffset , int srcStride ,
+										 int rowLength , int height , int arrayLength ) {
+		if( srcOffset < 0 )
+			throw new IllegalArgumentException("srcOffset must be >= 0");
+		if( srcStride < rowLength )
+			throw new IllegalArgumentException("srcStride must be >= the length of a row. "+srcStride+" < "+rowLength);
+		if( height <= 0 || rowLength <= 0 )
+			return;
+
+		long end = srcOffset + (long)srcStride*(height-1) + rowLength;
+		if( end > src.limit() )
+			throw new IllegalArgumentException("Image extends past the buffer's limit. "+end+" > "+src.limit());
+		if( src.arrayOffset() + end > arrayLength )
+			throw new IllegalArgumentException("Image extends past the end of the buffer's array");
+	}
+
+	private static void wrapCommon( Buffer src , int srcOffset , int srcStride , ImageBase dst ) {
+		dst.startIndex = src.arrayOffset() + srcOffset;
+		dst.stride = srcStride;
+		dst.subImage = true;
+	}
+
+	/**
+	 * Copies a single band U8 image from the buffer into the image
+	 */
+	public static void from_1BU8_to_U8( ByteBuffer src , int srcOffset , int srcStride , GrayU8 dst ) {
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride * y,dst.width);
+			indexSrc += srcStride;
+		}
+	}
+
+	/**
+	 * Copies an interleaved U8 image from the buffer into the image.  Number of bands is specified by the image.
+	 */
+	public static void from_BU8_to_IU8( ByteBuffer src , int srcOffset , int srcStride , InterleavedU8 dst ) {
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride * y,dst.width*dst.numBands);
+			indexSrc += srcStride;
+		}
+	}
+
+	/**
+	 * Copies a single band F32 image from the buffer into the image
+	 */
+	public static void from_1BF32_to_F32( FloatBuffer src , int srcOffset , int srcStride , GrayF32 dst ) {
+		int indexSrc = srcOffset;
+		for (int y = 0; y < dst.height; y++) {
+			src.position(indexSrc);
+			src.get(dst.data,dst.startIndex + dst.stride * y,dst.width);
+			indexSrc += srcStride;
+		}
+	}
+
+	/**
+	 * Copies the image into a buffer
+	 */
+	public static void from_U8_to_1BU8( GrayU8 src , ByteBuffer dst , int dstOffset , int dstStride ) {
+		int indexDst = dstOffset;
+		for (int y = 0; y < src.height; y++) {
+			dst.position(indexDst);
+			dst.put(src.data,src.startIndex + src.stride * y,src.width);
+			indexDst += dstStride;
+		}
+	}
+
+	/**
+	 * Copies the image into a buffer
+	 */
+	public static void from_IU8_to_BU8( InterleavedU8 src , ByteBuffer dst , int dstOffset , int dstStride ) {
+		int indexDst = dstOffset;
+		for (int y = 0; y < src.height; y++) {
+			dst.position(indexDst);
+			dst.put(src.data,src.startIndex + src.stride * y,src.width*src.numBands);
+			indexDst += dstStride;
+		}
+	}
+
+	/**
+	 * Copies the image into a buffer
+	 */
+	public static void from_F32_to_1BF32( GrayF32 src , FloatBuffer dst , int dstOffset , int dstStride ) {
+		int indexDst = dstOffset;
+		for (int y = 0; y < src.height; y++) {
+			dst.position(indexDst);
+			dst.put(src.data,src.startIndex + src.stride * y,src.width);
+			indexDst += dstStride;
+		}
+	}
 }
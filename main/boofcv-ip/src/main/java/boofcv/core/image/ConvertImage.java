@@ -19,8 +19,10 @@
 package boofcv.core.image;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.impl.ConvertInterleavedToSingle;
 import boofcv.core.image.impl.ImplConvertImage;
+import boofcv.core.image.impl.ImplConvertImage_MT;
 import boofcv.core.image.impl.ImplConvertMsToGray;
 import boofcv.struct.image.*;
 
@@ -57,7 +59,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -78,7 +84,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -99,7 +109,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -120,7 +134,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -141,7 +159,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -162,7 +184,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -183,7 +209,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -204,7 +234,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -225,7 +259,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -246,7 +284,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -267,7 +309,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -288,7 +334,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -309,7 +359,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -330,7 +384,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -369,7 +427,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -408,7 +470,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -463,7 +529,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -484,7 +554,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -505,7 +579,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -526,7 +604,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -547,7 +629,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -568,7 +654,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -589,7 +679,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -610,7 +704,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -631,7 +729,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -652,7 +754,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -673,7 +779,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -694,7 +804,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -715,7 +829,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -736,7 +854,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -775,7 +897,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -814,7 +940,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -869,7 +999,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -890,7 +1024,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -911,7 +1049,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -932,7 +1074,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -953,7 +1099,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -974,7 +1124,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -995,7 +1149,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1016,7 +1174,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1037,7 +1199,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1058,7 +1224,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1079,7 +1249,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1100,7 +1274,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1121,7 +1299,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1142,7 +1324,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1181,7 +1367,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1220,7 +1410,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1275,7 +1469,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1296,7 +1494,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1317,7 +1519,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1338,7 +1544,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1359,7 +1569,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1380,7 +1594,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1401,7 +1619,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1422,7 +1644,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1443,7 +1669,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1464,7 +1694,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1485,7 +1719,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1506,7 +1744,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1527,7 +1769,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1548,7 +1794,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1587,7 +1837,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1626,7 +1880,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -1681,7 +1939,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1702,7 +1964,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1723,7 +1989,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1744,7 +2014,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1765,7 +2039,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1786,7 +2064,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1807,7 +2089,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1828,7 +2114,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1849,7 +2139,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1870,7 +2164,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1891,7 +2189,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1912,7 +2214,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1933,7 +2239,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1954,7 +2264,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -1993,7 +2307,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2032,7 +2350,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2087,7 +2409,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2108,7 +2434,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2129,7 +2459,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2150,7 +2484,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2171,7 +2509,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2192,7 +2534,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2213,7 +2559,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2234,7 +2584,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2255,7 +2609,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2276,7 +2634,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2297,7 +2659,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2318,7 +2684,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2339,7 +2709,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2360,7 +2734,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2399,7 +2777,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2438,7 +2820,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2493,7 +2879,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2514,7 +2904,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2535,7 +2929,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2556,7 +2954,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2577,7 +2979,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2598,7 +3004,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2619,7 +3029,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2640,7 +3054,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2661,7 +3079,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2682,7 +3104,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2703,7 +3129,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2724,7 +3154,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2745,7 +3179,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2766,7 +3204,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2805,7 +3247,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2844,7 +3290,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -2899,7 +3349,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2920,7 +3374,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2941,7 +3399,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2962,7 +3424,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -2983,7 +3449,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3004,7 +3474,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3025,7 +3499,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3046,7 +3524,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3067,7 +3549,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3088,7 +3574,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3109,7 +3599,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3130,7 +3624,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3151,7 +3649,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3172,7 +3674,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input, output);
+		} else {
+			ImplConvertImage.convert(input, output);
+		}
 
 		return output;
 	}
@@ -3211,7 +3717,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -3250,7 +3760,11 @@ public class ConvertImage {
 			InputSanityCheck.checkSameShape(input, output);
 		}
 
-		ImplConvertImage.convert(input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplConvertImage_MT.convert(input,output);
+		} else {
+			ImplConvertImage.convert(input,output);
+		}
 
 		return output;
 	}
@@ -119,6 +119,28 @@ public class GeneralizedImageOps {
 		return (T)createSingleBand(typeClass, width, height);
 	}
 
+	/**
+	 * Creates a new single band image or recycles one from the pool.
+	 *
+	 * @param pool (Optional) Pool which the image is taken from.  If null a new image is created.
+	 */
+	public static <T extends ImageGray> T createSingleBand(ImageDataType type, int width, int height, ImagePool pool) {
+		if( pool == null )
+			return createSingleBand(type, width, height);
+		return (T)pool.acquire((ImageType)ImageType.single(type), width, height);
+	}
+
+	/**
+	 * Creates a new single band image or recycles one from the pool.
+	 *
+	 * @param pool (Optional) Pool which the image is taken from.  If null a new image is created.
+	 */
+	public static <T extends ImageGray<T>> T createSingleBand(Class<T> type, int width, int height, ImagePool pool) {
+		if( pool == null )
+			return createSingleBand(type, width, height);
+		return (T)pool.acquire(ImageType.single((Class)BoofTesting.convertGenericToSpecificType(type)), width, height);
+	}
+
 	public static <T extends ImageBase> T createImage(Class<T> type, int width, int height, int numBands ) {
 		if( (Class)type == Planar.class )
 			throw new IllegalArgumentException("Can't use this function with planar because the data type needs to be specified too");
@@ -29,4 +29,11 @@ public class BorderIndex1D_Exception extends BorderIndex1D {
 	public int getIndex(int index) {
 		throw new IllegalArgumentException("Tried to access a pixel outside of the image");
 	}
+
+	@Override
+	public BorderIndex1D copy() {
+		BorderIndex1D_Exception ret = new BorderIndex1D_Exception();
+		ret.setLength(length);
+		return ret;
+	}
 }
@@ -33,4 +33,11 @@ public class BorderIndex1D_Extend extends BorderIndex1D {
 			return length-1;
 		return index;
 	}
+
+	@Override
+	public BorderIndex1D copy() {
+		BorderIndex1D_Extend ret = new BorderIndex1D_Extend();
+		ret.setLength(length);
+		return ret;
+	}
 }
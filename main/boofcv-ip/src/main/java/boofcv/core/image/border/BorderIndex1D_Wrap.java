@@ -32,4 +32,11 @@ public class BorderIndex1D_Wrap extends BorderIndex1D {
 		else
 			return index;
 	}
+
+	@Override
+	public BorderIndex1D copy() {
+		BorderIndex1D_Wrap ret = new BorderIndex1D_Wrap();
+		ret.setLength(length);
+		return ret;
+	}
 }
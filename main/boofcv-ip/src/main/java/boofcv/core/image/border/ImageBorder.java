@@ -45,6 +45,12 @@ public abstract class ImageBorder<T extends ImageBase<T>> {
 		return image;
 	}
 
+	/**
+	 * Creates a copy with the same configuration. The image isn't copied and needs to be set again. Useful when
+	 * the same image border is needed in multiple threads.
+	 */
+	public abstract ImageBorder<T> copy();
+
 	public abstract void getGeneral(int x, int y, double[] pixel);
 
 	public abstract void setGeneral(int x, int y, double[] pixel);
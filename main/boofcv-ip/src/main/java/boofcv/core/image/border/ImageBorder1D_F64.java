@@ -42,6 +42,11 @@ public class ImageBorder1D_F64 extends ImageBorder_F64 {
 		this.colWrap = colWrap;
 	}
 
+	@Override
+	public ImageBorder1D_F64 copy() {
+		return new ImageBorder1D_F64(rowWrap.copy(), colWrap.copy());
+	}
+
 	public BorderIndex1D getRowWrap() {
 		return rowWrap;
 	}
@@ -42,6 +42,11 @@ public class ImageBorder1D_IL_F32 extends ImageBorder_IL_F32 {
 		this.colWrap = colWrap;
 	}
 
+	@Override
+	public ImageBorder1D_IL_F32 copy() {
+		return new ImageBorder1D_IL_F32(rowWrap.copy(), colWrap.copy());
+	}
+
 	public BorderIndex1D getRowWrap() {
 		return rowWrap;
 	}
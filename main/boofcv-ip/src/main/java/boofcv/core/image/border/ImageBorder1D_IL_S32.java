@@ -42,6 +42,11 @@ public class ImageBorder1D_IL_S32<T extends InterleavedInteger<T>> extends Image
 		this.colWrap = colWrap;
 	}
 
+	@Override
+	public ImageBorder1D_IL_S32<T> copy() {
+		return new ImageBorder1D_IL_S32<>(rowWrap.copy(), colWrap.copy());
+	}
+
 	public BorderIndex1D getRowWrap() {
 		return rowWrap;
 	}
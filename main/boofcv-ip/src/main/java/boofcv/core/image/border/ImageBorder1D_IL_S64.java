@@ -42,6 +42,11 @@ public class ImageBorder1D_IL_S64 extends ImageBorder_IL_S64 {
 		this.colWrap = colWrap;
 	}
 
+	@Override
+	public ImageBorder1D_IL_S64 copy() {
+		return new ImageBorder1D_IL_S64(rowWrap.copy(), colWrap.copy());
+	}
+
 	public BorderIndex1D getRowWrap() {
 		return rowWrap;
 	}
@@ -48,6 +48,11 @@ public class ImageBorder1D_S32<T extends GrayI<T>> extends ImageBorder_S32<T> {
 		this.colWrap = colWrap;
 	}
 
+	@Override
+	public ImageBorder1D_S32<T> copy() {
+		return new ImageBorder1D_S32<>(rowWrap.copy(), colWrap.copy());
+	}
+
 	public BorderIndex1D getRowWrap() {
 		return rowWrap;
 	}
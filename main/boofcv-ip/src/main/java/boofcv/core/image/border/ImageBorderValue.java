@@ -84,6 +84,11 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		@Override
+		public Value_I64 copy() {
+			return new Value_I64(value);
+		}
+
 		@Override
 		public long getOutside( int x , int y ) {
 			return value;
@@ -107,6 +112,11 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		@Override
+		public Value_F64 copy() {
+			return new Value_F64(value);
+		}
+
 		@Override
 		public double getOutside( int x , int y ) {
 			return value;
@@ -130,6 +140,11 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		@Override
+		public Value_F32 copy() {
+			return new Value_F32(value);
+		}
+
 		@Override
 		public float getOutside( int x , int y ) {
 			return value;
@@ -153,6 +168,11 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		@Override
+		public Value_I copy() {
+			return new Value_I(value);
+		}
+
 		@Override
 		public int getOutside( int x , int y ) {
 			return value;
@@ -171,6 +191,11 @@ public class ImageBorderValue {
 
 		public Value_IL_F32(float value) { this.value = value; }
 
+		@Override
+		public Value_IL_F32 copy() {
+			return new Value_IL_F32(value);
+		}
+
 		@Override
 		public void getOutside(int x, int y, float[] pixel) {
 			Arrays.fill(pixel,value);
@@ -187,6 +212,11 @@ public class ImageBorderValue {
 
 		public Value_IL_F64(double value) { this.value = value; }
 
+		@Override
+		public Value_IL_F64 copy() {
+			return new Value_IL_F64(value);
+		}
+
 		@Override
 		public void getOutside(int x, int y, double[] pixel) {
 			Arrays.fill(pixel,value);
@@ -203,6 +233,11 @@ public class ImageBorderValue {
 
 		public Value_IL_S32(int value) { this.value = value; }
 
+		@Override
+		public Value_IL_S32 copy() {
+			return new Value_IL_S32(value);
+		}
+
 		@Override
 		public void getOutside(int x, int y, int[] pixel) {
 			Arrays.fill(pixel,value);
@@ -219,6 +254,11 @@ public class ImageBorderValue {
 
 		public Value_IL_S64(long value) { this.value = value; }
 
+		@Override
+		public Value_IL_S64 copy() {
+			return new Value_IL_S64(value);
+		}
+
 		@Override
 		public void getOutside(int x, int y, long[] pixel) {
 			Arrays.fill(pixel,value);
@@ -22,12 +22,14 @@ import boofcv.abst.distort.ConfigDeformPointMLS;
 import boofcv.abst.distort.PointDeformKeyPoints;
 import boofcv.abst.distort.PointDeform_MLS;
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortTiled_MT;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.distort.mls.ImageDeformPointMLS_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.interpolate.InterpolatePixelMB;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.InterpolationType;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.image.*;
@@ -60,6 +62,8 @@ public class FactoryDistort {
 	/**
 	 * Creates a {@link boofcv.alg.distort.ImageDistort} for the specified image type, transformation
 	 * and interpolation instance.
+	 * If not cached and {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link ImageDistortTiled_MT} is returned.
 	 *
 	 * @param cached If true the distortion is only computed one.  False for recomputed each time, but less memory.
 	 * @param interp Which interpolation algorithm should be used.
@@ -86,6 +90,8 @@ public class FactoryDistort {
 	/**
 	 * Creates a {@link boofcv.alg.distort.ImageDistort} for the specified image type, transformation
 	 * and interpolation instance.
+	 * If not cached and {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link ImageDistortTiled_MT} is returned.
 	 *
 	 * @param cached If true the distortion is only computed one.  False for recomputed each time, but less memory.
 	 * @param interp Which interpolation algorithm should be used.
@@ -93,6 +99,14 @@ public class FactoryDistort {
 	 */
 	public static <Input extends ImageGray<Input>, Output extends ImageGray<Output>>
 	ImageDistort<Input, Output> distortSB(boolean cached, InterpolatePixelS<Input> interp, Class<Output> outputType)
+	{
+		if( !cached && BoofConcurrency.USE_CONCURRENT )
+			return new ImageDistortTiled_MT<>(interp, i -> createSB(false, (InterpolatePixelS<Input>)i, outputType));
+		return createSB(cached, interp, outputType);
+	}
+
+	private static <Input extends ImageGray<Input>, Output extends ImageGray<Output>>
+	ImageDistort<Input, Output> createSB(boolean cached, InterpolatePixelS<Input> interp, Class<Output> outputType)
 	{
 		if( cached ) {
 			if( outputType == GrayF32.class ) {
@@ -124,6 +138,8 @@ public class FactoryDistort {
 	/**
 	 * Creates a {@link boofcv.alg.distort.ImageDistort} for the planar images, transformation
 	 * and interpolation instance.
+	 * If not cached and {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link ImageDistortTiled_MT} is returned.
 	 *
 	 * @param cached If true the distortion is only computed one.  False for recomputed each time, but less memory.
 	 * @param interp Which interpolation algorithm should be used.
@@ -133,13 +149,25 @@ public class FactoryDistort {
 	ImageDistort<Planar<Input>,Planar<Output>>
 	distortPL(boolean cached , InterpolatePixelS<Input> interp, Class<Output> outputType)
 	{
-		ImageDistort<Input, Output> distortSingle = distortSB(cached, interp, outputType);
+		if( !cached && BoofConcurrency.USE_CONCURRENT )
+			return new ImageDistortTiled_MT<>(interp,
+					i -> new ImplImageDistort_PL<>(createSB(false, (InterpolatePixelS<Input>)i, outputType)));
+		ImageDistort<Input, Output> distortSingle = createSB(cached, interp, outputType);
 		return new ImplImageDistort_PL<>(distortSingle);
 	}
 
 	public static <Input extends ImageInterleaved<Input>, Output extends ImageInterleaved<Output>>
 	ImageDistort<Input, Output>
 	distortIL(boolean cached, InterpolatePixelMB<Input> interp, ImageType<Output> outputType)
+	{
+		if( !cached && BoofConcurrency.USE_CONCURRENT )
+			return new ImageDistortTiled_MT<>(interp, i -> createIL(false, (InterpolatePixelMB<Input>)i, outputType));
+		return createIL(cached, interp, outputType);
+	}
+
+	private static <Input extends ImageInterleaved<Input>, Output extends ImageInterleaved<Output>>
+	ImageDistort<Input, Output>
+	createIL(boolean cached, InterpolatePixelMB<Input> interp, ImageType<Output> outputType)
 	{
 		if( cached ) {
 			throw new IllegalArgumentException("Cached not supported yet");
@@ -157,6 +185,34 @@ public class FactoryDistort {
 		}
 	}
 
+	/**
+	 * Creates a {@link boofcv.alg.distort.ImageDistortRemap} for 8-bit images. The distortion is saved in a
+	 * compact fixed point look up table and interpolated using integer math. Much faster than the cached
+	 * floating point distortion when the same distortion is applied to many images, e.g. removing lens distortion.
+	 *
+	 * @param interpolationType BILINEAR or NEAREST_NEIGHBOR
+	 * @param borderType EXTENDED or ZERO
+	 * @param imageType Type of input and output image. Gray, planar, or interleaved U8
+	 * @return ImageDistort
+	 */
+	public static <T extends ImageBase<T>>
+	ImageDistort<T,T> distortRemapU8(InterpolationType interpolationType, BorderType borderType,
+									 ImageType<T> imageType) {
+		if( imageType.getDataType() != ImageDataType.U8 )
+			throw new IllegalArgumentException("Only U8 images are supported");
+
+		switch( imageType.getFamily() ) {
+			case GRAY:
+				return (ImageDistort)new ImplImageDistortRemap_U8(interpolationType,borderType);
+			case PLANAR:
+				return (ImageDistort)new ImplImageDistort_PL<>(new ImplImageDistortRemap_U8(interpolationType,borderType));
+			case INTERLEAVED:
+				return (ImageDistort)new ImplImageDistortRemap_IL_U8(interpolationType,borderType);
+			default:
+				throw new IllegalArgumentException("Unknown image family "+imageType.getFamily());
+		}
+	}
+
 	public static PointDeformKeyPoints deformMls(ConfigDeformPointMLS config ) {
 		if( config == null )
 			config = new ConfigDeformPointMLS();
@@ -111,7 +111,7 @@ public class ConfigThreshold implements Configuration {
 		ConfigThreshold config;
 		if( type == ThresholdType.BLOCK_MIN_MAX) {
 			config = new ConfigThresholdBlockMinMax(width, 10, true);
-		} else if( type == ThresholdType.BLOCK_OTSU) {
+		} else if( type == ThresholdType.BLOCK_OTSU || type == ThresholdType.LOCAL_OTSU ) {
 			config = new ConfigThresholdLocalOtsu();
 		} else {
 			config = new ConfigThreshold();
@@ -269,4 +269,60 @@ public class FactoryThresholdBinary {
 		}
 		throw new IllegalArgumentException("Unknown type "+config.type);
 	}
+
+	/**
+	 * Creates a threshold which processes the image as a stream of rows using a config class. Only the block
+	 * based and local Otsu thresholds are supported since the others need statistics from the whole image.
+	 *
+	 * @see ThresholdBlockStream
+	 * @see ThresholdLocalOtsuStream
+	 *
+	 * @param config Configuration
+	 * @param inputType Type of input image
+	 * @return The streaming thresholder
+	 */
+	public static <T extends ImageGray<T>>
+	InputToBinaryStream<T> thresholdStream( ConfigThreshold config, Class<T> inputType) {
+		boolean integer = inputType == GrayU8.class;
+
+		switch( config.type ) {
+			case LOCAL_OTSU: {
+				if( !integer )
+					break;
+				ConfigThresholdLocalOtsu c = (ConfigThresholdLocalOtsu) config;
+				return (InputToBinaryStream<T>)new ThresholdLocalOtsuStream(
+						new ThresholdLocalOtsu(c.useOtsu2,c.width,c.tuning,c.scale,c.down));
+			}
+
+			case BLOCK_MIN_MAX: {
+				ConfigThresholdBlockMinMax c = (ConfigThresholdBlockMinMax) config;
+				if( integer )
+					return (InputToBinaryStream<T>)new ThresholdBlockStream<>(new ThresholdBlockMinMax_U8(
+							c.minimumSpread,c.width,c.scale,c.down,c.thresholdFromLocalBlocks));
+				else
+					return (InputToBinaryStream<T>)new ThresholdBlockStream<>(new ThresholdBlockMinMax_F32(
+							(float)c.minimumSpread,c.width,(float)c.scale,c.down,c.thresholdFromLocalBlocks));
+			}
+
+			case BLOCK_MEAN:
+				if( integer )
+					return (InputToBinaryStream<T>)new ThresholdBlockStream<>(new ThresholdBlockMean_U8(
+							config.width,config.scale,config.down,config.thresholdFromLocalBlocks));
+				else
+					return (InputToBinaryStream<T>)new ThresholdBlockStream<>(new ThresholdBlockMean_F32(
+							config.width,config.scale,config.down,config.thresholdFromLocalBlocks));
+
+			case BLOCK_OTSU: {
+				if( !integer )
+					break;
+				ConfigThresholdLocalOtsu c = (ConfigThresholdLocalOtsu) config;
+				return (InputToBinaryStream<T>)new ThresholdBlockStream<>(new ThresholdBlockOtsu(
+						c.useOtsu2,c.width,c.tuning,c.scale,c.down,c.thresholdFromLocalBlocks));
+			}
+
+			default:
+				throw new IllegalArgumentException("Streaming isn't supported by "+config.type);
+		}
+		throw new IllegalArgumentException("Streaming "+config.type+" only supports GrayU8");
+	}
 }
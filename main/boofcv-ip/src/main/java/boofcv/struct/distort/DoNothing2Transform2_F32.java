@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -31,4 +31,14 @@ public class DoNothing2Transform2_F32 implements Point2Transform2_F32 {
 		out.x = x;
 		out.y = y;
 	}
+
+	@Override
+	public boolean isCopyable() {
+		return true;
+	}
+
+	@Override
+	public DoNothing2Transform2_F32 copy() {
+		return new DoNothing2Transform2_F32();
+	}
 }
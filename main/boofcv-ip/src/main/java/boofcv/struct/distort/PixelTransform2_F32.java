@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -37,4 +37,41 @@ public abstract class PixelTransform2_F32 implements PixelTransform {
 	public float getDistY() {
 		return distY;
 	}
+
+	/**
+	 * Computes the distortion for a row of pixels, from (x0,y) to (x0+length-1,y), and writes the results
+	 * into 'output' as interleaved (x,y) pairs. The default implementation calls {@link #compute(int, int)}
+	 * for each pixel. Transforms which can be computed more efficiently a row at a time override this
+	 * function. The value of distX and distY is undefined afterwards.
+	 *
+	 * @param x0 x-coordinate of the first pixel
+	 * @param y y-coordinate of the row
+	 * @param length Number of pixels in the row
+	 * @param output (Output) Distorted coordinates. Must have at least 2*length elements.
+	 */
+	public void computeRow( int x0 , int y , int length , float[] output ) {
+		for (int i = 0, index = 0; i < length; i++) {
+			compute(x0+i,y);
+			output[index++] = distX;
+			output[index++] = distY;
+		}
+	}
+
+	/**
+	 * Returns true if {@link #copy()} is supported by this transform.
+	 */
+	public boolean isCopyable() {
+		return false;
+	}
+
+	/**
+	 * Creates a copy of this transform which can be used at the same time as the original, e.g. in a different
+	 * thread. Changes to the original after the copy is made are not reflected in the copy.
+	 *
+	 * @return A copy of this transform
+	 * @throws UnsupportedOperationException If {@link #isCopyable()} returns false
+	 */
+	public PixelTransform2_F32 copy() {
+		throw new UnsupportedOperationException("copy() not supported by "+getClass().getSimpleName());
+	}
 }
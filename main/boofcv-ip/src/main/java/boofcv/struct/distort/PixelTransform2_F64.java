@@ -37,4 +37,23 @@ public abstract class PixelTransform2_F64 implements PixelTransform {
 	public double getDistY() {
 		return distY;
 	}
+
+	/**
+	 * Computes the distortion for a row of pixels, from (x0,y) to (x0+length-1,y), and writes the results
+	 * into 'output' as interleaved (x,y) pairs. The default implementation calls {@link #compute(int, int)}
+	 * for each pixel. Transforms which can be computed more efficiently a row at a time override this
+	 * function. The value of distX and distY is undefined afterwards.
+	 *
+	 * @param x0 x-coordinate of the first pixel
+	 * @param y y-coordinate of the row
+	 * @param length Number of pixels in the row
+	 * @param output (Output) Distorted coordinates. Must have at least 2*length elements.
+	 */
+	public void computeRow( int x0 , int y , int length , double[] output ) {
+		for (int i = 0, index = 0; i < length; i++) {
+			compute(x0+i,y);
+			output[index++] = distX;
+			output[index++] = distY;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -35,4 +35,40 @@ public interface Point2Transform2_F32 {
 	 * @param out Transformed point location.
 	 */
 	void compute( float x, float y, Point2D_F32 out);
+
+	/**
+	 * Applies the transformation to an array of points stored as interleaved (x,y) pairs. The input and output
+	 * can be the same array. The default implementation calls {@link #compute(float, float, Point2D_F32)}
+	 * for each point. Transforms which can be computed more efficiently in bulk override this function.
+	 *
+	 * @param input Points which are to be transformed
+	 * @param output (Output) Transformed points. Can be the same as input.
+	 * @param length Number of points
+	 */
+	default void compute( float[] input , float[] output , int length ) {
+		Point2D_F32 p = new Point2D_F32();
+		for (int i = 0; i < length*2; i += 2) {
+			compute(input[i], input[i+1], p);
+			output[i  ] = p.x;
+			output[i+1] = p.y;
+		}
+	}
+
+	/**
+	 * Returns true if {@link #copy()} is supported by this transform.
+	 */
+	default boolean isCopyable() {
+		return false;
+	}
+
+	/**
+	 * Creates a copy of this transform which can be used at the same time as the original, e.g. in a different
+	 * thread. Changes to the original after the copy is made are not reflected in the copy.
+	 *
+	 * @return A copy of this transform
+	 * @throws UnsupportedOperationException If {@link #isCopyable()} returns false
+	 */
+	default Point2Transform2_F32 copy() {
+		throw new UnsupportedOperationException("copy() not supported by "+getClass().getSimpleName());
+	}
 }
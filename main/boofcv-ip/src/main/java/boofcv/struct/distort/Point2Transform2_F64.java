@@ -27,6 +27,24 @@ import georegression.struct.point.Point2D_F64;
  */
 public interface Point2Transform2_F64 {
 
+	/**
+	 * Applies the transformation to an array of points stored as interleaved (x,y) pairs. The input and output
+	 * can be the same array. The default implementation calls {@link #compute(double, double, Point2D_F64)}
+	 * for each point. Transforms which can be computed more efficiently in bulk override this function.
+	 *
+	 * @param input Points which are to be transformed
+	 * @param output (Output) Transformed points. Can be the same as input.
+	 * @param length Number of points
+	 */
+	default void compute( double[] input , double[] output , int length ) {
+		Point2D_F64 p = new Point2D_F64();
+		for (int i = 0; i < length*2; i += 2) {
+			compute(input[i], input[i+1], p);
+			output[i  ] = p.x;
+			output[i+1] = p.y;
+		}
+	}
+
 	/**
 	 * Applies transformation
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -36,4 +36,22 @@ public interface Point3Transform2_F32 {
 	 * @param out Transformed point location.
 	 */
 	void compute(float x, float y, float z, Point2D_F32 out);
+
+	/**
+	 * Returns true if {@link #copy()} is supported by this transform.
+	 */
+	default boolean isCopyable() {
+		return false;
+	}
+
+	/**
+	 * Creates a copy of this transform which can be used at the same time as the original, e.g. in a different
+	 * thread. Changes to the original after the copy is made are not reflected in the copy.
+	 *
+	 * @return A copy of this transform
+	 * @throws UnsupportedOperationException If {@link #isCopyable()} returns false
+	 */
+	default Point3Transform2_F32 copy() {
+		throw new UnsupportedOperationException("copy() not supported by "+getClass().getSimpleName());
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -44,4 +44,30 @@ public class SequencePoint2Transform2_F32 implements Point2Transform2_F32 {
 			sequence[i].compute(out.x,out.y,out);
 		}
 	}
+
+	@Override
+	public void compute(float[] input, float[] output, int length) {
+		sequence[0].compute(input,output,length);
+		for( int i = 1; i < sequence.length; i++ ) {
+			sequence[i].compute(output,output,length);
+		}
+	}
+
+	@Override
+	public boolean isCopyable() {
+		for (int i = 0; i < sequence.length; i++) {
+			if( !sequence[i].isCopyable() )
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public SequencePoint2Transform2_F32 copy() {
+		Point2Transform2_F32[] s = new Point2Transform2_F32[sequence.length];
+		for (int i = 0; i < s.length; i++) {
+			s[i] = sequence[i].copy();
+		}
+		return new SequencePoint2Transform2_F32(s);
+	}
 }
@@ -37,6 +37,14 @@ public class SequencePoint2Transform2_F64 implements Point2Transform2_F64 {
 		this.sequence = sequence;
 	}
 
+	@Override
+	public void compute(double[] input, double[] output, int length) {
+		sequence[0].compute(input,output,length);
+		for( int i = 1; i < sequence.length; i++ ) {
+			sequence[i].compute(output,output,length);
+		}
+	}
+
 	@Override
 	public void compute( double x, double y, Point2D_F64 out) {
 		sequence[0].compute(x,y,out);
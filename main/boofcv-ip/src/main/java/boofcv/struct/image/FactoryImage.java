@@ -45,4 +45,16 @@ public class FactoryImage {
 			throw new IllegalArgumentException("Unknown image type: "+type);
 		}
 	}
+
+	/**
+	 * Creates a new image or recycles one from the pool.
+	 *
+	 * @param pool (Optional) Pool which the image is taken from.  If null a new image is created.
+	 */
+	public static <T extends ImageGray<T>> T create(Class<T> type , int width , int height , ImagePool pool )
+	{
+		if( pool == null )
+			return create(type,width,height);
+		return pool.acquireGray(type,width,height);
+	}
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Recycles images so that a new array doesn't need to be declared each time an image is needed.  Images are
+ * requested with {@link #acquire} and given back with {@link #release} once they are no longer being used.  Only an
+ * image which exactly matches the requested type, number of bands, width and height is reused, otherwise a new
+ * image is created.
+ * </p>
+ *
+ * <p>
+ * Memory used by released images is bounded by {@link #getMaxBytes()}.  When this limit is exceeded the images which
+ * have gone unused for the longest period of time are discarded.  Images which have been acquired and not released
+ * are not counted.
+ * </p>
+ *
+ * <p>
+ * All functions are thread safe.  Contents of recycled images are not modified and will contain old data.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ImagePool {
+
+	// maximum number of bytes that released images can take up
+	private long maxBytes;
+	// number of bytes currently used by released images
+	private long storedBytes;
+	// number of released images
+	private int storedImages;
+
+	// released images grouped by their shape.  Uses access order so that the first group is the least recently used
+	// Inside each group images are ordered from the least to most recently released
+	private final Map<Key,ArrayDeque<ImageBase>> available = new LinkedHashMap<>(16,0.75f,true);
+
+	/**
+	 * Creates a new pool
+	 *
+	 * @param maxBytes The maximum number of bytes released images can use
+	 */
+	public ImagePool( long maxBytes ) {
+		setMaxBytes(maxBytes);
+	}
+
+	/**
+	 * Returns an image with the specified type and shape.  If a released image matches it will be returned,
+	 * otherwise a new image is created.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return An image which the caller is now the owner of
+	 */
+	public synchronized <T extends ImageBase> T acquire( ImageType<T> type , int width , int height ) {
+		ArrayDeque<ImageBase> list = available.get(new Key(type, width, height));
+		if( list == null || list.isEmpty() )
+			return type.createImage(width, height);
+
+		T image = (T)list.removeLast();
+		storedBytes -= computeBytes(image);
+		storedImages--;
+		return image;
+	}
+
+	/**
+	 * Convenience function for acquiring a single band image.  See {@link #acquire(ImageType, int, int)}.
+	 */
+	public <T extends ImageGray<T>> T acquireGray( Class<T> type , int width , int height ) {
+		return acquire(ImageType.single(type), width, height);
+	}
+
+	/**
+	 * Gives an image back to the pool so that it can be reused.  After this function has been called the image
+	 * must not be used by the caller.  Sub-images are ignored since they don't own their data.
+	 *
+	 * @param image The image which is to be recycled.  If null nothing happens.
+	 */
+	public synchronized void release( ImageBase image ) {
+		if( image == null || image.isSubimage() )
+			return;
+
+		long bytes = computeBytes(image);
+		if( bytes > maxBytes )
+			return;
+
+		Key key = new Key(image.getImageType(), image.width, image.height);
+		ArrayDeque<ImageBase> list = available.get(key);
+		if( list == null ) {
+			list = new ArrayDeque<>();
+			available.put(key, list);
+		} else {
+			for( ImageBase a : list ) {
+				if( a == image )
+					throw new IllegalArgumentException("Image has already been released");
+			}
+		}
+		list.addLast(image);
+		storedBytes += bytes;
+		storedImages++;
+
+		evict();
+	}
+
+	/**
+	 * Releases each of the images.  See {@link #release(ImageBase)}.
+	 */
+	public void release( ImageBase ...images ) {
+		for( ImageBase image : images ) {
+			release(image);
+		}
+	}
+
+	/**
+	 * Discards all released images
+	 */
+	public synchronized void clear() {
+		available.clear();
+		storedBytes = 0;
+		storedImages = 0;
+	}
+
+	/**
+	 * Discards the least recently used images until the memory limit is no longer exceeded
+	 */
+	private void evict() {
+		Iterator<ArrayDeque<ImageBase>> iter = available.values().iterator();
+		while( storedBytes > maxBytes && iter.hasNext() ) {
+			ArrayDeque<ImageBase> list = iter.next();
+			while( storedBytes > maxBytes && !list.isEmpty() ) {
+				storedBytes -= computeBytes(list.removeFirst());
+				storedImages--;
+			}
+			if( list.isEmpty() )
+				iter.remove();
+		}
+	}
+
+	/**
+	 * Number of bytes used to store the pixels in the image.  This is found from the length of the backing
+	 * array, which can be larger than the image after it has been reshaped.
+	 */
+	static long computeBytes( ImageBase image ) {
+		int numBits = image.getImageType().getDataType().getNumBits();
+		if( image instanceof ImageGray ) {
+			return arrayBytes(((ImageGray)image)._getData(), numBits);
+		} else if( image instanceof ImageInterleaved ) {
+			return arrayBytes(((ImageInterleaved)image)._getData(), numBits);
+		} else if( image instanceof Planar ) {
+			Planar planar = (Planar)image;
+			long total = 0;
+			for( int i = 0; i < planar.getNumBands(); i++ ) {
+				total += arrayBytes(planar.getBand(i)._getData(), numBits);
+			}
+			return total;
+		} else {
+			throw new IllegalArgumentException("Unknown image type "+image.getClass().getSimpleName());
+		}
+	}
+
+	private static long arrayBytes( Object data , int numBits ) {
+		return (long)Array.getLength(data)*numBits/8;
+	}
+
+	/**
+	 * Changes the maximum number of bytes released images can use.  If the new limit is smaller images will be
+	 * discarded.
+	 */
+	public synchronized void setMaxBytes( long maxBytes ) {
+		if( maxBytes < 0 )
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		this.maxBytes = maxBytes;
+		evict();
+	}
+
+	public synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Number of bytes used by released images
+	 */
+	public synchronized long getStoredBytes() {
+		return storedBytes;
+	}
+
+	/**
+	 * Number of released images which can be reused
+	 */
+	public synchronized int getStoredImages() {
+		return storedImages;
+	}
+
+	/**
+	 * Used to look up images with the same type and shape
+	 */
+	private static class Key {
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands;
+		int width, height;
+
+		Key( ImageType type , int width , int height ) {
+			this.family = type.getFamily();
+			this.dataType = type.getDataType();
+			this.numBands = type.getNumBands();
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public boolean equals( Object o ) {
+			if( !(o instanceof Key) )
+				return false;
+			Key k = (Key)o;
+			return family == k.family && dataType == k.dataType && numBands == k.numBands &&
+					width == k.width && height == k.height;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = family.hashCode();
+			result = 31*result + dataType.hashCode();
+			result = 31*result + numBands;
+			result = 31*result + width;
+			result = 31*result + height;
+			return result;
+		}
+	}
+}
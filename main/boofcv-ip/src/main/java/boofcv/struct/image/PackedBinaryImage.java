@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * <p>
+ * Binary image where each pixel is stored as a single bit.  64 pixels are packed into each long, which reduces
+ * memory by a factor of 8 compared to {@link GrayU8} and lets logical and morphological operations process
+ * 64 pixels at once.  Values are 0 or 1, just like the binary {@link GrayU8} images used elsewhere.
+ * </p>
+ *
+ * <p>
+ * Each row starts on a new word.  Pixel (x,y) is bit (x % 64) of word y*stride + x/64, where bit 0 is the least
+ * significant bit.  Bits past the image width in the last word of a row must always be zero.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PackedBinaryImage {
+	/**
+	 * Number of columns in the image.
+	 */
+	public int width;
+	/**
+	 * Number of rows in the image.
+	 */
+	public int height;
+	/**
+	 * Number of words in each row
+	 */
+	public int stride;
+
+	/**
+	 * Packed pixel data
+	 */
+	public long data[] = new long[0];
+
+	/**
+	 * Creates a new image.  All pixels are initially zero.
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 */
+	public PackedBinaryImage(int width, int height) {
+		reshape(width, height);
+	}
+
+	public PackedBinaryImage() {
+	}
+
+	/**
+	 * Changes the image's shape.  The internal array is only declared if it is too small.  Pixel values are not
+	 * preserved.
+	 *
+	 * @param width  number of columns in the image.
+	 * @param height number of rows in the image.
+	 */
+	public void reshape(int width, int height) {
+		if( width < 0 || height < 0 )
+			throw new IllegalArgumentException("Width and height must be non-negative");
+		this.width = width;
+		this.height = height;
+		this.stride = wordsPerRow(width);
+
+		if( data.length < stride*height ) {
+			data = new long[stride*height];
+		} else if( stride > 0 ) {
+			// the padding bits must be zero
+			for (int y = 0; y < height; y++) {
+				data[y*stride + stride - 1] &= lastWordMask(width);
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the specified pixel, 0 or 1.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel value
+	 */
+	public int get(int x, int y) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: ( " + x + " , " + y + " )");
+
+		return unsafe_get(x, y);
+	}
+
+	public int unsafe_get(int x, int y) {
+		return (int)(data[y*stride + (x >> 6)] >>> (x & 0x3F)) & 1;
+	}
+
+	/**
+	 * Sets the value of the specified pixel.  Any non-zero value is treated as 1.
+	 *
+	 * @param x     pixel coordinate.
+	 * @param y     pixel coordinate.
+	 * @param value The pixel's new value.
+	 */
+	public void set(int x, int y, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: ( " + x + " , " + y + " )");
+
+		unsafe_set(x, y, value);
+	}
+
+	public void unsafe_set(int x, int y, int value) {
+		int index = y*stride + (x >> 6);
+		long bit = 1L << (x & 0x3F);
+		if( value != 0 )
+			data[index] |= bit;
+		else
+			data[index] &= ~bit;
+	}
+
+	public boolean isInBounds(int x, int y) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * Makes this image identical to the input image, changing its shape if needed.
+	 *
+	 * @param orig The original image whose value is to be copied into this one
+	 */
+	public void setTo(PackedBinaryImage orig) {
+		reshape(orig.width, orig.height);
+		System.arraycopy(orig.data, 0, data, 0, stride*height);
+	}
+
+	/**
+	 * Sets every pixel to the specified value.
+	 *
+	 * @param value 0 or 1
+	 */
+	public void fill(int value) {
+		if( value == 0 || stride == 0 ) {
+			for (int i = 0; i < stride*height; i++) {
+				data[i] = 0;
+			}
+		} else {
+			long last = lastWordMask(width);
+			for (int y = 0; y < height; y++) {
+				int index = y*stride;
+				int end = index + stride - 1;
+				while( index < end )
+					data[index++] = -1L;
+				data[end] = last;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of pixels with a value of 1.
+	 */
+	public int countOnes() {
+		int total = 0;
+		for (int i = 0; i < stride*height; i++) {
+			total += Long.bitCount(data[i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Number of words needed to store a row of the specified width
+	 */
+	public static int wordsPerRow(int width) {
+		return (width + 63) >> 6;
+	}
+
+	/**
+	 * Mask which selects the bits inside the image for the last word in a row
+	 */
+	public static long lastWordMask(int width) {
+		int remainder = width & 0x3F;
+		return remainder == 0 ? -1L : (1L << remainder) - 1;
+	}
+
+	public PackedBinaryImage createSameShape() {
+		return new PackedBinaryImage(width, height);
+	}
+}
@@ -19,6 +19,7 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
 /**
@@ -34,6 +35,11 @@ import boofcv.struct.image.ImageType;
  * to true.
  * </p>
  *
+ * <p>
+ * If an {@link ImagePool} has been specified then layers are taken from the pool and returned to it when the
+ * input image changes shape.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
@@ -52,6 +58,9 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 	ImageType<T> imageType;
 
+	// (Optional) source of images for each layer
+	protected ImagePool pool;
+
 	/**
 	 * Specifies input image size and behavior of top most layer.
 	 *
@@ -75,6 +84,8 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 		if( bottomWidth == width && bottomHeight == height )
 			return;
 
+		releaseLayers();
+
 		this.bottomWidth = width;
 		this.bottomHeight = height;
 		layers = imageType.createArray(getNumLayers());
@@ -82,18 +93,42 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 
 		if (scaleFactor == 1) {
 			if (!saveOriginalReference) {
-				layers[0] = imageType.createImage(bottomWidth, bottomHeight);
+				layers[0] = createLayer(bottomWidth, bottomHeight);
 			}
 		} else {
-			layers[0] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[0] = createLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 
 		for (int i = 1; i < layers.length; i++) {
 			scaleFactor = getScale(i);
-			layers[i] = imageType.createImage((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
+			layers[i] = createLayer((int)Math.ceil(bottomWidth / scaleFactor), (int)Math.ceil(bottomHeight / scaleFactor));
 		}
 	}
 
+	private T createLayer( int width , int height ) {
+		if( pool == null )
+			return imageType.createImage(width, height);
+		else
+			return pool.acquire(imageType, width, height);
+	}
+
+	/**
+	 * Gives the layers back to the image pool.  The pyramid will need to be initialized again before it can
+	 * be used.  If there is no pool then nothing happens.
+	 */
+	public void releaseLayers() {
+		if( pool == null || layers == null )
+			return;
+
+		// the first layer might be the input image, which is owned by someone else
+		int start = getScale(0) == 1 && saveOriginalReference ? 1 : 0;
+		for (int i = start; i < layers.length; i++) {
+			pool.release(layers[i]);
+		}
+		layers = null;
+		bottomWidth = bottomHeight = 0;
+	}
+
 	/**
 	 * Used to internally check that the provided scales are valid.
 	 */
@@ -159,4 +194,17 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 	public boolean isSaveOriginalReference() {
 		return saveOriginalReference;
 	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
+	/**
+	 * Specifies the pool that layers are taken from.  Changes take effect the next time the pyramid's shape changes.
+	 *
+	 * @param pool (Optional) image pool. If null new images are declared.
+	 */
+	public void setImagePool(ImagePool pool) {
+		this.pool = pool;
+	}
 }
@@ -19,9 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -36,6 +39,16 @@ public class TestColorLab {
 
 	Random rand = new Random(234);
 
+	@Test
+	public void cubeRoot() {
+		for (int i = 0; i < 1000; i++) {
+			float x = (float)Math.pow(10, rand.nextDouble()*8-4);
+			float expected = (float)Math.cbrt(x);
+			assertEquals(expected, ColorLab.cubeRoot(x), expected*1e-6f);
+		}
+		assertEquals(2f, ColorLab.cubeRoot(8f), 1e-6f);
+	}
+
 	@Test
 	public void rgbToLab_U8() {
 		Planar<GrayU8> input = new Planar<>(GrayU8.class,20,25,3);
@@ -98,4 +111,23 @@ public class TestColorLab {
 		}
 	}
 
+	/**
+	 * Compare against converting the interleaved image into a planar image first
+	 */
+	@Test
+	public void rgbToLab_InterleavedU8() {
+		InterleavedU8 rgb = new InterleavedU8(10,15,3);
+		GImageMiscOps.fillUniform(rgb, rand, 1, 256);
+
+		Planar<GrayU8> planar = new Planar<>(GrayU8.class,10,15,3);
+		ConvertImage.convert(rgb, planar);
+
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,10,15,3);
+		Planar<GrayF32> found = new Planar<>(GrayF32.class,10,15,3);
+		ColorLab.rgbToLab_U8(planar, expected);
+
+		ColorLab.rgbToLab(rgb, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
 }
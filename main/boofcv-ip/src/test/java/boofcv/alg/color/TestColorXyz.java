@@ -19,9 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -187,4 +190,23 @@ public class TestColorXyz {
 		}
 	}
 
+	/**
+	 * Compare against converting the interleaved image into a planar image first
+	 */
+	@Test
+	public void rgbToXyz_InterleavedU8() {
+		InterleavedU8 rgb = new InterleavedU8(10,15,3);
+		GImageMiscOps.fillUniform(rgb, rand, 1, 256);
+
+		Planar<GrayU8> planar = new Planar<>(GrayU8.class,10,15,3);
+		ConvertImage.convert(rgb, planar);
+
+		Planar<GrayF32> expected = new Planar<>(GrayF32.class,10,15,3);
+		Planar<GrayF32> found = new Planar<>(GrayF32.class,10,15,3);
+		ColorXyz.rgbToXyz_U8(planar, expected);
+
+		ColorXyz.rgbToXyz(rgb, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
 }
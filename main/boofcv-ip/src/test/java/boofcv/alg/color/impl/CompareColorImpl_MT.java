@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Random;
+
+/**
+ * Compares a concurrent color conversion class against its single threaded version.  The band type of a
+ * {@link Planar} image is found from the method's generic parameters.
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareColorImpl_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 65;
+	int height = 80;
+
+	protected CompareColorImpl_MT(Class<?> testClass, Class<?> validationClass) {
+		super(testClass, validationClass);
+	}
+
+	@Override
+	protected boolean isTestMethod(Method m) {
+		Class<?> params[] = m.getParameterTypes();
+		if( params.length != 2 )
+			return false;
+		return ImageBase.class.isAssignableFrom(params[0]) && ImageBase.class.isAssignableFrom(params[1]);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Type[] params = candidate.getGenericParameterTypes();
+
+		ImageBase input = create(params[0]);
+		ImageBase output = create(params[1]);
+
+		if( input.getImageType().getDataType().isInteger() )
+			GImageMiscOps.fillUniform(input, rand, 0, 256);
+		else
+			GImageMiscOps.fillUniform(input, rand, 0, 1);
+
+		return new Object[][]{{input,output}};
+	}
+
+	private ImageBase create( Type type ) {
+		if( type instanceof ParameterizedType ) {
+			Class bandType = (Class)((ParameterizedType)type).getActualTypeArguments()[0];
+			return new Planar(bandType,width,height,3);
+		}
+		Class c = (Class)type;
+		if( ImageGray.class.isAssignableFrom(c))
+			return GeneralizedImageOps.createSingleBand(c, width, height);
+		else
+			return GeneralizedImageOps.createInterleaved(c, width, height, 3);
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
+		BoofTesting.assertEquals((ImageBase)validationParam[1], (ImageBase)targetParam[1], 0);
+	}
+}
@@ -19,12 +19,18 @@
 package boofcv.alg.denoise.impl;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.GenericDenoiseTests;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.transform.wavelet.FactoryWaveletTransform;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.wavelet.WaveletDescription;
 import boofcv.testing.BoofTesting;
 
+import java.util.Random;
+import java.util.function.Supplier;
+
 
 /**
  * Handles the forward and inverse wavelet transform
@@ -61,4 +67,25 @@ public abstract class GenericWaveletDenoiseTests<T extends ImageGray<T>> extends
 
 		transform.invert(transformedImg,imageDenoised);
 	}
+
+	/**
+	 * Internal buffers are reused between calls. Make sure that processing images of different sizes with the
+	 * same instance produces the same results as a new instance.
+	 */
+	public void checkMultipleCalls( Supplier<DenoiseWavelet> factory ) {
+		Random rand = new Random(234);
+		DenoiseWavelet alg = factory.get();
+		int numLevels = transform.getLevels();
+
+		for( int size : new int[]{48,24,48} ) {
+			ImageGray found = GeneralizedImageOps.createSingleBand(transform.getOriginalType(),size,size+8);
+			GImageMiscOps.fillUniform(found,rand,-20,20);
+			ImageGray expected = (ImageGray)found.clone();
+
+			factory.get().denoise(expected,numLevels);
+			alg.denoise(found,numLevels);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -40,6 +40,11 @@ public class TestDenoiseBayesShrink_F32 extends GenericWaveletDenoiseTests<GrayF
 		performTest();
 	}
 
+	@Test
+	public void multipleCalls() {
+		checkMultipleCalls(() -> new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32()));
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseBayesShrink_F32 alg = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
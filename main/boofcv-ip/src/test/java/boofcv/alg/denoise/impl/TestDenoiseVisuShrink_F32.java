@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -39,6 +39,11 @@ public class TestDenoiseVisuShrink_F32 extends GenericWaveletDenoiseTests<GrayF3
 		performTest();
 	}
 
+	@Test
+	public void multipleCalls() {
+		checkMultipleCalls(() -> new DenoiseVisuShrink_F32());
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseVisuShrink_F32 alg = new DenoiseVisuShrink_F32();
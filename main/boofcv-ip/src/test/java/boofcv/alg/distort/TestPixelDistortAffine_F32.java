@@ -45,4 +45,22 @@ public class TestPixelDistortAffine_F32 {
 		assertEquals(expected.x,alg.distX,1e-4);
 		assertEquals(expected.y,alg.distY,1e-4);
 	}
+
+	/**
+	 * Results should be identical to computing one pixel at a time
+	 */
+	@Test
+	public void computeRow() {
+		PixelTransformAffine_F32 alg = new PixelTransformAffine_F32();
+		alg.set(new Affine2D_F32(1.1f,0.05f,-0.02f,0.9f,3,-2));
+
+		float[] found = new float[2*20];
+		alg.computeRow(3, 7, 20, found);
+
+		for (int i = 0; i < 20; i++) {
+			alg.compute(3+i, 7);
+			assertEquals(alg.distX, found[i*2], 0);
+			assertEquals(alg.distY, found[i*2+1], 0);
+		}
+	}
 }
@@ -48,4 +48,23 @@ public class TestPixelTransformCached_F32 {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Computing a row at once should produce the same results as one pixel at a time
+	 */
+	@Test
+	public void computeRow() {
+		PixelTransformAffine_F32 affine = new PixelTransformAffine_F32();
+		affine.set(new Affine2D_F32(1.1f,0.05f,-0.02f,0.9f,3,-2));
+		PixelTransformCached_F32 alg = new PixelTransformCached_F32(width,height,affine);
+
+		float[] found = new float[2*20];
+		alg.computeRow(3, 7, 20, found);
+
+		for (int i = 0; i < 20; i++) {
+			alg.compute(3+i, 7);
+			assertEquals(alg.distX, found[i*2], 0);
+			assertEquals(alg.distY, found[i*2+1], 0);
+		}
+	}
+}
@@ -64,4 +64,22 @@ public class TestPixelTransformHomography_F32 {
 		assertEquals(expected.x,alg.distX,1e-4);
 		assertEquals(expected.y,alg.distY,1e-4);
 	}
+
+	/**
+	 * Computing a row at once should produce the same results as one pixel at a time
+	 */
+	@Test
+	public void computeRow() {
+		PixelTransformHomography_F32 alg = new PixelTransformHomography_F32();
+		alg.set(new Homography2D_F32(1.1f,0.05f,3,-0.02f,0.9f,-2,0.001f,0.002f,1));
+
+		float[] found = new float[2*20];
+		alg.computeRow(3, 7, 20, found);
+
+		for (int i = 0; i < 20; i++) {
+			alg.compute(3+i, 7);
+			assertEquals(alg.distX, found[i*2], 1e-4);
+			assertEquals(alg.distY, found[i*2+1], 1e-4);
+		}
+	}
 }
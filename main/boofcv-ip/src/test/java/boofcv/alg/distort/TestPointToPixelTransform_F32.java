@@ -19,6 +19,7 @@
 package boofcv.alg.distort;
 
 import boofcv.struct.distort.Point2Transform2_F32;
+import georegression.struct.homography.Homography2D_F32;
 import georegression.struct.point.Point2D_F32;
 import org.junit.Test;
 
@@ -50,4 +51,22 @@ public class TestPointToPixelTransform_F32 {
 			out.y = y + 0.2f;
 		}
 	}
+
+	/**
+	 * Computing a row at once should produce the same results as one pixel at a time
+	 */
+	@Test
+	public void computeRow() {
+		PointToPixelTransform_F32 alg = new PointToPixelTransform_F32(new PointTransformHomography_F32(
+				new Homography2D_F32(1.1f,0.05f,3,-0.02f,0.9f,-2,0.001f,0.002f,1)));
+
+		float[] found = new float[2*20];
+		alg.computeRow(3, 7, 20, found);
+
+		for (int i = 0; i < 20; i++) {
+			alg.compute(3+i, 7);
+			assertEquals(alg.distX, found[i*2], 1e-4);
+			assertEquals(alg.distY, found[i*2+1], 1e-4);
+		}
+	}
 }
@@ -49,4 +49,24 @@ public class TestPointTransformHomography_F32 {
 		assertEquals(expected.x,output.x,1e-4);
 		assertEquals(expected.y, output.y, 1e-4);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		PointTransformHomography_F32 alg = new PointTransformHomography_F32(
+				new Homography2D_F32(1.1f,0.05f,3,-0.02f,0.9f,-2,0.001f,0.002f,1));
+
+		float[] input = new float[]{1,2, -3,0.5f, 100,200};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F32 expected = new Point2D_F32();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-4);
+			assertEquals(expected.y, found[i*2+1], 1e-4);
+		}
+	}
 }
@@ -49,4 +49,24 @@ public class TestPointTransformHomography_F64 {
 		assertEquals(expected.x,output.x,1e-4);
 		assertEquals(expected.y, output.y, 1e-4);
 	}
+
+	/**
+	 * Transforming an array of points should produce the same results as one at a time
+	 */
+	@Test
+	public void compute_array() {
+		PointTransformHomography_F64 alg = new PointTransformHomography_F64(
+				new Homography2D_F64(1.1,0.05,3,-0.02,0.9,-2,0.001,0.002,1));
+
+		double[] input = new double[]{1,2, -3,0.5, 100,200};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 3);
+
+		Point2D_F64 expected = new Point2D_F64();
+		for (int i = 0; i < 3; i++) {
+			alg.compute(input[i*2], input[i*2+1], expected);
+			assertEquals(expected.x, found[i*2], 1e-4);
+			assertEquals(expected.y, found[i*2+1], 1e-4);
+		}
+	}
 }
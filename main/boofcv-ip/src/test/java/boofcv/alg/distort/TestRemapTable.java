@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+import org.junit.Test;
+
+import static boofcv.alg.distort.RemapTable.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRemapTable {
+
+	/**
+	 * Coordinates should be recovered to within the fixed point precision
+	 */
+	@Test
+	public void encodeCoordinates() {
+		RemapTable alg = new RemapTable(new Transform(),20,15,30,25);
+
+		Transform tran = new Transform();
+		for (int y = 0; y < 15; y++) {
+			for (int x = 0; x < 20; x++) {
+				tran.compute(x,y);
+				if( tran.distX < 0 || tran.distY < 0 )
+					continue;
+				assertEquals(tran.distX, alg.getX(x,y), 0.5/SCALE + 1e-4);
+				assertEquals(tran.distY, alg.getY(x,y), 0.5/SCALE + 1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void flags() {
+		final float[] coordinates = new float[]{5.2f,3.1f, -0.5f,3, 29,3, 28.5f,3, 5,24, 5,24.2f, -0.01f,3};
+
+		RemapTable alg = new RemapTable(new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = coordinates[x*2];
+				distY = coordinates[x*2+1];
+			}
+		},coordinates.length/2,1,30,25);
+
+		assertEquals(0, flags(alg,0,0));
+		assertEquals(FLAG_BORDER|FLAG_OUTSIDE, flags(alg,1,0));
+		// inside the image but the neighbor used by bilinear isn't
+		assertEquals(FLAG_BORDER, flags(alg,2,0));
+		assertEquals(0, flags(alg,3,0));
+		assertEquals(FLAG_BORDER, flags(alg,4,0));
+		assertEquals(FLAG_BORDER|FLAG_OUTSIDE, flags(alg,5,0));
+		// rounds to a pixel inside the image but the original coordinate is outside
+		assertEquals(FLAG_OUTSIDE, flags(alg,6,0));
+	}
+
+	/**
+	 * NaN and coordinates far outside the image should be clamped and flagged as outside
+	 */
+	@Test
+	public void outsideAndNaN() {
+		RemapTable alg = new RemapTable(new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = x == 0 ? Float.NaN : -1e6f;
+				distY = 1e6f;
+			}
+		},2,1,30,25);
+
+		for (int x = 0; x < 2; x++) {
+			assertEquals(FLAG_BORDER|FLAG_OUTSIDE, flags(alg,x,0));
+			assertEquals(-2, alg.getX(x,0), 1e-4);
+			assertEquals(26, alg.getY(x,0), 1e-4);
+		}
+	}
+
+	@Test
+	public void isShape() {
+		RemapTable alg = new RemapTable(new Transform(),20,15,30,25);
+		assertTrue(alg.isShape(20,15,30,25));
+		assertFalse(alg.isShape(20,15,31,25));
+		assertFalse(alg.isShape(21,15,30,25));
+	}
+
+	private static int flags( RemapTable alg , int x , int y ) {
+		return alg.frac[y*alg.width+x] & (FLAG_BORDER|FLAG_OUTSIDE);
+	}
+
+	private static class Transform extends PixelTransform2_F32 {
+		@Override
+		public void compute(int x, int y) {
+			distX = 1.5f*x - 2.25f;
+			distY = 1.25f*y + 0.3f;
+		}
+	}
+}
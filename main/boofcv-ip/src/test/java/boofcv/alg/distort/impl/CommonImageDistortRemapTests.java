@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTable;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public abstract class CommonImageDistortRemapTests<T extends ImageBase<T>> extends GeneralImageDistortTests<T> {
+
+	protected CommonImageDistortRemapTests(ImageType<T> imageType) {
+		super(imageType);
+	}
+
+	public abstract ImageDistortRemap<T,T> create( InterpolationType interpType , BorderType borderType );
+
+	@Override
+	public ImageDistort<T,T> createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<T> interp) {
+		// the generic tests use nearest-neighbor with a zero border
+		ImageDistort<T,T> alg = create(InterpolationType.NEAREST_NEIGHBOR, BorderType.ZERO);
+		alg.setModel(dstToSrc);
+		return alg;
+	}
+
+	/**
+	 * Compare against floating point interpolation at the coordinates saved in the table. Only
+	 * the rounding should be different.
+	 */
+	@Test
+	public void compareToFloatInterpolation() {
+		for( InterpolationType interpType : new InterpolationType[]{InterpolationType.BILINEAR,InterpolationType.NEAREST_NEIGHBOR}) {
+			for( BorderType borderType : new BorderType[]{BorderType.EXTENDED,BorderType.ZERO}) {
+				compareToFloatInterpolation(interpType, borderType, true, false);
+				compareToFloatInterpolation(interpType, borderType, false, false);
+				compareToFloatInterpolation(interpType, borderType, true, true);
+			}
+		}
+	}
+
+	private void compareToFloatInterpolation( InterpolationType interpType , BorderType borderType ,
+											  boolean renderAll , boolean subimage ) {
+		T src = imageType.createImage(35,28);
+		T dst = imageType.createImage(40,30);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+		GImageMiscOps.fill(dst, 50);
+		if( subimage ) {
+			src = BoofTesting.createSubImageOf(src);
+			dst = BoofTesting.createSubImageOf(dst);
+		}
+
+		ImageDistortRemap<T,T> alg = create(interpType, borderType);
+		alg.setModel(new AffineTransform());
+		alg.setRenderAll(renderAll);
+		alg.apply(src,dst);
+
+		InterpolatePixel<T> interp = FactoryInterpolation.createPixel(0,255,interpType,borderType,imageType);
+		interp.setImage(src);
+		RemapTable table = alg.getTable();
+
+		int numBands = imageType.getNumBands();
+		float[] values = new float[numBands];
+		for (int y = 0; y < dst.height; y++) {
+			for (int x = 0; x < dst.width; x++) {
+				float srcX = table.getX(x,y);
+				float srcY = table.getY(x,y);
+				boolean inside = srcX >= 0 && srcY >= 0 && srcX <= src.width-1 && srcY <= src.height-1;
+
+				if( interp instanceof InterpolatePixelS )
+					values[0] = ((InterpolatePixelS)interp).get(srcX,srcY);
+				else
+					((InterpolatePixelMB)interp).get(srcX,srcY,values);
+
+				for (int band = 0; band < numBands; band++) {
+					double found = GeneralizedImageOps.get(dst,x,y,band);
+					if( inside || renderAll )
+						assertEquals(values[band], found, 1.0);
+					else
+						assertEquals(50, found, 1e-8);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		T src = imageType.createImage(35,28);
+		T expected = imageType.createImage(40,30);
+		T found = imageType.createImage(40,30);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		ImageDistortRemap<T,T> alg = create(InterpolationType.BILINEAR, BorderType.EXTENDED);
+		alg.setModel(new AffineTransform());
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int threads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.apply(src, expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(3);
+			alg.apply(src, found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(threads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * A table computed elsewhere is used directly
+	 */
+	@Test
+	public void setTable() {
+		T src = imageType.createImage(35,28);
+		T expected = imageType.createImage(40,30);
+		T found = imageType.createImage(40,30);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		ImageDistortRemap<T,T> alg = create(InterpolationType.BILINEAR, BorderType.EXTENDED);
+		alg.setModel(new AffineTransform());
+		alg.apply(src, expected);
+
+		alg = create(InterpolationType.BILINEAR, BorderType.EXTENDED);
+		alg.setTable(new RemapTable(new AffineTransform(),40,30,35,28));
+		alg.apply(src, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * Rotation and scale which maps parts of the destination outside the source image
+	 */
+	public static class AffineTransform extends PixelTransform2_F32 {
+		@Override
+		public void compute(int x, int y) {
+			distX = 0.9f*x + 0.2f*y - 3.3f;
+			distY = -0.15f*x + 1.1f*y - 2.1f;
+		}
+	}
+}
@@ -230,5 +230,10 @@ public abstract class GeneralImageDistortTests<T extends ImageBase<T>> {
 			this.distX = x+offX;
 			this.distY = y+offY;
 		}
+
+		@Override
+		public PixelTransform2_F32 copy() {
+			return new BasicTransform();
+		}
 	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortTiled_MT;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.distort.PixelTransformHomography_F32;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.homography.Homography2D_F32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageDistortTiled_MT extends GeneralImageDistortTests<GrayF32> {
+
+	Random rand = new Random(234);
+
+	public TestImageDistortTiled_MT() {
+		super(ImageType.single(GrayF32.class));
+	}
+
+	@Override
+	public ImageDistort<GrayF32, GrayF32> createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<GrayF32> interp) {
+		ImageDistortTiled_MT<GrayF32,GrayF32> alg = new ImageDistortTiled_MT<>(interp,
+				i -> new ImplImageDistort_F32<>((InterpolatePixelS<GrayF32>)i));
+		// small tiles so that the image is split up into many tiles which don't evenly divide it
+		alg.setTileSize(7);
+		alg.setModel(dstToSrc);
+		return alg;
+	}
+
+	/**
+	 * Output should be identical to the single threaded distortion for all the image types
+	 */
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(ImageType.single(GrayF32.class));
+		compareToSingleThread(ImageType.single(GrayU8.class));
+		compareToSingleThread(ImageType.pl(2, GrayF32.class));
+		compareToSingleThread(ImageType.il(3, InterleavedU8.class));
+	}
+
+	private <T extends ImageBase<T>> void compareToSingleThread( ImageType<T> type ) {
+		T src = type.createImage(60,45);
+		T expected = type.createImage(70,50);
+		T found = type.createImage(70,50);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		PixelTransformHomography_F32 model = new PixelTransformHomography_F32(
+				new Homography2D_F32(0.9f,0.05f,2,-0.03f,1.1f,-3,0.0002f,0.0001f,1));
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int threads = BoofConcurrency.getMaxThreads();
+		try {
+			for( boolean renderAll : new boolean[]{true,false}) {
+				GImageMiscOps.fill(expected, 7);
+				GImageMiscOps.fill(found, 7);
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				ImageDistort<T,T> single = FactoryDistort.distort(false,
+						FactoryInterpolation.createPixel(0, 255, InterpolationType.BILINEAR, BorderType.EXTENDED, type),
+						type);
+				single.setRenderAll(renderAll);
+				single.setModel(model);
+				single.apply(src, expected, 3, 4, 65, 49);
+
+				BoofConcurrency.USE_CONCURRENT = true;
+				BoofConcurrency.setMaxThreads(3);
+				ImageDistort<T,T> concurrent = FactoryDistort.distort(false,
+						FactoryInterpolation.createPixel(0, 255, InterpolationType.BILINEAR, BorderType.EXTENDED, type),
+						type);
+				assertTrue(concurrent instanceof ImageDistortTiled_MT);
+				((ImageDistortTiled_MT)concurrent).setTileSize(16);
+				concurrent.setRenderAll(renderAll);
+				concurrent.setModel(model);
+				concurrent.apply(src, found, 3, 4, 65, 49);
+
+				BoofTesting.assertEquals(expected, found, 1e-4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(threads);
+		}
+	}
+
+	/**
+	 * Changes to the model after setModel() has been called should be used the next time apply is called
+	 */
+	@Test
+	public void modelModifiedAfterSet() {
+		GrayF32 src = new GrayF32(width,height);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(src, rand, 0, 10);
+
+		PixelTransformAffine_F32 model = new PixelTransformAffine_F32();
+		model.getModel().set(1,0,0,1,1,2);
+
+		ImageDistort<GrayF32,GrayF32> alg = createDistort(model,interp);
+		alg.apply(src, found);
+
+		// modify the model in place
+		model.getModel().set(1,0,0,1,3,1);
+		alg.apply(src, found);
+
+		ImageDistort<GrayF32,GrayF32> single = new ImplImageDistort_F32<>((InterpolatePixelS<GrayF32>)interp.copy());
+		single.setModel(model);
+		single.apply(src, expected);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * If the model can't be copied it should still produce the correct results
+	 */
+	@Test
+	public void modelNotCopyable() {
+		GrayF32 src = new GrayF32(width,height);
+		GrayF32 expected = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(src, rand, 0, 10);
+
+		PixelTransform2_F32 model = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = x*0.9f + 1;
+				distY = y*1.1f - 0.5f;
+			}
+		};
+
+		ImageDistort<GrayF32,GrayF32> alg = createDistort(model,interp);
+		alg.apply(src, found);
+
+		ImageDistort<GrayF32,GrayF32> single = new ImplImageDistort_F32<>((InterpolatePixelS<GrayF32>)interp.copy());
+		single.setModel(model);
+		single.apply(src, expected);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.ImageType;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageDistortRemap_IL_U8 extends CommonImageDistortRemapTests<InterleavedU8> {
+
+	public TestImplImageDistortRemap_IL_U8() {
+		super(ImageType.il(3,InterleavedU8.class));
+	}
+
+	@Override
+	public ImageDistortRemap<InterleavedU8, InterleavedU8> create(InterpolationType interpType, BorderType borderType) {
+		return new ImplImageDistortRemap_IL_U8(interpType, borderType);
+	}
+}
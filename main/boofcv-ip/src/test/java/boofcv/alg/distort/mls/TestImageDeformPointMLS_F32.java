@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -52,6 +52,48 @@ public class TestImageDeformPointMLS_F32 {
 		}
 	}
 
+	/**
+	 * The copy should produce identical results and not be affected by changes to the original
+	 */
+	@Test
+	public void copy() {
+		for( TypeDeformMLS type : TypeDeformMLS.values() ) {
+			ImageDeformPointMLS_F32 alg = new ImageDeformPointMLS_F32(type);
+			alg.configure(width,height,rows,cols);
+			alg.add(5,5,6,7);
+			alg.add(10,20,12,18);
+			alg.add(30,50,31,52);
+			alg.add(16,0,14,2);
+			alg.fixateUndistorted();
+			alg.fixateDistorted();
+
+			assertTrue(alg.isCopyable());
+			ImageDeformPointMLS_F32 copy = alg.copy();
+
+			Point2D_F32 expected = new Point2D_F32();
+			Point2D_F32 found = new Point2D_F32();
+			alg.compute(20,25,expected);
+			copy.compute(20,25,found);
+			assertEquals(expected.x, found.x, 0);
+			assertEquals(expected.y, found.y, 0);
+
+			// changing the original shouldn't change the copy
+			alg.setDistorted(1,2,30);
+			alg.fixateDistorted();
+			copy.compute(20,25,found);
+			assertEquals(expected.x, found.x, 0);
+			assertEquals(expected.y, found.y, 0);
+
+			// the copy can be modified and should produce the same results as the original
+			copy.setDistorted(1,2,30);
+			copy.fixateDistorted();
+			alg.compute(20,25,expected);
+			copy.compute(20,25,found);
+			assertEquals(expected.x, found.x, 0);
+			assertEquals(expected.y, found.y, 0);
+		}
+	}
+
 	private void check_shape_independent( int width , int height , int rows , int cols , ImageDeformPointMLS_F32 alg ) {
 		alg.configure(width, height, rows, cols);
 		alg.addControl(5, 5);
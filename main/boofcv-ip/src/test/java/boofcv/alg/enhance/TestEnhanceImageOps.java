@@ -18,10 +18,16 @@
 
 package boofcv.alg.enhance;
 
+import boofcv.alg.enhance.impl.ImplEnhanceClahe;
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -92,4 +98,48 @@ public class TestEnhanceImageOps {
 			BoofTesting.assertEquals(expected, found, 1e-10);
 		}
 	}
+
+	@Test
+	public void equalizeClahe_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		work.configure(width, height, 3, 4, 255, 2.5);
+		GrayU8 expected = new GrayU8(width,height);
+		ImplEnhanceClahe.process(input, expected, work);
+
+		GrayU8 found = new GrayU8(width,height);
+		EnhanceImageOps.equalizeClahe(input, 3, 4, 2.5, found, null);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			GImageMiscOps.fill(found, 0);
+			GEnhanceImageOps.equalizeClahe(input, 3, 4, 2.5, found, work);
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+
+	@Test
+	public void equalizeClahe_U16() {
+		GrayU16 input = new GrayU16(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 5000);
+
+		// when not specified the largest value in the image should be used
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		work.configure(width, height, 3, 4, ImageStatistics.max(input), 2.5);
+		GrayU16 expected = new GrayU16(width,height);
+		ImplEnhanceClahe.process(input, expected, work);
+
+		GrayU16 found = new GrayU16(width,height);
+		EnhanceImageOps.equalizeClahe(input, -1, 3, 4, 2.5, found, null);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		GImageMiscOps.fill(found, 0);
+		GEnhanceImageOps.equalizeClahe(input, 3, 4, 2.5, found, work);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.enhance.EnhanceImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEnhanceClahe {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToNaive() {
+		for( Class type : new Class[]{GrayU8.class, GrayU16.class}) {
+			int maxValue = type == GrayU8.class ? 255 : 1000;
+			GrayI input = (GrayI)GeneralizedImageOps.createSingleBand(type, 45, 37);
+			GrayI found = (GrayI)GeneralizedImageOps.createSingleBand(type, 45, 37);
+			GrayI expected = (GrayI)GeneralizedImageOps.createSingleBand(type, 45, 37);
+
+			// values are concentrated in a small range so that clipping has an effect
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+			GImageMiscOps.fillRectangle(input, maxValue, 10, 5, 8, 9);
+
+			BoofTesting.checkSubImage(this, "compareToNaive", true, input, found, expected);
+		}
+	}
+
+	public void compareToNaive( GrayI input , GrayI found , GrayI expected ) {
+		int maxValue = input instanceof GrayU8 ? 255 : 1000;
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+
+		for( int tiles : new int[]{1,2,3,7} ) {
+			for( double clipLimit : new double[]{0,2,4} ) {
+				work.configure(input.width, input.height, tiles, tiles+1, maxValue, clipLimit);
+				if( input instanceof GrayU8 )
+					ImplEnhanceClahe.process((GrayU8)input, (GrayU8)found, work);
+				else
+					ImplEnhanceClahe.process((GrayU16)input, (GrayU16)found, work);
+
+				naive(input, maxValue, tiles, tiles+1, clipLimit, expected);
+
+				BoofTesting.assertEquals(expected, found, 1);
+			}
+		}
+	}
+
+	/**
+	 * With one tile and no clipping it should be the same as global histogram equalization
+	 */
+	@Test
+	public void singleTileIsGlobal() {
+		GrayU8 input = new GrayU8(30,25);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		int histogram[] = new int[256];
+		int transform[] = new int[256];
+		ImageStatistics.histogram(input, 0, histogram);
+		EnhanceImageOps.equalize(histogram, transform);
+		GrayU8 expected = new GrayU8(30,25);
+		EnhanceImageOps.applyTransform(input, transform, expected);
+
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		work.configure(input.width, input.height, 1, 1, 255, 0);
+		GrayU8 found = new GrayU8(30,25);
+		ImplEnhanceClahe.process(input, found, work);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void equalizeClipped() {
+		int bins = 10;
+		int[] histogram = new int[]{0,0,40,0,0,3,4,0,2,1,0,0};
+		int total = 50;
+
+		// clipping should keep the total the same and limit the largest change between bins
+		ImplEnhanceClahe.equalizeClipped(histogram, 1, bins, total, 2.0);
+		assertEquals(0, histogram[0]);
+		assertEquals(0, histogram[11]);
+		assertEquals(bins - 1, histogram[bins]);
+		for( int i = 2; i <= bins; i++ ) {
+			assertTrue(histogram[i] >= histogram[i-1]);
+		}
+		// without clipping a single bin would have contained 80% of the output range
+		assertTrue(histogram[2] - histogram[1] <= 3);
+	}
+
+	/**
+	 * Reusing the workspace for images of different sizes should produce the same results as a new workspace
+	 */
+	@Test
+	public void reuseWorkspace() {
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+
+		for( int size : new int[]{50,20,35} ) {
+			GrayU8 input = new GrayU8(size, size+5);
+			ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			GrayU8 found = new GrayU8(input.width, input.height);
+			GrayU8 expected = new GrayU8(input.width, input.height);
+
+			work.configure(input.width, input.height, 4, 3, 255, 3);
+			ImplEnhanceClahe.process(input, found, work);
+			ImplEnhanceClahe.Workspace fresh = new ImplEnhanceClahe.Workspace();
+			fresh.configure(input.width, input.height, 4, 3, 255, 3);
+			ImplEnhanceClahe.process(input, expected, fresh);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	/**
+	 * More tiles than pixels
+	 */
+	@Test
+	public void tooManyTiles() {
+		GrayU8 input = new GrayU8(3,2);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayU8 found = new GrayU8(3,2);
+
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		work.configure(input.width, input.height, 8, 8, 255, 3);
+		assertEquals(3, work.tilesX);
+		assertEquals(2, work.tilesY);
+		ImplEnhanceClahe.process(input, found, work);
+
+		GrayU8 expected = new GrayU8(3,2);
+		naive(input, 255, 3, 2, 3, expected);
+		BoofTesting.assertEquals(expected, found, 1);
+	}
+
+	/**
+	 * Straight forward implementation.  Each tile's transform is computed for every pixel.
+	 */
+	private void naive( GrayI input , int maxValue , int tilesX , int tilesY , double clipLimit , GrayI output ) {
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ ) {
+				int value = Math.min(maxValue, input.get(x, y));
+
+				double[] tx = interpolation(x, input.width, tilesX);
+				double[] ty = interpolation(y, input.height, tilesY);
+
+				double sum = 0;
+				for( int i = 0; i < 2; i++ ) {
+					for( int j = 0; j < 2; j++ ) {
+						double weight = (i == 0 ? 1 - tx[2] : tx[2])*(j == 0 ? 1 - ty[2] : ty[2]);
+						if( weight == 0 )
+							continue;
+						int[] transform = tileTransform(input, maxValue, tilesX, tilesY,
+								(int)tx[i], (int)ty[j], clipLimit);
+						sum += weight*transform[value];
+					}
+				}
+				output.set(x, y, (int)(sum + 0.5));
+			}
+		}
+	}
+
+	/**
+	 * Returns the two tiles and weight of the second tile
+	 */
+	private double[] interpolation( int coordinate , int length , int tiles ) {
+		for( int i = tiles - 2; i >= 0; i-- ) {
+			double c0 = center(i, length, tiles);
+			double c1 = center(i + 1, length, tiles);
+			if( coordinate >= c1 )
+				return new double[]{i + 1, i + 1, 0};
+			if( coordinate >= c0 )
+				return new double[]{i, i + 1, (coordinate - c0)/(c1 - c0)};
+		}
+		return new double[]{0, 0, 0};
+	}
+
+	private double center( int tile , int length , int tiles ) {
+		int lower = tile*length/tiles;
+		int upper = (tile + 1)*length/tiles;
+		return (lower + upper - 1)/2.0;
+	}
+
+	private int[] tileTransform( GrayI input , int maxValue , int tilesX , int tilesY ,
+								 int tileX , int tileY , double clipLimit ) {
+		int x0 = tileX*input.width/tilesX, x1 = (tileX + 1)*input.width/tilesX;
+		int y0 = tileY*input.height/tilesY, y1 = (tileY + 1)*input.height/tilesY;
+
+		int bins = maxValue + 1;
+		int[] histogram = new int[bins];
+		for( int y = y0; y < y1; y++ ) {
+			for( int x = x0; x < x1; x++ ) {
+				histogram[Math.min(maxValue, input.get(x, y))]++;
+			}
+		}
+		int total = (x1 - x0)*(y1 - y0);
+
+		if( clipLimit > 0 ) {
+			int limit = Math.max(1, (int)(clipLimit*total/bins));
+			int excess = 0;
+			for( int i = 0; i < bins; i++ ) {
+				if( histogram[i] > limit ) {
+					excess += histogram[i] - limit;
+					histogram[i] = limit;
+				}
+			}
+			for( int i = 0; i < bins; i++ ) {
+				histogram[i] += excess/bins;
+			}
+			int remainder = excess%bins;
+			for( int i = 0; i < remainder; i++ ) {
+				histogram[i*(bins/remainder)]++;
+			}
+		}
+
+		int[] transform = new int[bins];
+		long sum = 0;
+		for( int i = 0; i < bins; i++ ) {
+			sum += histogram[i];
+			transform[i] = (int)(sum*maxValue/total);
+		}
+		return transform;
+	}
+}
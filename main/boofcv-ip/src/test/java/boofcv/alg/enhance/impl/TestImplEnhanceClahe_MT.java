@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEnhanceClahe_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread_U8() {
+		GrayU8 image = new GrayU8(60,150);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSingleThread", true, image, found, expected);
+	}
+
+	public void compareToSingleThread(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		for( int tiles : new int[]{1,3,8} ) {
+			work.configure(image.width, image.height, tiles, tiles, 255, 3);
+			ImplEnhanceClahe.process(image,expected,work);
+			ImplEnhanceClahe_MT.process(image,found,work);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_U16() {
+		GrayU16 image = new GrayU16(60,150);
+		ImageMiscOps.fillUniform(image,rand, 0, 4096);
+
+		GrayU16 found = new GrayU16( image.width , image.height );
+		GrayU16 expected = new GrayU16( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSingleThread", true, image, found, expected);
+	}
+
+	public void compareToSingleThread(GrayU16 image, GrayU16 found, GrayU16 expected) {
+		ImplEnhanceClahe.Workspace work = new ImplEnhanceClahe.Workspace();
+		for( int tiles : new int[]{1,3,8} ) {
+			work.configure(image.width, image.height, tiles, tiles, 4095, 3);
+			ImplEnhanceClahe.process(image,expected,work);
+			ImplEnhanceClahe_MT.process(image,found,work);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
@@ -18,18 +18,22 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -199,6 +203,30 @@ public class TestLinearContourLabelChang2004 {
 	 *
 	 * @param rule Which connectivity rule is being tested
 	 */
+	/**
+	 * The packed binary image should produce identical results
+	 */
+	@Test
+	public void packedBinary() {
+		Random rand = new Random(234);
+		GrayU8 input = new GrayU8(100,40);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+		PackedBinaryImage packed = PackedBinaryOps.pack(input, null);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			LinearContourLabelChang2004 alg = new LinearContourLabelChang2004(rule);
+			GrayS32 expected = new GrayS32(1,1);
+			GrayS32 found = new GrayS32(1,1);
+
+			alg.process(input, expected);
+			int numContours = alg.getContours().size;
+			alg.process(packed, found);
+
+			assertEquals(numContours, alg.getContours().size);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
 	private void checkContour(LinearContourLabelChang2004 alg, GrayS32 labeled , int rule ) {
 
 		FastQueue<ContourPacked> contours = alg.getContours();
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the concurrent algorithm against the single threaded one
+ *
+ * @author Peter Abeles
+ */
+public class TestLinearContourLabelChang2004_MT {
+
+	Random rand = new Random(234);
+
+	boolean previousConcurrent;
+	int previousThreads;
+	int previousStrip;
+	int previousPixels;
+
+	@Before
+	public void before() {
+		previousConcurrent = BoofConcurrency.USE_CONCURRENT;
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousStrip = LinearContourLabelChang2004_MT.MIN_STRIP_HEIGHT;
+		previousPixels = LinearContourLabelChang2004.MIN_PIXELS_CONCURRENT;
+
+		// force it to use lots of small strips
+		BoofConcurrency.setMaxThreads(5);
+		LinearContourLabelChang2004_MT.MIN_STRIP_HEIGHT = 2;
+		LinearContourLabelChang2004.MIN_PIXELS_CONCURRENT = 0;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = previousConcurrent;
+		BoofConcurrency.setMaxThreads(previousThreads);
+		LinearContourLabelChang2004_MT.MIN_STRIP_HEIGHT = previousStrip;
+		LinearContourLabelChang2004.MIN_PIXELS_CONCURRENT = previousPixels;
+	}
+
+	/**
+	 * Random noise with different densities creates lots of blobs, holes, and seams
+	 */
+	@Test
+	public void randomNoise() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			for( int density : new int[]{2,3,6}) {
+				for (int trial = 0; trial < 5; trial++) {
+					GrayU8 binary = new GrayU8(20 + rand.nextInt(60), 10 + rand.nextInt(50));
+					ImageMiscOps.fillUniform(binary, rand, 0, density);
+					// values of 2 and higher are set to one to make the image mostly filled
+					for (int i = 0; i < binary.data.length; i++) {
+						binary.data[i] = (byte)(binary.data[i] == 0 ? 0 : 1);
+					}
+					if( density == 2 )
+						ImageMiscOps.fillBorder(binary, 0, 1);
+
+					compare(binary, rule, new LinearContourLabelChang2004(rule), new LinearContourLabelChang2004(rule));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Large blobs with holes which cross many strips
+	 */
+	@Test
+	public void nestedRectangles() {
+		GrayU8 binary = new GrayU8(60,50);
+		for (int i = 0; i < 6; i++) {
+			ImageMiscOps.fillRectangle(binary, (byte)(i%2==0?1:0), 2+i*3, 1+i*3, 55-i*6, 47-i*6);
+		}
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			compare(binary, rule, new LinearContourLabelChang2004(rule), new LinearContourLabelChang2004(rule));
+		}
+	}
+
+	@Test
+	public void contourSizeLimits() {
+		GrayU8 binary = new GrayU8(70,40);
+		ImageMiscOps.fillUniform(binary, rand, 0, 2);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			for( boolean saveInternal : new boolean[]{true,false}) {
+				LinearContourLabelChang2004 expected = new LinearContourLabelChang2004(rule);
+				LinearContourLabelChang2004 found = new LinearContourLabelChang2004(rule);
+				for( LinearContourLabelChang2004 alg : new LinearContourLabelChang2004[]{expected,found}) {
+					alg.setMinContourSize(4);
+					alg.setMaxContourSize(20);
+					alg.setSaveInternalContours(saveInternal);
+				}
+				compare(binary, rule, expected, found);
+			}
+		}
+	}
+
+	/**
+	 * The same instance is used multiple times
+	 */
+	@Test
+	public void multipleCalls() {
+		LinearContourLabelChang2004 expected = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+		LinearContourLabelChang2004 found = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+
+		for (int i = 0; i < 3; i++) {
+			GrayU8 binary = new GrayU8(40+i*10,30);
+			ImageMiscOps.fillUniform(binary, rand, 0, 2);
+			compare(binary, ConnectRule.EIGHT, expected, found);
+		}
+	}
+
+	private void compare( GrayU8 binary , ConnectRule rule ,
+						  LinearContourLabelChang2004 expected , LinearContourLabelChang2004 found ) {
+		GrayS32 labelExpected = new GrayS32(1,1);
+		GrayS32 labelFound = new GrayS32(1,1);
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		expected.process(binary, labelExpected);
+		BoofConcurrency.USE_CONCURRENT = true;
+		found.process(binary, labelFound);
+
+		BoofTesting.assertEquals(labelExpected, labelFound, 0);
+
+		FastQueue<ContourPacked> contoursA = expected.getContours();
+		FastQueue<ContourPacked> contoursB = found.getContours();
+		assertEquals(contoursA.size, contoursB.size);
+		for (int i = 0; i < contoursA.size; i++) {
+			ContourPacked a = contoursA.get(i);
+			ContourPacked b = contoursB.get(i);
+			assertEquals(a.id, b.id);
+			assertEquals(a.externalIndex, b.externalIndex);
+			assertEquals(a.internalIndexes.size, b.internalIndexes.size);
+			for (int j = 0; j < a.internalIndexes.size; j++) {
+				assertEquals(a.internalIndexes.get(j), b.internalIndexes.get(j));
+			}
+		}
+
+		PackedSetsPoint2D_I32 pointsA = expected.getPackedPoints();
+		PackedSetsPoint2D_I32 pointsB = found.getPackedPoints();
+		assertEquals(pointsA.size(), pointsB.size());
+		for (int i = 0; i < pointsA.size(); i++) {
+			assertEquals(pointsA.getSet(i), pointsB.getSet(i));
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the results against {@link BinaryImageOps}
+ *
+ * @author Peter Abeles
+ */
+public class TestPackedBinaryOps {
+
+	Random rand = new Random(234);
+
+	// widths which test partial words, exactly one word, and multiple words
+	int widths[] = new int[]{1,2,30,63,64,65,130};
+	int heights[] = new int[]{1,2,9};
+
+	@Test
+	public void pack_unpack() {
+		for( int width : widths ) {
+			for( int height : heights ) {
+				GrayU8 binary = random(width, height);
+
+				PackedBinaryImage packed = PackedBinaryOps.pack(binary, null);
+				assertEquals(width, packed.width);
+				assertEquals(height, packed.height);
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						assertEquals(binary.get(x,y), packed.get(x,y));
+					}
+				}
+				checkPadding(packed);
+
+				GrayU8 found = PackedBinaryOps.unpack(packed, null);
+				BoofTesting.assertEquals(binary, found, 0);
+			}
+		}
+	}
+
+	/**
+	 * Input is a sub-image and the values are not just 0 or 1
+	 */
+	@Test
+	public void pack_subimage_notBinary() {
+		GrayU8 input = new GrayU8(70,10);
+		ImageMiscOps.fillUniform(input, rand, 0, 5);
+		GrayU8 sub = input.subimage(3,2,69,9, null);
+
+		PackedBinaryImage packed = PackedBinaryOps.pack(sub, null);
+		for (int y = 0; y < sub.height; y++) {
+			for (int x = 0; x < sub.width; x++) {
+				assertEquals(sub.get(x,y) != 0 ? 1 : 0, packed.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void logic() {
+		for( int width : widths ) {
+			for( int height : heights ) {
+				GrayU8 a = random(width, height);
+				GrayU8 b = random(width, height);
+				PackedBinaryImage pa = PackedBinaryOps.pack(a, null);
+				PackedBinaryImage pb = PackedBinaryOps.pack(b, null);
+
+				compare(BinaryImageOps.logicAnd(a, b, null), PackedBinaryOps.logicAnd(pa, pb, null));
+				compare(BinaryImageOps.logicOr(a, b, null), PackedBinaryOps.logicOr(pa, pb, null));
+				compare(BinaryImageOps.logicXor(a, b, null), PackedBinaryOps.logicXor(pa, pb, null));
+				compare(BinaryImageOps.invert(a, null), PackedBinaryOps.invert(pa, null));
+			}
+		}
+	}
+
+	@Test
+	public void morphology() {
+		for( int width : widths ) {
+			for( int height : heights ) {
+				// a dense image so that erode doesn't remove everything
+				GrayU8 a = new GrayU8(width, height);
+				ImageMiscOps.fillUniform(a, rand, 0, 5);
+				for (int i = 0; i < a.data.length; i++) {
+					a.data[i] = (byte)(a.data[i] == 0 ? 0 : 1);
+				}
+				PackedBinaryImage pa = PackedBinaryOps.pack(a, null);
+
+				for (int numTimes = 1; numTimes <= 3; numTimes++) {
+					compare(BinaryImageOps.erode4(a, numTimes, null), PackedBinaryOps.erode4(pa, numTimes, null));
+					compare(BinaryImageOps.dilate4(a, numTimes, null), PackedBinaryOps.dilate4(pa, numTimes, null));
+					compare(BinaryImageOps.erode8(a, numTimes, null), PackedBinaryOps.erode8(pa, numTimes, null));
+					compare(BinaryImageOps.dilate8(a, numTimes, null), PackedBinaryOps.dilate8(pa, numTimes, null));
+				}
+				compare(BinaryImageOps.edge4(a, null), PackedBinaryOps.edge4(pa, null));
+				compare(BinaryImageOps.edge8(a, null), PackedBinaryOps.edge8(pa, null));
+
+				GrayU8 b = random(width, height);
+				PackedBinaryImage pb = PackedBinaryOps.pack(b, null);
+				compare(BinaryImageOps.removePointNoise(a, null), PackedBinaryOps.removePointNoise(pa, null));
+				compare(BinaryImageOps.removePointNoise(b, null), PackedBinaryOps.removePointNoise(pb, null));
+			}
+		}
+	}
+
+	@Test
+	public void outputIsReshaped() {
+		PackedBinaryImage input = PackedBinaryOps.pack(random(70,5), null);
+		PackedBinaryImage output = new PackedBinaryImage(3,2);
+
+		PackedBinaryOps.dilate8(input, 1, output);
+		assertEquals(70, output.width);
+		assertEquals(5, output.height);
+	}
+
+	@Test
+	public void sameInputOutput() {
+		PackedBinaryImage input = PackedBinaryOps.pack(random(70,5), null);
+		try {
+			PackedBinaryOps.erode4(input, 1, input);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	private GrayU8 random( int width , int height ) {
+		GrayU8 image = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(image, rand, 0, 2);
+		return image;
+	}
+
+	private void compare( GrayU8 expected , PackedBinaryImage found ) {
+		checkPadding(found);
+		BoofTesting.assertEquals(expected, PackedBinaryOps.unpack(found, null), 0);
+	}
+
+	/**
+	 * Bits outside the image must always be zero
+	 */
+	private void checkPadding( PackedBinaryImage image ) {
+		long mask = PackedBinaryImage.lastWordMask(image.width);
+		for (int y = 0; y < image.height; y++) {
+			long last = image.data[y*image.stride + image.stride - 1];
+			assertEquals(0, last & ~mask);
+		}
+	}
+}
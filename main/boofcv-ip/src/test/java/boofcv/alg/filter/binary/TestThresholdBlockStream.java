@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.ThresholdBlockMean_F32;
+import boofcv.alg.filter.binary.impl.ThresholdBlockMean_U8;
+import boofcv.alg.filter.binary.impl.ThresholdBlockMinMax_F32;
+import boofcv.alg.filter.binary.impl.ThresholdBlockMinMax_U8;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.ConfigLength;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestThresholdBlockStream {
+
+	Random rand = new Random(234);
+
+	ConfigLength blockWidth = ConfigLength.fixed(10);
+
+	@Test
+	public void mean() {
+		for( boolean local : new boolean[]{true,false}) {
+			compareToFullImage(new ThresholdBlockMean_U8(blockWidth,0.95,true,local),GrayU8.class);
+			compareToFullImage(new ThresholdBlockMean_F32(blockWidth,0.95,false,local),GrayF32.class);
+		}
+	}
+
+	@Test
+	public void minMax() {
+		for( boolean local : new boolean[]{true,false}) {
+			compareToFullImage(new ThresholdBlockMinMax_U8(10,blockWidth,1.0,true,local),GrayU8.class);
+			compareToFullImage(new ThresholdBlockMinMax_F32(10,blockWidth,1.0f,false,local),GrayF32.class);
+		}
+	}
+
+	@Test
+	public void otsu() {
+		for( boolean local : new boolean[]{true,false}) {
+			compareToFullImage(new ThresholdBlockOtsu(true,blockWidth,0.5,1.0,true,local),GrayU8.class);
+			compareToFullImage(new ThresholdBlockOtsu(false,blockWidth,0,1.0,false,local),GrayU8.class);
+		}
+	}
+
+	/**
+	 * Passes in the image using chunks of different sizes and compares the output against processing the
+	 * whole image. Includes heights which are and are not a multiple of the block height.
+	 */
+	private <T extends ImageGray<T>, S extends ImageBase<S>>
+	void compareToFullImage( ThresholdBlockCommon<T,S> alg , Class<T> imageType ) {
+		ThresholdBlockStream<T,S> stream = new ThresholdBlockStream<>(alg);
+
+		for( int height : new int[]{20,100,117,153}) {
+			T input = GeneralizedImageOps.createSingleBand(imageType,57,height);
+			GImageMiscOps.fillUniform(input,rand,0,255);
+			// add some structure so that there are textureless regions
+			GImageMiscOps.fillRectangle(input,100,5,30,40,50);
+
+			GrayU8 expected = new GrayU8(input.width,input.height);
+			alg.process(input,expected);
+
+			for( int chunk : new int[]{1,7,10,33,height}) {
+				GrayU8 found = new GrayU8(input.width,input.height);
+				GrayU8 rows = new GrayU8(1,1);
+
+				stream.reset(input.width);
+				for (int y = 0; y < height; y += chunk) {
+					T sub = input.subimage(0,y,input.width,Math.min(height,y+chunk));
+					int numRows = stream.process(sub,rows);
+					int y0 = stream.getRowsOutput()-numRows;
+					assertEquals(numRows,rows.height);
+					found.subimage(0,y0,input.width,y0+numRows).setTo(rows);
+					// make sure the delay is bounded
+					assertTrue(y+sub.height-stream.getRowsOutput() <= stream.getMaxDelay());
+				}
+				int numRows = stream.finish(rows);
+				int y0 = stream.getRowsOutput()-numRows;
+				assertEquals(height,stream.getRowsOutput());
+				found.subimage(0,y0,input.width,height).setTo(rows);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+
+	/**
+	 * Row delay should be bounded and not grow with the image
+	 */
+	@Test
+	public void boundedDelay() {
+		ThresholdBlockStream<GrayU8,GrayU8> stream = new ThresholdBlockStream<>(
+				new ThresholdBlockMean_U8(blockWidth,1.0,true,true));
+		stream.reset(40);
+		assertEquals(29,stream.getMaxDelay());
+
+		GrayU8 row = new GrayU8(40,1);
+		GrayU8 output = new GrayU8(1,1);
+		for (int i = 0; i < 1000; i++) {
+			ImageMiscOps.fill(row,i);
+			stream.process(row,output);
+			assertTrue(i+1-stream.getRowsOutput() <= stream.getMaxDelay());
+		}
+		assertTrue(stream.window.height <= 80);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void widthSmallerThanBlock() {
+		ThresholdBlockStream<GrayU8,GrayU8> stream = new ThresholdBlockStream<>(
+				new ThresholdBlockMean_U8(blockWidth,1.0,true,true));
+		stream.reset(8);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void streamShorterThanBlock() {
+		ThresholdBlockStream<GrayU8,GrayU8> stream = new ThresholdBlockStream<>(
+				new ThresholdBlockMean_U8(blockWidth,1.0,true,true));
+		stream.reset(30);
+		GrayU8 output = new GrayU8(1,1);
+		stream.process(new GrayU8(30,5),output);
+		stream.finish(output);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void wrongWidth() {
+		ThresholdBlockStream<GrayU8,GrayU8> stream = new ThresholdBlockStream<>(
+				new ThresholdBlockMean_U8(blockWidth,1.0,true,true));
+		stream.reset(30);
+		stream.process(new GrayU8(31,5),new GrayU8(1,1));
+	}
+}
@@ -29,6 +29,7 @@ import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.PackedBinaryImage;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -280,4 +281,38 @@ public class TestThresholdImageOps {
 		assertEquals(areaAbove, GImageStatistics.sum(output),1e-4);
 	}
 
+	/**
+	 * Compare the packed output against the unpacked output
+	 */
+	@Test
+	public void threshold_packed() throws InvocationTargetException, IllegalAccessException {
+		int total = 0;
+		Method[] list = ThresholdImageOps.class.getMethods();
+
+		for( Method m : list ) {
+			if( !m.getName().equals("thresholdPacked"))
+				continue;
+
+			Class param[] = m.getParameterTypes();
+
+			// test widths which have a partial last word
+			for( int width : new int[]{30,64,131}) {
+				ImageGray input = GeneralizedImageOps.createSingleBand(param[0], width, height);
+				GImageMiscOps.fillUniform(input, rand, 0, 20);
+				ImageGray sub = BoofTesting.createSubImageOf(input);
+
+				for( boolean down : new boolean[]{true,false}) {
+					GrayU8 expected = GThresholdImageOps.threshold(input, null, 7, down);
+					PackedBinaryImage found = (PackedBinaryImage)m.invoke(null, input, null, 7, down);
+					BoofTesting.assertEquals(expected, PackedBinaryOps.unpack(found, null), 0);
+
+					found = (PackedBinaryImage)m.invoke(null, sub, new PackedBinaryImage(2,3), 7, down);
+					BoofTesting.assertEquals(expected, PackedBinaryOps.unpack(found, null), 0);
+				}
+			}
+			total++;
+		}
+
+		assertEquals(6,total);
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConfigLength;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestThresholdLocalOtsuStream {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Passes in the image using chunks of different sizes and compares the output against processing the
+	 * whole image.
+	 */
+	@Test
+	public void compareToFullImage() {
+		for( boolean down : new boolean[]{true,false}) {
+			for( int regionWidth : new int[]{5,10}) {
+				ThresholdLocalOtsu alg = new ThresholdLocalOtsu(true,ConfigLength.fixed(regionWidth),0.5,1.0,down);
+				ThresholdLocalOtsuStream stream = new ThresholdLocalOtsuStream(alg);
+
+				for( int height : new int[]{regionWidth+1,33,80}) {
+					GrayU8 input = new GrayU8(31,height);
+					ImageMiscOps.fillUniform(input,rand,0,255);
+					ImageMiscOps.fillRectangle(input,100,5,3,20,height/2);
+
+					GrayU8 expected = new GrayU8(input.width,input.height);
+					alg.process(input,expected);
+
+					for( int chunk : new int[]{1,4,regionWidth+3,height}) {
+						GrayU8 found = process(stream,input,chunk);
+						BoofTesting.assertEquals(expected,found,0);
+					}
+				}
+			}
+		}
+	}
+
+	private GrayU8 process( ThresholdLocalOtsuStream stream , GrayU8 input , int chunk ) {
+		GrayU8 found = new GrayU8(input.width,input.height);
+		GrayU8 rows = new GrayU8(1,1);
+
+		stream.reset(input.width);
+		for (int y = 0; y < input.height; y += chunk) {
+			GrayU8 sub = input.subimage(0,y,input.width,Math.min(input.height,y+chunk));
+			int numRows = stream.process(sub,rows);
+			int y0 = stream.getRowsOutput()-numRows;
+			assertEquals(numRows,rows.height);
+			found.subimage(0,y0,input.width,y0+numRows).setTo(rows);
+			assertTrue(y+sub.height-stream.getRowsOutput() <= stream.getMaxDelay());
+		}
+		int numRows = stream.finish(rows);
+		assertEquals(input.height,stream.getRowsOutput());
+		found.subimage(0,input.height-numRows,input.width,input.height).setTo(rows);
+		return found;
+	}
+
+	/**
+	 * The local region should move across the image and not be stuck in one spot
+	 */
+	@Test
+	public void thresholdAdapts() {
+		ThresholdLocalOtsu alg = new ThresholdLocalOtsu(false,ConfigLength.fixed(9),0,1.0,true);
+		ThresholdLocalOtsuStream stream = new ThresholdLocalOtsuStream(alg);
+
+		// dark vertical stripes over a background which gets brighter further down
+		GrayU8 input = new GrayU8(30,200);
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				input.set(x,y,y/2 + (x%4==0 ? 0 : 50));
+			}
+		}
+
+		GrayU8 found = process(stream,input,7);
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				assertEquals(x+" "+y, x%4==0 ? 1 : 0, found.get(x,y));
+			}
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void streamShorterThanRegion() {
+		ThresholdLocalOtsuStream stream = new ThresholdLocalOtsuStream(
+				new ThresholdLocalOtsu(true,ConfigLength.fixed(10),0,1.0,true));
+		stream.reset(30);
+		GrayU8 output = new GrayU8(1,1);
+		stream.process(new GrayU8(30,5),output);
+		stream.finish(output);
+	}
+}
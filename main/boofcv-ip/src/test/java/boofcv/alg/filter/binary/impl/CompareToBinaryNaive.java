@@ -71,7 +71,7 @@ public class CompareToBinaryNaive extends CompareIdenticalFunctions {
 		GrayU8 input = new GrayU8(width, height);
 		GrayU8 output = new GrayU8(width, height);
 
-		ImageMiscOps.fillUniform(input, rand, 0, 1);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
 
 		if(isSpecialFunction(candidate)) {
 			return new Object[][]{{input,1, output}};
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -21,6 +21,9 @@ package boofcv.alg.filter.blur;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
 import boofcv.alg.filter.convolve.GConvolveImageOps;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel2D;
@@ -82,6 +85,72 @@ public class TestBlurImageOps {
 		}
 	}
 
+	/**
+	 * Compare against convolution for radii which are both smaller and larger than the image
+	 */
+	@Test
+	public void meanIntegral() {
+		Class types[] = new Class[]{GrayU8.class,GrayF32.class,GrayF64.class};
+		for( Class type : types ) {
+			ImageGray input = GeneralizedImageOps.createSingleBand(type,width,height);
+			ImageGray found = GeneralizedImageOps.createSingleBand(type,width,height);
+			ImageGray expected = GeneralizedImageOps.createSingleBand(type,width,height);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+
+			for( int radius : new int[]{1,3,BlurImageOps.MEAN_INTEGRAL_RADIUS,30} ) {
+				int w = radius*2+1;
+
+				Kernel2D kernel = FactoryKernel.createKernelForImage(w,w/2,2,type);
+				FactoryKernel.setTable(kernel);
+				GConvolveImageOps.convolveNormalized(kernel, input, expected);
+
+				// integer images are rounded once from the exact mean, just like normalized convolution
+				double tol = input.getDataType().isInteger() ? 0 : 1e-4;
+
+				GImageMiscOps.fill(found,0);
+				GBlurImageOps.meanIntegral(input,found,radius,null);
+				BoofTesting.assertEquals(expected,found,tol);
+
+				// mean will switch to the integral image internally for large radii. The separable running sum
+				// used for small radii rounds integer images after each pass and can be off by one
+				GImageMiscOps.fill(found,0);
+				GBlurImageOps.mean(input,found,radius,null);
+				BoofTesting.assertEquals(expected,found,radius >= BlurImageOps.MEAN_INTEGRAL_RADIUS ? tol : 1);
+			}
+		}
+	}
+
+	/**
+	 * When the integral image is used the storage passed in by the caller should be used
+	 */
+	@Test
+	public void mean_integralStorage() {
+		int radius = BlurImageOps.MEAN_INTEGRAL_RADIUS;
+
+		GrayU8 inputU8 = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(inputU8, rand, 0, 20);
+		GrayS32 integralS32 = new GrayS32(width,height);
+		GrayU8 foundU8 = BlurImageOps.mean(inputU8,null,radius,null,integralS32);
+		BoofTesting.assertEquals(IntegralImageOps.transform(inputU8,null),integralS32,0);
+		BoofTesting.assertEquals(BlurImageOps.meanIntegral(inputU8,null,radius,null),foundU8,0);
+
+		GrayF32 inputF32 = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(inputF32, rand, 0, 20);
+		GrayF64 integralF64 = new GrayF64(width,height);
+		GrayF32 foundF32 = BlurImageOps.mean(inputF32,null,radius,null,integralF64);
+		BoofTesting.assertEquals(IntegralImageOps.transform64(inputF32,null),integralF64,1e-8);
+		BoofTesting.assertEquals(BlurImageOps.meanIntegral(inputF32,null,radius,null),foundF32,1e-4);
+
+		// F64 images store the integral image inside of storage
+		GrayF64 inputF64 = new GrayF64(width,height);
+		GImageMiscOps.fillUniform(inputF64, rand, 0, 20);
+		GrayF64 storageF64 = new GrayF64(width,height);
+		GrayF64 foundF64 = BlurImageOps.mean(inputF64,null,radius,storageF64);
+		BoofTesting.assertEquals(IntegralImageOps.transform(inputF64,null),storageF64,1e-8);
+		BoofTesting.assertEquals(BlurImageOps.meanIntegral(inputF64,null,radius,null),foundF64,1e-8);
+	}
+
 	@Test
 	public void gaussian() {
 		for( ImageType type : imageTypes ) {
@@ -114,6 +183,47 @@ public class TestBlurImageOps {
 		}
 	}
 
+	@Test
+	public void gaussianRecursive() {
+		Class types[] = new Class[]{GrayU8.class,GrayF32.class};
+		for( Class type : types ) {
+			ImageGray input = GeneralizedImageOps.createSingleBand(type,width,height);
+			GrayF32 inputF32 = new GrayF32(width,height);
+			GrayF32 found = new GrayF32(width,height);
+
+			GImageMiscOps.fillUniform(input, rand, 0, 20);
+			GConvertImage.convert(input,inputF32);
+
+			for( double sigma : new double[]{1,3,10}) {
+				// see ImplGaussianRecursive for the accuracy
+				GrayF32 expected = BlurImageOps.gaussian(inputF32,null,sigma,(int)Math.ceil(6*sigma),null);
+
+				GImageMiscOps.fill(found,0);
+				GBlurImageOps.gaussianRecursive(input,found,sigma);
+				BoofTesting.assertEquals(expected,found,0.5);
+			}
+		}
+	}
+
+	/**
+	 * Large radii are handled by a different algorithm
+	 */
+	@Test
+	public void median_largeRadius() {
+		GrayU8 input = new GrayU8(width,height);
+		GrayU8 found = new GrayU8(width,height);
+		GrayU8 expected = new GrayU8(width,height);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		for( int radius : new int[]{BlurImageOps.MEDIAN_CONSTANT_RADIUS,12} ) {
+			BlurImageOps.median(input,found,radius);
+			ImplMedianSortNaive.process(input,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
 	@Test
 	public void median() {
 		for( ImageType type : imageTypes ) {
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compares against convolution with a Gaussian kernel and checks the accuracy stated in the class's
+	 * documentation
+	 */
+	@Test
+	public void compareToKernel() {
+		GrayF32 step = new GrayF32(200,150);
+		ImageMiscOps.fillRectangle(step,100,60,40,80,70);
+		GrayF32 noise = new GrayF32(200,150);
+		ImageMiscOps.fillUniform(noise,rand,0,100);
+
+		for( double sigma : new double[]{1,2,5,10,30}) {
+			double tolStep = sigma < 2 ? 1.1 : 0.7;
+			double tolNoise = sigma < 2 ? 2.5 : 0.5;
+			// the test image is only a few sigma across
+			if( sigma >= 30 )
+				tolStep = 1.5;
+
+			compareToKernel(step, sigma, tolStep);
+			compareToKernel(noise, sigma, tolNoise);
+		}
+	}
+
+	private void compareToKernel( GrayF32 input , double sigma , double tol ) {
+		GrayF32 expected = BlurImageOps.gaussian(input,null,sigma,(int)Math.ceil(6*sigma),null);
+		GrayF32 found = new GrayF32(input.width,input.height);
+		ImplGaussianRecursive.process(input,found,sigma);
+
+		BoofTesting.assertEquals(expected,found,tol);
+	}
+
+	/**
+	 * The border is normalized so an image with a constant value shouldn't change
+	 */
+	@Test
+	public void constantImage() {
+		for( int width : new int[]{1,2,3,4,30}) {
+			for( int height : new int[]{1,2,3,4,25}) {
+				GrayF32 input = new GrayF32(width,height);
+				ImageMiscOps.fill(input,10);
+				GrayF32 found = new GrayF32(width,height);
+
+				for( double sigma : new double[]{0.5,3,20}) {
+					ImplGaussianRecursive.process(input,found,sigma);
+					for (int i = 0; i < found.data.length; i++) {
+						assertEquals(10,found.data[i],1e-3);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Processes an image smaller than the filter with the exact kernel. Mostly tests the initial conditions.
+	 */
+	@Test
+	public void smallImage() {
+		GrayF32 input = new GrayF32(5,4);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF32 found = new GrayF32(5,4);
+
+		double sigma = 10;
+		GrayF32 expected = BlurImageOps.gaussian(input,null,sigma,(int)Math.ceil(6*sigma),null);
+		ImplGaussianRecursive.process(input,found,sigma);
+
+		BoofTesting.assertEquals(expected,found,0.5);
+	}
+
+	@Test
+	public void compareU8toF32() {
+		GrayU8 input = new GrayU8(40,30);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		GrayF32 inputF = ConvertImage.convert(input,(GrayF32)null);
+
+		GrayF32 expected = new GrayF32(40,30);
+		GrayF32 found = new GrayF32(40,30);
+
+		ImplGaussianRecursive.process(inputF,expected,4);
+		ImplGaussianRecursive.process(input,found,4);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	@Test
+	public void subimage() {
+		GrayF32 input = new GrayF32(40,30);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		GrayF32 found = new GrayF32(40,30);
+		GrayF32 expected = new GrayF32(40,30);
+
+		BoofTesting.checkSubImage(this, "subimage", true, input, found, expected);
+	}
+
+	public void subimage( GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		GImageMiscOps.fill(found,0);
+		ImplGaussianRecursive.process(input,found,3);
+		ImplGaussianRecursive.process(input.clone(),expected,3);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * The variance of the filter's impulse response should match sigma
+	 */
+	@Test
+	public void impulseVariance() {
+		for( double sigma : new double[]{1,4,15}) {
+			int width = (int)(20*sigma);
+			GrayF32 input = new GrayF32(width,1);
+			input.set(width/2,0,1);
+			GrayF32 found = new GrayF32(width,1);
+			ImplGaussianRecursive.process(input,found,sigma);
+
+			double sum = 0, variance = 0;
+			for (int x = 0; x < width; x++) {
+				double d = x - width/2;
+				sum += found.get(x,0);
+				variance += d*d*found.get(x,0);
+			}
+			assertEquals(1,sum,1e-4);
+			assertEquals(sigma*sigma,variance,sigma*sigma*1e-3);
+		}
+	}
+
+	@Test
+	public void badSigma() {
+		try {
+			new ImplGaussianRecursive.Coefficients(0.4);
+			assertTrue(false);
+		} catch( IllegalArgumentException ignore ){}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			// ensures that the image is split into several blocks
+			BoofConcurrency.setMaxThreads(4);
+
+			GrayF32 input = new GrayF32(60,70);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+			GrayF32 found = new GrayF32(60,70);
+			GrayF32 expected = new GrayF32(60,70);
+
+			BoofTesting.checkSubImage(this, "compareToSingleThread", true, input, found, expected);
+
+			GrayU8 inputU8 = new GrayU8(60,70);
+			ImageMiscOps.fillUniform(inputU8,rand,0,256);
+			for( double sigma : new double[]{1,5}) {
+				ImplGaussianRecursive.process(inputU8,expected,sigma);
+				ImplGaussianRecursive_MT.process(inputU8,found,sigma);
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	public void compareToSingleThread( GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		for( double sigma : new double[]{1,5}) {
+			ImplGaussianRecursive.process(input,expected,sigma);
+			ImplGaussianRecursive_MT.process(input,found,sigma);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_F64;
+import boofcv.struct.convolve.Kernel2D_S32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMeanIntegral {
+
+	Random rand = new Random(234);
+
+	int width = 25;
+	int height = 30;
+
+	// includes radii which are larger than the image
+	int radii[] = new int[]{1,2,5,12,20,40};
+
+	/**
+	 * A box kernel which will produce the mean when used with normalized convolution
+	 */
+	private static <K extends Kernel2D> K table( int radius , Class imageType ) {
+		int w = radius*2+1;
+		K kernel = FactoryKernel.createKernelForImage(w,radius,2,imageType);
+		FactoryKernel.setTable(kernel);
+		return kernel;
+	}
+
+	@Test
+	public void compareToConvolve_S32_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		BoofTesting.checkSubImage(this, "compareToConvolve_S32_U8", true, input,
+				new GrayU8(width,height), new GrayU8(width,height));
+	}
+
+	public void compareToConvolve_S32_U8( GrayU8 input , GrayU8 found , GrayU8 expected ) {
+		for( int radius : radii ) {
+			Kernel2D_S32 kernel = table(radius,GrayU8.class);
+			ConvolveNormalized.convolve(kernel,input,expected);
+
+			GrayS32 integral = IntegralImageOps.transform(input,null);
+			ImplMeanIntegral.mean(integral,radius,found);
+
+			BoofTesting.assertEquals(expected,found,1);
+		}
+	}
+
+	@Test
+	public void compareToConvolve_S64_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		BoofTesting.checkSubImage(this, "compareToConvolve_S64_U8", true, input,
+				new GrayU8(width,height), new GrayU8(width,height));
+	}
+
+	public void compareToConvolve_S64_U8( GrayU8 input , GrayU8 found , GrayU8 expected ) {
+		for( int radius : radii ) {
+			Kernel2D_S32 kernel = table(radius,GrayU8.class);
+			ConvolveNormalized.convolve(kernel,input,expected);
+
+			GrayS64 integral = IntegralImageOps.transform64(input,null);
+			ImplMeanIntegral.mean(integral,radius,found);
+
+			BoofTesting.assertEquals(expected,found,1);
+		}
+	}
+
+	@Test
+	public void compareToConvolve_F64_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		BoofTesting.checkSubImage(this, "compareToConvolve_F64_F32", true, input,
+				new GrayF32(width,height), new GrayF32(width,height));
+	}
+
+	public void compareToConvolve_F64_F32( GrayF32 input , GrayF32 found , GrayF32 expected ) {
+		for( int radius : radii ) {
+			Kernel2D_F32 kernel = table(radius,GrayF32.class);
+			ConvolveNormalized.convolve(kernel,input,expected);
+
+			GrayF64 integral = IntegralImageOps.transform64(input,null);
+			ImplMeanIntegral.mean(integral,radius,found);
+
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	public void compareToConvolve_F64_F64() {
+		GrayF64 input = new GrayF64(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		BoofTesting.checkSubImage(this, "compareToConvolve_F64_F64", true, input,
+				new GrayF64(width,height), new GrayF64(width,height));
+	}
+
+	public void compareToConvolve_F64_F64( GrayF64 input , GrayF64 found , GrayF64 expected ) {
+		for( int radius : radii ) {
+			Kernel2D_F64 kernel = table(radius,GrayF64.class);
+			ConvolveNormalized.convolve(kernel,input,expected);
+
+			GrayF64 integral = IntegralImageOps.transform(input,null);
+			ImplMeanIntegral.mean(integral,radius,found);
+
+			BoofTesting.assertEquals(expected,found,1e-8);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianHistogramConstant {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		GrayU8 image = new GrayU8(20,30);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		// the largest radius is bigger than the image
+		for( int radius : new int[]{1,2,3,6,11,25} ) {
+			ImplMedianSortNaive.process(image,expected,radius,null);
+			ImplMedianHistogramConstant.process(image,found,radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Pixel values which are clustered inside a few coarse bins
+	 */
+	@Test
+	public void compareToSort_narrowRange() {
+		GrayU8 image = new GrayU8(40,35);
+		ImageMiscOps.fillUniform(image,rand, 30, 50);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		for( int radius : new int[]{1,4,8} ) {
+			ImplMedianSortNaive.process(image,expected,radius,null);
+			ImplMedianHistogramConstant.process(image,found,radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Process the image in several blocks of rows and see if it produces the same results
+	 */
+	@Test
+	public void processBlocks() {
+		GrayU8 image = new GrayU8(25,40);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		int radius = 3;
+		ImplMedianHistogramConstant.process(image,expected,radius);
+
+		ImplMedianHistogramConstant.Workspace work = new ImplMedianHistogramConstant.Workspace(image.width);
+		ImplMedianHistogramConstant.process(image,found,radius,0,7,work);
+		ImplMedianHistogramConstant.process(image,found,radius,7,8,work);
+		ImplMedianHistogramConstant.process(image,found,radius,8,40,work);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
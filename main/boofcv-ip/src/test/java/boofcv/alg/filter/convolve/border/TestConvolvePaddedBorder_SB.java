@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.border;
+
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class TestConvolvePaddedBorder_SB {
+
+	Random rand = new Random(234);
+
+	BorderType borderTypes[] = new BorderType[]{BorderType.EXTENDED,BorderType.REFLECT,BorderType.WRAP,BorderType.ZERO};
+
+	/**
+	 * Compare against the general border convolution for every function, border type, and a few different kernels.
+	 * Different image shapes are processed in a row to make sure the saved padded images are correctly resized.
+	 */
+	@Test
+	public void compareToGeneral() throws InvocationTargetException, IllegalAccessException {
+		int total = 0;
+		for( Method m : ConvolvePaddedBorder_SB.class.getMethods() ) {
+			if( m.getParameterTypes().length != 4 || m.getName().startsWith("isPreferred") )
+				continue;
+
+			for( BorderType borderType : borderTypes ) {
+				compareToGeneral(m,borderType,5,2,20,15);
+				compareToGeneral(m,borderType,4,0,9,12);
+				compareToGeneral(m,borderType,7,6,20,15);
+			}
+			total++;
+		}
+		assertEquals(15,total);
+	}
+
+	private void compareToGeneral( Method m , BorderType borderType ,
+								   int kernelWidth , int kernelOffset , int width , int height )
+			throws InvocationTargetException, IllegalAccessException
+	{
+		Class params[] = m.getParameterTypes();
+		Class outputType = params[2] == GrayI16.class ? GrayS16.class : params[2];
+
+		KernelBase kernel = FactoryKernel.random(params[0],kernelWidth,kernelOffset,-12,10,rand);
+		ImageGray input = GeneralizedImageOps.createSingleBand(params[1],width,height);
+		ImageGray found = GeneralizedImageOps.createSingleBand(outputType,width,height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(outputType,width,height);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		ImageBorder border = FactoryImageBorder.single(input.getClass(),borderType);
+
+		Method noBorder = BoofTesting.findMethod(ConvolveImageNoBorder.class,m.getName(),params[0],params[1],params[2]);
+		Method justBorder = BoofTesting.findMethod(ConvolveJustBorder_General_SB.class,m.getName(),params[0],params[3],params[2]);
+
+		border.setImage(input);
+		noBorder.invoke(null,kernel,input,expected);
+		justBorder.invoke(null,kernel,border,expected);
+
+		for( boolean subimage : new boolean[]{false,true}) {
+			ImageGray in = subimage ? BoofTesting.createSubImageOf(input) : input;
+			ImageGray out = subimage ? BoofTesting.createSubImageOf(found) : found;
+			GImageMiscOps.fill(out,0);
+			m.invoke(null,kernel,in,out,border);
+			// floating point sums are large and are computed in a different order
+			BoofTesting.assertEquals(expected,out,1e-2);
+		}
+	}
+
+	@Test
+	public void isPreferred() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(5,2,-1,1,rand);
+		ImageBorder border = FactoryImageBorder.single(GrayF32.class,BorderType.EXTENDED);
+
+		// small images with a large kernel
+		assertTrue(ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,new GrayF32(20,20),border));
+		assertTrue(ConvolvePaddedBorder_SB.isPreferredVertical(kernel,new GrayF32(20,20),border));
+		// large images are never padded
+		assertFalse(ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,new GrayF32(1000,20),border));
+		// the border is only a small fraction of the image
+		assertFalse(ConvolvePaddedBorder_SB.isPreferredVertical(kernel,new GrayF32(20,200),border));
+
+		// a value border might not fit inside the padded U8 image
+		GrayU8 gray = new GrayU8(20,20);
+		assertFalse(ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,gray,FactoryImageBorder.singleValue(gray,300)));
+		assertTrue(ConvolvePaddedBorder_SB.isPreferredHorizontal(kernel,gray,FactoryImageBorder.single(GrayU8.class,BorderType.REFLECT)));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.down;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveDownNormalizedSeparable {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against a naive horizontal then vertical down convolution for a variety of image shapes, including
+	 * ones which are smaller than the kernel
+	 */
+	@Test
+	public void compareToTwoPass_F32() {
+		for( int skip = 1; skip <= 4; skip++ ) {
+			for( int radius = 1; radius <= 4; radius++ ) {
+				for( int[] shape : new int[][]{{30,35},{31,27},{6,5},{3,9}} ) {
+					GrayF32 input = new GrayF32(shape[0],shape[1]);
+					ImageMiscOps.fillUniform(input, rand, 0, 100);
+					Kernel1D_F32 kernel = FactoryKernel.random1D_F32(2*radius+1,radius, 0, 5, rand);
+					normalize(kernel);
+
+					GrayF32 found = new GrayF32(input.width/skip,input.height/skip);
+					GrayF32 expected = new GrayF32(input.width/skip,input.height/skip);
+
+					BoofTesting.checkSubImage(this, "compareToTwoPass_F32", true, kernel, input, found, expected, skip);
+				}
+			}
+		}
+	}
+
+	public void compareToTwoPass_F32( Kernel1D_F32 kernel , GrayF32 input , GrayF32 found , GrayF32 expected ,
+									  int skip ) {
+		GrayF32 temp = new GrayF32(input.width/skip,input.height);
+		ConvolveDownNormalizedNaive.horizontal(kernel, input, temp, skip);
+		ConvolveDownNormalizedNaive.vertical(kernel, temp, expected, skip);
+
+		ConvolveDownNormalizedSeparable.process(kernel, input, found, skip, null);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test
+	public void compareToTwoPass_U8() {
+		for( int skip = 1; skip <= 4; skip++ ) {
+			for( int radius = 1; radius <= 4; radius++ ) {
+				for( int[] shape : new int[][]{{30,35},{31,27},{6,5},{3,9}} ) {
+					GrayU8 input = new GrayU8(shape[0],shape[1]);
+					ImageMiscOps.fillUniform(input, rand, 0, 256);
+					Kernel1D_S32 kernel = FactoryKernel.random1D_I32(2*radius+1,radius, 1, 6, rand);
+
+					GrayU8 found = new GrayU8(input.width/skip,input.height/skip);
+					GrayU8 expected = new GrayU8(input.width/skip,input.height/skip);
+
+					BoofTesting.checkSubImage(this, "compareToTwoPass_U8", true, kernel, input, found, expected, skip);
+				}
+			}
+		}
+	}
+
+	public void compareToTwoPass_U8( Kernel1D_S32 kernel , GrayU8 input , GrayU8 found , GrayU8 expected ,
+									 int skip ) {
+		GrayU8 temp = new GrayU8(input.width/skip,input.height);
+		ConvolveDownNormalizedNaive.horizontal(kernel, input, temp, skip);
+		ConvolveDownNormalizedNaive.vertical(kernel, temp, expected, skip);
+
+		ConvolveDownNormalizedSeparable.process(kernel, input, found, skip, null);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * The same workspace should be reusable with different kernels and image sizes
+	 */
+	@Test
+	public void reuseWorkspace() {
+		ConvolveDownNormalizedSeparable.Workspace work = new ConvolveDownNormalizedSeparable.Workspace();
+
+		for( int[] shape : new int[][]{{30,35},{60,20},{10,15}} ) {
+			for( int radius = 1; radius <= 3; radius++ ) {
+				GrayU8 input = new GrayU8(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(input, rand, 0, 256);
+				Kernel1D_S32 kernel = FactoryKernel.random1D_I32(2*radius+1,radius, 1, 6, rand);
+
+				GrayU8 found = new GrayU8(input.width/2,input.height/2);
+				GrayU8 expected = new GrayU8(input.width/2,input.height/2);
+
+				ConvolveDownNormalizedSeparable.process(kernel, input, expected, 2, null);
+				ConvolveDownNormalizedSeparable.process(kernel, input, found, 2, work);
+
+				BoofTesting.assertEquals(expected, found, 0);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void outputTooSmall() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(5,2, 0, 5, rand);
+		ConvolveDownNormalizedSeparable.process(kernel, new GrayF32(20,30), new GrayF32(9,15), 2, null);
+	}
+
+	/**
+	 * Adjust the kernel so that it sums up to one, like a blur kernel would
+	 */
+	private static void normalize( Kernel1D_F32 kernel ) {
+		float sum = 0;
+		for( int i = 0; i < kernel.width; i++ )
+			sum += kernel.data[i];
+		for( int i = 0; i < kernel.width; i++ )
+			kernel.data[i] /= sum;
+		assertEquals(1, kernel.computeSum(), 1e-4);
+	}
+}
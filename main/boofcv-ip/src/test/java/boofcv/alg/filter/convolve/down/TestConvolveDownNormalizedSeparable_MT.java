@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.down;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveDownNormalizedSeparable_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread_F32() {
+		// tall enough to be split into several blocks of rows
+		GrayF32 input = new GrayF32(35,300);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( int skip = 1; skip <= 3; skip++ ) {
+			Kernel1D_F32 kernel = FactoryKernel.random1D_F32(7,3, 0, 5, rand);
+			GrayF32 found = new GrayF32(input.width/skip,input.height/skip);
+			GrayF32 expected = new GrayF32(input.width/skip,input.height/skip);
+
+			ConvolveDownNormalizedSeparable.process(kernel, input, expected, skip, null);
+			ConvolveDownNormalizedSeparable_MT.process(kernel, input, found, skip);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_U8() {
+		GrayU8 input = new GrayU8(35,300);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		for( int skip = 1; skip <= 3; skip++ ) {
+			Kernel1D_S32 kernel = FactoryKernel.random1D_I32(7,3, 1, 6, rand);
+			GrayU8 found = new GrayU8(input.width/skip,input.height/skip);
+			GrayU8 expected = new GrayU8(input.width/skip,input.height/skip);
+
+			ConvolveDownNormalizedSeparable.process(kernel, input, expected, skip, null);
+			ConvolveDownNormalizedSeparable_MT.process(kernel, input, found, skip);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGradientSobel_UnrolledOuter_MT {
+	Random rand = new Random(234);
+
+	int width = 200;
+	int height = 250;
+
+	@Test
+	public void process_F32_sub_naive() {
+		for( int offY = 0; offY < 3; offY++ ) {
+			for( int offX = 0; offX < 3; offX++ ) {
+				int w = width+offX; int h = height+offY;
+				GrayF32 img = new GrayF32(w, h);
+				ImageMiscOps.fillUniform(img, rand, 0f, 255f);
+
+				GrayF32 derivX = new GrayF32(w, h);
+				GrayF32 derivY = new GrayF32(w, h);
+
+				BoofTesting.checkSubImage(this, "process_F32_sub_naive", true, img, derivX, derivY);
+			}
+		}
+	}
+
+	public void process_F32_sub_naive(GrayF32 img, GrayF32 derivX, GrayF32 derivY) {
+		GrayF32 derivX2 = new GrayF32(derivX.width, derivX.height);
+		GrayF32 derivY2 = new GrayF32(derivX.width, derivX.height);
+
+		GradientSobel_UnrolledOuter.process_F32_sub(img, derivX2, derivY2);
+		GradientSobel_UnrolledOuter_MT.process_F32_sub(img, derivX, derivY);
+
+		BoofTesting.assertEquals(derivX2, derivX, 0);
+		BoofTesting.assertEquals(derivY2, derivY, 0);
+	}
+}
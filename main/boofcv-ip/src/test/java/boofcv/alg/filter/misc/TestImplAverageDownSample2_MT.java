@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.misc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplAverageDownSample2_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 45;
+	int height = 62;
+
+	public TestImplAverageDownSample2_MT() {
+		super(ImplAverageDownSample2_MT.class, ImplAverageDownSample2.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		performTests(7);
+	}
+
+	@Override
+	protected boolean isTestMethod(Method m) {
+		return m.getName().equals("down");
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class params[] = candidate.getParameterTypes();
+
+		int downWidth = AverageDownSampleOps.downSampleSize(width,2);
+		int downHeight = AverageDownSampleOps.downSampleSize(height,2);
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(params[0],width,height);
+		ImageGray output = GeneralizedImageOps.createSingleBand(params[params.length-1],downWidth,downHeight);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		return new Object[][]{{input,output}};
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
+		BoofTesting.assertEquals((ImageGray)validationParam[1], (ImageGray)targetParam[1], 0);
+	}
+}
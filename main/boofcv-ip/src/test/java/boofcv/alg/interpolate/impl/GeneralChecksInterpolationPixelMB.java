@@ -206,6 +206,39 @@ public abstract class GeneralChecksInterpolationPixelMB<T extends ImageMultiBand
 		for (int i = 0; i < numBands; i++) { assertEquals(tmp0[i],tmp1[i],1e-4); }
 	}
 
+	/**
+	 * A copy should produce the same values and not be affected by changes to the original
+	 */
+	@Test
+	public void copy() {
+		T img = createImage(width, height, numBands);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		InterpolatePixelMB<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.interleavedValue((Class) img.getClass(), 5));
+		interp.setImage(img);
+
+		float[] points = new float[40];
+		float[][] expected = new float[points.length/2][numBands];
+		for (int i = 0; i < expected.length; i++) {
+			points[i*2  ] = rand.nextFloat()*(width+10)-5;
+			points[i*2+1] = rand.nextFloat()*(height+10)-5;
+			interp.get(points[i*2],points[i*2+1],expected[i]);
+		}
+
+		InterpolatePixelMB<T> copy = interp.copy();
+		assertNotSame(interp.getBorder(), copy.getBorder());
+		copy.setImage(img);
+		interp.setImage(createImage(width/2,height/2,numBands));
+
+		for (int i = 0; i < expected.length; i++) {
+			copy.get(points[i*2],points[i*2+1],tmp0);
+			for (int band = 0; band < numBands; band++) {
+				assertEquals(expected[i][band], tmp0[band], 1e-4);
+			}
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height, numBands);
@@ -174,6 +174,36 @@ public abstract class GeneralChecksInterpolationPixelS<T extends ImageGray<T>> {
 		assertEquals(5,interp.get(0,2330),1e-6);
 	}
 
+	/**
+	 * A copy should produce the same values and not be affected by changes to the original
+	 */
+	@Test
+	public void copy() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		float[] points = new float[40];
+		float[] expected = new float[points.length/2];
+		for (int i = 0; i < expected.length; i++) {
+			points[i*2  ] = rand.nextFloat()*(width+10)-5;
+			points[i*2+1] = rand.nextFloat()*(height+10)-5;
+			expected[i] = interp.get(points[i*2],points[i*2+1]);
+		}
+
+		InterpolatePixelS<T> copy = interp.copy();
+		assertNotSame(interp.getBorder(), copy.getBorder());
+		copy.setImage(img);
+		interp.setImage(createImage(width/2,height/2));
+
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], copy.get(points[i*2],points[i*2+1]), 1e-4);
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height);
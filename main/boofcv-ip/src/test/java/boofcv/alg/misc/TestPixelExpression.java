@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPixelExpression {
+	int width = 20;
+	int height = 25;
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against the same operations computed one at a time with PixelMath
+	 */
+	@Test
+	public void compareToPixelMath() {
+		GrayF32 a = new GrayF32(width,height);
+		GrayF32 b = new GrayF32(width,height);
+		GrayF32 found = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(a,rand,-10,10);
+		ImageMiscOps.fillUniform(b,rand,1,10);
+
+		BoofTesting.checkSubImage(this, "compareToPixelMath", true, a, b, found);
+	}
+
+	public void compareToPixelMath( GrayF32 a , GrayF32 b , GrayF32 found ) {
+		// | a*b + a/b - 2.5 | bounded to [0,40] then with the difference from b negated
+		PixelExpression A = PixelExpression.image(a);
+		PixelExpression B = PixelExpression.image(b);
+		A.multiply(B).plus(A.divide(B)).minus(2.5).abs().boundImage(0,40).diffAbs(B).negative().process(found);
+
+		GrayF32 tmp0 = new GrayF32(width,height);
+		GrayF32 tmp1 = new GrayF32(width,height);
+		GrayF32 expected = new GrayF32(width,height);
+		PixelMath.multiply(a,b,tmp0);
+		PixelMath.divide(a,b,tmp1);
+		PixelMath.add(tmp0,tmp1,tmp0);
+		PixelMath.minus(tmp0,2.5f,tmp0);
+		PixelMath.abs(tmp0,tmp0);
+		PixelMath.boundImage(tmp0,0,40);
+		PixelMath.diffAbs(tmp0,b,tmp0);
+		PixelMath.multiply(tmp0,-1,expected);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	/**
+	 * Integer outputs should be rounded and saturated
+	 */
+	@Test
+	public void integerOutput() {
+		GrayU8 a = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(a,rand,0,256);
+
+		GrayU8 foundU8 = new GrayU8(width,height);
+		GrayS16 foundS16 = new GrayS16(width,height);
+		PixelExpression expression = PixelExpression.image(a).multiply(1.5).minus(100.2);
+		expression.process(foundU8);
+		expression.process(foundS16);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int expected = Math.round(a.get(x,y)*1.5f - 100.2f);
+				assertEquals(Math.max(0,Math.min(255,expected)),foundU8.get(x,y));
+				assertEquals(expected,foundS16.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void averageBand() {
+		InterleavedU8 a = new InterleavedU8(width,height,3);
+		InterleavedF32 b = new InterleavedF32(width,height,3);
+		ImageMiscOps.fillUniform(a,rand,0,256);
+		ImageMiscOps.fillUniform(b,rand,-5,5);
+
+		GrayF32 found = new GrayF32(width,height);
+		PixelExpression.image(a).plus(PixelExpression.image(b)).averageBand().process(found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float sum = 0;
+				for( int band = 0; band < 3; band++ ) {
+					sum += a.getBand(x,y,band) + b.getBand(x,y,band);
+				}
+				assertEquals(sum/3,found.get(x,y),1e-4f);
+			}
+		}
+	}
+
+	/**
+	 * A sub-expression which is used multiple times and the output is the same instance as the input
+	 */
+	@Test
+	public void sharedExpressionInPlace() {
+		GrayU16 a = new GrayU16(width,height);
+		ImageMiscOps.fillUniform(a,rand,0,200);
+		GrayU16 original = a.clone();
+
+		PixelExpression shared = PixelExpression.image(a).plus(1);
+		shared.multiply(shared).minus(shared).process(a);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int v = original.get(x,y) + 1;
+				assertEquals(v*v - v,a.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		GrayF32 a = new GrayF32(30,150);
+		GrayU8 b = new GrayU8(30,150);
+		ImageMiscOps.fillUniform(a,rand,-10,10);
+		ImageMiscOps.fillUniform(b,rand,0,256);
+
+		GrayF32 expected = new GrayF32(a.width,a.height);
+		GrayF32 found = new GrayF32(a.width,a.height);
+
+		PixelExpression expression = PixelExpression.image(a).multiply(PixelExpression.image(b)).plus(3);
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			expression.process(expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			expression.process(found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+		}
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void checkShapes() {
+		PixelExpression a = PixelExpression.image(new GrayU8(width,height));
+		PixelExpression b = PixelExpression.image(new GrayU8(width,height+1));
+		PixelExpression c = PixelExpression.image(new InterleavedU8(width,height,2));
+
+		checkIllegal(a.plus(b),new GrayU8(width,height));
+		checkIllegal(a.plus(c),new GrayU8(width,height));
+		checkIllegal(a.plus(2),new GrayU8(width+1,height));
+		checkIllegal(c.plus(2),new GrayU8(width,height));
+		checkIllegal(c.averageBand(),new InterleavedU8(width,height,2));
+	}
+
+	private void checkIllegal( PixelExpression expression , ImageBase output ) {
+		try {
+			expression.process(output);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the output of {@link ImageStatistics} when the concurrent implementation is and isn't used
+ *
+ * @author Peter Abeles
+ */
+public class TestImplImageStatistics_MT {
+	int width = 30;
+	int height = 100;
+	int numBands = 2;
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingleThread() {
+		int numExpected = 9*8 + 7*8;
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			// ensures that the image is split into several blocks
+			BoofConcurrency.setMaxThreads(4);
+
+			int numFound = 0;
+			for( Method m : ImageStatistics.class.getMethods() ) {
+				Class param[] = m.getParameterTypes();
+				if( param.length < 1 || !ImageBase.class.isAssignableFrom(param[0]) )
+					continue;
+
+				Object[] args = createArguments(m);
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				Object expected = invoke(m, args);
+				BoofConcurrency.USE_CONCURRENT = true;
+				Object found = invoke(m, args);
+
+				if( expected instanceof int[] ) {
+					assertArrayEquals(m.toString(), (int[])expected, (int[])found);
+				} else if( expected instanceof Float || expected instanceof Double ) {
+					double e = ((Number)expected).doubleValue();
+					double f = ((Number)found).doubleValue();
+					assertEquals(m.toString(), e, f, 1e-4*Math.max(1,Math.abs(e)));
+				} else {
+					assertEquals(m.toString(), expected, found);
+				}
+				numFound++;
+			}
+
+			assertEquals(numExpected, numFound);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * Sum of a large U8 image overflows an int.  The mean should still be correct.
+	 */
+	@Test
+	public void mean_overflow() {
+		GrayU8 image = new GrayU8(3000,3000);
+		GImageMiscOps.fill(image, 255);
+
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			BoofConcurrency.USE_CONCURRENT = true;
+			assertEquals(255, ImageStatistics.mean(image), 1e-8);
+			assertEquals(0, ImageStatistics.meanDiffSq(image, new GrayU8(3000,3000)) - 255*255, 1e-8);
+			BoofConcurrency.USE_CONCURRENT = false;
+			assertEquals(255, ImageStatistics.mean(image), 1e-8);
+			assertEquals(0, ImageStatistics.meanDiffSq(image, new GrayU8(3000,3000)) - 255*255, 1e-8);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	private Object invoke( Method m , Object[] args ) {
+		try {
+			if( m.getName().equals("histogram") ) {
+				int[] histogram = new int[40];
+				m.invoke(null, args[0], args[1], histogram);
+				return histogram;
+			}
+			return m.invoke(null, args);
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Object[] createArguments( Method m ) {
+		Class param[] = m.getParameterTypes();
+
+		ImageBase imageA = createImage(param[0]);
+		boolean signed = imageA.getImageType().getDataType().isSigned();
+
+		switch( m.getName() ) {
+			case "meanDiffSq":
+			case "meanDiffAbs":
+				return new Object[]{imageA, createImage(param[1])};
+
+			case "variance":
+				return new Object[]{imageA, cast(param[1], 4.5)};
+
+			case "histogram":
+				// values must be inside the histogram
+				GImageMiscOps.fillUniform(imageA, rand, signed ? -20 : 0, signed ? 20 : 40);
+				return new Object[]{imageA, cast(param[1], signed ? -20 : 0), null};
+
+			default:
+				return new Object[]{imageA};
+		}
+	}
+
+	private ImageBase createImage( Class type ) {
+		ImageBase image = GeneralizedImageOps.createImage(type, width, height, numBands);
+		if( image.getImageType().getDataType().isSigned() )
+			GImageMiscOps.fillUniform(image, rand, -100, 100);
+		else
+			GImageMiscOps.fillUniform(image, rand, 0, 200);
+		return BoofTesting.createSubImageOf(image);
+	}
+
+	private static Object cast( Class type , double value ) {
+		if( type == int.class )
+			return (int)value;
+		else if( type == long.class )
+			return (long)value;
+		else if( type == float.class )
+			return (float)value;
+		else
+			return value;
+	}
+}
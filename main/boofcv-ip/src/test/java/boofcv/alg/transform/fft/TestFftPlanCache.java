@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFftPlanCache {
+
+	int origMaxPlans;
+
+	@Before
+	public void before() {
+		origMaxPlans = FftPlanCache.MAX_PLANS;
+		FftPlanCache.clear();
+	}
+
+	@After
+	public void after() {
+		FftPlanCache.MAX_PLANS = origMaxPlans;
+		FftPlanCache.clear();
+	}
+
+	/**
+	 * A plan is saved for each size and type and a new instance is always returned
+	 */
+	@Test
+	public void keyedBySizeAndType() {
+		GeneralPurposeFFT_F32_1D a = FftPlanCache.createF32(10);
+		GeneralPurposeFFT_F32_1D b = FftPlanCache.createF32(10);
+		assertTrue(a != b);
+		assertEquals(10,a.getSize());
+		assertEquals(1,FftPlanCache.size());
+
+		FftPlanCache.createF32(12);
+		assertEquals(2,FftPlanCache.size());
+		GeneralPurposeFFT_F64_1D c = FftPlanCache.createF64(10);
+		assertEquals(10,c.getSize());
+		assertEquals(3,FftPlanCache.size());
+
+		FftPlanCache.clear();
+		assertEquals(0,FftPlanCache.size());
+	}
+
+	/**
+	 * The number of plans should be bounded
+	 */
+	@Test
+	public void maxPlans() {
+		FftPlanCache.MAX_PLANS = 3;
+		for (int i = 1; i < 10; i++) {
+			FftPlanCache.createF32(i);
+			FftPlanCache.createF64(i);
+		}
+		assertEquals(6,FftPlanCache.size());
+	}
+}
@@ -154,4 +154,36 @@ public class TestGeneralPurposeFFT_F32_1D {
 			assertEquals(original[i*2+1],input[i*2+1],tol);
 		}
 	}
+
+	/**
+	 * An instance which shares the tables of another should produce identical results
+	 */
+	@Test
+	public void copy() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			// add a size which uses the Bluestein algorithm
+			for( int n : new int[]{sizes[i],211} ) {
+				float input[] = new float[n*2];
+				for( int j = 0; j < input.length; j++ ) {
+					input[j] = (float)rand.nextGaussian();
+				}
+				float found[] = input.clone();
+
+				GeneralPurposeFFT_F32_1D alg = new GeneralPurposeFFT_F32_1D(n);
+				GeneralPurposeFFT_F32_1D copy = new GeneralPurposeFFT_F32_1D(alg);
+
+				alg.complexForward(input);
+				copy.complexForward(found);
+				for( int j = 0; j < input.length; j++ ) {
+					assertEquals(input[j],found[j],0);
+				}
+
+				alg.realForward(input);
+				copy.realForward(found);
+				for( int j = 0; j < input.length; j++ ) {
+					assertEquals(input[j],found[j],0);
+				}
+			}
+		}
+	}
 }
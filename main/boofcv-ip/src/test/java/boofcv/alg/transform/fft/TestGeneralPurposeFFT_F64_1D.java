@@ -153,4 +153,36 @@ public class TestGeneralPurposeFFT_F64_1D {
 			assertEquals(original[i*2+1],input[i*2+1],1e-8);
 		}
 	}
+
+	/**
+	 * An instance which shares the tables of another should produce identical results
+	 */
+	@Test
+	public void copy() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			// add a size which uses the Bluestein algorithm
+			for( int n : new int[]{sizes[i],211} ) {
+				double input[] = new double[n*2];
+				for( int j = 0; j < input.length; j++ ) {
+					input[j] = (double)rand.nextGaussian();
+				}
+				double found[] = input.clone();
+
+				GeneralPurposeFFT_F64_1D alg = new GeneralPurposeFFT_F64_1D(n);
+				GeneralPurposeFFT_F64_1D copy = new GeneralPurposeFFT_F64_1D(alg);
+
+				alg.complexForward(input);
+				copy.complexForward(found);
+				for( int j = 0; j < input.length; j++ ) {
+					assertEquals(input[j],found[j],0);
+				}
+
+				alg.realForward(input);
+				copy.realForward(found);
+				for( int j = 0; j < input.length; j++ ) {
+					assertEquals(input[j],found[j],0);
+				}
+			}
+		}
+	}
 }
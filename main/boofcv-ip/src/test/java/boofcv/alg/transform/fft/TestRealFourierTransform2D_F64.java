@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.fft;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.InterleavedF64;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRealFourierTransform2D_F64 {
+
+	double tol = 1e-8;
+	Random rand = new Random(234);
+
+	// includes power of two, mixed radix, and Bluestein sizes
+	int sizes[] = new int[]{1,2,3,7,16,100,211};
+
+	/**
+	 * Compare against a complex transform of the same image
+	 */
+	@Test
+	public void forward() {
+		RealFourierTransform2D_F64 alg = new RealFourierTransform2D_F64();
+
+		for( int height : sizes ) {
+			for( int width : sizes ) {
+				GrayF64 image = new GrayF64(width,height);
+				ImageMiscOps.fillUniform(image,rand,-1,1);
+				InterleavedF64 found = new InterleavedF64(width,height,2);
+
+				alg.forward(image,found);
+
+				double expected[] = new double[width*height*2];
+				for (int i = 0; i < width*height; i++) {
+					expected[i*2] = image.data[i];
+				}
+				new GeneralPurposeFFT_F64_2D(height,width).complexForward(expected);
+
+				// errors grow with the magnitude of the transform
+				double tolN = tol*Math.sqrt(width*height)/10;
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(width+"x"+height,expected[i],found.data[i],tolN);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compare against the real component of a complex inverse transform. The input isn't conjugate symmetric
+	 */
+	@Test
+	public void inverse() {
+		RealFourierTransform2D_F64 alg = new RealFourierTransform2D_F64();
+
+		for( int height : sizes ) {
+			for( int width : sizes ) {
+				InterleavedF64 transform = new InterleavedF64(width,height,2);
+				ImageMiscOps.fillUniform(transform,rand,-1,1);
+				InterleavedF64 original = transform.clone();
+				GrayF64 found = new GrayF64(width,height);
+
+				alg.inverse(transform,found);
+
+				double expected[] = transform.data.clone();
+				new GeneralPurposeFFT_F64_2D(height,width).complexInverse(expected,true);
+
+				for (int i = 0; i < width*height; i++) {
+					assertEquals(width+"x"+height,expected[i*2],found.data[i],tol);
+				}
+				// the input should not be modified
+				BoofTesting.assertEquals(original,transform,0);
+			}
+		}
+	}
+
+	/**
+	 * Sub-images should produce the same results
+	 */
+	@Test
+	public void subimage() {
+		GrayF64 image = new GrayF64(30,25);
+		ImageMiscOps.fillUniform(image,rand,-1,1);
+		InterleavedF64 transform = new InterleavedF64(30,25,2);
+		GrayF64 found = new GrayF64(30,25);
+
+		RealFourierTransform2D_F64 alg = new RealFourierTransform2D_F64();
+		alg.forward(image,transform);
+		alg.inverse(transform,found);
+
+		GrayF64 imageSub = BoofTesting.createSubImageOf(image);
+		InterleavedF64 transformSub = BoofTesting.createSubImageOf(transform);
+		GrayF64 foundSub = BoofTesting.createSubImageOf(found);
+		alg.forward(imageSub,transformSub);
+		alg.inverse(transformSub,foundSub);
+
+		BoofTesting.assertEquals(transform,transformSub,0);
+		BoofTesting.assertEquals(found,foundSub,0);
+		BoofTesting.assertEquals(image,foundSub,tol);
+	}
+
+	/**
+	 * The concurrent code should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		boolean origConcurrent = BoofConcurrency.USE_CONCURRENT;
+		int origThreads = BoofConcurrency.getMaxThreads();
+		try {
+			for( int size : new int[]{64,101}) {
+				GrayF64 image = new GrayF64(size+5,size);
+				ImageMiscOps.fillUniform(image,rand,-1,1);
+
+				InterleavedF64 expectedT = new InterleavedF64(image.width,image.height,2);
+				GrayF64 expectedI = new GrayF64(image.width,image.height);
+				BoofConcurrency.USE_CONCURRENT = false;
+				RealFourierTransform2D_F64 alg = new RealFourierTransform2D_F64();
+				alg.forward(image,expectedT);
+				alg.inverse(expectedT,expectedI);
+
+				InterleavedF64 foundT = new InterleavedF64(image.width,image.height,2);
+				GrayF64 foundI = new GrayF64(image.width,image.height);
+				BoofConcurrency.USE_CONCURRENT = true;
+				BoofConcurrency.setMaxThreads(3);
+				alg.forward(image,foundT);
+				alg.inverse(foundT,foundI);
+
+				BoofTesting.assertEquals(expectedT,foundT,0);
+				BoofTesting.assertEquals(expectedI,foundI,0);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = origConcurrent;
+			BoofConcurrency.setMaxThreads(origThreads);
+		}
+	}
+}
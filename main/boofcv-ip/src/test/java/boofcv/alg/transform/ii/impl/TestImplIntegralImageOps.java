@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -59,6 +59,12 @@ public class TestImplIntegralImageOps {
 		Assert.assertEquals(5, numFound);
 	}
 
+	@Test
+	public void transform64() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps.class,"transform64");
+		Assert.assertEquals(2, numFound);
+	}
+
 	public void transform( Method m ) {
 		Class paramType[] = m.getParameterTypes();
 		Class inputType = paramType[0];
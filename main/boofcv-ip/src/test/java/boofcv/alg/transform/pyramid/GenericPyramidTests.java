@@ -20,9 +20,11 @@ package boofcv.alg.transform.pyramid;
 
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.GImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.ImagePyramid;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -64,5 +66,57 @@ public abstract class GenericPyramidTests<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Internal storage is reused between calls.  Process images of different sizes and see if the results are the
+	 * same as a pyramid which has only seen the last image.
+	 */
+	@Test
+	public void reuseBetweenCalls() {
+		T first = GeneralizedImageOps.createSingleBand(imageType, width+15, height-10);
+		T second = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(first, rand, 0, 100);
+		GImageMiscOps.fillUniform(second, rand, 0, 100);
+
+		ImagePyramid<T> reused = createPyramid(1,2,4);
+		reused.process(first);
+		reused.process(second);
+
+		ImagePyramid<T> fresh = createPyramid(1,2,4);
+		fresh.process(second);
+
+		for( int i = 0; i < fresh.getNumLayers(); i++ ) {
+			BoofTesting.assertEquals(fresh.getLayer(i), reused.getLayer(i), 1e-4);
+		}
+	}
+
+	/**
+	 * The concurrent implementation should produce the same results as the single threaded one
+	 */
+	@Test
+	public void compareConcurrentToSingleThread() {
+		T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		boolean concurrent = BoofConcurrency.USE_CONCURRENT;
+		int threads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			ImagePyramid<T> expected = createPyramid(1,2,4);
+			expected.process(input);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(3);
+			ImagePyramid<T> found = createPyramid(1,2,4);
+			found.process(input);
+
+			for( int i = 0; i < expected.getNumLayers(); i++ ) {
+				BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 1e-4);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			BoofConcurrency.setMaxThreads(threads);
+		}
+	}
+
 	protected abstract ImagePyramid<T> createPyramid( int... scales);
 }
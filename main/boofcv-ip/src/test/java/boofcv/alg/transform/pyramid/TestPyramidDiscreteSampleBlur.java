@@ -18,10 +18,14 @@
 
 package boofcv.alg.transform.pyramid;
 
+import boofcv.alg.filter.convolve.ConvolveDownNormalized;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.testing.BoofTesting;
@@ -90,6 +94,36 @@ public class TestPyramidDiscreteSampleBlur extends GenericPyramidTests<GrayF32>
 		}
 	}
 
+	/**
+	 * Integer images are blurred and down sampled in a single pass.  Compare to convolving each axis independently.
+	 */
+	@Test
+	public void update_U8() {
+		Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,2);
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		PyramidDiscreteSampleBlur<GrayU8> alg =
+				new PyramidDiscreteSampleBlur<>(kernel,2, ImageType.single(GrayU8.class),false,new int[]{2,4});
+		alg.process(input);
+
+		GrayU8 prev = input;
+		for( int i = 0; i < alg.getNumLayers(); i++ ) {
+			GrayU8 temp = new GrayU8(prev.width/2,prev.height);
+			GrayU8 expected = new GrayU8(prev.width/2,prev.height/2);
+			ConvolveDownNormalized.horizontal(kernel,prev,temp,2);
+			ConvolveDownNormalized.vertical(kernel,temp,expected,2);
+
+			GrayU8 found = alg.getLayer(i);
+			for (int y = 0; y < expected.height; y++) {
+				for (int x = 0; x < expected.width; x++) {
+					assertEquals(expected.get(x,y), found.get(x,y));
+				}
+			}
+			prev = found;
+		}
+	}
+
 	/**
 	 * Makes sure the amount of Gaussian blur in each level is correctly computed
 	 */
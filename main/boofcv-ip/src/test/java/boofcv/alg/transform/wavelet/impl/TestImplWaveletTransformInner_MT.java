@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplWaveletTransformInner_MT {
+
+	Random rand = new Random(234);
+
+	// tall and wide enough to be split into several blocks of rows and columns
+	int width = 60;
+	int height = 150;
+
+	@Test
+	public void compareToSingleThread_F32() {
+		WaveletDescription<?> desc = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
+		compareAll(desc, new GrayF32(width,height), new GrayF32(width,height), new GrayF32(width,height));
+		desc = FactoryWaveletDaub.daubJ_F32(4);
+		compareAll(desc, new GrayF32(width,height), new GrayF32(width,height), new GrayF32(width,height));
+	}
+
+	@Test
+	public void compareToSingleThread_I32() {
+		WaveletDescription<?> desc = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+		compareAll(desc, new GrayS32(width,height), new GrayS32(width,height), new GrayS32(width,height));
+	}
+
+	private void compareAll( WaveletDescription<?> desc , ImageGray input , ImageGray expected , ImageGray found ) {
+		GImageMiscOps.fillUniform(input, rand, -50, 50);
+		for( String name : new String[]{"horizontal","vertical","horizontalInverse","verticalInverse"}) {
+			GImageMiscOps.fill(expected,0);
+			GImageMiscOps.fill(found,0);
+			apply(ImplWaveletTransformInner.class,name,desc,input,expected);
+			apply(ImplWaveletTransformInner_MT.class,name,desc,input,found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	private void apply( Class type , String functionName , WaveletDescription<?> desc,
+						ImageGray input, ImageGray output ) {
+		WlCoef coef = functionName.contains("Inverse") ? desc.getInverse().getInnerCoefficients() : desc.getForward();
+		Method m = BoofTesting.findMethod(type,functionName,coef.getClass(),input.getClass(),output.getClass());
+
+		try {
+			m.invoke(null,coef,input,output);
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
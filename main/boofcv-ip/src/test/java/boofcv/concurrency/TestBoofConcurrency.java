@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	@Test
+	public void loopFor() {
+		AtomicIntegerArray found = new AtomicIntegerArray(100);
+
+		BoofConcurrency.loopFor(5,95, i -> found.incrementAndGet(i));
+
+		for (int i = 0; i < found.length(); i++) {
+			assertEquals( i >= 5 && i < 95 ? 1 : 0 , found.get(i));
+		}
+
+		// empty range should do nothing
+		BoofConcurrency.loopFor(5,5, i -> fail("Should not be called"));
+	}
+
+	@Test
+	public void loopBlocks() {
+		for( int minBlock : new int[]{1,3,8,200}) {
+			AtomicIntegerArray found = new AtomicIntegerArray(100);
+
+			BoofConcurrency.loopBlocks(5, 95, minBlock, (idx0, idx1) -> {
+				assertTrue(idx0 < idx1);
+				assertTrue(idx1-idx0 >= Math.min(minBlock,95-idx0));
+				for (int i = idx0; i < idx1; i++) {
+					found.incrementAndGet(i);
+				}
+			});
+
+			for (int i = 0; i < found.length(); i++) {
+				assertEquals(i >= 5 && i < 95 ? 1 : 0, found.get(i));
+			}
+		}
+
+		BoofConcurrency.loopBlocks(5,5, (idx0,idx1) -> fail("Should not be called"));
+	}
+
+	@Test
+	public void reduceBlocks() {
+		int original = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( int minBlock : new int[]{1,3,8,200}) {
+				// concatenating strings will only produce the expected result if combined in order
+				String found = BoofConcurrency.reduceBlocks(5, 95, minBlock, (idx0, idx1) -> {
+					assertTrue(idx0 < idx1);
+					String s = "";
+					for (int i = idx0; i < idx1; i++) {
+						s += i + ",";
+					}
+					return s;
+				}, String::concat);
+
+				String expected = "";
+				for (int i = 5; i < 95; i++) {
+					expected += i + ",";
+				}
+				assertEquals(expected, found);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+
+		// empty range should be called once with an empty range
+		int found = BoofConcurrency.reduceBlocks(5, 5, (idx0, idx1) -> idx1 - idx0 + 2, Integer::sum);
+		assertEquals(2, found);
+	}
+
+	/**
+	 * Exceptions thrown inside a thread should be passed to the caller unmodified
+	 */
+	@Test
+	public void exceptionPassedOn() {
+		try {
+			BoofConcurrency.loopFor(0, 100, i -> {
+				if( i == 50 )
+					throw new IllegalArgumentException("Foo");
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void setMaxThreads() {
+		int original = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(2);
+			assertEquals(2, BoofConcurrency.getMaxThreads());
+
+			AtomicIntegerArray found = new AtomicIntegerArray(20);
+			BoofConcurrency.loopFor(0, 20, i -> found.incrementAndGet(i));
+			for (int i = 0; i < found.length(); i++) {
+				assertEquals(1, found.get(i));
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+	}
+
+	/**
+	 * Changing the number of threads while other threads are using the pool shouldn't cause work to be rejected
+	 */
+	@Test
+	public void setMaxThreads_whileRunning() throws InterruptedException {
+		int original = BoofConcurrency.getMaxThreads();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		Thread worker = new Thread(() -> {
+			try {
+				for (int trial = 0; trial < 20000; trial++) {
+					AtomicIntegerArray found = new AtomicIntegerArray(50);
+					BoofConcurrency.loopBlocks(0, 50, 1, (idx0, idx1) -> {
+						for (int i = idx0; i < idx1; i++) {
+							found.incrementAndGet(i);
+						}
+					});
+					for (int i = 0; i < found.length(); i++) {
+						assertEquals(1, found.get(i));
+					}
+				}
+			} catch( Throwable t ) {
+				error.set(t);
+			}
+		});
+		try {
+			worker.start();
+			for (int trial = 0; worker.isAlive(); trial++) {
+				BoofConcurrency.setMaxThreads(2 + trial%3);
+			}
+			worker.join();
+		} finally {
+			BoofConcurrency.setMaxThreads(original);
+		}
+		assertNull(error.get());
+	}
+}
@@ -19,13 +19,19 @@
 package boofcv.core.encoding;
 
 import boofcv.alg.color.ColorYuv;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.pyramid.PyramidDiscreteAverage;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -86,6 +92,73 @@ public class TestConvertNV21 {
 		}
 	}
 
+	@Test
+	public void wrapGray() {
+		byte[] data = random(width,height);
+		byte[] original = data.clone();
+
+		GrayU8 gray = ConvertNV21.wrapGray(data, width, height, null);
+		assertEquals(width, gray.width);
+		assertEquals(height, gray.height);
+		assertTrue(gray.isSubimage());
+		assertTrue(data == gray.data);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(data[y*width+x] & 0xFF, gray.get(x,y));
+			}
+		}
+
+		// operations which reshape or fill the image must not touch the UV data
+		GImageMiscOps.fill(gray, 5);
+		for (int i = width*height; i < data.length; i++) {
+			assertEquals(original[i], data[i]);
+		}
+	}
+
+	@Test
+	public void nv21ToGrayDown() {
+		// odd sizes will test the border case
+		for( int sampleWidth : new int[]{1,2,3,4}) {
+			int width = 21, height = 31;
+			byte[] data = random(width,height);
+
+			GrayU8 gray = ConvertNV21.nv21ToGray(data, width, height, (GrayU8)null);
+			GrayU8 expected = new GrayU8(
+					AverageDownSampleOps.downSampleSize(width,sampleWidth),AverageDownSampleOps.downSampleSize(height,sampleWidth));
+			AverageDownSampleOps.down(gray, sampleWidth, expected);
+
+			GrayU8 found = ConvertNV21.nv21ToGrayDown(data, width, height, sampleWidth, null);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// provide an output image of the wrong size
+			found = ConvertNV21.nv21ToGrayDown(data, width, height, sampleWidth, new GrayU8(2,3));
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void nv21ToPyramid() {
+		byte[] data = random(width,height);
+		GrayU8 gray = ConvertNV21.nv21ToGray(data, width, height, (GrayU8)null);
+
+		for( boolean saveOriginal : new boolean[]{true,false}) {
+			for( int[] scales : new int[][]{{1,2,4},{2,4}}) {
+				PyramidDiscrete<GrayU8> expected =
+						new PyramidDiscreteAverage<>(ImageType.single(GrayU8.class), saveOriginal, scales);
+				PyramidDiscrete<GrayU8> found =
+						new PyramidDiscreteAverage<>(ImageType.single(GrayU8.class), saveOriginal, scales);
+
+				expected.process(gray);
+				ConvertNV21.nv21ToPyramid(data, width, height, found);
+
+				for (int i = 0; i < scales.length; i++) {
+					BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 0);
+				}
+			}
+		}
+	}
+
 	private byte[] random( int width , int height ) {
 		int length = width*height + (width*height/4)*2;
 		byte[] data = new byte[length];
@@ -19,8 +19,10 @@
 package boofcv.core.encoding;
 
 import boofcv.alg.color.ColorYuv;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -87,6 +89,19 @@ public class TestConvertYV12 {
 		}
 	}
 
+	@Test
+	public void yu12ToGrayDown() {
+		byte[] data = random(width,height);
+
+		GrayU8 gray = ConvertYV12.yu12ToGray(data, width, height, (GrayU8)null);
+		GrayU8 expected = new GrayU8(
+				AverageDownSampleOps.downSampleSize(width,2),AverageDownSampleOps.downSampleSize(height,2));
+		AverageDownSampleOps.down(gray, 2, expected);
+
+		GrayU8 found = ConvertYV12.yu12ToGrayDown(data, width, height, 2, null);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
 	private byte[] random( int width , int height ) {
 		int length = width*height + (width*height/4)*2;
 		byte[] data = new byte[length];
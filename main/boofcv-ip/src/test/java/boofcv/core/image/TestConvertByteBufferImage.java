@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertByteBufferImage {
+
+	Random rand = new Random(234);
+
+	int width = 10, height = 15;
+	// offset and stride with padding, like a buffer from a camera driver
+	int offset = 7, stride = 13;
+
+	@Test
+	public void wrap_U8() {
+		ByteBuffer buffer = ByteBuffer.allocate(offset + stride*height);
+		fill(buffer);
+
+		GrayU8 image = new GrayU8(width,height);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride,image));
+		assertSame(buffer.array(),image.data);
+		assertTrue(image.isSubimage());
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,image.get(x,y));
+			}
+		}
+
+		// modifying the image should modify the buffer
+		image.set(2,3,99);
+		assertEquals(99,buffer.get(offset+3*stride+2));
+	}
+
+	/**
+	 * Buffer is a slice of a larger array
+	 */
+	@Test
+	public void wrap_U8_arrayOffset() {
+		ByteBuffer full = ByteBuffer.allocate(5 + offset + stride*height);
+		full.position(5);
+		ByteBuffer buffer = full.slice();
+		fill(buffer);
+
+		GrayU8 image = new GrayU8(width,height);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride,image));
+		assertEquals(buffer.get(offset+stride+2)&0xFF,image.get(2,1));
+	}
+
+	@Test
+	public void wrap_notPossible() {
+		GrayU8 image = new GrayU8(width,height);
+		byte[] original = image.data;
+
+		assertFalse(ConvertByteBufferImage.wrap(ByteBuffer.allocateDirect(500),offset,stride,image));
+		assertFalse(ConvertByteBufferImage.wrap(ByteBuffer.allocate(500).asReadOnlyBuffer(),offset,stride,image));
+
+		assertSame(original,image.data);
+		assertFalse(image.isSubimage());
+	}
+
+	/**
+	 * The image must be inside the buffer's limit.  The input image should not be modified if it isn't
+	 */
+	@Test
+	public void wrap_outOfBounds() {
+		// the last row is one byte too short
+		ByteBuffer buffer = ByteBuffer.allocate(offset + stride*(height-1) + width - 1);
+		checkWrapFails(buffer, offset, stride, new GrayU8(width,height));
+
+		// fits inside the array but not the limit
+		buffer = ByteBuffer.allocate(offset + stride*height);
+		buffer.limit(offset + stride*(height-1) + width - 1);
+		checkWrapFails(buffer, offset, stride, new GrayU8(width,height));
+
+		// exactly fits
+		buffer.limit(offset + stride*(height-1) + width);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride,new GrayU8(width,height)));
+
+		// bad offset and stride
+		buffer = ByteBuffer.allocate(offset + stride*height);
+		checkWrapFails(buffer, -1, stride, new GrayU8(width,height));
+		checkWrapFails(buffer, offset, width-1, new GrayU8(width,height));
+
+		// the length of a row in interleaved images includes all the bands
+		InterleavedU8 interleaved = new InterleavedU8(width,height,3);
+		buffer = ByteBuffer.allocate(offset + stride*3*(height-1) + width*3 - 1);
+		try {
+			ConvertByteBufferImage.wrap(buffer, offset, stride*3, interleaved);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+		assertFalse(interleaved.isSubimage());
+
+		GrayF32 imageF32 = new GrayF32(width,height);
+		try {
+			ConvertByteBufferImage.wrap(FloatBuffer.allocate(offset + stride*(height-1)),offset,stride,imageF32);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+		assertFalse(imageF32.isSubimage());
+	}
+
+	private void checkWrapFails( ByteBuffer buffer , int offset , int stride , GrayU8 image ) {
+		byte[] original = image.data;
+		try {
+			ConvertByteBufferImage.wrap(buffer, offset, stride, image);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+		assertSame(original,image.data);
+		assertFalse(image.isSubimage());
+	}
+
+	@Test
+	public void wrap_IU8() {
+		ByteBuffer buffer = ByteBuffer.allocate(offset + stride*3*height);
+		fill(buffer);
+
+		InterleavedU8 image = new InterleavedU8(width,height,3);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride*3,image));
+		assertEquals(buffer.get(offset+2*stride*3+4*3+1)&0xFF,image.getBand(4,2,1));
+	}
+
+	@Test
+	public void wrap_F32() {
+		FloatBuffer buffer = FloatBuffer.allocate(offset + stride*height);
+		for (int i = 0; i < buffer.capacity(); i++) {
+			buffer.put(i,rand.nextFloat());
+		}
+
+		GrayF32 image = new GrayF32(width,height);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride,image));
+		assertEquals(buffer.get(offset+2*stride+4),image.get(4,2),0);
+
+		InterleavedF32 interleaved = new InterleavedF32(width/2,height,2);
+		assertTrue(ConvertByteBufferImage.wrap(buffer,offset,stride,interleaved));
+		assertEquals(buffer.get(offset+2*stride+4+1),interleaved.getBand(2,2,1),0);
+	}
+
+	@Test
+	public void copy_U8() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset + stride*height);
+		fill(buffer);
+
+		GrayU8 expected = new GrayU8(width,height);
+		ConvertByteBufferImage.wrap(copyToHeap(buffer),offset,stride,expected);
+
+		GrayU8 image = new GrayU8(width,height);
+		BoofTesting.checkSubImage(this,"copy_U8",false,buffer,image,expected);
+	}
+
+	public void copy_U8( ByteBuffer buffer , GrayU8 image , GrayU8 expected ) {
+		ConvertByteBufferImage.from_1BU8_to_U8(buffer,offset,stride,image);
+		BoofTesting.assertEquals(expected,image,0);
+
+		// go the other direction
+		ByteBuffer found = ByteBuffer.allocateDirect(buffer.capacity());
+		ConvertByteBufferImage.from_U8_to_1BU8(image,found,offset,stride);
+		GrayU8 back = new GrayU8(width,height);
+		ConvertByteBufferImage.from_1BU8_to_U8(found,offset,stride,back);
+		BoofTesting.assertEquals(expected,back,0);
+	}
+
+	@Test
+	public void copy_IU8() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset + stride*2*height);
+		fill(buffer);
+
+		InterleavedU8 expected = new InterleavedU8(width,height,2);
+		ConvertByteBufferImage.wrap(copyToHeap(buffer),offset,stride*2,expected);
+
+		InterleavedU8 image = new InterleavedU8(width,height,2);
+		ConvertByteBufferImage.from_BU8_to_IU8(buffer,offset,stride*2,image);
+		BoofTesting.assertEquals(expected,image,0);
+
+		ByteBuffer found = ByteBuffer.allocateDirect(buffer.capacity());
+		ConvertByteBufferImage.from_IU8_to_BU8(image,found,offset,stride*2);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width*2; x++) {
+				int index = offset+y*stride*2+x;
+				assertEquals(buffer.get(index),found.get(index));
+			}
+		}
+	}
+
+	@Test
+	public void from_3BU8_to_3IU8() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(offset + stride*3*height);
+		fill(buffer);
+
+		InterleavedU8 expected = new InterleavedU8(width,height,3);
+		ConvertByteBufferImage.wrap(copyToHeap(buffer),offset,stride*3,expected);
+
+		InterleavedU8 image = new InterleavedU8(width,height,3);
+		ConvertByteBufferImage.from_3BU8_to_3IU8(buffer,offset,stride*3,image);
+		BoofTesting.assertEquals(expected,image,0);
+	}
+
+	@Test
+	public void copy_F32() {
+		FloatBuffer buffer = ByteBuffer.allocateDirect((offset + stride*height)*4).asFloatBuffer();
+		for (int i = 0; i < buffer.capacity(); i++) {
+			buffer.put(i,rand.nextFloat());
+		}
+
+		GrayF32 image = new GrayF32(width,height);
+		ImageMiscOps.fill(image,-1);
+		ConvertByteBufferImage.from_1BF32_to_F32(buffer,offset,stride,image);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x),image.get(x,y),0);
+			}
+		}
+
+		FloatBuffer found = FloatBuffer.allocate(buffer.capacity());
+		ConvertByteBufferImage.from_F32_to_1BF32(image,found,offset,stride);
+		assertEquals(buffer.get(offset+4*stride+3),found.get(offset+4*stride+3),0);
+	}
+
+	private void fill( ByteBuffer buffer ) {
+		for (int i = 0; i < buffer.capacity(); i++) {
+			buffer.put(i,(byte)rand.nextInt(256));
+		}
+	}
+
+	private static ByteBuffer copyToHeap( ByteBuffer buffer ) {
+		ByteBuffer heap = ByteBuffer.allocate(buffer.capacity());
+		for (int i = 0; i < buffer.capacity(); i++) {
+			heap.put(i,buffer.get(i));
+		}
+		return heap;
+	}
+}
@@ -27,6 +27,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 
 /**
  * Common tests for implementers of {@link ImageBorder}.
@@ -105,6 +108,28 @@ public abstract class GenericImageBorderTests<T extends ImageBase<T>> {
 		checkBorderGet(x,y,orig,tmp0);
 	}
 
+	/**
+	 * A copy should behave the same when given its own image
+	 */
+	@Test
+	public void copy() {
+		for( ImageType<T> imageType : imageTypes ) {
+			init(imageType);
+
+			T img = imageType.createImage(width, height);
+			GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+			ImageBorder<T> border = wrap(img);
+			ImageBorder<T> copy = border.copy();
+			assertNotSame(border, copy);
+			copy.setImage(img);
+			// the original shouldn't be modified
+			assertSame(img, border.getImage());
+
+			checkGet(img, copy);
+		}
+	}
+
 	@Test
 	public void set() {
 		for( ImageType<T> imageType : imageTypes ) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvertImage_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+
+	int width = 65;
+	int height = 80;
+	int numBands = 3;
+
+	public TestImplConvertImage_MT() {
+		super(ImplConvertImage_MT.class, ImplConvertImage.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		performTests(104);
+	}
+
+	@Override
+	protected boolean isTestMethod(Method m) {
+		return m.getName().equals("convert") && m.getParameterTypes().length == 2;
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> params[] = candidate.getParameterTypes();
+
+		// a planar image's band type is only known through the interleaved image it's paired with
+		Class bandType = null;
+		for( Class<?> p : params ) {
+			if( ImageInterleaved.class.isAssignableFrom(p))
+				bandType = interleavedToGray(p);
+		}
+
+		ImageBase input = create(params[0],bandType);
+		ImageBase output = create(params[1],bandType);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		return new Object[][]{{input,output}};
+	}
+
+	private ImageBase create( Class<?> type , Class bandType ) {
+		if( Planar.class == type )
+			return new Planar(bandType,width,height,numBands);
+		else if( ImageGray.class.isAssignableFrom(type))
+			return GeneralizedImageOps.createSingleBand((Class)type, width, height);
+		else
+			return GeneralizedImageOps.createInterleaved((Class)type, width, height, numBands);
+	}
+
+	private static Class interleavedToGray( Class<?> type ) {
+		try {
+			String suffix = type.getSimpleName().substring("Interleaved".length());
+			return Class.forName("boofcv.struct.image.Gray"+suffix);
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
+		BoofTesting.assertEquals((ImageBase)validationParam[1], (ImageBase)targetParam[1], 0);
+	}
+}
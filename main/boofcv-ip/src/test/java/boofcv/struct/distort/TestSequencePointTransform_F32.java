@@ -47,4 +47,33 @@ public class TestSequencePointTransform_F32 {
 		assertEquals(5,p.x,1e-8);
 		assertEquals(8,p.y,1e-8);
 	}
+
+	@Test
+	public void compute_array() {
+		Point2Transform2_F32 a = new Point2Transform2_F32() {
+			@Override
+			public void compute(float x, float y, Point2D_F32 out) {
+				out.x = x+1;
+				out.y = y+2;
+			}
+		};
+		Point2Transform2_F32 b = new Point2Transform2_F32() {
+			@Override
+			public void compute(float x, float y, Point2D_F32 out) {
+				out.x = 2*x;
+				out.y = 3*y;
+			}
+		};
+
+		SequencePoint2Transform2_F32 alg = new SequencePoint2Transform2_F32(a,b);
+
+		float[] input = new float[]{3,4, -1,0.5f};
+		float[] found = new float[input.length];
+		alg.compute(input, found, 2);
+
+		assertEquals(8,found[0],1e-8);
+		assertEquals(18,found[1],1e-8);
+		assertEquals(0,found[2],1e-8);
+		assertEquals(7.5f,found[3],1e-8);
+	}
 }
@@ -47,4 +47,33 @@ public class TestSequencePointTransform_F64 {
 		assertEquals(5,p.x,1e-8);
 		assertEquals(8,p.y,1e-8);
 	}
+
+	@Test
+	public void compute_array() {
+		Point2Transform2_F64 a = new Point2Transform2_F64() {
+			@Override
+			public void compute(double x, double y, Point2D_F64 out) {
+				out.x = x+1;
+				out.y = y+2;
+			}
+		};
+		Point2Transform2_F64 b = new Point2Transform2_F64() {
+			@Override
+			public void compute(double x, double y, Point2D_F64 out) {
+				out.x = 2*x;
+				out.y = 3*y;
+			}
+		};
+
+		SequencePoint2Transform2_F64 alg = new SequencePoint2Transform2_F64(a,b);
+
+		double[] input = new double[]{3,4, -1,0.5};
+		double[] found = new double[input.length];
+		alg.compute(input, found, 2);
+
+		assertEquals(8,found[0],1e-8);
+		assertEquals(18,found[1],1e-8);
+		assertEquals(0,found[2],1e-8);
+		assertEquals(7.5,found[3],1e-8);
+	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import boofcv.core.image.GeneralizedImageOps;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void acquire_release() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 a = pool.acquireGray(GrayU8.class,20,30);
+		assertEquals(20,a.width);
+		assertEquals(30,a.height);
+		assertEquals(0,pool.getStoredImages());
+
+		pool.release(a);
+		assertEquals(1,pool.getStoredImages());
+		assertEquals(20*30,pool.getStoredBytes());
+
+		// different shape or type should be a new image
+		assertNotSame(a,pool.acquireGray(GrayU8.class,30,20));
+		assertNotSame(a,pool.acquireGray(GrayS16.class,20,30));
+		assertEquals(1,pool.getStoredImages());
+
+		// it should be recycled now
+		assertSame(a,pool.acquireGray(GrayU8.class,20,30));
+		assertEquals(0,pool.getStoredImages());
+		assertEquals(0,pool.getStoredBytes());
+	}
+
+	@Test
+	public void acquire_planar_interleaved() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		Planar<GrayF32> planar = pool.acquire(ImageType.pl(3,GrayF32.class),10,12);
+		assertEquals(3,planar.getNumBands());
+		InterleavedU8 interleaved = pool.acquire(ImageType.il(2,InterleavedU8.class),10,12);
+		assertEquals(2,interleaved.numBands);
+
+		pool.release(planar,interleaved);
+		assertEquals(10*12*3*4 + 10*12*2,pool.getStoredBytes());
+
+		// number of bands must match too
+		assertNotSame(planar,pool.acquire(ImageType.pl(2,GrayF32.class),10,12));
+		assertNotSame(interleaved,pool.acquire(ImageType.il(3,InterleavedU8.class),10,12));
+
+		assertSame(planar,pool.acquire(ImageType.pl(3,GrayF32.class),10,12));
+		assertSame(interleaved,pool.acquire(ImageType.il(2,InterleavedU8.class),10,12));
+	}
+
+	/**
+	 * A reshaped image can have a backing array which is larger than the image.  All of it should be counted
+	 */
+	@Test
+	public void release_reshaped() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		GrayF32 gray = new GrayF32(20,30);
+		gray.reshape(10,10);
+		pool.release(gray);
+		assertEquals(20*30*4,pool.getStoredBytes());
+
+		Planar<GrayU8> planar = new Planar<>(GrayU8.class,20,30,2);
+		planar.reshape(10,10);
+		pool.release(planar);
+		assertEquals(20*30*4 + 20*30*2,pool.getStoredBytes());
+
+		// the same number of bytes should be removed when it's recycled
+		assertSame(gray,pool.acquireGray(GrayF32.class,10,10));
+		assertEquals(20*30*2,pool.getStoredBytes());
+	}
+
+	@Test
+	public void release_subimage() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 a = new GrayU8(20,30);
+		pool.release(a.subimage(0,0,10,10));
+		pool.release((ImageBase)null);
+		assertEquals(0,pool.getStoredImages());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void release_twice() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		GrayU8 a = new GrayU8(20,30);
+		pool.release(a);
+		pool.release(a);
+	}
+
+	/**
+	 * Least recently used images should be discarded first
+	 */
+	@Test
+	public void evict() {
+		ImagePool pool = new ImagePool(250);
+
+		GrayU8 a = new GrayU8(10,10);
+		GrayU8 b = new GrayU8(10,10);
+		GrayU8 c = new GrayU8(5,20);
+
+		pool.release(a);
+		pool.release(b);
+		pool.release(c);
+		assertEquals(2,pool.getStoredImages());
+		assertEquals(200,pool.getStoredBytes());
+
+		// a was the oldest
+		assertSame(b,pool.acquireGray(GrayU8.class,10,10));
+		assertSame(c,pool.acquireGray(GrayU8.class,5,20));
+		assertEquals(0,pool.getStoredImages());
+
+		// an image which is larger than the limit is ignored
+		pool.release(new GrayU8(20,20));
+		assertEquals(0,pool.getStoredImages());
+
+		// shrinking the limit should discard images
+		pool.release(a);
+		pool.release(b);
+		pool.setMaxBytes(150);
+		assertEquals(1,pool.getStoredImages());
+		assertSame(b,pool.acquireGray(GrayU8.class,10,10));
+	}
+
+	@Test
+	public void clear() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+		pool.release(new GrayU8(10,10));
+		pool.release(new GrayF32(10,10));
+		pool.clear();
+		assertEquals(0,pool.getStoredImages());
+		assertEquals(0,pool.getStoredBytes());
+	}
+
+	@Test
+	public void factories() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		GrayF32 a = new GrayF32(10,12);
+		pool.release(a);
+		assertSame(a,FactoryImage.create(GrayF32.class,10,12,pool));
+		pool.release(a);
+		assertSame(a,GeneralizedImageOps.createSingleBand(GrayF32.class,10,12,pool));
+		pool.release(a);
+		assertSame(a,GeneralizedImageOps.createSingleBand(ImageDataType.F32,10,12,pool));
+
+		// no pool
+		assertNotSame(a,FactoryImage.create(GrayF32.class,10,12,null));
+		assertNotSame(a,GeneralizedImageOps.createSingleBand(GrayF32.class,10,12,null));
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedBinaryImage {
+
+	@Test
+	public void reshape() {
+		PackedBinaryImage image = new PackedBinaryImage(65,3);
+		assertEquals(2,image.stride);
+		assertEquals(6,image.data.length);
+
+		image.fill(1);
+
+		// shrink the image. padding bits must be cleared
+		image.reshape(10,3);
+		assertEquals(1,image.stride);
+		for (int y = 0; y < 3; y++) {
+			assertEquals(0,image.data[y] & ~0x3FFL);
+		}
+
+		image.reshape(64,10);
+		assertEquals(1,image.stride);
+		assertEquals(10,image.data.length);
+	}
+
+	@Test
+	public void get_set() {
+		PackedBinaryImage image = new PackedBinaryImage(130,4);
+
+		image.set(0,0,1);
+		image.set(63,1,1);
+		image.set(64,2,1);
+		image.set(129,3,5);
+
+		assertEquals(1,image.get(0,0));
+		assertEquals(1,image.get(63,1));
+		assertEquals(1,image.get(64,2));
+		assertEquals(1,image.get(129,3));
+		assertEquals(0,image.get(1,0));
+		assertEquals(4,image.countOnes());
+
+		assertEquals(1L,image.data[0]);
+		assertEquals(1L<<63,image.data[3]);
+		assertEquals(1L,image.data[7]);
+		assertEquals(2L,image.data[11]);
+
+		image.set(63,1,0);
+		assertEquals(0,image.get(63,1));
+		assertEquals(3,image.countOnes());
+	}
+
+	@Test(expected = ImageAccessException.class)
+	public void get_outOfBounds() {
+		new PackedBinaryImage(10,4).get(10,0);
+	}
+
+	@Test
+	public void fill() {
+		PackedBinaryImage image = new PackedBinaryImage(70,3);
+		image.fill(1);
+		assertEquals(70*3,image.countOnes());
+		image.fill(0);
+		assertEquals(0,image.countOnes());
+	}
+
+	@Test
+	public void setTo() {
+		PackedBinaryImage a = new PackedBinaryImage(70,3);
+		a.set(69,2,1);
+
+		PackedBinaryImage b = new PackedBinaryImage(5,5);
+		b.setTo(a);
+		assertEquals(70,b.width);
+		assertEquals(3,b.height);
+		assertEquals(1,b.get(69,2));
+		assertEquals(1,b.countOnes());
+	}
+
+	@Test
+	public void wordsPerRow() {
+		assertEquals(0,PackedBinaryImage.wordsPerRow(0));
+		assertEquals(1,PackedBinaryImage.wordsPerRow(1));
+		assertEquals(1,PackedBinaryImage.wordsPerRow(64));
+		assertEquals(2,PackedBinaryImage.wordsPerRow(65));
+	}
+}
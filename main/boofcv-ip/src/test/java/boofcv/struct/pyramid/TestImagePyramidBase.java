@@ -21,6 +21,7 @@ package boofcv.struct.pyramid;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
@@ -104,6 +105,38 @@ public class TestImagePyramidBase {
 		assertTrue(pyramid.layers[0] != null);
 	}
 
+	/**
+	 * Layers should come from the pool and be given back when the shape changes
+	 */
+	@Test
+	public void initialize_pool() {
+		ImagePool pool = new ImagePool(Long.MAX_VALUE);
+
+		Dummy pyramid = new Dummy(GrayU8.class,true);
+		pyramid.setImagePool(pool);
+		pyramid.setScaleFactors(1,2,4);
+		pyramid.initialize(100,120);
+		pyramid.setFirstLayer(new GrayU8(100,120));
+
+		ImageBase layer1 = pyramid.getLayer(1);
+		ImageBase layer2 = pyramid.getLayer(2);
+
+		// the first layer belongs to the user and should not be given to the pool
+		// the old second layer is the same shape as the new first layer
+		pyramid.initialize(50,60);
+		assertSame(layer2, pyramid.getLayer(1));
+		assertEquals(1, pool.getStoredImages());
+
+		// original shape, so the original layers should be recycled
+		pyramid.initialize(100,120);
+		assertSame(layer1, pyramid.getLayer(1));
+		assertSame(layer2, pyramid.getLayer(2));
+		assertEquals(1, pool.getStoredImages());
+
+		pyramid.releaseLayers();
+		assertEquals(3, pool.getStoredImages());
+	}
+
 	@Test
 	public void getWidth_Height() {
 		Dummy pyramid = new Dummy(GrayU8.class,false);
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.fiducial.calib;
+
+import boofcv.abst.geo.calibration.DetectorFiducialCalibration;
+import boofcv.factory.fiducial.FactoryFiducialCalibration;
+import boofcv.io.UtilIO;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.GrayF32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks calibration target detectors against example images
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkCalibrationDetectors {
+
+	GrayF32 imageChess;
+	GrayF32 imageSquare;
+
+	DetectorFiducialCalibration chessboard;
+	DetectorFiducialCalibration square;
+
+	@Setup
+	public void setup() {
+		imageChess = loadImage("calibration/stereo/Bumblebee2_Chess/left01.jpg");
+		imageSquare = loadImage("calibration/stereo/Bumblebee2_Square/left01.jpg");
+
+		chessboard = FactoryFiducialCalibration.chessboard(new ConfigChessboard(7, 5, 30));
+		square = FactoryFiducialCalibration.squareGrid(new ConfigSquareGrid(4, 3, 30, 30));
+	}
+
+	private static GrayF32 loadImage( String path ) {
+		GrayF32 image = UtilImageIO.loadImage(UtilIO.pathExample(path),GrayF32.class);
+		if( image == null )
+			throw new IllegalArgumentException("Can't find image "+path);
+		return image;
+	}
+
+	@Benchmark
+	public void chessboard() {
+		if( !chessboard.process(imageChess) )
+			throw new RuntimeException("Can't find target!");
+	}
+
+	@Benchmark
+	public void square() {
+		if( !square.process(imageSquare) )
+			throw new RuntimeException("Can't find target!");
+	}
+}
@@ -301,6 +301,11 @@ public class TestLocalWeightedHistogramRotRect {
 			return null;
 		}
 
+		@Override
+		public InterpolatePixelMB copy() {
+			return null;
+		}
+
 		@Override
 		public void get(float x, float y, float[] values) {}
 